@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2018 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -199,7 +199,15 @@ class ApplicationReferenceImpl implements ApplicationReference {
     String alias = ApplicationRunner.RESOURCES;
     String location = contextLocation + "/" + alias;
     try {
-      httpService.registerResources( getContextSegment() + "/" + alias, location, httpContext );
+      HttpServlet resourceServlet = createResourceServlet();
+      if( resourceServlet != null ) {
+        httpService.registerServlet( getContextSegment() + "/" + alias,
+                                     resourceServlet,
+                                     null,
+                                     httpContext );
+      } else {
+        httpService.registerResources( getContextSegment() + "/" + alias, location, httpContext );
+      }
     } catch( RuntimeException rte ) {
       throw rte;
     } catch( Exception shouldNotHappen ) {
@@ -207,6 +215,19 @@ class ApplicationReferenceImpl implements ApplicationReference {
     }
   }
 
+  @SuppressWarnings( "restriction" )
+  private HttpServlet createResourceServlet() {
+    ApplicationContext applicationContext = applicationRunner.getApplicationContext();
+    org.eclipse.rap.rwt.internal.application.ApplicationContextImpl applicationContextImpl
+      = ( org.eclipse.rap.rwt.internal.application.ApplicationContextImpl ) applicationContext;
+    org.eclipse.rap.rwt.internal.resources.ResourceStore resourceStore
+      = applicationContextImpl.getResourceStore();
+    if( resourceStore == null ) {
+      return null;
+    }
+    return new org.eclipse.rap.rwt.internal.resources.ResourceServlet( resourceStore );
+  }
+
   private void clearFields() {
     applicationRunner = null;
     httpService = null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2017 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -30,10 +30,30 @@ rwt.client.ServerPush.prototype = {
   sendServerPushRequest : function() {
     if( this._active && !this._running ) {
       this._running = true;
-      this._createRequest().send();
+      var connection = rwt.remote.Connection.getInstance();
+      if( connection.isWebSocketOpen() ) {
+        connection.getWebSocket().sendServerPushRequest();
+      } else {
+        this._createRequest().send();
+      }
     }
   },
 
+  /**
+   * Called when a server push request that was sent over the WebSocket connection is released.
+   */
+  handleRelease : function() {
+    this._handleSuccess();
+  },
+
+  /**
+   * Called when the WebSocket connection is closed while a server push request is pending.
+   */
+  handleInterruption : function() {
+    this._running = false;
+    this.sendServerPushRequest();
+  },
+
   _createRequest : function() {
     var connection = rwt.remote.Connection.getInstance();
     var request = new rwt.remote.Request( connection.getUrl(), "GET", "application/javascript" );
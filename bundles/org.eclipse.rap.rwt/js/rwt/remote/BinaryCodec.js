@@ -0,0 +1,346 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+namespace( "rwt.remote" );
+
+(function() {
+
+var FIXMAP = 0x80;
+var FIXARRAY = 0x90;
+var FIXSTR = 0xa0;
+var NULL = 0xc0;
+var FALSE = 0xc2;
+var TRUE = 0xc3;
+var STRING_DEFINITION = 0xc7;
+var STRING_REFERENCE = 0xc8;
+var FLOAT64 = 0xcb;
+var INT8 = 0xd0;
+var INT16 = 0xd1;
+var INT32 = 0xd2;
+var INT64 = 0xd3;
+var STRING = 0xd9;
+var ARRAY = 0xdc;
+var MAP = 0xde;
+var NEGATIVE_FIXINT = 0xe0;
+var OPERATION_HEADER_SIZE = 3;
+var UINT32 = 4294967296;
+
+/**
+ * Encodes and decodes protocol messages in the binary format of the server side
+ * BinaryMessageCodec. Object keys and operation headers are kept in a string table per direction
+ * that lives as long as the codec.
+ */
+rwt.remote.BinaryCodec = function() {
+  this._symbols = {};
+  this._symbolCount = 0;
+  this._strings = [];
+  this._encoder = new TextEncoder();
+  this._decoder = new TextDecoder( "utf-8" );
+};
+
+rwt.remote.BinaryCodec.CONTENT_TYPE = "application/x-rap-binary";
+
+rwt.remote.BinaryCodec.MAX_TABLE_SIZE = 8192;
+
+rwt.remote.BinaryCodec.isSupported = function() {
+  return    typeof Uint8Array === "function"
+         && typeof DataView === "function"
+         && typeof TextEncoder === "function"
+         && typeof TextDecoder === "function";
+};
+
+rwt.remote.BinaryCodec.prototype = {
+
+  encode : function( message ) {
+    var out = [];
+    this._writeHeader( out, FIXMAP, MAP, 2 );
+    this._writeSymbol( out, "head" );
+    this._writeValue( out, message.head );
+    this._writeSymbol( out, "operations" );
+    var operations = message.operations;
+    this._writeHeader( out, FIXARRAY, ARRAY, operations.length );
+    for( var i = 0; i < operations.length; i++ ) {
+      this._writeOperation( out, operations[ i ] );
+    }
+    return new Uint8Array( out );
+  },
+
+  decode : function( buffer ) {
+    var bytes = buffer instanceof Uint8Array ? buffer : new Uint8Array( buffer );
+    var input = {
+      bytes : bytes,
+      view : new DataView( bytes.buffer, bytes.byteOffset, bytes.byteLength ),
+      position : 0
+    };
+    var result = this._readValue( input );
+    if( input.position !== bytes.length ) {
+      throw new Error( "Failed to read binary message: Unexpected trailing bytes" );
+    }
+    return result;
+  },
+
+  _writeOperation : function( out, operation ) {
+    this._writeHeader( out, FIXARRAY, ARRAY, operation.length );
+    for( var i = 0; i < operation.length; i++ ) {
+      if( i < OPERATION_HEADER_SIZE && typeof operation[ i ] === "string" ) {
+        this._writeSymbol( out, operation[ i ] );
+      } else {
+        this._writeValue( out, operation[ i ] );
+      }
+    }
+  },
+
+  _writeValue : function( out, value ) {
+    if( value === null || value === undefined ) {
+      out.push( NULL );
+    } else if( value === true ) {
+      out.push( TRUE );
+    } else if( value === false ) {
+      out.push( FALSE );
+    } else if( typeof value === "number" ) {
+      this._writeNumber( out, value );
+    } else if( typeof value === "string" ) {
+      this._writeString( out, value );
+    } else if( value instanceof Array ) {
+      this._writeHeader( out, FIXARRAY, ARRAY, value.length );
+      for( var i = 0; i < value.length; i++ ) {
+        this._writeValue( out, value[ i ] );
+      }
+    } else {
+      var keys = [];
+      for( var key in value ) {
+        if( value.hasOwnProperty( key ) && value[ key ] !== undefined ) {
+          keys.push( key );
+        }
+      }
+      this._writeHeader( out, FIXMAP, MAP, keys.length );
+      for( var j = 0; j < keys.length; j++ ) {
+        this._writeSymbol( out, keys[ j ] );
+        this._writeValue( out, value[ keys[ j ] ] );
+      }
+    }
+  },
+
+  _writeSymbol : function( out, string ) {
+    if( this._symbols.hasOwnProperty( string ) ) {
+      out.push( STRING_REFERENCE );
+      this._writeVarInt( out, this._symbols[ string ] );
+    } else if( this._symbolCount < rwt.remote.BinaryCodec.MAX_TABLE_SIZE ) {
+      var index = this._symbolCount++;
+      this._symbols[ string ] = index;
+      out.push( STRING_DEFINITION );
+      this._writeVarInt( out, index );
+      this._writeString( out, string );
+    } else {
+      this._writeString( out, string );
+    }
+  },
+
+  _writeString : function( out, string ) {
+    var bytes = this._encoder.encode( string );
+    if( bytes.length < 32 ) {
+      out.push( FIXSTR | bytes.length );
+    } else {
+      out.push( STRING );
+      this._writeVarInt( out, bytes.length );
+    }
+    for( var i = 0; i < bytes.length; i++ ) {
+      out.push( bytes[ i ] );
+    }
+  },
+
+  _writeNumber : function( out, value ) {
+    if( Math.floor( value ) === value && Math.abs( value ) <= 9007199254740991 ) {
+      if( value >= 0 && value < FIXMAP ) {
+        out.push( value );
+      } else if( value < 0 && value >= -32 ) {
+        out.push( value & 0xff );
+      } else if( value >= -128 && value <= 127 ) {
+        out.push( INT8, value & 0xff );
+      } else if( value >= -32768 && value <= 32767 ) {
+        out.push( INT16, ( value >> 8 ) & 0xff, value & 0xff );
+      } else if( value >= -2147483648 && value <= 2147483647 ) {
+        out.push( INT32 );
+        this._writeBytes( out, 4, function( view ) { view.setInt32( 0, value ); } );
+      } else {
+        var high = Math.floor( value / UINT32 );
+        var low = value - high * UINT32;
+        out.push( INT64 );
+        this._writeBytes( out, 8, function( view ) {
+          view.setInt32( 0, high );
+          view.setUint32( 4, low );
+        } );
+      }
+    } else {
+      out.push( FLOAT64 );
+      this._writeBytes( out, 8, function( view ) { view.setFloat64( 0, value ); } );
+    }
+  },
+
+  _writeBytes : function( out, length, write ) {
+    var bytes = new Uint8Array( length );
+    write( new DataView( bytes.buffer ) );
+    for( var i = 0; i < length; i++ ) {
+      out.push( bytes[ i ] );
+    }
+  },
+
+  _writeHeader : function( out, fixType, type, size ) {
+    if( size < 16 ) {
+      out.push( fixType | size );
+    } else {
+      out.push( type );
+      this._writeVarInt( out, size );
+    }
+  },
+
+  _writeVarInt : function( out, value ) {
+    var remaining = value;
+    while( remaining > 0x7f ) {
+      out.push( ( remaining & 0x7f ) | 0x80 );
+      remaining = remaining >>> 7;
+    }
+    out.push( remaining );
+  },
+
+  _readValue : function( input ) {
+    var type = this._readByte( input );
+    if( type < FIXMAP ) {
+      return type;
+    }
+    if( type >= NEGATIVE_FIXINT ) {
+      return type - 256;
+    }
+    if( ( type & 0xf0 ) === FIXMAP ) {
+      return this._readObject( input, type & 0x0f );
+    }
+    if( ( type & 0xf0 ) === FIXARRAY ) {
+      return this._readArray( input, type & 0x0f );
+    }
+    var result;
+    switch( type ) {
+      case NULL:
+        result = null;
+      break;
+      case FALSE:
+        result = false;
+      break;
+      case TRUE:
+        result = true;
+      break;
+      case FLOAT64:
+        result = input.view.getFloat64( this._advance( input, 8 ) );
+      break;
+      case INT8:
+        result = input.view.getInt8( this._advance( input, 1 ) );
+      break;
+      case INT16:
+        result = input.view.getInt16( this._advance( input, 2 ) );
+      break;
+      case INT32:
+        result = input.view.getInt32( this._advance( input, 4 ) );
+      break;
+      case INT64:
+        var offset = this._advance( input, 8 );
+        result = input.view.getInt32( offset ) * UINT32 + input.view.getUint32( offset + 4 );
+      break;
+      case ARRAY:
+        result = this._readArray( input, this._readVarInt( input ) );
+      break;
+      case MAP:
+        result = this._readObject( input, this._readVarInt( input ) );
+      break;
+      default:
+        result = this._readString( input, type );
+      break;
+    }
+    return result;
+  },
+
+  _readArray : function( input, size ) {
+    var result = [];
+    for( var i = 0; i < size; i++ ) {
+      result.push( this._readValue( input ) );
+    }
+    return result;
+  },
+
+  _readObject : function( input, size ) {
+    var result = {};
+    for( var i = 0; i < size; i++ ) {
+      var key = this._readString( input, this._readByte( input ) );
+      result[ key ] = this._readValue( input );
+    }
+    return result;
+  },
+
+  _readString : function( input, type ) {
+    var index;
+    if( type === STRING_DEFINITION ) {
+      index = this._readVarInt( input );
+      if( index >= rwt.remote.BinaryCodec.MAX_TABLE_SIZE ) {
+        throw new Error( "Failed to read binary message: Invalid string definition " + index );
+      }
+      var string = this._readPlainString( input, this._readByte( input ) );
+      this._strings[ index ] = string;
+      return string;
+    }
+    if( type === STRING_REFERENCE ) {
+      index = this._readVarInt( input );
+      if( typeof this._strings[ index ] !== "string" ) {
+        throw new Error( "Failed to read binary message: Unknown string reference " + index );
+      }
+      return this._strings[ index ];
+    }
+    return this._readPlainString( input, type );
+  },
+
+  _readPlainString : function( input, type ) {
+    var length;
+    if( ( type & 0xe0 ) === FIXSTR ) {
+      length = type & 0x1f;
+    } else if( type === STRING ) {
+      length = this._readVarInt( input );
+    } else {
+      throw new Error( "Failed to read binary message: Unexpected type " + type );
+    }
+    var offset = this._advance( input, length );
+    return this._decoder.decode( input.bytes.subarray( offset, offset + length ) );
+  },
+
+  _readByte : function( input ) {
+    return input.bytes[ this._advance( input, 1 ) ];
+  },
+
+  _readVarInt : function( input ) {
+    var result = 0;
+    var factor = 1;
+    var value;
+    do {
+      value = this._readByte( input );
+      result += ( value & 0x7f ) * factor;
+      factor *= 128;
+    } while( ( value & 0x80 ) !== 0 );
+    return result;
+  },
+
+  _advance : function( input, length ) {
+    var offset = input.position;
+    if( offset + length > input.bytes.length ) {
+      throw new Error( "Failed to read binary message: Unexpected end of input" );
+    }
+    input.position += length;
+    return offset;
+  }
+
+};
+
+}());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2020 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,8 @@
 var Client = rwt.client.Client;
 var Timer = rwt.client.Timer;
 var Processor = rwt.remote.MessageProcessor;
+var BinaryCodec = rwt.remote.BinaryCodec;
+var WebSocketTransport = rwt.remote.WebSocketTransport;
 var ErrorHandler = rwt.runtime.ErrorHandler;
 var EventUtil = rwt.remote.EventUtil;
 var ServerPush = rwt.client.ServerPush;
@@ -41,6 +43,14 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
     this._requestCounter = 0;
     this._requestPending = false;
     this._connectionId = null;
+    this._compressionThreshold = -1;
+    this._binaryCodec = null;
+    this._webSocketUrl = null;
+    this._webSocketRefreshInterval = 0;
+    this._webSocket = null;
+    this._webSocketData = null;
+    this._lastHttpRequestTime = 0;
+    this._serverBusyRetries = 0;
     this._sendTimer = new Timer( 60 );
     this._sendTimer.addEventListener( "interval", function() {
       this.sendImmediate( true );
@@ -58,6 +68,10 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
 
   destruct : function() {
     this._retryHandler = null;
+    if( this._webSocket !== null ) {
+      this._webSocket.close();
+      this._webSocket = null;
+    }
     this._sendTimer.dispose();
     this._sendTimer = null;
     this._waitHintTimer.dispose();
@@ -85,6 +99,55 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
       return this._connectionId;
     },
 
+    setCompressionThreshold : function( value ) {
+      this._compressionThreshold = value;
+    },
+
+    getCompressionThreshold : function() {
+      return this._compressionThreshold;
+    },
+
+    /**
+     * Enables the binary protocol for asynchronous requests if supported by the browser.
+     * Synchronous requests and beacons are always sent as JSON.
+     */
+    setBinaryProtocol : function( value ) {
+      if( !value ) {
+        this._binaryCodec = null;
+      } else if( this._binaryCodec === null && BinaryCodec.isSupported() ) {
+        this._binaryCodec = new BinaryCodec();
+      }
+    },
+
+    isBinaryProtocol : function() {
+      return this._binaryCodec !== null;
+    },
+
+    /**
+     * Sets the path of the WebSocket endpoint. Once the connection id is known, asynchronous
+     * requests and server push requests are sent over a WebSocket connection if the browser
+     * supports it. Plain HTTP requests are used as long as the connection is not open.
+     */
+    setWebSocketUrl : function( url ) {
+      this._webSocketUrl = url;
+    },
+
+    /**
+     * Sets the maximum time in milliseconds between two HTTP requests. Messages sent over the
+     * WebSocket connection do not keep the HTTP session alive.
+     */
+    setWebSocketRefreshInterval : function( value ) {
+      this._webSocketRefreshInterval = value;
+    },
+
+    isWebSocketOpen : function() {
+      return this._webSocket !== null && this._webSocket.isOpen();
+    },
+
+    getWebSocket : function() {
+      return this._webSocket;
+    },
+
     _flushEvent : function() {
       if( this._event ) {
         var writer = this.getMessageWriter();
@@ -124,12 +187,16 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
         this.getMessageWriter().appendHead( "requestCounter", this._requestCounter++ );
         this._requestPending = true;
         this._startWaitHintTimer();
-        var request = this._createRequest();
-        request.setAsynchronous( async );
-        request.setData( this.getMessageWriter().createMessage() );
+        var binary = async && this._binaryCodec !== null;
+        var data = this._createMessageData( binary );
         this._writer.dispose();
         this._writer = null;
-        request.send();
+        if( async && this._canUseWebSocket() ) {
+          this._webSocketData = data;
+          this._webSocket.send( data );
+        } else {
+          this._sendRequest( async, binary, data );
+        }
         this._removeSendListeners();
       }
     },
@@ -181,12 +248,51 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
     ////////////
     // Internals
 
+    _sendRequest : function( async, binary, data ) {
+      var request = this._createRequest();
+      request.setAsynchronous( async );
+      request.setBinary( binary );
+      request.setData( data );
+      request.send();
+      this._lastHttpRequestTime = new Date().getTime();
+    },
+
+    _canUseWebSocket : function() {
+      this._connectWebSocket();
+      if( !this.isWebSocketOpen() ) {
+        return false;
+      }
+      var elapsed = new Date().getTime() - this._lastHttpRequestTime;
+      return this._webSocketRefreshInterval <= 0 || elapsed < this._webSocketRefreshInterval;
+    },
+
+    _connectWebSocket : function() {
+      if(    this._webSocket === null
+          && this._webSocketUrl !== null
+          && this._connectionId !== null
+          && WebSocketTransport.isSupported() )
+      {
+        var url = WebSocketTransport.createUrl( this._webSocketUrl, this._connectionId );
+        this._webSocket = new WebSocketTransport( url, {
+          onMessage : this._handleWebSocketMessage,
+          onServerPush : this._handleWebSocketServerPush,
+          onClose : this._handleWebSocketClose
+        }, this );
+      }
+    },
+
+    _createMessageData : function( binary ) {
+      var writer = this.getMessageWriter();
+      return binary ? writer.createBinaryMessage( this._binaryCodec ) : writer.createMessage();
+    },
+
     _createRequest : function() {
       var cid = "";
       if( this._connectionId ) {
         cid = ( this._url.indexOf( "?" ) === -1 ? "?cid=" : "&cid=" ) + this._connectionId;
       }
       var result = new rwt.remote.Request( this._url + cid, "POST", "application/json" );
+      result.setCompressionThreshold( this._compressionThreshold );
       result.setSuccessHandler( this._handleSuccess, this );
       result.setErrorHandler( this._handleError, this );
       return result;
@@ -204,7 +310,11 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
         if( text && text.length > 0 ) {
           if( this._isJsonResponse( event ) ) {
             var messageObject = JSON.parse( text );
-            ErrorHandler.showErrorBox( messageObject.head.error, true );
+            if( this._isServerBusy( messageObject ) ) {
+              this._handleServerBusy( messageObject, event.target );
+            } else {
+              ErrorHandler.showErrorBox( messageObject.head.error, true );
+            }
           } else {
             ErrorHandler.showErrorBox( "server error", true, text );
           }
@@ -216,7 +326,19 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
 
     _handleSuccess : function( event ) {
       try {
-        var messageObject = JSON.parse( event.responseText );
+        var messageObject = this._parseMessage( event );
+        if( this._isServerBusy( messageObject ) ) {
+          // only WebSocket responses get here, the message is resent over HTTP
+          this._handleServerBusy( messageObject, null );
+          return;
+        }
+        if( messageObject.head && messageObject.head.error ) {
+          // errors are sent with HTTP status codes, only WebSocket responses get here
+          this._hideWaitHint();
+          ErrorHandler.showErrorBox( messageObject.head.error, true );
+          return;
+        }
+        this._serverBusyRetries = 0;
         rwt.remote.EventUtil.setSuspended( true );
         var that = this;
         Processor.processMessage( messageObject, function() {
@@ -234,6 +356,48 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
       }
     },
 
+    _parseMessage : function( event ) {
+      if( this._binaryCodec !== null && this._isBinaryResponse( event ) ) {
+        return this._binaryCodec.decode( event.response );
+      }
+      return JSON.parse( event.responseText );
+    },
+
+    _isBinaryResponse : function( event ) {
+      var contentType = event.responseHeaders[ "content-type" ];
+      return contentType != null && contentType.indexOf( BinaryCodec.CONTENT_TYPE ) !== -1;
+    },
+
+    //////////////////////////
+    // Handle WebSocket events
+
+    _handleWebSocketMessage : function( data ) {
+      var binary = typeof data !== "string";
+      this._handleSuccess( {
+        status : 200,
+        responseText : binary ? null : data,
+        response : data,
+        responseHeaders : {
+          "content-type" : binary ? BinaryCodec.CONTENT_TYPE : "application/json"
+        },
+        target : null
+      } );
+    },
+
+    _handleWebSocketServerPush : function() {
+      ServerPush.getInstance().handleRelease();
+    },
+
+    _handleWebSocketClose : function( pendingData, serverPushPending ) {
+      // Fall back to HTTP, the WebSocket connection is not reestablished
+      if( pendingData !== null ) {
+        this._sendRequest( true, typeof pendingData !== "string", pendingData );
+      }
+      if( serverPushPending ) {
+        ServerPush.getInstance().handleInterruption();
+      }
+    },
+
     ///////////////////////////////
     // Handling connection problems
 
@@ -244,11 +408,49 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
         var request = this._createRequest();
         var failedRequest = event.target;
         request.setAsynchronous( failedRequest.getAsynchronous() );
+        request.setBinary( failedRequest.getBinary() );
         request.setData( failedRequest.getData() );
         request.send();
       };
     },
 
+    /////////////////////////////
+    // Handling server overload
+
+    _isServerBusy : function( messageObject ) {
+      return messageObject.head != null && messageObject.head.error === "server busy";
+    },
+
+    /**
+     * The server rejected the request because it is overloaded. The request is resent after the
+     * time requested by the server, which is doubled with every consecutive rejection. A random
+     * part of the delay spreads the retries of many clients.
+     */
+    _handleServerBusy : function( messageObject, failedRequest ) {
+      var delay = this._getServerBusyDelay( messageObject.head.retryAfter );
+      this._serverBusyRetries++;
+      this._showWaitHint();
+      var webSocketData = this._webSocketData;
+      Timer.once( function() {
+        if( failedRequest ) {
+          var request = this._createRequest();
+          request.setAsynchronous( failedRequest.getAsynchronous() );
+          request.setBinary( failedRequest.getBinary() );
+          request.setData( failedRequest.getData() );
+          request.send();
+        } else {
+          this._sendRequest( true, typeof webSocketData !== "string", webSocketData );
+        }
+      }, this, delay );
+    },
+
+    _getServerBusyDelay : function( retryAfter ) {
+      var exponent = Math.min( this._serverBusyRetries, 5 );
+      var delay = Math.max( 1, retryAfter || 1 ) * 1000 * Math.pow( 2, exponent );
+      delay = Math.min( delay, 60000 );
+      return Math.round( delay / 2 + Math.random() * delay / 2 );
+    },
+
     _retry : function() {
       try {
         ErrorHandler.hideErrorBox();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2017 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -50,6 +50,18 @@ rwt.remote.MessageProcessor = {
     if( head.cid ) {
       connection.setConnectionId( head.cid );
     }
+    if( typeof head.compressionThreshold === "number" ) {
+      connection.setCompressionThreshold( head.compressionThreshold );
+    }
+    if( head.binaryProtocol === true ) {
+      connection.setBinaryProtocol( true );
+    }
+    if( head.webSocketUrl ) {
+      connection.setWebSocketUrl( head.webSocketUrl );
+    }
+    if( typeof head.webSocketRefreshInterval === "number" ) {
+      connection.setWebSocketRefreshInterval( head.webSocketRefreshInterval );
+    }
     if( head.redirect ) {
       rwt.widgets.Display.getCurrent().setExitConfirmation( null );
       document.location = head.redirect;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2013 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -31,14 +31,11 @@ rwt.remote.MessageWriter.prototype = {
     },
 
     createMessage : function() {
-      if( this._disposed ) {
-        throw new Error( "Protocol message writer already disposed!" );
-      }
-      var message = {
-        "head" : this._head,
-        "operations" : this._operations
-      };
-      return JSON.stringify( message );
+      return JSON.stringify( this._getMessage() );
+    },
+
+    createBinaryMessage : function( codec ) {
+      return codec.encode( this._getMessage() );
     },
 
     appendHead : function( property, value ) {
@@ -64,6 +61,16 @@ rwt.remote.MessageWriter.prototype = {
       this._operations.push( [ "call", targetId, methodName, properties ] );
     },
 
+    _getMessage : function() {
+      if( this._disposed ) {
+        throw new Error( "Protocol message writer already disposed!" );
+      }
+      return {
+        "head" : this._head,
+        "operations" : this._operations
+      };
+    },
+
     _getPropertiesObjectFor : function( targetId ) {
       if( this._currentSetOperation === null || this._currentSetOperation[ 1 ] !== targetId ) {
         this._currentSetOperation = [ "set", targetId, {} ];
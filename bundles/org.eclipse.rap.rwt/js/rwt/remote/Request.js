@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2017 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,8 @@ rwt.remote.Request = function( url, method, responseType ) {
   this._error = null;
   this._data = null;
   this._responseType = responseType;
+  this._compressionThreshold = -1;
+  this._binary = false;
   this._request = rwt.remote.Request.createXHR();
 };
 
@@ -28,6 +30,13 @@ rwt.remote.Request.createXHR = function() {
   return new XMLHttpRequest();
 };
 
+rwt.remote.Request.supportsCompression = function() {
+  return    typeof CompressionStream === "function"
+         && typeof Response === "function"
+         && typeof Blob === "function"
+         && typeof Blob.prototype.stream === "function";
+};
+
 rwt.remote.Request.prototype = {
 
   dispose : function() {
@@ -52,7 +61,11 @@ rwt.remote.Request.prototype = {
     }
     this._request.open( this._method, url, this._async );
     this._configRequest();
-    this._request.send( post ? this._data : undefined );
+    if( post && this._shouldCompress() ) {
+      this._sendCompressed();
+    } else {
+      this._request.send( post ? this._data : undefined );
+    }
     if( !this._async ) {
       this.dispose();
     }
@@ -82,24 +95,70 @@ rwt.remote.Request.prototype = {
     return this._data;
   },
 
+  /**
+   * Sets the minimal length of the data of an asynchronous POST request to be sent gzip
+   * compressed. A negative value disables compression.
+   */
+  setCompressionThreshold : function( value ) {
+    this._compressionThreshold = value;
+  },
+
+  /**
+   * Sends the data with the binary protocol content type and reads the response as ArrayBuffer.
+   * Only supported for asynchronous POST requests.
+   */
+  setBinary : function( value ) {
+    this._binary = value;
+  },
+
+  getBinary : function() {
+    return this._binary;
+  },
+
+  _shouldCompress : function() {
+    return    this._async
+           && this._compressionThreshold >= 0
+           && this._data != null
+           && typeof this._data.length === "number"
+           && this._data.length >= this._compressionThreshold
+           && rwt.remote.Request.supportsCompression();
+  },
+
+  _sendCompressed : function() {
+    var that = this;
+    var request = this._request;
+    var data = this._data;
+    var stream = new Blob( [ data ] ).stream().pipeThrough( new CompressionStream( "gzip" ) );
+    new Response( stream ).blob().then( function( blob ) {
+      if( that._request === request ) {
+        request.setRequestHeader( "Content-Encoding", "gzip" );
+        request.send( blob );
+      }
+    }, function() {
+      if( that._request === request ) {
+        request.send( data );
+      }
+    } );
+  },
+
   _configRequest : function() {
     var contentType = "application/json; charset=UTF-8";
+    if( this._binary ) {
+      contentType = rwt.remote.BinaryCodec.CONTENT_TYPE;
+      this._request.responseType = "arraybuffer";
+    }
     this._request.setRequestHeader( "Content-Type", contentType );
     this._request.onreadystatechange = rwt.util.Functions.bind( this._onReadyStateChange, this );
   },
 
   _onReadyStateChange : function() {
     if( this._request.readyState === 4 ) {
-      var text;
-      // [if] typeof(..) == "unknown" is IE specific. Used to prevent error:
-      // "The data necessary to complete this operation is not yet available"
-      if( typeof this._request.responseText !== "unknown" ) {
-        text = this._request.responseText;
-      }
+      var headers = this._getHeaders();
       var event = {
-        "responseText" : text,
+        "responseText" : this._getResponseText( headers ),
+        "response" : this._binary ? this._request.response : null,
         "status" : this._request.status,
-        "responseHeaders" : this._getHeaders(),
+        "responseHeaders" : headers,
         "target" : this
       };
       if( this._request.status === 200 ) {
@@ -117,6 +176,23 @@ rwt.remote.Request.prototype = {
     }
   },
 
+  _getResponseText : function( headers ) {
+    var text;
+    if( this._binary ) {
+      // JSON responses (e.g. errors) to binary requests are received as ArrayBuffer as well
+      var contentType = headers[ "content-type" ] || "";
+      var binary = contentType.indexOf( rwt.remote.BinaryCodec.CONTENT_TYPE ) !== -1;
+      if( !binary && this._request.response ) {
+        text = new TextDecoder( "utf-8" ).decode( this._request.response );
+      }
+    } else if( typeof this._request.responseText !== "unknown" ) {
+      // [if] typeof(..) == "unknown" is IE specific. Used to prevent error:
+      // "The data necessary to complete this operation is not yet available"
+      text = this._request.responseText;
+    }
+    return text;
+  },
+
   _getHeaders : function() {
     var text = this._request.getAllResponseHeaders();
     var values = text.split( /[\r\n]+/g );
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+namespace( "rwt.remote" );
+
+/**
+ * A WebSocket connection that carries UI requests and server push notifications of the UI session.
+ * The handler is notified with "onMessage( data )" for every response, with "onServerPush()" when
+ * a server push request is released and with "onClose( pendingData, serverPushPending )" when the
+ * connection is lost. Pending data are messages that have not been answered yet.
+ */
+rwt.remote.WebSocketTransport = function( url, handler, context ) {
+  this._handler = handler;
+  this._context = context;
+  this._open = false;
+  this._closed = false;
+  this._pendingData = null;
+  this._serverPushPending = false;
+  this._socket = this._createSocket( url );
+};
+
+rwt.remote.WebSocketTransport.SERVER_PUSH = "serverPush";
+
+rwt.remote.WebSocketTransport.isSupported = function() {
+  return typeof WebSocket === "function" || typeof WebSocket === "object";
+};
+
+rwt.remote.WebSocketTransport.createUrl = function( path, connectionId ) {
+  var location = window.location;
+  var protocol = location.protocol === "https:" ? "wss://" : "ws://";
+  var separator = path.indexOf( "?" ) === -1 ? "?" : "&";
+  return protocol + location.host + path + separator + "cid=" + connectionId;
+};
+
+rwt.remote.WebSocketTransport.prototype = {
+
+  isOpen : function() {
+    return this._open;
+  },
+
+  send : function( data ) {
+    this._pendingData = data;
+    this._socket.send( data );
+  },
+
+  sendServerPushRequest : function() {
+    this._serverPushPending = true;
+    this._socket.send( rwt.remote.WebSocketTransport.SERVER_PUSH );
+  },
+
+  close : function() {
+    this._socket.close();
+  },
+
+  _createSocket : function( url ) {
+    var socket = new WebSocket( url );
+    socket.binaryType = "arraybuffer";
+    var that = this;
+    socket.onopen = function() {
+      that._open = true;
+    };
+    socket.onmessage = function( event ) {
+      that._handleMessage( event.data );
+    };
+    socket.onclose = function() {
+      that._handleClose();
+    };
+    return socket;
+  },
+
+  _handleMessage : function( data ) {
+    if( data === rwt.remote.WebSocketTransport.SERVER_PUSH ) {
+      this._serverPushPending = false;
+      this._handler.onServerPush.call( this._context );
+    } else {
+      this._pendingData = null;
+      this._handler.onMessage.call( this._context, data );
+    }
+  },
+
+  _handleClose : function() {
+    if( !this._closed ) {
+      this._closed = true;
+      this._open = false;
+      var pendingData = this._pendingData;
+      var serverPushPending = this._serverPushPending;
+      this._pendingData = null;
+      this._serverPushPending = false;
+      this._handler.onClose.call( this._context, pendingData, serverPushPending );
+    }
+  }
+
+};
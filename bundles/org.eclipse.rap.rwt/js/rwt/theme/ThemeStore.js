@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -37,7 +37,8 @@ rwt.qx.Class.define( "rwt.theme.ThemeStore", {
       borders : {},
       cursors : {},
       animations : {},
-      shadows : {}
+      shadows : {},
+      locations : {}
     };
     this._cssValues = {};
     this._statesMap = {
@@ -191,7 +192,7 @@ rwt.qx.Class.define( "rwt.theme.ThemeStore", {
       if( imageArray != null ) {
         // TODO [rh] remove hard-coded path (first segment is defined by
         //      resource-manager)
-        result = "rwt-resources/themes/images/" + key;
+        result = this._getResourceLocation( "themes/images/" + key );
       } else {
         // TODO [rst] Handle null values - currently, both null and the string
         // "undefined" lead to a js error for icon property
@@ -206,7 +207,7 @@ rwt.qx.Class.define( "rwt.theme.ThemeStore", {
       var result;
       if( imageArray != null ) {
         // TODO [tb] : Revise hardcoded path
-        result = [ "rwt-resources/themes/images/" + key ].concat( imageArray );
+        result = [ this._getResourceLocation( "themes/images/" + key ) ].concat( imageArray );
       } else {
         result = rwt.theme.ThemeValues.NONE_IMAGE_SIZED;
       }
@@ -217,7 +218,7 @@ rwt.qx.Class.define( "rwt.theme.ThemeStore", {
       var key = this._getCssValue( element, states, property, theme );
       var result = this._values.cursors[ key ];
       if( result === null ) {
-        result = "rwt-resources/themes/cursors/" + key;
+        result = this._getResourceLocation( "themes/cursors/" + key );
       }
       return result;
     },
@@ -396,6 +397,12 @@ rwt.qx.Class.define( "rwt.theme.ThemeStore", {
       return result;
     },
 
+    // Prefers the location sent by the server, which contains the hash of the content
+    _getResourceLocation : function( path ) {
+      var location = this._values.locations[ path ];
+      return location ? location : "rwt-resources/" + path;
+    },
+
     _resolveNamedColors : function( colorArr ) {
       var result = null;
       if( colorArr ) {
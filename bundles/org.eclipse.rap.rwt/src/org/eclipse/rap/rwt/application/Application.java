@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2016 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -208,6 +208,22 @@ public interface Application {
    */
   void setExceptionHandler( ExceptionHandler exceptionHandler );
 
+  /**
+   * Limits the number of UI requests of this application that are processed concurrently. Requests
+   * that exceed the limit wait to be processed for at most the given time. Requests of existing UI
+   * sessions are processed before requests that start a new UI session. Requests that cannot be
+   * processed in time are answered with an error that makes the client retry the request later.
+   * <p>
+   * By default, the number of concurrently processed UI requests is not limited.
+   * </p>
+   *
+   * @param maxConcurrentRequests the maximum number of concurrently processed UI requests, or
+   *          <code>0</code> for no limit
+   * @param maxWaitTime the maximum time in milliseconds a UI request waits to be processed
+   * @since 3.12
+   */
+  void setMaxConcurrentRequests( int maxConcurrentRequests, int maxWaitTime );
+
   /**
    * Register a themeable widget for this application. A themeable widget is a
    * custom widget that supports theming. To do so, the widget provides a couple
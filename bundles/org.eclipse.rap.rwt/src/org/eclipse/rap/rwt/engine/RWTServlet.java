@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,7 @@ package org.eclipse.rap.rwt.engine;
 import static javax.servlet.http.HttpServletResponse.SC_NOT_FOUND;
 import static javax.servlet.http.HttpServletResponse.SC_SERVICE_UNAVAILABLE;
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.CONNECTION_ID;
+import static org.eclipse.rap.rwt.internal.util.HTTP.CONTENT_TYPE_BINARY_PROTOCOL;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CONTENT_TYPE_JSON;
 import static org.eclipse.rap.rwt.internal.util.HTTP.METHOD_POST;
 
@@ -157,7 +158,9 @@ public class RWTServlet extends HttpServlet {
 
   private static boolean isContentTypeValid( ServletRequest request ) {
     String contentType = request.getContentType();
-    return contentType != null && contentType.startsWith( CONTENT_TYPE_JSON );
+    return    contentType != null
+           && (    contentType.startsWith( CONTENT_TYPE_JSON )
+                || contentType.startsWith( CONTENT_TYPE_BINARY_PROTOCOL ) );
   }
 
   private void sendStartupContent( HttpServletRequest request, HttpServletResponse response )
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,12 +11,35 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 public final class RWTProperties {
 
   public static final String SERVICE_HANDLER_BASE_URL = "org.eclipse.rap.rwt.serviceHandlerBaseURL";
   public static final String DEVELOPMEMT_MODE = "org.eclipse.rap.rwt.developmentMode";
   public static final String TEXT_SIZE_STORE_SIZE = "org.eclipse.rap.rwt.textSizeStoreSize";
+  public static final String TEXT_SIZE_STORE_FILE = "org.eclipse.rap.rwt.textSizeStoreFile";
+  public static final String SERVER_FONT_METRICS = "org.eclipse.rap.rwt.serverFontMetrics";
+  public static final String THEME_SNAPSHOT_DIRECTORY
+    = "org.eclipse.rap.rwt.themeSnapshotDirectory";
+  public static final String RESOURCE_SERVICE = "org.eclipse.rap.rwt.resourceService";
+  public static final String COMPRESSION_THRESHOLD = "org.eclipse.rap.rwt.compressionThreshold";
+  public static final String MAX_REQUEST_SIZE = "org.eclipse.rap.rwt.maxRequestSize";
+  public static final String BINARY_PROTOCOL = "org.eclipse.rap.rwt.binaryProtocol";
+  public static final String WEB_SOCKET = "org.eclipse.rap.rwt.webSocket";
+  public static final String WEB_SOCKET_ALLOWED_ORIGINS
+    = "org.eclipse.rap.rwt.webSocketAllowedOrigins";
+  public static final String ASYNC_SERVER_PUSH = "org.eclipse.rap.rwt.asyncServerPush";
+  public static final String VIRTUAL_UI_THREADS = "org.eclipse.rap.rwt.virtualUIThreads";
+  public static final String DIRTY_WIDGET_TRACKING = "org.eclipse.rap.rwt.dirtyWidgetTracking";
+  public static final String METRICS_JMX = "org.eclipse.rap.rwt.metricsJmx";
+  public static final String METRICS_EXPORT_INTERVAL = "org.eclipse.rap.rwt.metricsExportInterval";
+  public static final String SESSION_HIBERNATION_TIMEOUT
+    = "org.eclipse.rap.rwt.sessionHibernationTimeout";
+  public static final String SESSION_HIBERNATION_DIRECTORY
+    = "org.eclipse.rap.rwt.sessionHibernationDirectory";
 
   /*
    * Used in conjunction with <code>WidgetUtil#CUSTOM_WIDGET_ID</code>,
@@ -40,6 +63,132 @@ public final class RWTProperties {
     return getIntProperty( TEXT_SIZE_STORE_SIZE, defaultValue );
   }
 
+  /*
+   * The file in which measured text sizes are kept across restarts, see TextSizeStorageFile.
+   * Measured text sizes are only kept in memory if not set.
+   */
+  public static String getTextSizeStoreFile() {
+    return System.getProperty( TEXT_SIZE_STORE_FILE );
+  }
+
+  /*
+   * If this property is set, text sizes are computed with the fonts installed on the server until
+   * they have been measured by the client, see AWTFontMetricsProvider.
+   */
+  public static boolean isServerFontMetricsEnabled() {
+    return getBooleanProperty( SERVER_FONT_METRICS, false );
+  }
+
+  /*
+   * The directory in which compiled themes are kept across restarts, see ThemeSnapshotStore.
+   * Themes are compiled on every start if not set.
+   */
+  public static String getThemeSnapshotDirectory() {
+    return System.getProperty( THEME_SNAPSHOT_DIRECTORY );
+  }
+
+  /*
+   * If this property is set, registered resources are kept in memory and served with content
+   * hashes, ETags and precompressed variants, see ResourceServlet.
+   */
+  public static boolean isResourceServiceEnabled() {
+    return getBooleanProperty( RESOURCE_SERVICE, false );
+  }
+
+  /*
+   * The minimal size in bytes of a message to be compressed, a negative value disables compression.
+   */
+  public static int getCompressionThreshold( int defaultValue ) {
+    return getIntProperty( COMPRESSION_THRESHOLD, defaultValue );
+  }
+
+  /*
+   * The maximal size in bytes of the decompressed content of a compressed request.
+   */
+  public static int getMaxRequestSize( int defaultValue ) {
+    return getIntProperty( MAX_REQUEST_SIZE, defaultValue );
+  }
+
+  public static boolean isBinaryProtocolEnabled() {
+    return getBooleanProperty( BINARY_PROTOCOL, false );
+  }
+
+  public static boolean isWebSocketEnabled() {
+    return getBooleanProperty( WEB_SOCKET, false );
+  }
+
+  /*
+   * A comma-separated list of origins, e.g. https://example.com, that may open WebSocket
+   * connections in addition to the origin of the application itself.
+   */
+  public static List<String> getWebSocketAllowedOrigins() {
+    List<String> result = new ArrayList<>();
+    String value = System.getProperty( WEB_SOCKET_ALLOWED_ORIGINS );
+    if( value != null ) {
+      for( String origin : value.split( "," ) ) {
+        if( origin.trim().length() > 0 ) {
+          result.add( origin.trim() );
+        }
+      }
+    }
+    return result;
+  }
+
+  /*
+   * Server push requests are suspended asynchronously only if the servlet and all filters support
+   * asynchronous processing, this property allows to disable it nevertheless.
+   */
+  public static boolean isAsyncServerPushEnabled() {
+    return getBooleanProperty( ASYNC_SERVER_PUSH, true );
+  }
+
+  /*
+   * UI threads of the JEE compatibility mode are created as virtual threads if this property is
+   * set and the JVM supports them, see VirtualThreads#isSupported().
+   */
+  public static boolean isVirtualUIThreadsEnabled() {
+    return getBooleanProperty( VIRTUAL_UI_THREADS, false );
+  }
+
+  /*
+   * If this property is set, only widgets that have been accessed during a request are preserved
+   * and rendered, see DirtyWidgets.
+   */
+  public static boolean isDirtyWidgetTrackingEnabled() {
+    return getBooleanProperty( DIRTY_WIDGET_TRACKING, false );
+  }
+
+  /*
+   * If this property is set, the life cycle metrics of every application are registered with the
+   * platform MBean server, see LifeCycleMetrics.
+   */
+  public static boolean isMetricsJmxEnabled() {
+    return getBooleanProperty( METRICS_JMX, false );
+  }
+
+  /*
+   * The interval in seconds in which the life cycle metrics are passed to registered exporters.
+   */
+  public static int getMetricsExportInterval( int defaultValue ) {
+    return getIntProperty( METRICS_EXPORT_INTERVAL, defaultValue );
+  }
+
+  /*
+   * The time in seconds after which an idle UI session is written to disk and released from memory,
+   * zero or a negative value disables hibernation, see UISessionHibernator.
+   */
+  public static int getSessionHibernationTimeout( int defaultValue ) {
+    return getIntProperty( SESSION_HIBERNATION_TIMEOUT, defaultValue );
+  }
+
+  /*
+   * The directory for hibernated UI sessions, the servlet context's temp directory is used if not
+   * set.
+   */
+  public static String getSessionHibernationDirectory() {
+    return System.getProperty( SESSION_HIBERNATION_DIRECTORY );
+  }
+
   public static boolean getBooleanProperty( String name, boolean defaultValue ) {
     String value = System.getProperty( name );
     return value == null ? defaultValue : value.equalsIgnoreCase( "true" );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -23,9 +23,11 @@ import javax.servlet.ServletContext;
 
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
 import org.eclipse.rap.rwt.application.ExceptionHandler;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.client.ClientSelector;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleFactory;
+import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleMetrics;
 import org.eclipse.rap.rwt.internal.lifecycle.PhaseListenerManager;
 import org.eclipse.rap.rwt.internal.remote.MessageChainElement;
 import org.eclipse.rap.rwt.internal.remote.MessageChainReference;
@@ -34,19 +36,29 @@ import org.eclipse.rap.rwt.internal.remote.MessageFilterChain;
 import org.eclipse.rap.rwt.internal.resources.ClientResources;
 import org.eclipse.rap.rwt.internal.resources.ResourceDirectory;
 import org.eclipse.rap.rwt.internal.resources.ResourceManagerImpl;
+import org.eclipse.rap.rwt.internal.resources.ResourceServlet;
+import org.eclipse.rap.rwt.internal.resources.ResourceStore;
 import org.eclipse.rap.rwt.internal.resources.ResourceRegistry;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushServiceHandler;
+import org.eclipse.rap.rwt.internal.service.AdmissionController;
 import org.eclipse.rap.rwt.internal.service.ApplicationStoreImpl;
 import org.eclipse.rap.rwt.internal.service.LifeCycleServiceHandler;
 import org.eclipse.rap.rwt.internal.service.RWTMessageHandler;
 import org.eclipse.rap.rwt.internal.service.ServiceManagerImpl;
 import org.eclipse.rap.rwt.internal.service.SettingStoreManager;
 import org.eclipse.rap.rwt.internal.service.StartupPage;
+import org.eclipse.rap.rwt.internal.service.UISessionHibernator;
 import org.eclipse.rap.rwt.internal.textsize.ProbeStore;
+import org.eclipse.rap.rwt.internal.textsize.AWTFontMetricsProvider;
+import org.eclipse.rap.rwt.internal.textsize.FontMetricsProvider;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeStorage;
+import org.eclipse.rap.rwt.internal.textsize.TextSizeStorageFile;
 import org.eclipse.rap.rwt.internal.theme.ThemeManager;
+import org.eclipse.rap.rwt.internal.util.HttpCompression;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
+import org.eclipse.rap.rwt.internal.util.SharedScheduler;
+import org.eclipse.rap.rwt.internal.websocket.WebSocketSupport;
 import org.eclipse.rap.rwt.service.ApplicationContext;
 import org.eclipse.rap.rwt.service.ApplicationContextEvent;
 import org.eclipse.rap.rwt.service.ApplicationContextListener;
@@ -83,6 +95,7 @@ public class ApplicationContextImpl implements ApplicationContext {
   private final ThemeManager themeManager;
   private final ApplicationConfiguration applicationConfiguration;
   private final ResourceDirectory resourceDirectory;
+  private final ResourceStore resourceStore;
   private final ResourceManager resourceManager;
   private final PhaseListenerManager phaseListenerManager;
   private final LifeCycleFactory lifeCycleFactory;
@@ -103,11 +116,17 @@ public class ApplicationContextImpl implements ApplicationContext {
   private final ProbeStore probeStore;
   private final ServletContext servletContext;
   private final ClientSelector clientSelector;
+  private final SharedScheduler scheduler;
+  private final LifeCycleMetrics lifeCycleMetrics;
+  private final UISessionHibernator uiSessionHibernator;
+  private final AdmissionController admissionController;
+  private final TextSizeStorageFile textSizeStorageFile;
   private final Set<ApplicationContextListener> appContextListeners;
   private final Set<UIThreadListener> uiThreadListeners;
   private final SerializableLock listenersLock;
   private final AtomicReference<State> state;
   private ExceptionHandler exceptionHandler;
+  private volatile FontMetricsProvider fontMetricsProvider;
 
   public ApplicationContextImpl( ApplicationConfiguration applicationConfiguration,
                                  ServletContext servletContext )
@@ -116,6 +135,7 @@ public class ApplicationContextImpl implements ApplicationContext {
     this.servletContext = servletContext;
     applicationStore = new ApplicationStoreImpl();
     resourceDirectory = new ResourceDirectory();
+    resourceStore = RWTProperties.isResourceServiceEnabled() ? new ResourceStore() : null;
     resourceManager = createResourceManager();
     phaseListenerManager = new PhaseListenerManager();
     entryPointManager = new EntryPointManager();
@@ -136,6 +156,11 @@ public class ApplicationContextImpl implements ApplicationContext {
     textSizeStorage = new TextSizeStorage();
     probeStore = new ProbeStore( textSizeStorage );
     clientSelector = new ClientSelector();
+    scheduler = new SharedScheduler( "RAP Scheduler", 1 );
+    lifeCycleMetrics = new LifeCycleMetrics( scheduler );
+    uiSessionHibernator = new UISessionHibernator();
+    admissionController = new AdmissionController();
+    textSizeStorageFile = new TextSizeStorageFile( textSizeStorage );
     appContextListeners = new HashSet<>();
     listenersLock = new SerializableLock();
     state = new AtomicReference<>( State.INACTIVE );
@@ -147,7 +172,7 @@ public class ApplicationContextImpl implements ApplicationContext {
   }
 
   protected ResourceManager createResourceManager() {
-    return new ResourceManagerImpl( resourceDirectory );
+    return new ResourceManagerImpl( resourceDirectory, resourceStore );
   }
 
   public static ApplicationContextImpl getFrom( ServletContext servletContext ) {
@@ -275,6 +300,14 @@ public class ApplicationContextImpl implements ApplicationContext {
     return resourceManager;
   }
 
+  /**
+   * Returns the store of registered resources for the {@link ResourceServlet}, or
+   * <code>null</code> if the resource service is not enabled.
+   */
+  public ResourceStore getResourceStore() {
+    return resourceStore;
+  }
+
   public EntryPointManager getEntryPointManager() {
     return entryPointManager;
   }
@@ -344,6 +377,30 @@ public class ApplicationContextImpl implements ApplicationContext {
     return clientSelector;
   }
 
+  public SharedScheduler getScheduler() {
+    return scheduler;
+  }
+
+  public LifeCycleMetrics getLifeCycleMetrics() {
+    return lifeCycleMetrics;
+  }
+
+  public UISessionHibernator getUISessionHibernator() {
+    return uiSessionHibernator;
+  }
+
+  public AdmissionController getAdmissionController() {
+    return admissionController;
+  }
+
+  public FontMetricsProvider getFontMetricsProvider() {
+    return fontMetricsProvider;
+  }
+
+  public void setFontMetricsProvider( FontMetricsProvider fontMetricsProvider ) {
+    this.fontMetricsProvider = fontMetricsProvider;
+  }
+
   public ExceptionHandler getExceptionHandler() {
     return exceptionHandler;
   }
@@ -367,6 +424,7 @@ public class ApplicationContextImpl implements ApplicationContext {
   }
 
   void doActivate() {
+    scheduler.start();
     themeManager.initialize();
     applicationConfiguration.configure( new ApplicationImpl( this, applicationConfiguration ) );
     resourceDirectory.configure( getContextDirectory() );
@@ -375,13 +433,24 @@ public class ApplicationContextImpl implements ApplicationContext {
     startupPage.activate();
     lifeCycleFactory.activate();
     // Note: order is crucial here
-    themeManager.activate();
+    themeManager.activate( getApplicationId() );
     if( !skipResoureRegistration ) {
       ClientResources clientResources = new ClientResources( this );
       clientResources.registerResources();
     }
     resourceRegistry.registerResources();
     clientSelector.activate();
+    WebSocketSupport.install( servletContext );
+    if( resourceStore != null ) {
+      ResourceServlet.install( servletContext );
+    }
+    ClassLoader classLoader = applicationConfiguration.getClass().getClassLoader();
+    lifeCycleMetrics.activate( getMetricsName(), classLoader );
+    uiSessionHibernator.activate( servletContext );
+    textSizeStorageFile.activate( getApplicationId() );
+    if( fontMetricsProvider == null && RWTProperties.isServerFontMetricsEnabled() ) {
+      fontMetricsProvider = new AWTFontMetricsProvider();
+    }
   }
 
   void doDeactivate() {
@@ -392,18 +461,33 @@ public class ApplicationContextImpl implements ApplicationContext {
     if( !skipResoureDeletion ) {
       resourceDirectory.deleteDirectory();
     }
+    if( resourceStore != null ) {
+      resourceStore.clear();
+    }
     entryPointManager.deregisterAll();
     phaseListenerManager.clear();
     resourceRegistry.clear();
     settingStoreManager.deregisterFactory();
     resourceDirectory.reset();
     applicationStore.reset();
+    lifeCycleMetrics.deactivate();
+    uiSessionHibernator.deactivate();
+    admissionController.reset();
+    textSizeStorageFile.deactivate();
+    HttpCompression.endDeflaters();
+    fontMetricsProvider = null;
+    scheduler.shutdown();
   }
 
   private ServiceManagerImpl createServiceManager() {
     return new ServiceManagerImpl( new LifeCycleServiceHandler( messageChainReference ) );
   }
 
+  private String getMetricsName() {
+    String name = servletContext.getServletContextName();
+    return name == null ? "application" : name;
+  }
+
   private String getContextDirectory() {
     String location
       = ( String )servletContext.getAttribute( ApplicationConfiguration.RESOURCE_ROOT_LOCATION );
@@ -413,6 +497,15 @@ public class ApplicationContextImpl implements ApplicationContext {
     return location;
   }
 
+  /*
+   * Identifies the application across restarts, e.g. to keep its theme snapshots apart from those
+   * of other applications that share the snapshot directory.
+   */
+  private String getApplicationId() {
+    String contextDirectory = getContextDirectory();
+    return contextDirectory != null ? contextDirectory : servletContext.getContextPath();
+  }
+
   private void addInternalServiceHandlers() {
     serviceManager.registerServiceHandler( ServerPushServiceHandler.HANDLER_ID,
                                            new ServerPushServiceHandler() );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -77,6 +77,11 @@ public class ApplicationImpl implements Application {
     applicationContext.setExceptionHandler( exceptionHandler );
   }
 
+  @Override
+  public void setMaxConcurrentRequests( int maxConcurrentRequests, int maxWaitTime ) {
+    applicationContext.getAdmissionController().configure( maxConcurrentRequests, maxWaitTime );
+  }
+
   @Override
   public void addEntryPoint( String path,
                              Class<? extends EntryPoint> entryPointType,
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * A histogram of durations that can be recorded concurrently without locking. Each power of two
+ * range of values is divided into a fixed number of linear sub-buckets, hence the relative error
+ * of the reported percentiles does not exceed 1/8, regardless of the magnitude of the values.
+ * Durations are recorded in nanoseconds and reported in microseconds.
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = ( 64 - SUB_BUCKET_BITS ) * SUB_BUCKETS;
+  private static final long NANOS_PER_MICRO = 1000;
+
+  private final AtomicLongArray buckets;
+  private final LongAdder count;
+  private final LongAdder sum;
+  private final AtomicLong max;
+
+  public LatencyHistogram() {
+    buckets = new AtomicLongArray( BUCKET_COUNT );
+    count = new LongAdder();
+    sum = new LongAdder();
+    max = new AtomicLong();
+  }
+
+  public void record( long nanos ) {
+    long value = Math.max( 0, nanos );
+    buckets.incrementAndGet( getBucketIndex( value ) );
+    count.increment();
+    sum.add( value );
+    long currentMax = max.get();
+    while( value > currentMax && !max.compareAndSet( currentMax, value ) ) {
+      currentMax = max.get();
+    }
+  }
+
+  /**
+   * Returns a snapshot of the recorded values. Values that are recorded while the snapshot is
+   * created may or may not be included.
+   */
+  public LatencySnapshot createSnapshot() {
+    long[] counts = new long[ BUCKET_COUNT ];
+    long total = 0;
+    for( int i = 0; i < BUCKET_COUNT; i++ ) {
+      counts[ i ] = buckets.get( i );
+      total += counts[ i ];
+    }
+    long maxValue = max.get();
+    long mean = total == 0 ? 0 : sum.sum() / total;
+    return new LatencySnapshot( total,
+                                toMicros( mean ),
+                                toMicros( maxValue ),
+                                toMicros( getPercentile( counts, total, 0.5, maxValue ) ),
+                                toMicros( getPercentile( counts, total, 0.9, maxValue ) ),
+                                toMicros( getPercentile( counts, total, 0.99, maxValue ) ) );
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public void reset() {
+    for( int i = 0; i < BUCKET_COUNT; i++ ) {
+      buckets.set( i, 0 );
+    }
+    count.reset();
+    sum.reset();
+    max.set( 0 );
+  }
+
+  static int getBucketIndex( long value ) {
+    if( value < SUB_BUCKETS ) {
+      return ( int )value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros( value );
+    int shift = exponent - SUB_BUCKET_BITS;
+    int subBucket = ( int )( value >>> shift ) - SUB_BUCKETS;
+    return ( shift + 1 ) * SUB_BUCKETS + subBucket;
+  }
+
+  static long getUpperBound( int index ) {
+    if( index < SUB_BUCKETS ) {
+      return index;
+    }
+    int shift = index / SUB_BUCKETS - 1;
+    long lowerBound = ( long )( SUB_BUCKETS + index % SUB_BUCKETS ) << shift;
+    return lowerBound + ( 1L << shift ) - 1;
+  }
+
+  private static long getPercentile( long[] counts, long total, double percentile, long max ) {
+    if( total == 0 ) {
+      return 0;
+    }
+    long threshold = ( long )Math.ceil( total * percentile );
+    long cumulated = 0;
+    for( int i = 0; i < counts.length; i++ ) {
+      cumulated += counts[ i ];
+      if( cumulated >= threshold ) {
+        return Math.min( getUpperBound( i ), max );
+      }
+    }
+    return max;
+  }
+
+  private static long toMicros( long nanos ) {
+    return nanos / NANOS_PER_MICRO;
+  }
+
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+
+/**
+ * An immutable summary of a {@link LatencyHistogram}. All durations are given in microseconds.
+ */
+public final class LatencySnapshot {
+
+  private final long count;
+  private final long mean;
+  private final long max;
+  private final long percentile50;
+  private final long percentile90;
+  private final long percentile99;
+
+  LatencySnapshot( long count,
+                   long mean,
+                   long max,
+                   long percentile50,
+                   long percentile90,
+                   long percentile99 )
+  {
+    this.count = count;
+    this.mean = mean;
+    this.max = max;
+    this.percentile50 = percentile50;
+    this.percentile90 = percentile90;
+    this.percentile99 = percentile99;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public long getMean() {
+    return mean;
+  }
+
+  public long getMax() {
+    return max;
+  }
+
+  public long getPercentile50() {
+    return percentile50;
+  }
+
+  public long getPercentile90() {
+    return percentile90;
+  }
+
+  public long getPercentile99() {
+    return percentile99;
+  }
+
+  @Override
+  public String toString() {
+    return "LatencySnapshot{count="
+           + count
+           + ", mean="
+           + mean
+           + ", max="
+           + max
+           + ", p50="
+           + percentile50
+           + ", p90="
+           + percentile90
+           + ", p99="
+           + percentile99
+           + "}";
+  }
+
+}
@@ -0,0 +1,372 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
+import org.eclipse.rap.rwt.internal.util.SharedScheduler;
+import org.eclipse.rap.rwt.service.UISession;
+
+
+/**
+ * Collects performance metrics of the life cycle of all UI sessions of an application: the
+ * duration of the life cycle phases, the size of the messages, the number of widgets visited
+ * while rendering, the latency of passing control between request and UI thread and the time
+ * that server push requests are kept waiting. In addition, the {@link SessionMetrics} of the UI
+ * sessions that are alive are summarized on demand.
+ * <p>
+ * Values are recorded without locking and are cheap enough to be collected at all times. The
+ * metrics can be read through JMX, if enabled with {@link RWTProperties#METRICS_JMX}, or
+ * periodically passed to {@link MetricsExporter}s, which are either added programmatically or
+ * registered as services of the application class loader.
+ * </p>
+ */
+@SuppressWarnings( "deprecation" )
+public class LifeCycleMetrics implements LifeCycleMetricsMXBean {
+
+  private static final String DOMAIN = "org.eclipse.rap.rwt";
+  private static final int DEFAULT_EXPORT_INTERVAL = 60;
+
+  private final SharedScheduler scheduler;
+  private final LatencyHistogram readDataLatency;
+  private final LatencyHistogram processActionLatency;
+  private final LatencyHistogram renderLatency;
+  private final LatencyHistogram threadHandoffLatency;
+  private final LatencyHistogram serverPushParkDuration;
+  private final LongAdder requestCount;
+  private final LongAdder bytesReceived;
+  private final LongAdder bytesSent;
+  private final LongAdder operationsReceived;
+  private final LongAdder operationsSent;
+  private final LongAdder widgetsVisited;
+  private final List<MetricsExporter> exporters;
+  private final Set<SessionMetrics> sessions;
+  private final Object lock;
+  // access is guarded by 'lock'
+  private final List<MetricsExporter> loadedExporters;
+  private ScheduledFuture<?> exportTask;
+  private ObjectName objectName;
+
+  public LifeCycleMetrics( SharedScheduler scheduler ) {
+    this.scheduler = scheduler;
+    readDataLatency = new LatencyHistogram();
+    processActionLatency = new LatencyHistogram();
+    renderLatency = new LatencyHistogram();
+    threadHandoffLatency = new LatencyHistogram();
+    serverPushParkDuration = new LatencyHistogram();
+    requestCount = new LongAdder();
+    bytesReceived = new LongAdder();
+    bytesSent = new LongAdder();
+    operationsReceived = new LongAdder();
+    operationsSent = new LongAdder();
+    widgetsVisited = new LongAdder();
+    exporters = new CopyOnWriteArrayList<>();
+    sessions = ConcurrentHashMap.newKeySet();
+    lock = new Object();
+    loadedExporters = new ArrayList<>();
+  }
+
+  public void recordPhase( PhaseId phaseId, long nanos ) {
+    if( PhaseId.READ_DATA.equals( phaseId ) ) {
+      readDataLatency.record( nanos );
+    } else if( PhaseId.PROCESS_ACTION.equals( phaseId ) ) {
+      processActionLatency.record( nanos );
+    } else if( PhaseId.RENDER.equals( phaseId ) ) {
+      renderLatency.record( nanos );
+    }
+  }
+
+  public void recordMessageReceived( int bytes, int operations ) {
+    requestCount.increment();
+    bytesReceived.add( bytes );
+    operationsReceived.add( operations );
+  }
+
+  public void recordMessageSent( int bytes, int operations ) {
+    bytesSent.add( bytes );
+    operationsSent.add( operations );
+  }
+
+  /**
+   * Records a request of the given UI session in its {@link SessionMetrics} and includes the UI
+   * session in the summary until it is destroyed.
+   */
+  public void recordSessionRequest( UISession uiSession, int received, int sent, long nanos ) {
+    SessionMetrics sessionMetrics = SessionMetrics.getInstance( uiSession );
+    sessionMetrics.recordRequest( received, sent, nanos );
+    // also re-adds the metrics of UI sessions that were deserialized
+    if( sessions.add( sessionMetrics ) ) {
+      uiSession.addUISessionListener( sessionMetrics );
+    }
+  }
+
+  void removeSession( SessionMetrics sessionMetrics ) {
+    sessions.remove( sessionMetrics );
+  }
+
+  public void recordWidgetsVisited( int count ) {
+    widgetsVisited.add( count );
+  }
+
+  public void recordThreadHandoff( long nanos ) {
+    threadHandoffLatency.record( nanos );
+  }
+
+  public void recordServerPushPark( long nanos ) {
+    serverPushParkDuration.record( nanos );
+  }
+
+  public MetricsSnapshot createSnapshot() {
+    return new MetricsSnapshot( this );
+  }
+
+  @Override
+  public LatencySnapshot getReadDataLatency() {
+    return readDataLatency.createSnapshot();
+  }
+
+  @Override
+  public LatencySnapshot getProcessActionLatency() {
+    return processActionLatency.createSnapshot();
+  }
+
+  @Override
+  public LatencySnapshot getRenderLatency() {
+    return renderLatency.createSnapshot();
+  }
+
+  @Override
+  public LatencySnapshot getThreadHandoffLatency() {
+    return threadHandoffLatency.createSnapshot();
+  }
+
+  @Override
+  public LatencySnapshot getServerPushParkDuration() {
+    return serverPushParkDuration.createSnapshot();
+  }
+
+  @Override
+  public long getRequestCount() {
+    return requestCount.sum();
+  }
+
+  @Override
+  public long getBytesReceived() {
+    return bytesReceived.sum();
+  }
+
+  @Override
+  public long getBytesSent() {
+    return bytesSent.sum();
+  }
+
+  @Override
+  public long getOperationsReceived() {
+    return operationsReceived.sum();
+  }
+
+  @Override
+  public long getOperationsSent() {
+    return operationsSent.sum();
+  }
+
+  @Override
+  public long getWidgetsVisited() {
+    return widgetsVisited.sum();
+  }
+
+  /**
+   * Summarizes the metrics of the UI sessions that are alive. The summary is not affected by
+   * {@link #reset()}.
+   */
+  @Override
+  public SessionMetricsSnapshot getSessionMetrics() {
+    long count = 0;
+    long totalRequests = 0;
+    long maxRequests = 0;
+    long totalProcessingTime = 0;
+    long maxProcessingTime = 0;
+    long maxBytesReceived = 0;
+    long maxBytesSent = 0;
+    for( SessionMetrics sessionMetrics : sessions ) {
+      count++;
+      long requests = sessionMetrics.getRequestCount();
+      long processingTime = sessionMetrics.getProcessingTime();
+      totalRequests += requests;
+      maxRequests = Math.max( maxRequests, requests );
+      totalProcessingTime += processingTime;
+      maxProcessingTime = Math.max( maxProcessingTime, processingTime );
+      maxBytesReceived = Math.max( maxBytesReceived, sessionMetrics.getBytesReceived() );
+      maxBytesSent = Math.max( maxBytesSent, sessionMetrics.getBytesSent() );
+    }
+    return new SessionMetricsSnapshot( count,
+                                       count == 0 ? 0 : totalRequests / count,
+                                       maxRequests,
+                                       count == 0 ? 0 : totalProcessingTime / count,
+                                       maxProcessingTime,
+                                       maxBytesReceived,
+                                       maxBytesSent );
+  }
+
+  @Override
+  public void reset() {
+    readDataLatency.reset();
+    processActionLatency.reset();
+    renderLatency.reset();
+    threadHandoffLatency.reset();
+    serverPushParkDuration.reset();
+    requestCount.reset();
+    bytesReceived.reset();
+    bytesSent.reset();
+    operationsReceived.reset();
+    operationsSent.reset();
+    widgetsVisited.reset();
+  }
+
+  /**
+   * Adds an exporter that is called with a snapshot of the metrics in the interval given by
+   * {@link RWTProperties#METRICS_EXPORT_INTERVAL}.
+   */
+  public void addExporter( MetricsExporter exporter ) {
+    ParamCheck.notNull( exporter, "exporter" );
+    exporters.add( exporter );
+    synchronized( lock ) {
+      if( exportTask == null ) {
+        scheduleExport();
+      }
+    }
+  }
+
+  public void removeExporter( MetricsExporter exporter ) {
+    ParamCheck.notNull( exporter, "exporter" );
+    exporters.remove( exporter );
+  }
+
+  /**
+   * Registers the metrics with the platform MBean server, if enabled, and adds the exporters that
+   * are registered as services of the given class loader.
+   *
+   * @param name a name that identifies the application, e.g. the context path
+   * @param classLoader the class loader to search for {@link MetricsExporter} services
+   */
+  public void activate( String name, ClassLoader classLoader ) {
+    synchronized( lock ) {
+      if( RWTProperties.isMetricsJmxEnabled() ) {
+        registerMBean( name );
+      }
+      loadExporters( classLoader );
+    }
+  }
+
+  public void deactivate() {
+    synchronized( lock ) {
+      if( exportTask != null ) {
+        exportTask.cancel( false );
+        exportTask = null;
+      }
+      exporters.removeAll( loadedExporters );
+      loadedExporters.clear();
+      unregisterMBean();
+    }
+    sessions.clear();
+  }
+
+  ObjectName getObjectName() {
+    synchronized( lock ) {
+      return objectName;
+    }
+  }
+
+  void export() {
+    if( !exporters.isEmpty() ) {
+      MetricsSnapshot snapshot = createSnapshot();
+      for( MetricsExporter exporter : exporters ) {
+        try {
+          exporter.export( snapshot );
+        } catch( RuntimeException exception ) {
+          ServletLog.log( "Failed to export metrics", exception );
+        }
+      }
+    }
+  }
+
+  private void scheduleExport() {
+    int interval = RWTProperties.getMetricsExportInterval( DEFAULT_EXPORT_INTERVAL );
+    exportTask = scheduler.schedule( new Runnable() {
+      @Override
+      public void run() {
+        export();
+        synchronized( lock ) {
+          if( exportTask != null ) {
+            scheduleExport();
+          }
+        }
+      }
+    }, interval, TimeUnit.SECONDS );
+  }
+
+  private void loadExporters( ClassLoader classLoader ) {
+    try {
+      for( MetricsExporter exporter : ServiceLoader.load( MetricsExporter.class, classLoader ) ) {
+        loadedExporters.add( exporter );
+        addExporter( exporter );
+      }
+    } catch( ServiceConfigurationError error ) {
+      ServletLog.log( "Failed to load metrics exporter", error );
+    }
+  }
+
+  private void registerMBean( String name ) {
+    try {
+      String id = name + "@" + Integer.toHexString( System.identityHashCode( this ) );
+      ObjectName mbeanName = new ObjectName( DOMAIN
+                                             + ":type=LifeCycleMetrics,name="
+                                             + ObjectName.quote( id ) );
+      getMBeanServer().registerMBean( this, mbeanName );
+      objectName = mbeanName;
+    } catch( JMException exception ) {
+      ServletLog.log( "Failed to register metrics MBean", exception );
+    }
+  }
+
+  private void unregisterMBean() {
+    if( objectName != null ) {
+      try {
+        getMBeanServer().unregisterMBean( objectName );
+      } catch( JMException exception ) {
+        ServletLog.log( "Failed to unregister metrics MBean", exception );
+      }
+      objectName = null;
+    }
+  }
+
+  private static MBeanServer getMBeanServer() {
+    return ManagementFactory.getPlatformMBeanServer();
+  }
+
+}
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+
+/**
+ * The management interface of the {@link LifeCycleMetrics} of an application. All durations are
+ * given in microseconds.
+ */
+public interface LifeCycleMetricsMXBean {
+
+  LatencySnapshot getReadDataLatency();
+
+  LatencySnapshot getProcessActionLatency();
+
+  LatencySnapshot getRenderLatency();
+
+  LatencySnapshot getThreadHandoffLatency();
+
+  LatencySnapshot getServerPushParkDuration();
+
+  long getRequestCount();
+
+  long getBytesReceived();
+
+  long getBytesSent();
+
+  long getOperationsReceived();
+
+  long getOperationsSent();
+
+  long getWidgetsVisited();
+
+  SessionMetricsSnapshot getSessionMetrics();
+
+  void reset();
+
+}
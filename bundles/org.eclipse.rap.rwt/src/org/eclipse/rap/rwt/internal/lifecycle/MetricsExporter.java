@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+
+/**
+ * Receives the metrics of an application periodically, e.g. to forward them to a monitoring
+ * system. Exporters are called on the shared scheduler of the application and must not block.
+ * <p>
+ * Exporters are registered with {@link java.util.ServiceLoader}: the class loader of the
+ * application configuration is searched for <code>META-INF/services</code> entries of this
+ * interface when the application is started. Implementations need a public no-arg constructor.
+ * </p>
+ *
+ * @see LifeCycleMetrics#addExporter(MetricsExporter)
+ */
+public interface MetricsExporter {
+
+  void export( MetricsSnapshot snapshot );
+
+}
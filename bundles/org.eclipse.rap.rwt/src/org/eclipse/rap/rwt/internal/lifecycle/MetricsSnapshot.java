@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+
+/**
+ * An immutable copy of the {@link LifeCycleMetrics} of an application at a certain point in time.
+ * All durations are given in microseconds.
+ */
+public final class MetricsSnapshot {
+
+  private final long timestamp;
+  private final LatencySnapshot readDataLatency;
+  private final LatencySnapshot processActionLatency;
+  private final LatencySnapshot renderLatency;
+  private final LatencySnapshot threadHandoffLatency;
+  private final LatencySnapshot serverPushParkDuration;
+  private final long requestCount;
+  private final long bytesReceived;
+  private final long bytesSent;
+  private final long operationsReceived;
+  private final long operationsSent;
+  private final long widgetsVisited;
+  private final SessionMetricsSnapshot sessionMetrics;
+
+  MetricsSnapshot( LifeCycleMetrics metrics ) {
+    timestamp = System.currentTimeMillis();
+    readDataLatency = metrics.getReadDataLatency();
+    processActionLatency = metrics.getProcessActionLatency();
+    renderLatency = metrics.getRenderLatency();
+    threadHandoffLatency = metrics.getThreadHandoffLatency();
+    serverPushParkDuration = metrics.getServerPushParkDuration();
+    requestCount = metrics.getRequestCount();
+    bytesReceived = metrics.getBytesReceived();
+    bytesSent = metrics.getBytesSent();
+    operationsReceived = metrics.getOperationsReceived();
+    operationsSent = metrics.getOperationsSent();
+    widgetsVisited = metrics.getWidgetsVisited();
+    sessionMetrics = metrics.getSessionMetrics();
+  }
+
+  /**
+   * Returns the time when this snapshot was created, in milliseconds since the epoch.
+   */
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  public LatencySnapshot getReadDataLatency() {
+    return readDataLatency;
+  }
+
+  public LatencySnapshot getProcessActionLatency() {
+    return processActionLatency;
+  }
+
+  public LatencySnapshot getRenderLatency() {
+    return renderLatency;
+  }
+
+  public LatencySnapshot getThreadHandoffLatency() {
+    return threadHandoffLatency;
+  }
+
+  public LatencySnapshot getServerPushParkDuration() {
+    return serverPushParkDuration;
+  }
+
+  public long getRequestCount() {
+    return requestCount;
+  }
+
+  public long getBytesReceived() {
+    return bytesReceived;
+  }
+
+  public long getBytesSent() {
+    return bytesSent;
+  }
+
+  public long getOperationsReceived() {
+    return operationsReceived;
+  }
+
+  public long getOperationsSent() {
+    return operationsSent;
+  }
+
+  public long getWidgetsVisited() {
+    return widgetsVisited;
+  }
+
+  public SessionMetricsSnapshot getSessionMetrics() {
+    return sessionMetrics;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,9 @@ import java.text.MessageFormat;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServiceStore;
 import org.eclipse.rap.rwt.internal.service.ServletLog;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 
@@ -24,6 +27,9 @@ import org.eclipse.rap.rwt.internal.util.ParamCheck;
 @SuppressWarnings( "deprecation" )
 public class PhaseListenerManager {
 
+  private static final String ATTR_PHASE_START_TIME
+    = PhaseListenerManager.class.getName() + "#phaseStartTime";
+
   private final Object lock;
   private final Set<PhaseListener> phaseListeners;
 
@@ -68,9 +74,11 @@ public class PhaseListenerManager {
         }
       }
     }
+    startPhaseTimer();
   }
 
   void notifyAfterPhase( PhaseId phase, LifeCycle eventSource ) {
+    stopPhaseTimer( phase );
     if( PhaseId.PROCESS_ACTION.equals( phase ) ) {
       getApplicationContext().notifyLeaveUIThread( getUISession() );
     }
@@ -92,6 +100,31 @@ public class PhaseListenerManager {
     phaseListeners.clear();
   }
 
+  // the duration of a phase is measured without the time spent in phase listeners
+  private static void startPhaseTimer() {
+    ServiceStore serviceStore = ContextProvider.getServiceStore();
+    if( serviceStore != null ) {
+      serviceStore.setAttribute( ATTR_PHASE_START_TIME, Long.valueOf( System.nanoTime() ) );
+    }
+  }
+
+  private static void stopPhaseTimer( PhaseId phase ) {
+    ServiceStore serviceStore = ContextProvider.getServiceStore();
+    if( serviceStore != null ) {
+      Long startTime = ( Long )serviceStore.getAttribute( ATTR_PHASE_START_TIME );
+      LifeCycleMetrics metrics = getLifeCycleMetrics();
+      if( startTime != null && metrics != null ) {
+        metrics.recordPhase( phase, System.nanoTime() - startTime.longValue() );
+      }
+      serviceStore.setAttribute( ATTR_PHASE_START_TIME, null );
+    }
+  }
+
+  private static LifeCycleMetrics getLifeCycleMetrics() {
+    ApplicationContextImpl applicationContext = getApplicationContext();
+    return applicationContext == null ? null : applicationContext.getLifeCycleMetrics();
+  }
+
   private static boolean mustNotify( PhaseId phase, PhaseId listenerPhase ) {
     return listenerPhase == PhaseId.ANY || listenerPhase == phase;
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import java.io.IOException;
 import javax.servlet.http.HttpServletRequest;
 
 import org.eclipse.rap.rwt.application.EntryPoint;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.IPhase.IInterruptible;
 import org.eclipse.rap.rwt.internal.lifecycle.UIThread.UIThreadTerminatedError;
@@ -187,10 +188,9 @@ public class RWTLifeCycle extends LifeCycle {
       uiThread = createUIThread();
       // The serviceContext MUST be set before thread.start() is called
       uiThread.setServiceContext( context );
-      synchronized( uiThread.getLock() ) {
-        uiThread.getThread().start();
-        uiThread.switchThread();
-      }
+      // The UI thread waits for the request thread to pass control in switchThread
+      uiThread.getThread().start();
+      uiThread.switchThread();
     } else {
       uiThread.setServiceContext( context );
       // See bug 354368
@@ -237,7 +237,9 @@ public class RWTLifeCycle extends LifeCycle {
 
   private IUIThreadHolder createUIThread() {
     UISession uiSession = ContextProvider.getUISession();
-    IUIThreadHolder result = new UIThread( uiRunnable );
+    IUIThreadHolder result = new UIThread( uiRunnable,
+                                           RWTProperties.isVirtualUIThreadsEnabled(),
+                                           applicationContext.getLifeCycleMetrics() );
     result.getThread().setDaemon( true );
     result.getThread().setName( "UIThread [" + uiSession.getId() + "]" );
     LifeCycleUtil.setUIThread( uiSession, result );
@@ -279,31 +281,28 @@ public class RWTLifeCycle extends LifeCycle {
   private final class UIThreadController implements Runnable {
     @Override
     public void run() {
-      IUIThreadHolder uiThread = ( IUIThreadHolder )Thread.currentThread();
+      IUIThreadHolder uiThread = UIThread.getCurrent();
       try {
-        // [rh] sync exception handling and switchThread (see bug 316676)
-        synchronized( uiThread.getLock() ) {
-          try {
-            uiThread.updateServiceContext();
-            ServerPushManager.getInstance().notifyUIThreadStart();
-            continueLifeCycle();
-            createUI();
-            continueLifeCycle();
-            ServerPushManager.getInstance().notifyUIThreadEnd();
-          } catch( UIThreadTerminatedError thr ) {
-            throw thr;
-          } catch( Throwable thr ) {
-            ServiceStore serviceStore = ContextProvider.getServiceStore();
-            serviceStore.setAttribute( UI_THREAD_THROWABLE, thr );
-          }
-          // We have to prevent the ui thread from waking up at that point, otherwise
-          // processShutdown would never be executed and session store would not be cleared.
-          // See bug 354368
-          UISession uiSession = ContextProvider.getUISession();
-          uiSession.setAttribute( UI_THREAD_WAITING_FOR_TERMINATION, Boolean.TRUE );
-          // In any case: wait for the thread to be terminated by session timeout
-          uiThread.switchThread();
+        try {
+          uiThread.updateServiceContext();
+          ServerPushManager.getInstance().notifyUIThreadStart();
+          continueLifeCycle();
+          createUI();
+          continueLifeCycle();
+          ServerPushManager.getInstance().notifyUIThreadEnd();
+        } catch( UIThreadTerminatedError thr ) {
+          throw thr;
+        } catch( Throwable thr ) {
+          ServiceStore serviceStore = ContextProvider.getServiceStore();
+          serviceStore.setAttribute( UI_THREAD_THROWABLE, thr );
         }
+        // We have to prevent the ui thread from waking up at that point, otherwise
+        // processShutdown would never be executed and session store would not be cleared.
+        // See bug 354368
+        UISession uiSession = ContextProvider.getUISession();
+        uiSession.setAttribute( UI_THREAD_WAITING_FOR_TERMINATION, Boolean.TRUE );
+        // In any case: wait for the thread to be terminated by session timeout
+        uiThread.switchThread();
       } catch( @SuppressWarnings( "unused" ) UIThreadTerminatedError e ) {
         // If we get here, the session is being invalidated, see UIThread#terminateThread()
         ( ( ISessionShutdownAdapter )uiThread ).processShutdown();
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.rap.rwt.service.UISessionEvent;
+import org.eclipse.rap.rwt.service.UISessionListener;
+
+
+/**
+ * Accumulates the request metrics of a single UI session. As requests of a UI session are
+ * processed one at a time, no synchronization is needed for recording. The values are read by
+ * {@link LifeCycleMetrics} to summarize the UI sessions of the application.
+ */
+public final class SessionMetrics implements UISessionListener {
+
+  // written by a single thread at a time, volatile for readers of the summary
+  private volatile long requestCount;
+  private volatile long processingTime;
+  private volatile long bytesReceived;
+  private volatile long bytesSent;
+
+  public static SessionMetrics getInstance( UISession uiSession ) {
+    return SingletonUtil.getUniqueInstance( SessionMetrics.class, uiSession );
+  }
+
+  public void recordRequest( int received, int sent, long nanos ) {
+    requestCount++;
+    bytesReceived += received;
+    bytesSent += sent;
+    processingTime += nanos;
+  }
+
+  public long getRequestCount() {
+    return requestCount;
+  }
+
+  /**
+   * Returns the total time in milliseconds spent processing the requests of the UI session.
+   */
+  public long getProcessingTime() {
+    return processingTime / 1000000;
+  }
+
+  public long getBytesReceived() {
+    return bytesReceived;
+  }
+
+  public long getBytesSent() {
+    return bytesSent;
+  }
+
+  @Override
+  public void beforeDestroy( UISessionEvent event ) {
+    ApplicationContextImpl applicationContext
+      = ( ApplicationContextImpl )event.getUISession().getApplicationContext();
+    if( applicationContext != null ) {
+      applicationContext.getLifeCycleMetrics().removeSession( this );
+    }
+  }
+
+}
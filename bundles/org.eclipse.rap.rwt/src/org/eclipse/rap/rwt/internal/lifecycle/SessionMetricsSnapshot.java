@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+
+/**
+ * An immutable summary of the {@link SessionMetrics} of the UI sessions of an application that are
+ * alive at a certain point in time. Durations are given in milliseconds.
+ */
+public final class SessionMetricsSnapshot {
+
+  private final long sessionCount;
+  private final long meanRequestCount;
+  private final long maxRequestCount;
+  private final long meanProcessingTime;
+  private final long maxProcessingTime;
+  private final long maxBytesReceived;
+  private final long maxBytesSent;
+
+  SessionMetricsSnapshot( long sessionCount,
+                          long meanRequestCount,
+                          long maxRequestCount,
+                          long meanProcessingTime,
+                          long maxProcessingTime,
+                          long maxBytesReceived,
+                          long maxBytesSent )
+  {
+    this.sessionCount = sessionCount;
+    this.meanRequestCount = meanRequestCount;
+    this.maxRequestCount = maxRequestCount;
+    this.meanProcessingTime = meanProcessingTime;
+    this.maxProcessingTime = maxProcessingTime;
+    this.maxBytesReceived = maxBytesReceived;
+    this.maxBytesSent = maxBytesSent;
+  }
+
+  /**
+   * Returns the number of UI sessions that have processed at least one request.
+   */
+  public long getSessionCount() {
+    return sessionCount;
+  }
+
+  public long getMeanRequestCount() {
+    return meanRequestCount;
+  }
+
+  public long getMaxRequestCount() {
+    return maxRequestCount;
+  }
+
+  public long getMeanProcessingTime() {
+    return meanProcessingTime;
+  }
+
+  public long getMaxProcessingTime() {
+    return maxProcessingTime;
+  }
+
+  public long getMaxBytesReceived() {
+    return maxBytesReceived;
+  }
+
+  public long getMaxBytesSent() {
+    return maxBytesSent;
+  }
+
+  @Override
+  public String toString() {
+    return "SessionMetricsSnapshot{sessions="
+           + sessionCount
+           + ", meanRequests="
+           + meanRequestCount
+           + ", maxRequests="
+           + maxRequestCount
+           + ", meanProcessingTime="
+           + meanProcessingTime
+           + ", maxProcessingTime="
+           + maxProcessingTime
+           + ", maxBytesReceived="
+           + maxBytesReceived
+           + ", maxBytesSent="
+           + maxBytesSent
+           + "}";
+  }
+
+}
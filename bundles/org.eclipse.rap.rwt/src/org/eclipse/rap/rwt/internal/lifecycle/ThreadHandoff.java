@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * Passes control between a set of threads of which only one may run at a time. The thread that
+ * has control hands it over to another thread, which is unparked directly, and parks until
+ * control is handed back. Unlike a monitor based handoff, the woken thread does not have to
+ * compete for a lock with the thread that woke it.
+ */
+final class ThreadHandoff {
+
+  private volatile Thread owner;
+  private volatile long handOverTime;
+
+  Thread getOwner() {
+    return owner;
+  }
+
+  /**
+   * Passes control to the given thread without waiting for it to be handed back.
+   */
+  void handOver( Thread thread ) {
+    handOverTime = System.nanoTime();
+    owner = thread;
+    LockSupport.unpark( thread );
+  }
+
+  /**
+   * Parks the current thread until control is passed to it.
+   *
+   * @return the time in nanoseconds between passing control and the current thread resuming
+   * @throws InterruptedException if the current thread is interrupted while waiting, in this case
+   *           the current thread does not have control
+   */
+  long await() throws InterruptedException {
+    Thread current = Thread.currentThread();
+    while( owner != current ) {
+      LockSupport.park( this );
+      if( Thread.interrupted() ) {
+        throw new InterruptedException();
+      }
+    }
+    return System.nanoTime() - handOverTime;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,19 +21,56 @@ import org.eclipse.swt.widgets.Display;
 
 
 @SuppressWarnings( "deprecation" )
-final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdownAdapter {
+final class UIThread implements IUIThreadHolder, ISessionShutdownAdapter {
 
   static final class UIThreadTerminatedError extends ThreadDeath {
     private static final long serialVersionUID = 1L;
   }
 
+  private static final ThreadLocal<UIThread> CURRENT = new ThreadLocal<>();
+
+  private final Thread thread;
+  private final ThreadHandoff handoff;
+  private final LifeCycleMetrics metrics;
+  private volatile Thread requestThread;
   private ServiceContext serviceContext;
   private UISession uiSession;
   private Runnable shutdownCallback;
   private volatile boolean uiThreadTerminating;
+  private volatile boolean targetCompleted;
 
   public UIThread( Runnable runnable ) {
-    super( runnable );
+    this( runnable, false );
+  }
+
+  /**
+   * Creates a UI thread that runs the given runnable. If <code>virtual</code> is true, the
+   * runnable is executed on a virtual thread, provided that the JVM supports them, otherwise a
+   * platform thread is used.
+   */
+  public UIThread( Runnable runnable, boolean virtual ) {
+    this( runnable, virtual, null );
+  }
+
+  /**
+   * Creates a UI thread that runs the given runnable and records the latency of passing control
+   * between request and UI thread in the given metrics, which may be <code>null</code>.
+   */
+  public UIThread( Runnable runnable, boolean virtual, LifeCycleMetrics metrics ) {
+    this.metrics = metrics;
+    Runnable target = new Target( runnable );
+    thread = virtual && VirtualThreads.isSupported()
+           ? VirtualThreads.create( target )
+           : new Thread( target );
+    handoff = new ThreadHandoff();
+  }
+
+  /**
+   * Returns the UI thread holder that is executed by the current thread or <code>null</code> if
+   * the current thread is not a UI thread.
+   */
+  static IUIThreadHolder getCurrent() {
+    return CURRENT.get();
   }
 
   //////////////////////////
@@ -52,20 +89,54 @@ final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdown
     ContextProvider.setContext( serviceContext );
   }
 
+  /*
+   * Passes control from the UI thread to the request thread that is waiting for it or vice versa
+   * and parks the current thread until control is passed back. The request thread that calls this
+   * method becomes the thread that the UI thread returns control to.
+   */
   @Override
   public void switchThread() {
-    Object lock = getLock();
-    synchronized( lock ) {
-      checkAndReportTerminatedUIThread();
-      lock.notifyAll();
-      boolean done = false;
-      while( !done ) {
-        try {
-          lock.wait();
-          done = true;
-        } catch( InterruptedException e ) {
-          handleInterruptInSwitchThread( e );
+    Thread current = Thread.currentThread();
+    checkAndReportTerminatedUIThread();
+    if( current == thread ) {
+      handoff.handOver( requestThread );
+    } else {
+      requestThread = current;
+      handoff.handOver( thread );
+    }
+    awaitControl();
+    if( targetCompleted && current != thread ) {
+      awaitTermination();
+    }
+  }
+
+  private void awaitControl() {
+    boolean done = false;
+    while( !done ) {
+      try {
+        long latency = handoff.await();
+        if( metrics != null ) {
+          metrics.recordThreadHandoff( latency );
         }
+        done = true;
+      } catch( InterruptedException e ) {
+        handleInterruptInSwitchThread( e );
+      }
+    }
+  }
+
+  private void awaitTermination() {
+    // The UI thread returns control right before it terminates, make sure that callers observe
+    // the thread as terminated afterwards
+    boolean done = false;
+    while( !done ) {
+      try {
+        thread.join();
+        done = true;
+      } catch( InterruptedException e ) {
+        Thread.interrupted();
+        String msg = "Received InterruptedException on request thread";
+        ServletLog.log( msg, e );
       }
     }
   }
@@ -101,15 +172,6 @@ final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdown
     }
   }
 
-  @Override
-  public void run() {
-    try {
-      super.run();
-    } finally {
-      // TODO [rh] call lock.notifyAll()?
-    }
-  }
-
   @Override
   public void terminateThread() {
     // Prepare a service context to be used by the UI thread that may continue
@@ -118,9 +180,7 @@ final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdown
     setServiceContext( serviceContext );
     uiThreadTerminating = true;
     // interrupt the UI thread that is expected to wait in switchThread or already be terminated
-    synchronized( getLock() ) {
-      getThread().interrupt();
-    }
+    getThread().interrupt();
     try {
       getThread().join();
     } catch( InterruptedException e ) {
@@ -132,13 +192,16 @@ final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdown
 
   @Override
   public Thread getThread() {
-    return this;
+    return thread;
   }
 
+  /*
+   * Threads are not switched by means of a monitor, the returned object must not be used to wait
+   * for or to notify the UI thread.
+   */
   @Override
   public Object getLock() {
-    // TODO [rh] use a distinct (final) lock object instead of 'this'
-    return this;
+    return handoff;
   }
 
 
@@ -189,4 +252,38 @@ final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdown
     return applicationContext != null && applicationContext.isActive();
   }
 
+  private final class Target implements Runnable {
+
+    private final Runnable runnable;
+
+    Target( Runnable runnable ) {
+      this.runnable = runnable;
+    }
+
+    @Override
+    public void run() {
+      CURRENT.set( UIThread.this );
+      try {
+        try {
+          // wait for the request thread that started this thread to pass control
+          awaitControl();
+        } catch( @SuppressWarnings( "unused" ) UIThreadTerminatedError error ) {
+          // the session has been invalidated before the runnable could take care of it
+          processShutdown();
+          return;
+        }
+        runnable.run();
+      } finally {
+        CURRENT.remove();
+        targetCompleted = true;
+        // return control to the request thread that waits in switchThread for a UI thread that ends
+        Thread waiting = requestThread;
+        if( waiting != null ) {
+          handoff.handOver( waiting );
+        }
+      }
+    }
+
+  }
+
 }
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+
+/**
+ * Creates virtual threads by reflection, as they are not available on all supported JVMs.
+ * <p>
+ * Virtual threads are only considered supported from Java 24 on. Older JVMs pin the carrier
+ * thread while a virtual thread waits on a monitor, which is what a UI thread does between two
+ * requests.
+ * </p>
+ */
+final class VirtualThreads {
+
+  private static final int MIN_JAVA_VERSION = 24;
+  private static final Method OF_VIRTUAL;
+  private static final Method UNSTARTED;
+
+  static {
+    Method ofVirtual = null;
+    Method unstarted = null;
+    if( getJavaVersion() >= MIN_JAVA_VERSION ) {
+      try {
+        ofVirtual = Thread.class.getMethod( "ofVirtual" );
+        Class<?> builderClass = Class.forName( "java.lang.Thread$Builder" );
+        unstarted = builderClass.getMethod( "unstarted", Runnable.class );
+      } catch( @SuppressWarnings( "unused" ) ClassNotFoundException exception ) {
+        unstarted = null;
+      } catch( @SuppressWarnings( "unused" ) NoSuchMethodException exception ) {
+        unstarted = null;
+      }
+    }
+    OF_VIRTUAL = ofVirtual;
+    UNSTARTED = unstarted;
+  }
+
+  private VirtualThreads() {
+    // prevent instantiation
+  }
+
+  static boolean isSupported() {
+    return UNSTARTED != null;
+  }
+
+  static Thread create( Runnable runnable ) {
+    if( !isSupported() ) {
+      throw new UnsupportedOperationException( "Virtual threads are not supported" );
+    }
+    try {
+      return ( Thread )UNSTARTED.invoke( OF_VIRTUAL.invoke( null ), runnable );
+    } catch( IllegalAccessException exception ) {
+      throw new IllegalStateException( "Failed to create virtual thread", exception );
+    } catch( InvocationTargetException exception ) {
+      throw new IllegalStateException( "Failed to create virtual thread", exception.getCause() );
+    }
+  }
+
+  static int getJavaVersion() {
+    return parseJavaVersion( System.getProperty( "java.specification.version" ) );
+  }
+
+  static int parseJavaVersion( String version ) {
+    if( version == null ) {
+      return 0;
+    }
+    String feature = version.startsWith( "1." ) ? version.substring( 2 ) : version;
+    int index = feature.indexOf( '.' );
+    try {
+      return Integer.parseInt( index == -1 ? feature : feature.substring( 0, index ) );
+    } catch( @SuppressWarnings( "unused" ) NumberFormatException exception ) {
+      return 0;
+    }
+  }
+
+}
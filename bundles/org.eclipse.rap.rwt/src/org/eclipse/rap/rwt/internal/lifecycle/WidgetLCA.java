@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import static org.eclipse.rap.rwt.internal.protocol.ProtocolUtil.handleOperation
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
 
 import java.io.IOException;
+import java.lang.reflect.Method;
 import java.util.List;
 
 import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
@@ -32,6 +33,8 @@ import org.eclipse.swt.widgets.Widget;
 
 public abstract class WidgetLCA<T extends Widget>  {
 
+  private Boolean unconditionalReadData;
+
   public void render( T widget ) throws IOException {
     WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )WidgetUtil.getAdapter( widget );
     if( !adapter.isInitialized() ) {
@@ -53,6 +56,19 @@ public abstract class WidgetLCA<T extends Widget>  {
     }
   }
 
+  /**
+   * Returns whether {@link #readData(Widget)} has to be called for every widget of this type in
+   * every request. Otherwise, <code>readData</code> is only called for widgets that are targets of
+   * operations in the client message. By default, this is the case for life cycle adapters that
+   * override <code>readData</code>.
+   */
+  public boolean requiresUnconditionalReadData() {
+    if( unconditionalReadData == null ) {
+      unconditionalReadData = Boolean.valueOf( overridesReadData() );
+    }
+    return unconditionalReadData.booleanValue();
+  }
+
   public abstract void preserveValues( T widget );
 
   public abstract void renderInitialization( T widget ) throws IOException;
@@ -74,6 +90,15 @@ public abstract class WidgetLCA<T extends Widget>  {
   public void doRedrawFake( Control control ) {
   }
 
+  private boolean overridesReadData() {
+    try {
+      Method method = getClass().getMethod( "readData", Widget.class );
+      return method.getDeclaringClass() != WidgetLCA.class;
+    } catch( NoSuchMethodException exception ) {
+      throw new IllegalStateException( exception );
+    }
+  }
+
   private static OperationHandler getOperationHandler( String id ) {
     RemoteObjectImpl remoteObject = RemoteObjectRegistry.getInstance().get( id );
     if( remoteObject == null ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -86,7 +86,7 @@ public final class WidgetLCAUtil {
   }
 
   public static void preserveEnabled( Widget widget, boolean enabled ) {
-    getAdapter( widget ).preserve( PROP_ENABLED, Boolean.valueOf( enabled ) );
+    getRemoteAdapter( widget ).preserve( PROP_ENABLED, enabled );
   }
 
   public static void preserveToolTipText( Widget widget, String toolTip ) {
@@ -107,9 +107,9 @@ public final class WidgetLCAUtil {
   }
 
   public static void preserveBackground( Widget widget, Color background, boolean transparency ) {
-    RemoteAdapter adapter = getAdapter( widget );
+    WidgetRemoteAdapter adapter = getRemoteAdapter( widget );
     adapter.preserve( PROP_BACKGROUND, background );
-    adapter.preserve( PROP_BACKGROUND_TRANSPARENCY, Boolean.valueOf( transparency ) );
+    adapter.preserve( PROP_BACKGROUND_TRANSPARENCY, transparency );
   }
 
   public static void preserveBackgroundGradient( Widget widget ) {
@@ -330,11 +330,11 @@ public final class WidgetLCAUtil {
   }
 
   public static void preserveProperty( Widget widget, String property, int value ) {
-    preserveProperty( widget, property, Integer.valueOf( value ) );
+    getRemoteAdapter( widget ).preserve( property, value );
   }
 
   public static void preserveProperty( Widget widget, String property, boolean value ) {
-    preserveProperty( widget, property, Boolean.valueOf( value ) );
+    getRemoteAdapter( widget ).preserve( property, value );
   }
 
   public static void renderProperty( Widget widget,
@@ -396,9 +396,7 @@ public final class WidgetLCAUtil {
                                      int newValue,
                                      int defaultValue )
   {
-    Integer newValueObject = Integer.valueOf( newValue );
-    Integer defaultValueObject = Integer.valueOf( defaultValue );
-    if( hasChanged( widget, property, newValueObject, defaultValueObject ) ) {
+    if( hasChanged( widget, property, newValue, defaultValue ) ) {
       getRemoteObject( widget ).set( property, newValue );
     }
   }
@@ -408,9 +406,7 @@ public final class WidgetLCAUtil {
                                      boolean newValue,
                                      boolean defaultValue )
   {
-    Boolean newValueObject = Boolean.valueOf( newValue );
-    Boolean defaultValueObject = Boolean.valueOf( defaultValue );
-    if( hasChanged( widget, property, newValueObject, defaultValueObject ) ) {
+    if( hasChanged( widget, property, newValue, defaultValue ) ) {
       getRemoteObject( widget ).set( property, newValue );
     }
   }
@@ -607,6 +603,28 @@ public final class WidgetLCAUtil {
     return changed( widget, actualValue, preservedValue, defaultValue );
   }
 
+  public static boolean hasChanged( Widget widget,
+                                    String property,
+                                    int actualValue,
+                                    int defaultValue )
+  {
+    if( getAdapter( widget ).isInitialized() ) {
+      return !getRemoteAdapter( widget ).isPreserved( property, actualValue );
+    }
+    return actualValue != defaultValue;
+  }
+
+  public static boolean hasChanged( Widget widget,
+                                    String property,
+                                    boolean actualValue,
+                                    boolean defaultValue )
+  {
+    if( getAdapter( widget ).isInitialized() ) {
+      return !getRemoteAdapter( widget ).isPreserved( property, actualValue );
+    }
+    return actualValue != defaultValue;
+  }
+
   static boolean changed( Widget widget,
                           Object actualValue,
                           Object preservedValue,
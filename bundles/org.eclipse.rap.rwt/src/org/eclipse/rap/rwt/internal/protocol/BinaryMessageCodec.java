@@ -0,0 +1,390 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonObject.Member;
+import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.util.HTTP;
+
+
+/**
+ * Encodes and decodes protocol messages in a compact binary format that can be used by clients
+ * instead of JSON. The format is derived from MessagePack:
+ * <ul>
+ * <li><code>0x00-0x7f</code> positive fixint, <code>0xe0-0xff</code> negative fixint</li>
+ * <li><code>0x80-0x8f</code> fixmap, <code>0x90-0x9f</code> fixarray,
+ * <code>0xa0-0xbf</code> fixstr</li>
+ * <li><code>0xc0</code> null, <code>0xc2</code> false, <code>0xc3</code> true</li>
+ * <li><code>0xcb</code> float64, <code>0xd0</code> int8, <code>0xd1</code> int16,
+ * <code>0xd2</code> int32, <code>0xd3</code> int64, all big endian</li>
+ * <li><code>0xd9</code> str, <code>0xdc</code> array, <code>0xde</code> map, followed by a
+ * varint length</li>
+ * <li><code>0xc7</code> string definition, followed by a varint index and a str payload</li>
+ * <li><code>0xc8</code> string reference, followed by a varint index</li>
+ * </ul>
+ * Object keys, operation actions, targets, types, methods and event names are kept in a string
+ * table per direction for the lifetime of the codec, i.e. the UI session. A string is sent once
+ * along with its index and referenced by index afterwards. As definitions carry their index, a
+ * message that is decoded twice (e.g. a retried request) does not corrupt the table.
+ */
+public final class BinaryMessageCodec implements Serializable {
+
+  static final int MAX_TABLE_SIZE = 8192;
+
+  private static final Charset UTF_8 = Charset.forName( HTTP.CHARSET_UTF_8 );
+  private static final String HEAD = "head";
+  private static final String OPERATIONS = "operations";
+  private static final int OPERATION_HEADER_SIZE = 3;
+
+  private static final int FIXMAP = 0x80;
+  private static final int FIXARRAY = 0x90;
+  private static final int FIXSTR = 0xa0;
+  private static final int NULL = 0xc0;
+  private static final int FALSE = 0xc2;
+  private static final int TRUE = 0xc3;
+  private static final int STRING_DEFINITION = 0xc7;
+  private static final int STRING_REFERENCE = 0xc8;
+  private static final int FLOAT64 = 0xcb;
+  private static final int INT8 = 0xd0;
+  private static final int INT16 = 0xd1;
+  private static final int INT32 = 0xd2;
+  private static final int INT64 = 0xd3;
+  private static final int STRING = 0xd9;
+  private static final int ARRAY = 0xdc;
+  private static final int MAP = 0xde;
+  private static final int NEGATIVE_FIXINT = 0xe0;
+
+  private final Map<String, Integer> encodeTable;
+  private final List<String> decodeTable;
+
+  public BinaryMessageCodec() {
+    encodeTable = new HashMap<>();
+    decodeTable = new ArrayList<>();
+  }
+
+  public byte[] encode( Message message ) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream( 1024 );
+    writeHeader( out, FIXMAP, MAP, 2 );
+    writeSymbol( out, HEAD );
+    writeValue( out, message.getHead() );
+    writeSymbol( out, OPERATIONS );
+    List<Operation> operations = message.getOperations();
+    writeHeader( out, FIXARRAY, ARRAY, operations.size() );
+    for( Operation operation : operations ) {
+      writeOperation( out, operation.toJson() );
+    }
+    return out.toByteArray();
+  }
+
+  public ClientMessage decode( byte[] bytes ) {
+    Input input = new Input( bytes );
+    JsonValue message = readValue( input );
+    if( input.position != bytes.length ) {
+      throw input.error( "Unexpected trailing bytes" );
+    }
+    if( !message.isObject() ) {
+      throw input.error( "Expected a map" );
+    }
+    return new ClientMessage( message.asObject() );
+  }
+
+  private void writeOperation( ByteArrayOutputStream out, JsonArray operation ) {
+    int size = operation.size();
+    writeHeader( out, FIXARRAY, ARRAY, size );
+    for( int i = 0; i < size; i++ ) {
+      JsonValue value = operation.get( i );
+      if( i < OPERATION_HEADER_SIZE && value.isString() ) {
+        writeSymbol( out, value.asString() );
+      } else {
+        writeValue( out, value );
+      }
+    }
+  }
+
+  private void writeValue( ByteArrayOutputStream out, JsonValue value ) {
+    if( value.isObject() ) {
+      JsonObject object = value.asObject();
+      writeHeader( out, FIXMAP, MAP, object.size() );
+      for( Member member : object ) {
+        writeSymbol( out, member.getName() );
+        writeValue( out, member.getValue() );
+      }
+    } else if( value.isArray() ) {
+      JsonArray array = value.asArray();
+      writeHeader( out, FIXARRAY, ARRAY, array.size() );
+      for( JsonValue element : array ) {
+        writeValue( out, element );
+      }
+    } else if( value.isString() ) {
+      writeString( out, value.asString() );
+    } else if( value.isNumber() ) {
+      writeNumber( out, value.toString() );
+    } else if( value.isTrue() ) {
+      out.write( TRUE );
+    } else if( value.isFalse() ) {
+      out.write( FALSE );
+    } else {
+      out.write( NULL );
+    }
+  }
+
+  private void writeSymbol( ByteArrayOutputStream out, String string ) {
+    Integer index = encodeTable.get( string );
+    if( index != null ) {
+      out.write( STRING_REFERENCE );
+      writeVarInt( out, index.intValue() );
+    } else if( encodeTable.size() < MAX_TABLE_SIZE ) {
+      int newIndex = encodeTable.size();
+      encodeTable.put( string, Integer.valueOf( newIndex ) );
+      out.write( STRING_DEFINITION );
+      writeVarInt( out, newIndex );
+      writeString( out, string );
+    } else {
+      writeString( out, string );
+    }
+  }
+
+  private static void writeString( ByteArrayOutputStream out, String string ) {
+    byte[] bytes = string.getBytes( UTF_8 );
+    if( bytes.length < 32 ) {
+      out.write( FIXSTR | bytes.length );
+    } else {
+      out.write( STRING );
+      writeVarInt( out, bytes.length );
+    }
+    out.write( bytes, 0, bytes.length );
+  }
+
+  private static void writeNumber( ByteArrayOutputStream out, String literal ) {
+    if( isIntegerLiteral( literal ) ) {
+      try {
+        writeInteger( out, Long.parseLong( literal ) );
+        return;
+      } catch( @SuppressWarnings( "unused" ) NumberFormatException exception ) {
+        // too large for a long, fall back to float64
+      }
+    }
+    out.write( FLOAT64 );
+    writeBigEndian( out, Double.doubleToLongBits( Double.parseDouble( literal ) ), 8 );
+  }
+
+  private static void writeInteger( ByteArrayOutputStream out, long value ) {
+    if( value >= 0 && value < FIXMAP ) {
+      out.write( ( int )value );
+    } else if( value < 0 && value >= -32 ) {
+      out.write( ( int )value & 0xff );
+    } else if( value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE ) {
+      out.write( INT8 );
+      writeBigEndian( out, value, 1 );
+    } else if( value >= Short.MIN_VALUE && value <= Short.MAX_VALUE ) {
+      out.write( INT16 );
+      writeBigEndian( out, value, 2 );
+    } else if( value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ) {
+      out.write( INT32 );
+      writeBigEndian( out, value, 4 );
+    } else {
+      out.write( INT64 );
+      writeBigEndian( out, value, 8 );
+    }
+  }
+
+  private static void writeHeader( ByteArrayOutputStream out, int fixType, int type, int size ) {
+    if( size < 16 ) {
+      out.write( fixType | size );
+    } else {
+      out.write( type );
+      writeVarInt( out, size );
+    }
+  }
+
+  private static void writeVarInt( ByteArrayOutputStream out, int value ) {
+    int remaining = value;
+    while( ( remaining & ~0x7f ) != 0 ) {
+      out.write( ( remaining & 0x7f ) | 0x80 );
+      remaining >>>= 7;
+    }
+    out.write( remaining );
+  }
+
+  private static void writeBigEndian( ByteArrayOutputStream out, long value, int length ) {
+    for( int shift = ( length - 1 ) * 8; shift >= 0; shift -= 8 ) {
+      out.write( ( int )( value >> shift ) & 0xff );
+    }
+  }
+
+  private static boolean isIntegerLiteral( String literal ) {
+    for( int i = 0; i < literal.length(); i++ ) {
+      char ch = literal.charAt( i );
+      if( ch == '.' || ch == 'e' || ch == 'E' ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private JsonValue readValue( Input input ) {
+    int type = input.readByte();
+    if( type < FIXMAP ) {
+      return JsonValue.valueOf( type );
+    }
+    if( type >= NEGATIVE_FIXINT ) {
+      return JsonValue.valueOf( type - 256 );
+    }
+    if( ( type & 0xf0 ) == FIXMAP ) {
+      return readObject( input, type & 0x0f );
+    }
+    if( ( type & 0xf0 ) == FIXARRAY ) {
+      return readArray( input, type & 0x0f );
+    }
+    switch( type ) {
+      case NULL:
+        return JsonValue.NULL;
+      case FALSE:
+        return JsonValue.FALSE;
+      case TRUE:
+        return JsonValue.TRUE;
+      case FLOAT64:
+        return JsonValue.valueOf( Double.longBitsToDouble( input.readBigEndian( 8 ) ) );
+      case INT8:
+        return JsonValue.valueOf( ( byte )input.readBigEndian( 1 ) );
+      case INT16:
+        return JsonValue.valueOf( ( short )input.readBigEndian( 2 ) );
+      case INT32:
+        return JsonValue.valueOf( ( int )input.readBigEndian( 4 ) );
+      case INT64:
+        return JsonValue.valueOf( input.readBigEndian( 8 ) );
+      case ARRAY:
+        return readArray( input, input.readVarInt() );
+      case MAP:
+        return readObject( input, input.readVarInt() );
+    }
+    return JsonValue.valueOf( readString( input, type ) );
+  }
+
+  private JsonArray readArray( Input input, int size ) {
+    JsonArray array = new JsonArray();
+    for( int i = 0; i < size; i++ ) {
+      array.add( readValue( input ) );
+    }
+    return array;
+  }
+
+  private JsonObject readObject( Input input, int size ) {
+    JsonObject object = new JsonObject();
+    for( int i = 0; i < size; i++ ) {
+      String name = readString( input, input.readByte() );
+      object.add( name, readValue( input ) );
+    }
+    return object;
+  }
+
+  private String readString( Input input, int type ) {
+    if( type == STRING_DEFINITION ) {
+      int index = input.readVarInt();
+      if( index >= MAX_TABLE_SIZE ) {
+        throw input.error( "Invalid string definition " + index );
+      }
+      String string = readPlainString( input, input.readByte() );
+      while( decodeTable.size() <= index ) {
+        decodeTable.add( null );
+      }
+      decodeTable.set( index, string );
+      return string;
+    }
+    if( type == STRING_REFERENCE ) {
+      int index = input.readVarInt();
+      String string = index < decodeTable.size() ? decodeTable.get( index ) : null;
+      if( string == null ) {
+        throw input.error( "Unknown string reference " + index );
+      }
+      return string;
+    }
+    return readPlainString( input, type );
+  }
+
+  private static String readPlainString( Input input, int type ) {
+    if( ( type & 0xe0 ) == FIXSTR ) {
+      return input.readUtf8( type & 0x1f );
+    }
+    if( type == STRING ) {
+      return input.readUtf8( input.readVarInt() );
+    }
+    throw input.error( "Unexpected type 0x" + Integer.toHexString( type ) );
+  }
+
+  private static final class Input {
+
+    private final byte[] bytes;
+    private int position;
+
+    Input( byte[] bytes ) {
+      this.bytes = bytes;
+    }
+
+    int readByte() {
+      if( position >= bytes.length ) {
+        throw error( "Unexpected end of input" );
+      }
+      return bytes[ position++ ] & 0xff;
+    }
+
+    long readBigEndian( int length ) {
+      long result = 0;
+      for( int i = 0; i < length; i++ ) {
+        result = ( result << 8 ) | readByte();
+      }
+      return result;
+    }
+
+    int readVarInt() {
+      int result = 0;
+      for( int shift = 0; shift < 32; shift += 7 ) {
+        int value = readByte();
+        result |= ( value & 0x7f ) << shift;
+        if( ( value & 0x80 ) == 0 ) {
+          if( result < 0 ) {
+            break;
+          }
+          return result;
+        }
+      }
+      throw error( "Invalid length" );
+    }
+
+    String readUtf8( int length ) {
+      if( length > bytes.length - position ) {
+        throw error( "Unexpected end of input" );
+      }
+      String result = new String( bytes, position, length, UTF_8 );
+      position += length;
+      return result;
+    }
+
+    IllegalArgumentException error( String message ) {
+      return new IllegalArgumentException( "Failed to read binary message: "
+                                           + message
+                                           + " at "
+                                           + position );
+    }
+
+  }
+
+}
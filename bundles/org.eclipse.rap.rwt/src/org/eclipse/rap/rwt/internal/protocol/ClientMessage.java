@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,8 +11,9 @@
 package org.eclipse.rap.rwt.internal.protocol;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -36,8 +37,13 @@ public class ClientMessage extends RequestMessage {
     createOperationsIndex();
   }
 
+  ClientMessage( JsonObject head, List<Operation> operations ) {
+    super( head, operations );
+    createOperationsIndex();
+  }
+
   private void createOperationsIndex() {
-    index = new HashMap<>();
+    index = new LinkedHashMap<>();
     for( Operation operation : getOperations() ) {
       String target = operation.getTarget();
       List<Operation> targetOperations = index.get( target );
@@ -49,6 +55,14 @@ public class ClientMessage extends RequestMessage {
     }
   }
 
+  /**
+   * Returns the targets of all operations in this message, in the order of their first
+   * occurrence.
+   */
+  public Collection<String> getTargets() {
+    return Collections.unmodifiableSet( index.keySet() );
+  }
+
   public List<Operation> getAllOperationsFor( String target ) {
     List<Operation> operations = index.get( target );
     if( operations == null ) {
@@ -0,0 +1,352 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CreateOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.DestroyOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.ListenOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.NotifyOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
+import org.eclipse.rap.rwt.internal.util.HTTP;
+
+
+/**
+ * Reads a client message directly from its UTF-8 encoded bytes. Only the head and the structure of
+ * the operations (action, target, type, method and event names) are decoded eagerly. The
+ * properties and parameters of the operations are skipped and parsed on first access only, so
+ * that values that are never requested by an operation handler are never materialized.
+ */
+public final class ClientMessageReader {
+
+  private static final Charset UTF_8 = Charset.forName( HTTP.CHARSET_UTF_8 );
+  private static final String HEAD = "head";
+  private static final String OPERATIONS = "operations";
+
+  private final byte[] input;
+  private final int end;
+  private int index;
+
+  private ClientMessageReader( byte[] input, int length ) {
+    this.input = input;
+    end = length;
+  }
+
+  public static ClientMessage readClientMessage( byte[] input ) {
+    return readClientMessage( input, input.length );
+  }
+
+  public static ClientMessage readClientMessage( byte[] input, int length ) {
+    return new ClientMessageReader( input, length ).readMessage();
+  }
+
+  private ClientMessage readMessage() {
+    JsonObject head = null;
+    List<Operation> operations = null;
+    skipWhiteSpace();
+    readRequiredChar( '{' );
+    skipWhiteSpace();
+    if( !readChar( '}' ) ) {
+      do {
+        skipWhiteSpace();
+        String name = readString();
+        skipWhiteSpace();
+        readRequiredChar( ':' );
+        skipWhiteSpace();
+        if( HEAD.equals( name ) ) {
+          head = readObject().get();
+        } else if( OPERATIONS.equals( name ) ) {
+          operations = readOperations();
+        } else {
+          skipValue();
+        }
+        skipWhiteSpace();
+      } while( readChar( ',' ) );
+      readRequiredChar( '}' );
+    }
+    skipWhiteSpace();
+    if( index < end ) {
+      throw error( "Unexpected character" );
+    }
+    if( head == null ) {
+      throw new IllegalArgumentException( "Failed to read head from JSON message" );
+    }
+    if( operations == null ) {
+      throw new IllegalArgumentException( "Failed to read operations from JSON message" );
+    }
+    return new ClientMessage( head, operations );
+  }
+
+  private List<Operation> readOperations() {
+    List<Operation> operations = new ArrayList<>();
+    readRequiredChar( '[' );
+    skipWhiteSpace();
+    if( readChar( ']' ) ) {
+      return operations;
+    }
+    do {
+      skipWhiteSpace();
+      operations.add( readOperation() );
+      skipWhiteSpace();
+    } while( readChar( ',' ) );
+    readRequiredChar( ']' );
+    return operations;
+  }
+
+  private Operation readOperation() {
+    readRequiredChar( '[' );
+    skipWhiteSpace();
+    String action = readString();
+    readSeparator();
+    String target = readString();
+    Operation operation;
+    if( "set".equals( action ) ) {
+      readSeparator();
+      operation = new SetOperation( target, readObject() );
+    } else if( "notify".equals( action ) ) {
+      readSeparator();
+      String event = readString();
+      readSeparator();
+      operation = new NotifyOperation( target, event, readObject() );
+    } else if( "call".equals( action ) ) {
+      readSeparator();
+      String method = readString();
+      readSeparator();
+      operation = new CallOperation( target, method, readObject() );
+    } else if( "create".equals( action ) ) {
+      readSeparator();
+      String type = readString();
+      readSeparator();
+      operation = new CreateOperation( target, type, readObject() );
+    } else if( "listen".equals( action ) ) {
+      readSeparator();
+      operation = new ListenOperation( target, readObject() );
+    } else if( "destroy".equals( action ) ) {
+      operation = new DestroyOperation( target );
+    } else {
+      throw new IllegalArgumentException( "Unknown operation type: " + action );
+    }
+    skipWhiteSpace();
+    readRequiredChar( ']' );
+    return operation;
+  }
+
+  private void readSeparator() {
+    skipWhiteSpace();
+    readRequiredChar( ',' );
+    skipWhiteSpace();
+  }
+
+  private LazyJsonObject readObject() {
+    if( current() != '{' ) {
+      throw error( "Expected object" );
+    }
+    int start = index;
+    skipObject();
+    return new LazyJsonObject( input, start, index - start );
+  }
+
+  private String readString() {
+    if( current() != '"' ) {
+      throw error( "Expected string" );
+    }
+    int start = index + 1;
+    boolean escaped = skipString();
+    int length = index - start - 1;
+    if( escaped ) {
+      return JsonValue.readFrom( new String( input, start - 1, length + 2, UTF_8 ) ).asString();
+    }
+    return new String( input, start, length, UTF_8 );
+  }
+
+  /*
+   * Values are skipped without being materialized, but they are validated like the JSON parser
+   * would do, so that a malformed value is rejected even if it is never accessed.
+   */
+  private void skipValue() {
+    byte current = current();
+    if( current == '"' ) {
+      skipString();
+    } else if( current == '{' ) {
+      skipObject();
+    } else if( current == '[' ) {
+      skipArray();
+    } else if( current == 't' ) {
+      skipLiteral( "true" );
+    } else if( current == 'f' ) {
+      skipLiteral( "false" );
+    } else if( current == 'n' ) {
+      skipLiteral( "null" );
+    } else {
+      skipNumber();
+    }
+  }
+
+  private void skipObject() {
+    readRequiredChar( '{' );
+    skipWhiteSpace();
+    if( readChar( '}' ) ) {
+      return;
+    }
+    do {
+      skipWhiteSpace();
+      if( current() != '"' ) {
+        throw error( "Expected name" );
+      }
+      skipString();
+      skipWhiteSpace();
+      readRequiredChar( ':' );
+      skipWhiteSpace();
+      skipValue();
+      skipWhiteSpace();
+    } while( readChar( ',' ) );
+    readRequiredChar( '}' );
+  }
+
+  private void skipArray() {
+    readRequiredChar( '[' );
+    skipWhiteSpace();
+    if( readChar( ']' ) ) {
+      return;
+    }
+    do {
+      skipWhiteSpace();
+      skipValue();
+      skipWhiteSpace();
+    } while( readChar( ',' ) );
+    readRequiredChar( ']' );
+  }
+
+  /*
+   * Returns whether the string contains escape sequences.
+   */
+  private boolean skipString() {
+    boolean escaped = false;
+    index++;
+    while( current() != '"' ) {
+      byte current = input[ index ];
+      if( current == '\\' ) {
+        escaped = true;
+        index++;
+        skipEscapeSequence();
+      } else if( ( current & 0xFF ) < 0x20 ) {
+        throw error( "Invalid character in string" );
+      } else {
+        index++;
+      }
+    }
+    index++;
+    return escaped;
+  }
+
+  private void skipEscapeSequence() {
+    byte current = current();
+    index++;
+    if( current == 'u' ) {
+      for( int i = 0; i < 4; i++ ) {
+        if( !isHexDigit( current() ) ) {
+          throw error( "Expected hexadecimal digit" );
+        }
+        index++;
+      }
+    } else if( "\"\\/bfnrt".indexOf( current ) == -1 ) {
+      index--;
+      throw error( "Invalid escape sequence" );
+    }
+  }
+
+  private void skipLiteral( String literal ) {
+    for( int i = 0; i < literal.length(); i++ ) {
+      if( current() != literal.charAt( i ) ) {
+        throw error( "Expected '" + literal + "'" );
+      }
+      index++;
+    }
+  }
+
+  private void skipNumber() {
+    readChar( '-' );
+    if( !readChar( '0' ) ) {
+      skipDigits();
+    }
+    if( readChar( '.' ) ) {
+      skipDigits();
+    }
+    if( readChar( 'e' ) || readChar( 'E' ) ) {
+      if( !readChar( '+' ) ) {
+        readChar( '-' );
+      }
+      skipDigits();
+    }
+  }
+
+  private void skipDigits() {
+    if( !isDigit( current() ) ) {
+      throw error( "Expected value" );
+    }
+    while( index < end && isDigit( input[ index ] ) ) {
+      index++;
+    }
+  }
+
+  private void skipWhiteSpace() {
+    while( index < end && isWhiteSpace( input[ index ] ) ) {
+      index++;
+    }
+  }
+
+  private boolean readChar( char ch ) {
+    if( index < end && input[ index ] == ch ) {
+      index++;
+      return true;
+    }
+    return false;
+  }
+
+  private void readRequiredChar( char ch ) {
+    if( !readChar( ch ) ) {
+      throw error( "Expected '" + ch + "'" );
+    }
+  }
+
+  private byte current() {
+    if( index >= end ) {
+      throw error( "Unexpected end of input" );
+    }
+    return input[ index ];
+  }
+
+  private IllegalArgumentException error( String message ) {
+    String text = index >= end ? "Unexpected end of input" : message;
+    return new IllegalArgumentException( "Failed to read JSON message: " + text + " at " + index );
+  }
+
+  private static boolean isDigit( byte value ) {
+    return value >= '0' && value <= '9';
+  }
+
+  private static boolean isHexDigit( byte value ) {
+    return    isDigit( value )
+           || value >= 'a' && value <= 'f'
+           || value >= 'A' && value <= 'F';
+  }
+
+  private static boolean isWhiteSpace( byte value ) {
+    return value == ' ' || value == '\t' || value == '\n' || value == '\r';
+  }
+
+}
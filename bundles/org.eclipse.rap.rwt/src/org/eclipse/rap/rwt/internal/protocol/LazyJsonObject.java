@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.rwt.internal.util.HTTP;
+
+
+/**
+ * Holds a JSON object that is either already available or still contained as UTF-8 encoded text
+ * in a section of a larger input buffer. In the latter case, the object is parsed on first access
+ * only.
+ */
+final class LazyJsonObject implements Serializable {
+
+  private JsonObject object;
+  private transient byte[] source;
+  private transient int offset;
+  private transient int length;
+
+  LazyJsonObject( JsonObject object ) {
+    this.object = object;
+  }
+
+  LazyJsonObject( byte[] source, int offset, int length ) {
+    this.source = source;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  JsonObject get() {
+    if( source != null ) {
+      object = parse();
+      source = null;
+    }
+    return object;
+  }
+
+  boolean isMaterialized() {
+    return source == null;
+  }
+
+  private JsonObject parse() {
+    ByteArrayInputStream input = new ByteArrayInputStream( source, offset, length );
+    try {
+      return JsonObject.readFrom( new InputStreamReader( input, HTTP.CHARSET_UTF_8 ) );
+    } catch( IOException exception ) {
+      // ByteArrayInputStream does not throw IOExceptions
+      throw new RuntimeException( exception );
+    }
+  }
+
+  private void writeObject( ObjectOutputStream stream ) throws IOException {
+    get();
+    stream.defaultWriteObject();
+  }
+
+}
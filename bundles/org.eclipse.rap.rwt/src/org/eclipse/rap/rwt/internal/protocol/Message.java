@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 EclipseSource and others.
+ * Copyright (c) 2015, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,13 +12,18 @@ package org.eclipse.rap.rwt.internal.protocol;
 
 import static org.eclipse.rap.rwt.internal.protocol.OperationReader.readOperation;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.Serializable;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.util.HTTP;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 
 
@@ -51,14 +56,55 @@ public class Message implements Serializable {
     return operations;
   }
 
+  /**
+   * Returns the number of operations in this message. Unlike <code>getOperations().size()</code>,
+   * this does not require the operations of a serialized message to be read.
+   */
+  public int getOperationCount() {
+    return operations.size();
+  }
+
   public JsonObject toJson() {
     JsonArray operationsArray = new JsonArray();
-    for( Operation operation : operations ) {
+    for( Operation operation : getOperations() ) {
       operationsArray.add( operation.toJson() );
     }
     return new JsonObject().add( HEAD, head ).add( OPERATIONS, operationsArray );
   }
 
+  /**
+   * Returns the UTF-8 encoded JSON representation of this message. Unlike
+   * <code>toJson().toString()</code>, the operations are written one by one without creating an
+   * intermediate JSON tree for the entire message.
+   */
+  public byte[] toByteArray() {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try {
+      Writer writer = new OutputStreamWriter( bytes, HTTP.CHARSET_UTF_8 );
+      writeHead( writer );
+      boolean first = true;
+      for( Operation operation : getOperations() ) {
+        if( !first ) {
+          writer.write( ',' );
+        }
+        operation.toJson().writeTo( writer );
+        first = false;
+      }
+      writer.write( "]}" );
+      writer.flush();
+    } catch( IOException exception ) {
+      // ByteArrayOutputStream does not throw IOExceptions
+      throw new RuntimeException( exception );
+    }
+    return bytes.toByteArray();
+  }
+
+  void writeHead( Writer writer ) throws IOException {
+    writer.write( "{\"" + HEAD + "\":" );
+    head.writeTo( writer );
+    writer.write( ",\"" + OPERATIONS + "\":[" );
+  }
+
   @Override
   public String toString() {
     return toJson().toString();
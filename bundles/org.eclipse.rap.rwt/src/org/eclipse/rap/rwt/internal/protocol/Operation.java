@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -37,7 +37,7 @@ public abstract class Operation implements Serializable {
 
   public static class CreateOperation extends Operation {
 
-    private final JsonObject properties;
+    private final LazyJsonObject properties;
     private final String type;
 
     CreateOperation( String target, String type ) {
@@ -45,6 +45,10 @@ public abstract class Operation implements Serializable {
     }
 
     CreateOperation( String target, String type, JsonObject properties ) {
+      this( target, type, new LazyJsonObject( properties ) );
+    }
+
+    CreateOperation( String target, String type, LazyJsonObject properties ) {
       super( target, "create" );
       this.type = type;
       this.properties = properties;
@@ -55,16 +59,16 @@ public abstract class Operation implements Serializable {
     }
 
     public JsonObject getProperties() {
-      return properties;
+      return properties.get();
     }
 
     @Override
     public JsonArray toJson() {
-      return super.toJson().add( type ).add( properties );
+      return super.toJson().add( type ).add( getProperties() );
     }
 
     void putProperty( String key, JsonValue value ) {
-      properties.set( key, value );
+      getProperties().set( key, value );
     }
 
   }
@@ -79,28 +83,32 @@ public abstract class Operation implements Serializable {
 
   public static class SetOperation extends Operation {
 
-    private final JsonObject properties;
+    private final LazyJsonObject properties;
 
     SetOperation( String target ) {
       this( target, new JsonObject() );
     }
 
     SetOperation( String target, JsonObject properties ) {
+      this( target, new LazyJsonObject( properties ) );
+    }
+
+    SetOperation( String target, LazyJsonObject properties ) {
       super( target, "set" );
       this.properties = properties;
     }
 
     public JsonObject getProperties() {
-      return properties;
+      return properties.get();
     }
 
     @Override
     public JsonArray toJson() {
-      return super.toJson().add( properties );
+      return super.toJson().add( getProperties() );
     }
 
     void putProperty( String key, JsonValue value ) {
-      properties.set( key, value );
+      getProperties().set( key, value );
     }
 
   }
@@ -108,12 +116,17 @@ public abstract class Operation implements Serializable {
   public static class CallOperation extends Operation {
 
     private final String method;
-    private final JsonObject parameters;
+    private final LazyJsonObject parameters;
 
     CallOperation( String target, String method, JsonObject parameters ) {
+      this( target, method, new LazyJsonObject( parameters != null ? parameters
+                                                                   : new JsonObject() ) );
+    }
+
+    CallOperation( String target, String method, LazyJsonObject parameters ) {
       super( target, "call" );
       this.method = method;
-      this.parameters = parameters != null ? parameters : new JsonObject();
+      this.parameters = parameters;
     }
 
     public String getMethodName() {
@@ -121,47 +134,51 @@ public abstract class Operation implements Serializable {
     }
 
     public JsonObject getParameters() {
-      return parameters;
+      return parameters.get();
     }
 
     @Override
     public JsonArray toJson() {
-      return super.toJson().add( method ).add( parameters );
+      return super.toJson().add( method ).add( getParameters() );
     }
 
   }
 
   public static class ListenOperation extends Operation {
 
-    private final JsonObject properties;
+    private final LazyJsonObject properties;
 
     ListenOperation( String target ) {
       this( target, new JsonObject() );
     }
 
     ListenOperation( String target, JsonObject properties ) {
+      this( target, new LazyJsonObject( properties ) );
+    }
+
+    ListenOperation( String target, LazyJsonObject properties ) {
       super( target, "listen" );
       this.properties = properties;
     }
 
     public JsonObject getProperties() {
-      return properties;
+      return properties.get();
     }
 
     @Override
     public JsonArray toJson() {
-      return super.toJson().add( properties );
+      return super.toJson().add( getProperties() );
     }
 
     void putListener( String event, boolean listening ) {
-      properties.set( event, JsonValue.valueOf( listening ) );
+      getProperties().set( event, JsonValue.valueOf( listening ) );
     }
 
   }
 
   public static class NotifyOperation extends Operation {
 
-    private final JsonObject properties;
+    private final LazyJsonObject properties;
     private final String event;
 
     NotifyOperation( String target, String event ) {
@@ -169,6 +186,10 @@ public abstract class Operation implements Serializable {
     }
 
     NotifyOperation( String target, String event, JsonObject properties ) {
+      this( target, event, new LazyJsonObject( properties ) );
+    }
+
+    NotifyOperation( String target, String event, LazyJsonObject properties ) {
       super( target, "notify" );
       this.event = event;
       this.properties = properties;
@@ -179,16 +200,16 @@ public abstract class Operation implements Serializable {
     }
 
     public JsonObject getProperties() {
-      return properties;
+      return properties.get();
     }
 
     @Override
     public JsonArray toJson() {
-      return super.toJson().add( event ).add( properties );
+      return super.toJson().add( event ).add( getProperties() );
     }
 
     void putProperty( String key, JsonValue value ) {
-      properties.set( key, value );
+      getProperties().set( key, value );
     }
 
   }
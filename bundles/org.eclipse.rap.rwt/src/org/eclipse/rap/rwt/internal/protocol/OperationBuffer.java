@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+
+import org.eclipse.rap.rwt.internal.util.HTTP;
+
+
+/**
+ * Collects operations in their serialized form. Every appended operation is written to a UTF-8
+ * byte buffer immediately, so that its object representation can be discarded. The buffer is
+ * handed out without copying it.
+ */
+final class OperationBuffer {
+
+  private static final int INITIAL_CAPACITY = 8192;
+
+  private final Buffer bytes;
+  private final Writer writer;
+  private int count;
+
+  OperationBuffer() {
+    bytes = new Buffer( INITIAL_CAPACITY );
+    writer = createWriter( bytes );
+  }
+
+  void append( Operation operation ) {
+    try {
+      if( count > 0 ) {
+        writer.write( ',' );
+      }
+      operation.toJson().writeTo( writer );
+      count++;
+    } catch( IOException exception ) {
+      // ByteArrayOutputStream does not throw IOExceptions
+      throw new RuntimeException( exception );
+    }
+  }
+
+  /**
+   * Returns the number of appended operations.
+   */
+  int getCount() {
+    return count;
+  }
+
+  /**
+   * Returns the internal buffer that contains the comma separated list of all appended operations
+   * as UTF-8 encoded JSON, followed by unused space. The buffer is not copied, it must not be
+   * modified and is only valid until the next operation is appended.
+   *
+   * @see #size()
+   */
+  byte[] getBytes() {
+    flush();
+    return bytes.getBuffer();
+  }
+
+  /**
+   * Returns the number of bytes in the buffer that are occupied by the appended operations.
+   */
+  int size() {
+    flush();
+    return bytes.size();
+  }
+
+  private void flush() {
+    try {
+      writer.flush();
+    } catch( IOException exception ) {
+      throw new RuntimeException( exception );
+    }
+  }
+
+  private static Writer createWriter( ByteArrayOutputStream bytes ) {
+    try {
+      return new OutputStreamWriter( bytes, HTTP.CHARSET_UTF_8 );
+    } catch( UnsupportedEncodingException exception ) {
+      throw new RuntimeException( exception );
+    }
+  }
+
+  private static final class Buffer extends ByteArrayOutputStream {
+
+    Buffer( int size ) {
+      super( size );
+    }
+
+    byte[] getBuffer() {
+      return buf;
+    }
+
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2010, 2015 EclipseSource and others.
+* Copyright (c) 2010, 2026 EclipseSource and others.
 * All rights reserved. This program and the accompanying materials
 * are made available under the terms of the Eclipse Public License v1.0
 * which accompanies this distribution, and is available at
@@ -26,12 +26,25 @@ public class ProtocolMessageWriter {
 
   private final JsonObject head;
   private final List<Operation> operations;
+  private final OperationBuffer operationBuffer;
   private Operation pendingOperation;
   private boolean alreadyCreated;
 
   public ProtocolMessageWriter() {
+    this( false );
+  }
+
+  /**
+   * Creates a protocol message writer. In streaming mode, every operation is serialized as soon as
+   * it is complete, so that only the pending operation is held as an object. The message created
+   * by a streaming writer is a {@link SerializedResponseMessage}.
+   *
+   * @param streaming whether operations should be serialized immediately
+   */
+  public ProtocolMessageWriter( boolean streaming ) {
     head = new JsonObject();
-    operations = new ArrayList<>();
+    operations = streaming ? null : new ArrayList<Operation>();
+    operationBuffer = streaming ? new OperationBuffer() : null;
   }
 
   public void appendHead( String property, int value ) {
@@ -118,6 +131,12 @@ public class ProtocolMessageWriter {
 
   private ResponseMessage createMessageObject() {
     appendPendingOperation();
+    if( operationBuffer != null ) {
+      return new SerializedResponseMessage( head,
+                                            operationBuffer.getBytes(),
+                                            operationBuffer.size(),
+                                            operationBuffer.getCount() );
+    }
     return new ResponseMessage( head, operations );
   }
 
@@ -131,7 +150,12 @@ public class ProtocolMessageWriter {
 
   private void appendPendingOperation() {
     if( pendingOperation != null ) {
-      operations.add( pendingOperation );
+      if( operationBuffer != null ) {
+        operationBuffer.append( pendingOperation );
+      } else {
+        operations.add( pendingOperation );
+      }
+      pendingOperation = null;
     }
   }
 
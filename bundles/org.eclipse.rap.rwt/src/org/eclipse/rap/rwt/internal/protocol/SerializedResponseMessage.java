@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static org.eclipse.rap.rwt.internal.protocol.OperationReader.readOperation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.SequenceInputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.util.HTTP;
+
+
+/**
+ * A response message whose operations have already been serialized by a streaming
+ * {@link ProtocolMessageWriter}. The operation objects are only re-created on demand, i.e. when
+ * {@link #getOperations()} is called, e.g. by a message filter.
+ */
+public class SerializedResponseMessage extends ResponseMessage {
+
+  private final byte[] operations;
+  private final int operationsLength;
+  private final int operationCount;
+  private transient List<Operation> operationsList;
+
+  /*
+   * The operations array may be larger than the serialized operations, it is shared with the
+   * operation buffer to avoid a copy.
+   */
+  SerializedResponseMessage( JsonObject head,
+                             byte[] operations,
+                             int operationsLength,
+                             int operationCount )
+  {
+    super( head, Collections.<Operation>emptyList() );
+    this.operations = operations;
+    this.operationsLength = operationsLength;
+    this.operationCount = operationCount;
+  }
+
+  @Override
+  public List<Operation> getOperations() {
+    if( operationsList == null ) {
+      operationsList = readOperations();
+    }
+    return operationsList;
+  }
+
+  @Override
+  public int getOperationCount() {
+    // operations may have been added or removed by a message filter
+    return operationsList != null ? operationsList.size() : operationCount;
+  }
+
+  @Override
+  public byte[] toByteArray() {
+    if( operationsList != null ) {
+      // operations may have been modified by a message filter
+      return super.toByteArray();
+    }
+    ByteArrayOutputStream prefix = new ByteArrayOutputStream();
+    try {
+      Writer writer = new OutputStreamWriter( prefix, HTTP.CHARSET_UTF_8 );
+      writeHead( writer );
+      writer.flush();
+    } catch( IOException exception ) {
+      // ByteArrayOutputStream does not throw IOExceptions
+      throw new RuntimeException( exception );
+    }
+    byte[] result = new byte[ prefix.size() + operationsLength + 2 ];
+    System.arraycopy( prefix.toByteArray(), 0, result, 0, prefix.size() );
+    System.arraycopy( operations, 0, result, prefix.size(), operationsLength );
+    result[ result.length - 2 ] = ']';
+    result[ result.length - 1 ] = '}';
+    return result;
+  }
+
+  private List<Operation> readOperations() {
+    InputStream input = new SequenceInputStream( Collections.enumeration( Arrays.asList(
+      new ByteArrayInputStream( new byte[] { '[' } ),
+      new ByteArrayInputStream( operations, 0, operationsLength ),
+      new ByteArrayInputStream( new byte[] { ']' } )
+    ) ) );
+    try {
+      JsonArray array = JsonArray.readFrom( new InputStreamReader( input, HTTP.CHARSET_UTF_8 ) );
+      List<Operation> result = new ArrayList<>( array.size() );
+      for( JsonValue operation : array ) {
+        result.add( readOperation( operation ) );
+      }
+      return result;
+    } catch( IOException exception ) {
+      throw new IllegalStateException( "Failed to read serialized operations", exception );
+    }
+  }
+
+}
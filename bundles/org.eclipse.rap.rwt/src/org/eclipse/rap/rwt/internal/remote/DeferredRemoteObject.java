@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2015 EclipseSource and others.
+ * Copyright (c) 2013, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,7 +22,9 @@ import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 /**
  * A remote object implementation that does not write operations directly, but keeps them in a
  * render queue. The {@link RemoteObjectLifeCycleAdapter} will write the operations by calling the
- * <code>render</code> method.
+ * <code>render</code> method. When the render queue receives its first operation, the object is
+ * added to the dirty objects of its registry, so that only objects with pending operations have to
+ * be rendered.
  */
 public class DeferredRemoteObject extends RemoteObjectImpl {
 
@@ -45,7 +47,7 @@ public class DeferredRemoteObject extends RemoteObjectImpl {
   @Override
   public void set( final String name, final int value ) {
     super.set( name, value );
-    renderQueue.add( new RenderRunnable() {
+    enqueue( new RenderRunnable() {
       @Override
       public void render( ProtocolMessageWriter writer ) {
         writer.appendSet( getId(), name, value );
@@ -56,7 +58,7 @@ public class DeferredRemoteObject extends RemoteObjectImpl {
   @Override
   public void set( final String name, final double value ) {
     super.set( name, value );
-    renderQueue.add( new RenderRunnable() {
+    enqueue( new RenderRunnable() {
       @Override
       public void render( ProtocolMessageWriter writer ) {
         writer.appendSet( getId(), name, value );
@@ -67,7 +69,7 @@ public class DeferredRemoteObject extends RemoteObjectImpl {
   @Override
   public void set( final String name, final boolean value ) {
     super.set( name, value );
-    renderQueue.add( new RenderRunnable() {
+    enqueue( new RenderRunnable() {
       @Override
       public void render( ProtocolMessageWriter writer ) {
         writer.appendSet( getId(), name, value );
@@ -78,7 +80,7 @@ public class DeferredRemoteObject extends RemoteObjectImpl {
   @Override
   public void set( final String name, final String value ) {
     super.set( name, value );
-    renderQueue.add( new RenderRunnable() {
+    enqueue( new RenderRunnable() {
       @Override
       public void render( ProtocolMessageWriter writer ) {
         writer.appendSet( getId(), name, value );
@@ -89,7 +91,7 @@ public class DeferredRemoteObject extends RemoteObjectImpl {
   @Override
   public void set( final String name, final JsonValue value ) {
     super.set( name, value );
-    renderQueue.add( new RenderRunnable() {
+    enqueue( new RenderRunnable() {
       @Override
       public void render( ProtocolMessageWriter writer ) {
         writer.appendSet( getId(), name, value );
@@ -100,7 +102,7 @@ public class DeferredRemoteObject extends RemoteObjectImpl {
   @Override
   public void listen( final String eventType, final boolean listen ) {
     super.listen( eventType, listen );
-    renderQueue.add( new RenderRunnable() {
+    enqueue( new RenderRunnable() {
       @Override
       public void render( ProtocolMessageWriter writer ) {
         writer.appendListen( getId(), eventType, listen );
@@ -111,7 +113,7 @@ public class DeferredRemoteObject extends RemoteObjectImpl {
   @Override
   public void call( final String method, final JsonObject parameters ) {
     super.call( method, parameters );
-    renderQueue.add( new RenderRunnable() {
+    enqueue( new RenderRunnable() {
       @Override
       public void render( ProtocolMessageWriter writer ) {
         writer.appendCall( getId(), method, parameters );
@@ -122,7 +124,7 @@ public class DeferredRemoteObject extends RemoteObjectImpl {
   @Override
   public void destroy() {
     super.destroy();
-    renderQueue.add( new RenderRunnable() {
+    enqueue( new RenderRunnable() {
       @Override
       public void render( ProtocolMessageWriter writer ) {
         writer.appendDestroy( getId() );
@@ -130,6 +132,14 @@ public class DeferredRemoteObject extends RemoteObjectImpl {
     } );
   }
 
+  @Override
+  void setRegistry( RemoteObjectRegistry registry ) {
+    super.setRegistry( registry );
+    if( registry != null && !renderQueue.isEmpty() ) {
+      registry.markDirty( this );
+    }
+  }
+
   public void render( ProtocolMessageWriter writer ) {
     if( isDestroyed() && !created ) {
       // skip rendering for objects that are disposed just after creation (see bug 395272)
@@ -142,6 +152,14 @@ public class DeferredRemoteObject extends RemoteObjectImpl {
     renderQueue.clear();
   }
 
+  private void enqueue( RenderRunnable runnable ) {
+    RemoteObjectRegistry registry = getRegistry();
+    if( renderQueue.isEmpty() && registry != null ) {
+      registry.markDirty( this );
+    }
+    renderQueue.add( runnable );
+  }
+
   private static interface RenderRunnable extends Serializable {
 
     void render( ProtocolMessageWriter writer );
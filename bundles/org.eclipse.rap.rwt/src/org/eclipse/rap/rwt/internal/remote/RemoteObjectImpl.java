@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -25,6 +25,7 @@ public abstract class RemoteObjectImpl implements RemoteObject, Serializable {
   private final String id;
   private boolean destroyed;
   private OperationHandler handler;
+  private RemoteObjectRegistry registry;
 
   public RemoteObjectImpl( String id ) {
     this.id = id;
@@ -83,6 +84,7 @@ public abstract class RemoteObjectImpl implements RemoteObject, Serializable {
   public void destroy() {
     checkState();
     destroyed = true;
+    unregister();
   }
 
   public boolean isDestroyed() {
@@ -95,6 +97,7 @@ public abstract class RemoteObjectImpl implements RemoteObject, Serializable {
    */
   public void markDestroyed() {
     destroyed = true;
+    unregister();
   }
 
   @Override
@@ -106,6 +109,20 @@ public abstract class RemoteObjectImpl implements RemoteObject, Serializable {
     return handler;
   }
 
+  void setRegistry( RemoteObjectRegistry registry ) {
+    this.registry = registry;
+  }
+
+  RemoteObjectRegistry getRegistry() {
+    return registry;
+  }
+
+  private void unregister() {
+    if( registry != null ) {
+      registry.markDestroyed( this );
+    }
+  }
+
   void checkState() {
     // TODO [rst] Prevent calls with fake context as they break thread confinement
     if( !ContextProvider.hasContext() ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,7 +12,7 @@ package org.eclipse.rap.rwt.internal.remote;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -24,12 +24,13 @@ import org.eclipse.rap.rwt.service.UISession;
 public class RemoteObjectRegistry implements Serializable {
 
   private final Map<String, RemoteObjectImpl> remoteObjects;
+  private final List<DeferredRemoteObject> dirtyObjects;
+  private final List<RemoteObjectImpl> destroyedObjects;
 
   RemoteObjectRegistry() {
-    // TODO [rst] This is a linked list in order to provide an ordered list of remote objects to
-    //            iterate in the render phase. Once messages are rendered directly, this doesn't
-    //            have to be a linked list anymore.
-    remoteObjects = new LinkedHashMap<>();
+    remoteObjects = new HashMap<>();
+    dirtyObjects = new ArrayList<>();
+    destroyedObjects = new ArrayList<>();
   }
 
   public static RemoteObjectRegistry getInstance() {
@@ -46,6 +47,7 @@ public class RemoteObjectRegistry implements Serializable {
       throw new IllegalArgumentException( "Remote object already registered, id: " + id );
     }
     remoteObjects.put( id, object );
+    object.setRegistry( this );
   }
 
   public void remove( RemoteObjectImpl object ) {
@@ -56,6 +58,37 @@ public class RemoteObjectRegistry implements Serializable {
     remoteObjects.remove( id );
   }
 
+  /*
+   * Destroyed objects remain registered until the end of the render phase, so that they are not
+   * re-created by a lookup of their id in the meantime.
+   */
+  void markDestroyed( RemoteObjectImpl object ) {
+    destroyedObjects.add( object );
+  }
+
+  void removeDestroyedObjects() {
+    for( RemoteObjectImpl object : destroyedObjects ) {
+      remoteObjects.remove( object.getId(), object );
+    }
+    destroyedObjects.clear();
+  }
+
+  void markDirty( DeferredRemoteObject object ) {
+    dirtyObjects.add( object );
+  }
+
+  /**
+   * Returns the deferred remote objects that have pending operations, in the order in which they
+   * received their first pending operation. The returned list is not a copy.
+   */
+  List<DeferredRemoteObject> getDirtyObjects() {
+    return dirtyObjects;
+  }
+
+  void clearDirtyObjects() {
+    dirtyObjects.clear();
+  }
+
   public RemoteObjectImpl get( String id ) {
     return remoteObjects.get( id );
   }
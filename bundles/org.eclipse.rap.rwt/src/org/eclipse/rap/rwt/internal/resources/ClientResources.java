@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,7 +16,12 @@ import static org.eclipse.rap.rwt.internal.resources.ClientFilesReader.getInputF
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
@@ -67,17 +72,62 @@ public final class ClientResources {
     themeManager = applicationContext.getThemeManager();
   }
 
+  /**
+   * Registers the client resources. The resources are independent of each other and are
+   * registered in parallel, the method returns when all of them are registered.
+   */
   public void registerResources() {
+    List<Callable<Void>> tasks = new ArrayList<>();
+    tasks.add( new Callable<Void>() {
+      @Override
+      public Void call() throws IOException {
+        registerTextResource( "resource/static/html/blank.html" );
+        return null;
+      }
+    } );
+    tasks.add( new Callable<Void>() {
+      @Override
+      public Void call() throws IOException {
+        registerJavascriptFiles();
+        return null;
+      }
+    } );
+    addThemeResourceTasks( tasks );
+    addWidgetImageTasks( tasks );
     try {
-      registerTextResource( "resource/static/html/blank.html" );
-      registerJavascriptFiles();
-      registerThemeResources();
-      registerWidgetImages();
+      runInParallel( tasks );
     } catch( IOException ioe ) {
       throw new RuntimeException( "Failed to register resources", ioe );
     }
   }
 
+  private static void runInParallel( List<Callable<Void>> tasks ) throws IOException {
+    int parallelism = Math.min( tasks.size(), Runtime.getRuntime().availableProcessors() );
+    ForkJoinPool pool = new ForkJoinPool( Math.max( 1, parallelism ) );
+    try {
+      for( Future<Void> future : pool.invokeAll( tasks ) ) {
+        future.get();
+      }
+    } catch( InterruptedException exception ) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException( "Interrupted while registering resources", exception );
+    } catch( ExecutionException exception ) {
+      Throwable cause = exception.getCause();
+      if( cause instanceof IOException ) {
+        throw ( IOException )cause;
+      }
+      if( cause instanceof RuntimeException ) {
+        throw ( RuntimeException )cause;
+      }
+      if( cause instanceof Error ) {
+        throw ( Error )cause;
+      }
+      throw new RuntimeException( cause );
+    } finally {
+      pool.shutdown();
+    }
+  }
+
   private void registerJavascriptFiles()
     throws IOException
   {
@@ -112,19 +162,31 @@ public final class ClientResources {
     }
   }
 
-  private void registerThemeResources() {
+  private void addThemeResourceTasks( List<Callable<Void>> tasks ) {
     String[] themeIds = themeManager.getRegisteredThemeIds();
     for( String themeId : themeIds ) {
-      Theme theme = themeManager.getTheme( themeId );
-      theme.registerResources( applicationContext );
+      final Theme theme = themeManager.getTheme( themeId );
+      tasks.add( new Callable<Void>() {
+        @Override
+        public Void call() {
+          theme.registerResources( applicationContext );
+          return null;
+        }
+      } );
     }
   }
 
-  private void registerWidgetImages() throws IOException {
-    for( String resourcePath : WIDGET_IMAGES ) {
-      InputStream inputStream = openResourceStream( resourcePath );
-      resourceManager.register( resourcePath, inputStream );
-      inputStream.close();
+  private void addWidgetImageTasks( List<Callable<Void>> tasks ) {
+    for( final String resourcePath : WIDGET_IMAGES ) {
+      tasks.add( new Callable<Void>() {
+        @Override
+        public Void call() throws IOException {
+          InputStream inputStream = openResourceStream( resourcePath );
+          resourceManager.register( resourcePath, inputStream );
+          inputStream.close();
+          return null;
+        }
+      } );
     }
   }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,10 +18,10 @@ import java.io.InputStream;
 
 public class ContentBuffer {
 
-  private final ByteArrayOutputStream bufferOutputStream;
+  private final Buffer bufferOutputStream;
 
   public ContentBuffer() {
-    bufferOutputStream = new ByteArrayOutputStream();
+    bufferOutputStream = new Buffer();
   }
 
   public void append( byte[] content ) {
@@ -45,12 +45,24 @@ public class ContentBuffer {
     }
   }
 
+  /**
+   * Returns a stream that reads the content of this buffer without copying it. The buffer must not
+   * be appended to while the stream is in use.
+   */
   public InputStream getContentAsStream() {
-    return new ByteArrayInputStream( bufferOutputStream.toByteArray() );
+    return bufferOutputStream.createInputStream();
   }
 
   public byte[] getContent() {
     return bufferOutputStream.toByteArray();
   }
 
+  private static final class Buffer extends ByteArrayOutputStream {
+
+    InputStream createInputStream() {
+      return new ByteArrayInputStream( buf, 0, count );
+    }
+
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,19 +12,22 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.resources;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.eclipse.rap.rwt.internal.resources.ResourceStore.StoredResource;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.internal.util.StreamUtil;
 import org.eclipse.rap.rwt.service.ResourceLoader;
@@ -47,10 +50,21 @@ import org.eclipse.rap.rwt.service.ResourceManager;
 public class ResourceManagerImpl implements ResourceManager {
 
   private final ResourceDirectory resourceDirectory;
+  private final ResourceStore resourceStore;
   private final Set<String> resources;
 
   public ResourceManagerImpl( ResourceDirectory resourceDirectory ) {
+    this( resourceDirectory, null );
+  }
+
+  /**
+   * @param resourceStore the store that keeps the content of resources for the
+   *          {@link ResourceServlet}, or <code>null</code> if resources are served from the
+   *          resource directory only
+   */
+  public ResourceManagerImpl( ResourceDirectory resourceDirectory, ResourceStore resourceStore ) {
     this.resourceDirectory = resourceDirectory;
+    this.resourceStore = resourceStore;
     resources = Collections.synchronizedSet( new HashSet<String>() );
   }
 
@@ -92,6 +106,9 @@ public class ResourceManagerImpl implements ResourceManager {
       result = true;
       File file = getDiskLocation( name );
       file.delete();
+      if( resourceStore != null ) {
+        resourceStore.remove( getRequestPath( name ) );
+      }
     }
     return result;
   }
@@ -129,49 +146,88 @@ public class ResourceManagerImpl implements ResourceManager {
   //////////////////
   // helping methods
 
-  private static String createRequestUrl( String resourceName ) {
-    return new StringBuilder()
+  /*
+   * Appends the hash of the content, so that the location changes whenever the content changes
+   * and clients can keep the resource without revalidation.
+   */
+  private String createRequestUrl( String name ) {
+    String requestPath = getRequestPath( name );
+    StringBuilder result = new StringBuilder()
       .append( ResourceDirectory.DIRNAME )
       .append( "/" )
-      .append( escapeResourceName( resourceName.replace( '\\', '/' ) ) )
-      .toString();
+      .append( requestPath );
+    StoredResource resource = resourceStore == null ? null : resourceStore.get( requestPath );
+    if( resource != null ) {
+      result.append( '?' ).append( ResourceServlet.PARAM_HASH ).append( '=' );
+      result.append( resource.getHash() );
+    }
+    return result.toString();
+  }
+
+  private static String getRequestPath( String resourceName ) {
+    return escapeResourceName( resourceName.replace( '\\', '/' ) );
   }
 
   private void internalRegister( String name, InputStream inputStream ) {
     File location = getDiskLocation( name );
     try {
       createDirectories( location );
-      writeResource( inputStream, location );
+      byte[] content = readResource( inputStream );
+      // the resource directory is kept up to date for getRegisteredContent()
+      writeResource( content, location );
+      if( resourceStore != null ) {
+        resourceStore.put( getRequestPath( name ), content );
+      }
     } catch ( IOException ioe ) {
       throw new RuntimeException( "Failed to register resource: " + name, ioe );
     }
     resources.add( name );
   }
 
-  private static void writeResource( InputStream inputStream, File location )
-    throws IOException
-  {
-    BufferedInputStream bufferedStream = new BufferedInputStream( inputStream );
-    OutputStream outputStream = new BufferedOutputStream( new FileOutputStream( location ) );
+  /*
+   * Leaves files untouched that already have the given content, e.g. when the resource directory
+   * is kept from a previous run. Otherwise the content is written to a temporary file that is moved
+   * into place, so that resources that are registered concurrently never see a partial file.
+   */
+  private static void writeResource( byte[] content, File location ) throws IOException {
+    Path path = location.toPath();
+    if( hasContent( path, content ) ) {
+      return;
+    }
+    Path temp = Files.createTempFile( path.getParent(), location.getName(), ".tmp" );
     try {
-      byte[] buffer = new byte[ 256 ];
-      int read = bufferedStream.read( buffer );
-      while( read != -1 ) {
-        outputStream.write( buffer, 0, read );
-        read = bufferedStream.read( buffer );
+      Files.write( temp, content );
+      try {
+        Files.move( temp, path, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE );
+      } catch( @SuppressWarnings( "unused" ) AtomicMoveNotSupportedException exception ) {
+        Files.move( temp, path, StandardCopyOption.REPLACE_EXISTING );
       }
     } finally {
-      outputStream.close();
+      Files.deleteIfExists( temp );
     }
   }
 
-  private static void createDirectories( File file ) throws IOException {
-    File dir = new File( file.getParent() );
-    if( !dir.mkdirs() ) {
-      if( !dir.exists() ) {
-        throw new IOException( "Could not create directory structure: " + dir.getAbsolutePath() );
-      }
+  private static boolean hasContent( Path path, byte[] content ) throws IOException {
+    return    Files.isRegularFile( path )
+           && Files.size( path ) == content.length
+           && Arrays.equals( Files.readAllBytes( path ), content );
+  }
+
+  private static byte[] readResource( InputStream inputStream ) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 8192 ];
+    int read = inputStream.read( buffer );
+    while( read != -1 ) {
+      outputStream.write( buffer, 0, read );
+      read = inputStream.read( buffer );
     }
+    return outputStream.toByteArray();
+  }
+
+  private static void createDirectories( File file ) throws IOException {
+    // unlike File#mkdirs(), does not fail if a directory is created concurrently
+    Files.createDirectories( file.getParentFile().toPath() );
   }
 
   private File getDiskLocation( String resourceName ) {
@@ -0,0 +1,278 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import static javax.servlet.http.HttpServletResponse.SC_NOT_FOUND;
+import static javax.servlet.http.HttpServletResponse.SC_NOT_MODIFIED;
+import static javax.servlet.http.HttpServletResponse.SC_PARTIAL_CONTENT;
+import static javax.servlet.http.HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE;
+import static org.eclipse.rap.rwt.internal.util.HTTP.ENCODING_GZIP;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_RANGES;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CACHE_CONTROL;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CONTENT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CONTENT_RANGE;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ETAG;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_IF_NONE_MATCH;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_IF_RANGE;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_RANGE;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_VARY;
+
+import java.io.IOException;
+
+import javax.servlet.ServletContext;
+import javax.servlet.ServletRegistration;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.resources.ResourceStore.StoredResource;
+import org.eclipse.rap.rwt.internal.util.HttpCompression;
+
+
+/**
+ * Serves the resources of a {@link ResourceStore}. The servlet is installed for the resource
+ * directory if enabled with the system property <code>org.eclipse.rap.rwt.resourceService</code>.
+ * <p>
+ * Locations of registered resources contain the hash of their content, this includes the locations
+ * of theme images and cursors that the theme sends to the client. Requests that carry the current
+ * hash are answered as immutable, all other requests must be revalidated with the ETag of the
+ * resource. Precompressed content is sent to clients that accept gzip, byte ranges are
+ * supported for uncompressed content.
+ * </p>
+ */
+public class ResourceServlet extends HttpServlet {
+
+  public static final String SERVLET_NAME = "rwtResourceServlet";
+  static final String PARAM_HASH = "v";
+  static final String CACHE_IMMUTABLE = "public, max-age=31536000, immutable";
+  static final String CACHE_REVALIDATE = "no-cache";
+  private static final String GZIP_ETAG_SUFFIX = "-gz";
+  private static final String BYTES_UNIT = "bytes";
+  private static final int[] UNSATISFIABLE = new int[ 0 ];
+
+  private final ResourceStore resourceStore;
+
+  /**
+   * Creates a servlet that serves the resources of the application that is attached to its
+   * servlet context.
+   */
+  public ResourceServlet() {
+    this( null );
+  }
+
+  public ResourceServlet( ResourceStore resourceStore ) {
+    this.resourceStore = resourceStore;
+  }
+
+  /**
+   * Maps a resource servlet to the resource directory of the given servlet context. Does nothing
+   * if the servlet container does not allow to add servlets, the resources are served from the
+   * resource directory in this case.
+   */
+  public static void install( ServletContext servletContext ) {
+    try {
+      ServletRegistration.Dynamic registration
+        = servletContext.addServlet( SERVLET_NAME, new ResourceServlet() );
+      if( registration != null ) {
+        registration.addMapping( "/" + ResourceDirectory.DIRNAME + "/*" );
+      }
+    } catch( IllegalStateException | UnsupportedOperationException exception ) {
+      servletContext.log( "Failed to install resource servlet", exception );
+    } catch( LinkageError error ) {
+      // the container does not implement the Servlet 3.0 API
+      servletContext.log( "Failed to install resource servlet", error );
+    }
+  }
+
+  @Override
+  protected void doGet( HttpServletRequest request, HttpServletResponse response )
+    throws IOException
+  {
+    sendResource( request, response, true );
+  }
+
+  @Override
+  protected void doHead( HttpServletRequest request, HttpServletResponse response )
+    throws IOException
+  {
+    sendResource( request, response, false );
+  }
+
+  private void sendResource( HttpServletRequest request,
+                             HttpServletResponse response,
+                             boolean sendContent )
+    throws IOException
+  {
+    String path = getPath( request );
+    StoredResource resource = path == null ? null : findResource( path );
+    if( resource == null ) {
+      response.sendError( SC_NOT_FOUND );
+      return;
+    }
+    String contentType = getServletContext().getMimeType( path );
+    if( contentType != null ) {
+      response.setContentType( contentType );
+    }
+    boolean gzip = resource.getGzipContent() != null && acceptsGzip( request );
+    if( resource.getGzipContent() != null ) {
+      response.setHeader( HEADER_VARY, HEADER_ACCEPT_ENCODING );
+    }
+    String etag = createETag( resource, gzip );
+    response.setHeader( HEADER_ETAG, etag );
+    response.setHeader( HEADER_CACHE_CONTROL, getCacheControl( request, resource ) );
+    response.setHeader( HEADER_ACCEPT_RANGES, BYTES_UNIT );
+    if( matchesETag( request.getHeader( HEADER_IF_NONE_MATCH ), resource ) ) {
+      response.setStatus( SC_NOT_MODIFIED );
+      return;
+    }
+    byte[] content = resource.getContent();
+    int[] range = getRange( request, resource );
+    if( range == UNSATISFIABLE ) {
+      response.setHeader( HEADER_CONTENT_RANGE, BYTES_UNIT + " */" + content.length );
+      response.setStatus( SC_REQUESTED_RANGE_NOT_SATISFIABLE );
+      response.setContentLength( 0 );
+    } else if( range != null ) {
+      // the ETag of the uncompressed content applies, as ranges refer to it
+      response.setHeader( HEADER_ETAG, createETag( resource, false ) );
+      String contentRange = range[ 0 ] + "-" + range[ 1 ] + "/" + content.length;
+      response.setHeader( HEADER_CONTENT_RANGE, BYTES_UNIT + " " + contentRange );
+      response.setStatus( SC_PARTIAL_CONTENT );
+      write( response, content, range[ 0 ], range[ 1 ] - range[ 0 ] + 1, sendContent );
+    } else if( gzip ) {
+      response.setHeader( HEADER_CONTENT_ENCODING, ENCODING_GZIP );
+      byte[] gzipContent = resource.getGzipContent();
+      write( response, gzipContent, 0, gzipContent.length, sendContent );
+    } else {
+      write( response, content, 0, content.length, sendContent );
+    }
+  }
+
+  private StoredResource findResource( String path ) {
+    ResourceStore store = resourceStore;
+    if( store == null ) {
+      ServletContext servletContext = getServletContext();
+      ApplicationContextImpl applicationContext = ApplicationContextImpl.getFrom( servletContext );
+      store = applicationContext == null ? null : applicationContext.getResourceStore();
+    }
+    return store == null ? null : store.get( path );
+  }
+
+  private static String getPath( HttpServletRequest request ) {
+    String pathInfo = request.getPathInfo();
+    if( pathInfo == null || pathInfo.length() <= 1 ) {
+      return null;
+    }
+    return pathInfo.substring( 1 );
+  }
+
+  private static boolean acceptsGzip( HttpServletRequest request ) {
+    String encoding = HttpCompression.selectEncoding( request.getHeader( HEADER_ACCEPT_ENCODING ) );
+    return ENCODING_GZIP.equals( encoding );
+  }
+
+  private static String getCacheControl( HttpServletRequest request, StoredResource resource ) {
+    String hash = request.getParameter( PARAM_HASH );
+    return resource.getHash().equals( hash ) ? CACHE_IMMUTABLE : CACHE_REVALIDATE;
+  }
+
+  private static String createETag( StoredResource resource, boolean gzip ) {
+    return "\"" + resource.getHash() + ( gzip ? GZIP_ETAG_SUFFIX : "" ) + "\"";
+  }
+
+  /*
+   * Uses the weak comparison, which is required for If-None-Match and lets either variant of the
+   * content match.
+   */
+  private static boolean matchesETag( String header, StoredResource resource ) {
+    if( header != null ) {
+      for( String element : header.split( "," ) ) {
+        String etag = element.trim();
+        if( etag.startsWith( "W/" ) ) {
+          etag = etag.substring( 2 );
+        }
+        if(    "*".equals( etag )
+            || createETag( resource, false ).equals( etag )
+            || createETag( resource, true ).equals( etag ) )
+        {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /*
+   * Returns the first and last position of the requested range, UNSATISFIABLE, or null if the
+   * entire content is to be sent. Requests for multiple ranges are answered with the entire
+   * content.
+   */
+  private static int[] getRange( HttpServletRequest request, StoredResource resource ) {
+    String header = request.getHeader( HEADER_RANGE );
+    if( header == null || !header.startsWith( BYTES_UNIT + "=" ) ) {
+      return null;
+    }
+    String ifRange = request.getHeader( HEADER_IF_RANGE );
+    if( ifRange != null && !ifRange.trim().equals( createETag( resource, false ) ) ) {
+      return null;
+    }
+    return parseRange( header.substring( BYTES_UNIT.length() + 1 ).trim(),
+                       resource.getContent().length );
+  }
+
+  static int[] parseRange( String spec, int length ) {
+    int dash = spec.indexOf( '-' );
+    if( dash == -1 || spec.indexOf( ',' ) != -1 ) {
+      return null;
+    }
+    String first = spec.substring( 0, dash ).trim();
+    String last = spec.substring( dash + 1 ).trim();
+    try {
+      if( first.isEmpty() ) {
+        // suffix range, the last n bytes
+        long suffix = Long.parseLong( last );
+        if( suffix < 0 ) {
+          return null;
+        }
+        if( suffix == 0 || length == 0 ) {
+          return UNSATISFIABLE;
+        }
+        return new int[] { ( int )Math.max( 0, length - suffix ), length - 1 };
+      }
+      long start = Long.parseLong( first );
+      long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong( last );
+      if( start < 0 || end < start ) {
+        return null;
+      }
+      if( start >= length ) {
+        return UNSATISFIABLE;
+      }
+      return new int[] { ( int )start, ( int )Math.min( end, length - 1L ) };
+    } catch( @SuppressWarnings( "unused" ) NumberFormatException exception ) {
+      return null;
+    }
+  }
+
+  private static void write( HttpServletResponse response,
+                             byte[] content,
+                             int offset,
+                             int length,
+                             boolean sendContent )
+    throws IOException
+  {
+    response.setContentLength( length );
+    if( sendContent ) {
+      response.getOutputStream().write( content, offset, length );
+    }
+  }
+
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import static org.eclipse.rap.rwt.internal.util.HTTP.ENCODING_GZIP;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.rap.rwt.internal.util.HttpCompression;
+
+
+/**
+ * Keeps the content of registered resources in memory to be served by the
+ * {@link ResourceServlet}. Every resource is stored together with a hash of its content and, if
+ * that saves space, a gzip compressed variant that is created once on registration.
+ */
+public class ResourceStore {
+
+  // the number of bytes of the content digest that make up the hash
+  private static final int HASH_LENGTH = 10;
+
+  private final Map<String, StoredResource> resources;
+
+  public ResourceStore() {
+    resources = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Stores the given content for the given path, replacing previous content.
+   *
+   * @param path the path of the resource relative to the resource directory
+   */
+  public StoredResource put( String path, byte[] content ) {
+    String hash = createHash( content );
+    StoredResource resource = new StoredResource( content, hash, compress( content ) );
+    resources.put( path, resource );
+    return resource;
+  }
+
+  public StoredResource get( String path ) {
+    return resources.get( path );
+  }
+
+  public void remove( String path ) {
+    resources.remove( path );
+  }
+
+  public void clear() {
+    resources.clear();
+  }
+
+  private static String createHash( byte[] content ) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance( "SHA-256" );
+    } catch( NoSuchAlgorithmException shouldNotHappen ) {
+      throw new RuntimeException( shouldNotHappen );
+    }
+    byte[] bytes = digest.digest( content );
+    StringBuilder result = new StringBuilder( HASH_LENGTH * 2 );
+    for( int i = 0; i < HASH_LENGTH; i++ ) {
+      result.append( Character.forDigit( ( bytes[ i ] >> 4 ) & 0xF, 16 ) );
+      result.append( Character.forDigit( bytes[ i ] & 0xF, 16 ) );
+    }
+    return result.toString();
+  }
+
+  /*
+   * Returns the gzip compressed content, or null if compression does not save at least a tenth of
+   * the size, which is usually the case for images.
+   */
+  private static byte[] compress( byte[] content ) {
+    int threshold = HttpCompression.getThreshold();
+    if( threshold >= 0 && content.length >= threshold ) {
+      byte[] compressed = HttpCompression.compress( content, ENCODING_GZIP );
+      if( compressed.length < content.length - content.length / 10 ) {
+        return compressed;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * The content of a registered resource.
+   */
+  public static final class StoredResource {
+
+    private final byte[] content;
+    private final String hash;
+    private final byte[] gzipContent;
+
+    StoredResource( byte[] content, String hash, byte[] gzipContent ) {
+      this.content = content;
+      this.hash = hash;
+      this.gzipContent = gzipContent;
+    }
+
+    public byte[] getContent() {
+      return content;
+    }
+
+    /**
+     * Returns a hash of the content that changes whenever the content changes.
+     */
+    public String getHash() {
+      return hash;
+    }
+
+    /**
+     * Returns the gzip compressed content, or <code>null</code> if the content is not worth to be
+     * compressed.
+     */
+    public byte[] getGzipContent() {
+      return gzipContent;
+    }
+
+  }
+
+}
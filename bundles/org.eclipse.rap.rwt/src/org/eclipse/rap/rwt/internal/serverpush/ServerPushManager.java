@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,13 +14,18 @@ package org.eclipse.rap.rwt.internal.serverpush;
 import java.io.IOException;
 import java.io.PrintWriter;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
 import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleMetrics;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceStore;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
+import org.eclipse.rap.rwt.internal.util.SharedScheduler;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.rap.rwt.service.UISessionEvent;
 import org.eclipse.rap.rwt.service.UISessionListener;
@@ -41,6 +46,11 @@ public final class ServerPushManager implements SerializableCompatibility {
   private boolean hasRunnables;
   private int requestCheckInterval;
   private transient ServerPushRequestTracker serverPushRequestTracker;
+  // notified whenever a blocked request is released, used by connections that keep the client
+  // waiting without blocking a thread (i.e. WebSockets)
+  private transient Runnable releaseCallback;
+  // the server push request that waits without blocking a thread (Servlet 3 async mode)
+  private transient SuspendedRequest suspendedRequest;
 
   private ServerPushManager() {
     lock = new SerializableLock();
@@ -56,21 +66,50 @@ public final class ServerPushManager implements SerializableCompatibility {
 
   public boolean isCallBackRequestBlocked() {
     synchronized( lock ) {
-      return !serverPushRequestTracker.hasActive();
+      return !serverPushRequestTracker.hasActive() || hasSuspendedRequest();
     }
   }
 
   public void wakeClient() {
+    boolean release;
     synchronized( lock ) {
-      if( !uiThreadRunning ) {
-        releaseBlockedRequest();
-      }
+      release = !uiThreadRunning;
+    }
+    if( release ) {
+      releaseBlockedRequest();
     }
   }
 
   public void releaseBlockedRequest() {
+    Runnable callback;
+    SuspendedRequest released = null;
     synchronized( lock ) {
       lock.notifyAll();
+      callback = releaseCallback;
+      if( suspendedRequest != null && !mustBlockCallBackRequest() ) {
+        released = suspendedRequest;
+        suspendedRequest = null;
+      }
+    }
+    if( released != null ) {
+      released.complete();
+    }
+    if( callback != null ) {
+      callback.run();
+    }
+  }
+
+  public void setReleaseCallback( Runnable callback ) {
+    synchronized( lock ) {
+      releaseCallback = callback;
+    }
+  }
+
+  public void removeReleaseCallback( Runnable callback ) {
+    synchronized( lock ) {
+      if( releaseCallback == callback ) {
+        releaseCallback = null;
+      }
     }
   }
 
@@ -95,11 +134,13 @@ public final class ServerPushManager implements SerializableCompatibility {
   }
 
   public void notifyUIThreadEnd() {
+    boolean wake;
     synchronized( lock ) {
       uiThreadRunning = false;
-      if( hasRunnables ) {
-        wakeClient();
-      }
+      wake = hasRunnables;
+    }
+    if( wake ) {
+      wakeClient();
     }
   }
 
@@ -124,12 +165,30 @@ public final class ServerPushManager implements SerializableCompatibility {
     return isServerPushActive() || forceServerPushForPendingRunnables();
   }
 
-  void processRequest( HttpServletResponse response ) {
+  void processRequest( HttpServletRequest request, HttpServletResponse response ) {
+    SharedScheduler scheduler = getScheduler();
+    LifeCycleMetrics metrics = getLifeCycleMetrics();
+    if( scheduler != null && isAsyncSupported( request ) ) {
+      suspendRequest( request, response, scheduler, metrics );
+    } else {
+      long startTime = System.nanoTime();
+      if( blockRequest( response ) && metrics != null ) {
+        metrics.recordServerPushPark( System.nanoTime() - startTime );
+      }
+    }
+  }
+
+  /*
+   * Returns true if the request has been blocked.
+   */
+  private boolean blockRequest( HttpServletResponse response ) {
+    boolean blocked = false;
     synchronized( lock ) {
       if( isCallBackRequestBlocked() ) {
         releaseBlockedRequest();
       }
       if( mustBlockCallBackRequest() ) {
+        blocked = true;
         long requestStartTime = System.currentTimeMillis();
         serverPushRequestTracker.activate( Thread.currentThread() );
         TerminationListener listener = attachTerminationListener();
@@ -147,6 +206,72 @@ public final class ServerPushManager implements SerializableCompatibility {
         }
       }
     }
+    return blocked;
+  }
+
+  private void suspendRequest( HttpServletRequest request,
+                               HttpServletResponse response,
+                               SharedScheduler scheduler,
+                               LifeCycleMetrics metrics )
+  {
+    SuspendedRequest replaced;
+    SuspendedRequest suspended = null;
+    synchronized( lock ) {
+      // a new request from the same client replaces the previous one
+      replaced = suspendedRequest;
+      suspendedRequest = null;
+      UISession uiSession = ContextProvider.getUISession();
+      if( mustBlockCallBackRequest() && uiSession.isBound() ) {
+        suspended = new SuspendedRequest( request, response, uiSession, scheduler, metrics );
+        suspendedRequest = suspended;
+      }
+    }
+    if( replaced != null ) {
+      replaced.complete();
+    }
+    if( suspended != null ) {
+      scheduleCheck( suspended );
+    }
+  }
+
+  private void scheduleCheck( final SuspendedRequest request ) {
+    request.scheduleCheck( new Runnable() {
+      @Override
+      public void run() {
+        checkSuspendedRequest( request );
+      }
+    }, requestCheckInterval );
+  }
+
+  /*
+   * Replaces the periodic check of a blocked request thread, runs on the shared scheduler. The
+   * connection is probed in a container thread, as writing to the client may block.
+   */
+  void checkSuspendedRequest( SuspendedRequest request ) {
+    boolean release;
+    synchronized( lock ) {
+      if( request != suspendedRequest ) {
+        return;
+      }
+      long currentTime = System.currentTimeMillis();
+      release =    !mustBlockCallBackRequest()
+                || isSessionExpired( request.getUISession(), request.getStartTime(), currentTime );
+    }
+    if( release ) {
+      synchronized( lock ) {
+        if( request == suspendedRequest ) {
+          suspendedRequest = null;
+        }
+      }
+      request.complete();
+    } else {
+      request.probeConnection();
+      scheduleCheck( request );
+    }
+  }
+
+  private boolean hasSuspendedRequest() {
+    return suspendedRequest != null && !suspendedRequest.isCompleted();
   }
 
   private boolean canReleaseBlockedRequest( HttpServletResponse response, long requestStartTime ) {
@@ -163,7 +288,7 @@ public final class ServerPushManager implements SerializableCompatibility {
     return result;
   }
 
-  boolean mustBlockCallBackRequest() {
+  public boolean mustBlockCallBackRequest() {
     return isServerPushActive() && !hasRunnables;
   }
 
@@ -188,8 +313,14 @@ public final class ServerPushManager implements SerializableCompatibility {
   }
 
   static boolean isSessionExpired( long requestStartTime, long currentTime ) {
-    UISession uiSession = ContextProvider.getUISession();
-    if( uiSession == null ) {
+    return isSessionExpired( ContextProvider.getUISession(), requestStartTime, currentTime );
+  }
+
+  private static boolean isSessionExpired( UISession uiSession,
+                                           long requestStartTime,
+                                           long currentTime )
+  {
+    if( uiSession == null || !uiSession.isBound() ) {
       return true;
     }
     HttpSession httpSession = uiSession.getHttpSession();
@@ -200,7 +331,7 @@ public final class ServerPushManager implements SerializableCompatibility {
     return false;
   }
 
-  private static boolean isConnectionAlive( HttpServletResponse response ) {
+  static boolean isConnectionAlive( HttpServletResponse response ) {
     try {
       PrintWriter writer = response.getWriter();
       writer.write( " " );
@@ -210,6 +341,20 @@ public final class ServerPushManager implements SerializableCompatibility {
     }
   }
 
+  private static SharedScheduler getScheduler() {
+    ApplicationContextImpl applicationContext = ContextProvider.getApplicationContext();
+    return applicationContext == null ? null : applicationContext.getScheduler();
+  }
+
+  private static LifeCycleMetrics getLifeCycleMetrics() {
+    ApplicationContextImpl applicationContext = ContextProvider.getApplicationContext();
+    return applicationContext == null ? null : applicationContext.getLifeCycleMetrics();
+  }
+
+  private static boolean isAsyncSupported( HttpServletRequest request ) {
+    return RWTProperties.isAsyncServerPushEnabled() && request.isAsyncSupported();
+  }
+
   private static boolean forceServerPushForPendingRunnables() {
     boolean result = false;
     ServiceStore serviceStore = ContextProvider.getServiceStore();
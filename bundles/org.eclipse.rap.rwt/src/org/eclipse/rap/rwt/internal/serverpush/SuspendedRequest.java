@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.serverpush;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleMetrics;
+import org.eclipse.rap.rwt.internal.util.SharedScheduler;
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.rap.rwt.service.UISessionEvent;
+import org.eclipse.rap.rwt.service.UISessionListener;
+
+
+/**
+ * A server push request that has been put into asynchronous mode, so that it does not occupy a
+ * container thread while the client is waiting. The request is completed when it is released by
+ * the <code>ServerPushManager</code>, when the UI session is destroyed, when the container
+ * reports an error, or when a probe of the connection fails.
+ */
+class SuspendedRequest implements AsyncListener, UISessionListener {
+
+  private final AsyncContext asyncContext;
+  private final HttpServletResponse response;
+  private final UISession uiSession;
+  private final SharedScheduler scheduler;
+  private final LifeCycleMetrics metrics;
+  private final long startTime;
+  private final long startNanos;
+  private ScheduledFuture<?> check;
+  private boolean probing;
+  private boolean completed;
+
+  SuspendedRequest( HttpServletRequest request,
+                    HttpServletResponse response,
+                    UISession uiSession,
+                    SharedScheduler scheduler,
+                    LifeCycleMetrics metrics )
+  {
+    this.response = response;
+    this.uiSession = uiSession;
+    this.scheduler = scheduler;
+    this.metrics = metrics;
+    startTime = System.currentTimeMillis();
+    startNanos = System.nanoTime();
+    asyncContext = request.startAsync( request, response );
+    // expiration is handled by the periodic check
+    asyncContext.setTimeout( 0 );
+    asyncContext.addListener( this );
+    uiSession.addUISessionListener( this );
+  }
+
+  UISession getUISession() {
+    return uiSession;
+  }
+
+  long getStartTime() {
+    return startTime;
+  }
+
+  synchronized boolean isCompleted() {
+    return completed;
+  }
+
+  synchronized void scheduleCheck( Runnable runnable, long delay ) {
+    if( !completed ) {
+      check = scheduler.schedule( runnable, delay, TimeUnit.MILLISECONDS );
+    }
+  }
+
+  /*
+   * Probes the connection by writing to the client in a container thread, so that a slow client
+   * cannot block the shared scheduler, and completes the request if the write fails. Connections
+   * that are found broken by the container itself are reported to onError.
+   */
+  void probeConnection() {
+    synchronized( this ) {
+      if( completed || probing ) {
+        return;
+      }
+      probing = true;
+    }
+    try {
+      asyncContext.start( new Runnable() {
+        @Override
+        public void run() {
+          boolean alive = isConnectionAlive();
+          synchronized( SuspendedRequest.this ) {
+            probing = false;
+          }
+          if( !alive ) {
+            complete();
+          }
+        }
+      } );
+    } catch( @SuppressWarnings( "unused" ) IllegalStateException exception ) {
+      // request has been completed in the meantime
+      synchronized( this ) {
+        probing = false;
+      }
+    }
+  }
+
+  private boolean isConnectionAlive() {
+    if( isCompleted() ) {
+      return false;
+    }
+    try {
+      return ServerPushManager.isConnectionAlive( response );
+    } catch( @SuppressWarnings( "unused" ) IllegalStateException exception ) {
+      // request has been completed in the meantime
+      return false;
+    }
+  }
+
+  void complete() {
+    if( markCompleted() ) {
+      try {
+        asyncContext.complete();
+      } catch( @SuppressWarnings( "unused" ) IllegalStateException exception ) {
+        // request has already been completed by the container
+      }
+    }
+  }
+
+  @Override
+  public void onComplete( AsyncEvent event ) {
+    markCompleted();
+  }
+
+  @Override
+  public void onTimeout( AsyncEvent event ) {
+    complete();
+  }
+
+  @Override
+  public void onError( AsyncEvent event ) {
+    complete();
+  }
+
+  @Override
+  public void onStartAsync( AsyncEvent event ) {
+    // nothing to do
+  }
+
+  @Override
+  public void beforeDestroy( UISessionEvent event ) {
+    complete();
+  }
+
+  private boolean markCompleted() {
+    synchronized( this ) {
+      if( completed ) {
+        return false;
+      }
+      completed = true;
+      if( check != null ) {
+        check.cancel( false );
+      }
+    }
+    uiSession.removeUISessionListener( this );
+    if( metrics != null ) {
+      metrics.recordServerPushPark( System.nanoTime() - startNanos );
+    }
+    return true;
+  }
+
+}
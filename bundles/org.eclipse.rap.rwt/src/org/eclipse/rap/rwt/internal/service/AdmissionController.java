@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Bounds the number of UI requests of an application that are processed concurrently. Requests
+ * that exceed the limit are queued until a slot becomes free or their deadline has passed.
+ * Requests of existing UI sessions take precedence over requests that start a new UI session, so
+ * that an overload delays new users rather than the users that are already working.
+ */
+public class AdmissionController {
+
+  private static final long MIN_RETRY_AFTER = 1;
+
+  private final Object lock;
+  private volatile int maxConcurrentRequests;
+  private long maxWaitTime;
+  private int runningRequests;
+  private int waitingRequests;
+
+  public AdmissionController() {
+    lock = new Object();
+  }
+
+  /**
+   * @param maxConcurrentRequests the maximum number of concurrently processed requests, or zero
+   *          to disable admission control
+   * @param maxWaitTime the maximum time in milliseconds a request waits to be admitted
+   */
+  public void configure( int maxConcurrentRequests, int maxWaitTime ) {
+    if( maxConcurrentRequests < 0 ) {
+      throw new IllegalArgumentException( "maxConcurrentRequests must not be negative" );
+    }
+    if( maxWaitTime < 0 ) {
+      throw new IllegalArgumentException( "maxWaitTime must not be negative" );
+    }
+    synchronized( lock ) {
+      this.maxConcurrentRequests = maxConcurrentRequests;
+      this.maxWaitTime = maxWaitTime;
+      lock.notifyAll();
+    }
+  }
+
+  public void reset() {
+    configure( 0, 0 );
+  }
+
+  public boolean isEnabled() {
+    return maxConcurrentRequests > 0;
+  }
+
+  /**
+   * Waits until the request can be processed. Every successful call must be followed by a call to
+   * {@link #release()}.
+   *
+   * @param startup whether the request starts a new UI session
+   * @return <code>true</code> if the request may be processed, <code>false</code> if the request
+   *         could not be admitted in time and should be retried later
+   */
+  public boolean acquire( boolean startup ) {
+    synchronized( lock ) {
+      long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( maxWaitTime );
+      if( !startup ) {
+        waitingRequests++;
+      }
+      try {
+        while( mustWait( startup ) ) {
+          long remaining = TimeUnit.NANOSECONDS.toMillis( deadline - System.nanoTime() );
+          if( remaining <= 0 ) {
+            return false;
+          }
+          lock.wait( remaining );
+        }
+      } catch( @SuppressWarnings( "unused" ) InterruptedException exception ) {
+        Thread.currentThread().interrupt();
+        return false;
+      } finally {
+        if( !startup ) {
+          waitingRequests--;
+          // startup requests may be waiting for this request to leave the queue
+          lock.notifyAll();
+        }
+      }
+      runningRequests++;
+      return true;
+    }
+  }
+
+  public void release() {
+    synchronized( lock ) {
+      if( runningRequests > 0 ) {
+        runningRequests--;
+      }
+      lock.notifyAll();
+    }
+  }
+
+  /**
+   * Returns the time in seconds after which a client should retry a rejected request.
+   */
+  public long getRetryAfter() {
+    synchronized( lock ) {
+      return Math.max( MIN_RETRY_AFTER, TimeUnit.MILLISECONDS.toSeconds( maxWaitTime + 999 ) );
+    }
+  }
+
+  int getRunningRequests() {
+    synchronized( lock ) {
+      return runningRequests;
+    }
+  }
+
+  int getWaitingRequests() {
+    synchronized( lock ) {
+      return waitingRequests;
+    }
+  }
+
+  private boolean mustWait( boolean startup ) {
+    if( maxConcurrentRequests <= 0 ) {
+      return false;
+    }
+    // startup requests are only admitted if no request of an existing UI session is waiting
+    return runningRequests >= maxConcurrentRequests || ( startup && waitingRequests > 0 );
+  }
+
+}
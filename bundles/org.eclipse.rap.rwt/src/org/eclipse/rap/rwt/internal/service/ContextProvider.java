@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -149,7 +149,8 @@ public class ContextProvider {
 
   public static boolean releaseContextHolder() {
     if( CONTEXT_HOLDER.get() != null ) {
-      CONTEXT_HOLDER.set( null );
+      // remove the entry rather than clearing its value to leave no stale map entries behind
+      CONTEXT_HOLDER.remove();
       return false;
     }
     synchronized( CONTEXT_HOLDER_FOR_BG_THREADS ) {
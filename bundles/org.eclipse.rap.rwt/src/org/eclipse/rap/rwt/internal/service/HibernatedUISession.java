@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import java.io.File;
+
+import javax.servlet.http.HttpSession;
+import javax.servlet.http.HttpSessionBindingEvent;
+import javax.servlet.http.HttpSessionBindingListener;
+
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.engine.PostDeserialization;
+import org.eclipse.rap.rwt.service.ApplicationContextEvent;
+import org.eclipse.rap.rwt.service.ApplicationContextListener;
+
+
+/**
+ * Takes the place of a hibernated UI session in the HTTP session. The UI session is read from disk
+ * when it is looked up for the next request. If the HTTP session expires or the application is
+ * stopped before, the UI session is restored and destroyed, so that its listeners are notified as
+ * usual.
+ */
+final class HibernatedUISession
+  implements HttpSessionBindingListener, ApplicationContextListener
+{
+
+  private final String path;
+  private final String connectionId;
+  private transient HttpSession boundSession;
+  private transient UISessionImpl restored;
+  private transient boolean disposed;
+
+  HibernatedUISession( File file, HttpSession httpSession, String connectionId ) {
+    path = file.getAbsolutePath();
+    boundSession = httpSession;
+    this.connectionId = connectionId;
+  }
+
+  File getFile() {
+    return new File( path );
+  }
+
+  /*
+   * Restores the UI session and puts it back into the given HTTP session. Concurrent requests of
+   * the same UI session receive the same instance. Returns null if the UI session cannot be
+   * restored, which is treated like an expired UI session.
+   */
+  synchronized UISessionImpl restore( HttpSession httpSession ) {
+    if( restored == null && !disposed ) {
+      UISessionImpl uiSession = read( httpSession );
+      if( uiSession == null ) {
+        disposed = true;
+        httpSession.removeAttribute( UISessionImpl.getUISessionAttributeName( connectionId ) );
+      } else {
+        boundSession = null;
+        restored = uiSession;
+        uiSession.attachToHttpSession();
+        PostDeserialization.runProcessors( uiSession );
+        ApplicationContextImpl applicationContext = uiSession.getApplicationContext();
+        if( applicationContext != null ) {
+          applicationContext.getUISessionHibernator().register( uiSession );
+        }
+      }
+    }
+    if( restored != null ) {
+      restored.markAccessed();
+    }
+    return restored;
+  }
+
+  @Override
+  public void valueBound( HttpSessionBindingEvent event ) {
+  }
+
+  @Override
+  public void valueUnbound( HttpSessionBindingEvent event ) {
+    UISessionImpl uiSession = null;
+    synchronized( this ) {
+      if( restored == null && !disposed ) {
+        // the HTTP session expires, it cannot take the restored UI session anymore
+        disposed = true;
+        boundSession = null;
+        uiSession = read( event.getSession() );
+      }
+    }
+    if( uiSession != null ) {
+      uiSession.valueUnbound( null );
+    }
+  }
+
+  @Override
+  public void beforeDestroy( ApplicationContextEvent event ) {
+    UISessionImpl uiSession = null;
+    synchronized( this ) {
+      if( restored == null && !disposed && boundSession != null ) {
+        uiSession = restore( boundSession );
+      }
+    }
+    if( uiSession != null ) {
+      uiSession.shutdown();
+    }
+  }
+
+  private UISessionImpl read( HttpSession httpSession ) {
+    ApplicationContextImpl applicationContext
+      = ApplicationContextImpl.getFrom( httpSession.getServletContext() );
+    if( applicationContext != null ) {
+      applicationContext.removeApplicationContextListener( this );
+    }
+    File file = getFile();
+    UISessionImpl uiSession = UISessionHibernator.read( file );
+    file.delete();
+    if( uiSession != null ) {
+      uiSession.setHttpSession( httpSession );
+      uiSession.setApplicationContext( applicationContext );
+    }
+    return uiSession;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,28 +13,41 @@ package org.eclipse.rap.rwt.internal.service;
 
 import static javax.servlet.http.HttpServletResponse.SC_FORBIDDEN;
 import static javax.servlet.http.HttpServletResponse.SC_PRECONDITION_FAILED;
+import static javax.servlet.http.HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.CONNECTION_ID;
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.REQUEST_COUNTER;
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.SHUTDOWN;
+import static org.eclipse.rap.rwt.internal.protocol.ClientMessageReader.readClientMessage;
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getUISession;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CHARSET_UTF_8;
+import static org.eclipse.rap.rwt.internal.util.HTTP.CONTENT_TYPE_BINARY_PROTOCOL;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CONTENT_TYPE_JSON;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_RETRY_AFTER;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 
 import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleMetrics;
 import org.eclipse.rap.rwt.internal.lifecycle.RequestCounter;
+import org.eclipse.rap.rwt.internal.protocol.BinaryMessageCodec;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.protocol.RequestMessage;
 import org.eclipse.rap.rwt.internal.protocol.ResponseMessage;
 import org.eclipse.rap.rwt.internal.remote.MessageChainReference;
+import org.eclipse.rap.rwt.internal.util.HttpCompression;
 import org.eclipse.rap.rwt.service.ServiceHandler;
 import org.eclipse.rap.rwt.service.UISession;
 
@@ -42,8 +55,12 @@ import org.eclipse.rap.rwt.service.UISession;
 public class LifeCycleServiceHandler implements ServiceHandler {
 
   private static final String PROP_ERROR = "error";
+  private static final String PROP_RETRY_AFTER = "retryAfter";
+  private static final int READ_BUFFER_SIZE = 8192;
   private static final String ATTR_LAST_RESPONSE_MESSAGE
     = LifeCycleServiceHandler.class.getName() + "#lastResponseMessage";
+  private static final String ATTR_BINARY_MESSAGE_CODEC
+    = LifeCycleServiceHandler.class.getName() + "#binaryMessageCodec";
 
   private final MessageChainReference messageChainReference;
 
@@ -60,14 +77,59 @@ public class LifeCycleServiceHandler implements ServiceHandler {
       setJsonResponseHeaders( response );
       writeSessionTimeoutError( response );
     } else {
-      // Do not use uiSession itself as a lock
-      // see bug https://bugs.eclipse.org/bugs/show_bug.cgi?id=372946
-      synchronized( uiSession.getRequestLock() ) {
-        synchronizedService( request, response );
+      AdmissionController admissionController = getAdmissionController();
+      if( admissionController == null || !admissionController.isEnabled() ) {
+        service( uiSession, request, response );
+      } else if( admissionController.acquire( isStartupRequest( request ) ) ) {
+        try {
+          service( uiSession, request, response );
+        } finally {
+          admissionController.release();
+        }
+      } else {
+        rejectRequest( uiSession, request, response, admissionController.getRetryAfter() );
       }
     }
   }
 
+  private void service( UISessionImpl uiSession,
+                        HttpServletRequest request,
+                        HttpServletResponse response )
+    throws IOException
+  {
+    UISessionImpl current = uiSession;
+    while( current != null && !serviceUnlessHibernated( current, request, response ) ) {
+      // the UI session has been hibernated after it was looked up for this request
+      current = restoreUISession( current );
+      ContextProvider.getContext().setUISession( current );
+    }
+    if( current == null ) {
+      setJsonResponseHeaders( response );
+      writeSessionTimeoutError( response );
+    }
+  }
+
+  private boolean serviceUnlessHibernated( UISessionImpl uiSession,
+                                           HttpServletRequest request,
+                                           HttpServletResponse response )
+    throws IOException
+  {
+    // Do not use uiSession itself as a lock
+    // see bug https://bugs.eclipse.org/bugs/show_bug.cgi?id=372946
+    synchronized( uiSession.getRequestLock() ) {
+      if( uiSession.isHibernated() ) {
+        return false;
+      }
+      synchronizedService( request, response );
+      return true;
+    }
+  }
+
+  private static UISessionImpl restoreUISession( UISessionImpl hibernated ) {
+    HttpSession httpSession = hibernated.getHttpSession();
+    return UISessionImpl.getInstanceFromSession( httpSession, hibernated.getConnectionId() );
+  }
+
   void synchronizedService( HttpServletRequest request, HttpServletResponse response )
     throws IOException
   {
@@ -92,42 +154,128 @@ public class LifeCycleServiceHandler implements ServiceHandler {
       writeEmptyMessage( response );
     } else if( !isRequestCounterValid( requestMessage ) ) {
       if( isDuplicateRequest( requestMessage ) ) {
-        writeBufferedResponse( response );
+        writeBufferedResponse( request, response );
       } else {
         writeInvalidRequestCounterError( response );
       }
     } else {
+      long startTime = System.nanoTime();
       ResponseMessage responseMessage = processMessage( requestMessage );
-      writeResponseMessage( responseMessage, response );
+      int bytesSent = writeResponseMessage( responseMessage, request, response );
       RequestCounter.getInstance().nextRequestId();
+      recordMetrics( request, requestMessage, responseMessage, bytesSent, startTime );
+    }
+  }
+
+  private static void recordMetrics( HttpServletRequest request,
+                                     RequestMessage requestMessage,
+                                     ResponseMessage responseMessage,
+                                     int bytesSent,
+                                     long startTime )
+  {
+    long duration = System.nanoTime() - startTime;
+    // the content length is the size on the wire, i.e. after compression, or -1 if unknown
+    int bytesReceived = Math.max( 0, request.getContentLength() );
+    LifeCycleMetrics metrics = getLifeCycleMetrics();
+    if( metrics != null ) {
+      metrics.recordMessageReceived( bytesReceived, requestMessage.getOperationCount() );
+      metrics.recordMessageSent( bytesSent, responseMessage.getOperationCount() );
+      UISession uiSession = getUISession();
+      if( uiSession != null && uiSession.isBound() ) {
+        metrics.recordSessionRequest( uiSession, bytesReceived, bytesSent, duration );
+      }
     }
   }
 
   private static RequestMessage readRequestMessage( HttpServletRequest request ) {
     try {
-      return new ClientMessage( JsonObject.readFrom( getReader( request ) ) );
+      if( isBinaryRequest( request ) ) {
+        return getBinaryMessageCodec().decode( readContent( request ) );
+      }
+      String encoding = getEncoding( request );
+      if( CHARSET_UTF_8.equalsIgnoreCase( encoding ) ) {
+        return readClientMessage( readContent( request ) );
+      }
+      return new ClientMessage( JsonObject.readFrom( getReader( request, encoding ) ) );
     } catch( IOException ioe ) {
       throw new IllegalStateException( "Unable to read the json message", ioe );
     }
   }
 
+  /*
+   * Clients that negotiated the binary protocol send their messages with the binary content type
+   * and expect the response in the same encoding.
+   */
+  static boolean isBinaryRequest( HttpServletRequest request ) {
+    String contentType = request == null ? null : request.getContentType();
+    return contentType != null && contentType.startsWith( CONTENT_TYPE_BINARY_PROTOCOL );
+  }
+
+  private static String getEncoding( HttpServletRequest request ) {
+    String encoding = request.getCharacterEncoding();
+    return encoding == null ? CHARSET_UTF_8 : encoding;
+  }
+
   /*
    * Workaround for bug in certain servlet containers where the reader is sometimes empty.
    * 411616: Application crash with very long messages
    * https://bugs.eclipse.org/bugs/show_bug.cgi?id=411616
    */
-  private static Reader getReader( HttpServletRequest request ) throws IOException {
-    String encoding = request.getCharacterEncoding();
-    if( encoding == null ) {
-      encoding = CHARSET_UTF_8;
+  private static Reader getReader( HttpServletRequest request, String encoding )
+    throws IOException
+  {
+    return new InputStreamReader( HttpCompression.getInputStream( request ), encoding );
+  }
+
+  private static byte[] readContent( HttpServletRequest request ) throws IOException {
+    int contentLength = request.getContentLength();
+    ByteArrayOutputStream content
+      = new ByteArrayOutputStream( contentLength > 0 ? contentLength : READ_BUFFER_SIZE );
+    InputStream inputStream = HttpCompression.getInputStream( request );
+    byte[] buffer = new byte[ READ_BUFFER_SIZE ];
+    int read = inputStream.read( buffer );
+    while( read != -1 ) {
+      content.write( buffer, 0, read );
+      read = inputStream.read( buffer );
     }
-    return new InputStreamReader( request.getInputStream(), encoding );
+    return content.toByteArray();
   }
 
   private ResponseMessage processMessage( RequestMessage requestMessage ) {
     return messageChainReference.get().handleMessage( requestMessage );
   }
 
+  /*
+   * The UI session of a startup request has been created for this request. It is discarded, the
+   * client will start a new one when it retries the request.
+   */
+  private static void rejectRequest( UISessionImpl uiSession,
+                                     HttpServletRequest request,
+                                     HttpServletResponse response,
+                                     long retryAfter )
+    throws IOException
+  {
+    if( isStartupRequest( request ) ) {
+      uiSession.shutdown();
+    }
+    setJsonResponseHeaders( response );
+    writeServerBusyError( response, retryAfter );
+  }
+
+  private static boolean isStartupRequest( HttpServletRequest request ) {
+    return request.getParameter( CONNECTION_ID ) == null;
+  }
+
+  private static AdmissionController getAdmissionController() {
+    ApplicationContextImpl applicationContext = getApplicationContext();
+    return applicationContext == null ? null : applicationContext.getAdmissionController();
+  }
+
+  private static LifeCycleMetrics getLifeCycleMetrics() {
+    ApplicationContextImpl applicationContext = getApplicationContext();
+    return applicationContext == null ? null : applicationContext.getLifeCycleMetrics();
+  }
+
   static boolean isRequestCounterValid( RequestMessage requestMessage ) {
     int expectedRequestId = RequestCounter.getInstance().currentRequestId();
     JsonValue sentRequestId = requestMessage.getHead().get( REQUEST_COUNTER );
@@ -158,6 +306,17 @@ public class LifeCycleServiceHandler implements ServiceHandler {
     writeError( response, SC_FORBIDDEN, "session timeout" );
   }
 
+  private static void writeServerBusyError( HttpServletResponse response, long retryAfter )
+    throws IOException
+  {
+    response.setStatus( SC_SERVICE_UNAVAILABLE );
+    response.setHeader( HEADER_RETRY_AFTER, String.valueOf( retryAfter ) );
+    ProtocolMessageWriter writer = new ProtocolMessageWriter();
+    writer.appendHead( PROP_ERROR, JsonValue.valueOf( "server busy" ) );
+    writer.appendHead( PROP_RETRY_AFTER, JsonValue.valueOf( retryAfter ) );
+    writer.createMessage().toJson().writeTo( response.getWriter() );
+  }
+
   private static void writeError( HttpServletResponse response,
                                   int statusCode,
                                   String errorType ) throws IOException
@@ -181,27 +340,56 @@ public class LifeCycleServiceHandler implements ServiceHandler {
     new ProtocolMessageWriter().createMessage().toJson().writeTo( response.getWriter() );
   }
 
-  private static void writeResponseMessage( ResponseMessage responseMessage,
-                                            ServletResponse response )
+  /*
+   * Returns the size of the written message before compression.
+   */
+  private static int writeResponseMessage( ResponseMessage responseMessage,
+                                            HttpServletRequest request,
+                                            HttpServletResponse response )
     throws IOException
   {
-    bufferMessage( responseMessage );
-    responseMessage.toJson().writeTo( response.getWriter() );
+    byte[] content;
+    if( isBinaryRequest( request ) ) {
+      content = getBinaryMessageCodec().encode( responseMessage );
+      response.setContentType( CONTENT_TYPE_BINARY_PROTOCOL );
+    } else {
+      content = responseMessage.toByteArray();
+    }
+    bufferMessage( content );
+    HttpCompression.writeContent( request, response, content );
+    return content.length;
   }
 
-  private static void writeBufferedResponse( HttpServletResponse response ) throws IOException {
-    getBufferedMessage().toJson().writeTo( response.getWriter() );
+  private static void writeBufferedResponse( HttpServletRequest request,
+                                             HttpServletResponse response )
+    throws IOException
+  {
+    if( isBinaryRequest( request ) ) {
+      response.setContentType( CONTENT_TYPE_BINARY_PROTOCOL );
+    }
+    HttpCompression.writeContent( request, response, getBufferedMessage() );
   }
 
-  private static void bufferMessage( ResponseMessage responseMessage ) {
+  private static void bufferMessage( byte[] content ) {
     UISession uiSession = getUISession();
     if( uiSession != null ) {
-      uiSession.setAttribute( ATTR_LAST_RESPONSE_MESSAGE, responseMessage );
+      uiSession.setAttribute( ATTR_LAST_RESPONSE_MESSAGE, content );
     }
   }
 
-  private static ResponseMessage getBufferedMessage() {
-    return ( ResponseMessage )getUISession().getAttribute( ATTR_LAST_RESPONSE_MESSAGE );
+  private static byte[] getBufferedMessage() {
+    return ( byte[] )getUISession().getAttribute( ATTR_LAST_RESPONSE_MESSAGE );
+  }
+
+  private static BinaryMessageCodec getBinaryMessageCodec() {
+    UISession uiSession = getUISession();
+    BinaryMessageCodec codec
+      = ( BinaryMessageCodec )uiSession.getAttribute( ATTR_BINARY_MESSAGE_CODEC );
+    if( codec == null ) {
+      codec = new BinaryMessageCodec();
+      uiSession.setAttribute( ATTR_BINARY_MESSAGE_CODEC, codec );
+    }
+    return codec;
   }
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2013 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -86,13 +86,13 @@ public final class ServiceContext {
   public ProtocolMessageWriter getProtocolWriter() {
     checkState();
     if( protocolWriter == null ) {
-      protocolWriter = new ProtocolMessageWriter();
+      protocolWriter = createProtocolWriter();
     }
     return protocolWriter;
   }
 
   public void resetProtocolWriter() {
-    protocolWriter = new ProtocolMessageWriter();
+    protocolWriter = createProtocolWriter();
   }
 
   public UISession getUISession() {
@@ -135,4 +135,12 @@ public final class ServiceContext {
     }
   }
 
+  /*
+   * Operations of binary requests are encoded from the operation objects, streaming them into a
+   * JSON buffer first would only add work.
+   */
+  private ProtocolMessageWriter createProtocolWriter() {
+    return new ProtocolMessageWriter( !LifeCycleServiceHandler.isBinaryRequest( request ) );
+  }
+
 }
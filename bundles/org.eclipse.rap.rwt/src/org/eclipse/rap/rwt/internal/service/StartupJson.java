@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,19 +17,27 @@ import static org.eclipse.rap.rwt.internal.theme.ThemeUtil.getThemeIdFor;
 import java.io.IOException;
 
 import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.textsize.MeasurementUtil;
 import org.eclipse.rap.rwt.internal.theme.Theme;
 import org.eclipse.rap.rwt.internal.theme.ThemeManager;
 import org.eclipse.rap.rwt.internal.util.HTTP;
+import org.eclipse.rap.rwt.internal.util.HttpCompression;
+import org.eclipse.rap.rwt.internal.websocket.WebSocketSupport;
 
 
 public class StartupJson {
 
   static final String PROPERTY_URL = "url";
+  static final String PROPERTY_COMPRESSION_THRESHOLD = "compressionThreshold";
+  static final String PROPERTY_BINARY_PROTOCOL = "binaryProtocol";
+  static final String PROPERTY_WEB_SOCKET_URL = "webSocketUrl";
+  static final String PROPERTY_WEB_SOCKET_REFRESH_INTERVAL = "webSocketRefreshInterval";
   static final String DISPLAY_TYPE = "rwt.widgets.Display";
   static final String THEME_STORE_TYPE = "rwt.theme.ThemeStore";
   static final String METHOD_LOAD_FALLBACK_THEME = "loadFallbackTheme";
@@ -41,13 +49,17 @@ public class StartupJson {
 
   public static void send( HttpServletResponse response ) throws IOException {
     setResponseHeaders( response );
-    get().writeTo( response.getWriter() );
+    byte[] content = get().toString().getBytes( HTTP.CHARSET_UTF_8 );
+    HttpCompression.writeContent( getRequest(), response, content );
   }
 
   static JsonObject get() {
     ProtocolMessageWriter writer = new ProtocolMessageWriter();
     appendLoadThemeDefinitions( writer );
     appendCreateDisplay( "w1", writer );
+    appendCompressionThreshold( writer );
+    appendBinaryProtocol( writer );
+    appendWebSocket( writer );
     MeasurementUtil.appendStartupTextSizeProbe( writer );
     return writer.createMessage().toJson();
   }
@@ -65,6 +77,34 @@ public class StartupJson {
     writer.appendHead( PROPERTY_URL, JsonValue.valueOf( getUrl() ) );
   }
 
+  private static void appendCompressionThreshold( ProtocolMessageWriter writer ) {
+    if( HttpCompression.isEnabled() ) {
+      writer.appendHead( PROPERTY_COMPRESSION_THRESHOLD, HttpCompression.getThreshold() );
+    }
+  }
+
+  private static void appendBinaryProtocol( ProtocolMessageWriter writer ) {
+    if( RWTProperties.isBinaryProtocolEnabled() ) {
+      writer.appendHead( PROPERTY_BINARY_PROTOCOL, JsonValue.TRUE );
+    }
+  }
+
+  /*
+   * Messages that are sent over the WebSocket do not access the HTTP session. The client sends an
+   * HTTP request at least every refresh interval to keep the session alive.
+   */
+  private static void appendWebSocket( ProtocolMessageWriter writer ) {
+    if( WebSocketSupport.isInstalled( getApplicationContext().getServletContext() ) ) {
+      String url = WebSocketSupport.getUrl( getRequest() );
+      writer.appendHead( PROPERTY_WEB_SOCKET_URL, ContextProvider.getResponse().encodeURL( url ) );
+      HttpSession httpSession = getRequest().getSession( false );
+      int maxInactiveInterval = httpSession == null ? 0 : httpSession.getMaxInactiveInterval();
+      if( maxInactiveInterval > 0 ) {
+        writer.appendHead( PROPERTY_WEB_SOCKET_REFRESH_INTERVAL, maxInactiveInterval * 500 );
+      }
+    }
+  }
+
   private static void appendLoadThemeDefinitions( ProtocolMessageWriter writer ) {
     ThemeManager themeManager = getApplicationContext().getThemeManager();
     Theme fallbackTheme = themeManager.getTheme( ThemeManager.FALLBACK_THEME_ID );
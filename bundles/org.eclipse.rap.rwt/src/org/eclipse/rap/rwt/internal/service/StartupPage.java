@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,7 @@ import static org.eclipse.rap.rwt.internal.theme.ThemeUtil.getThemeIdFor;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +34,7 @@ import org.eclipse.rap.rwt.internal.service.StartupPageTemplate.VariableWriter;
 import org.eclipse.rap.rwt.internal.theme.CssImage;
 import org.eclipse.rap.rwt.internal.theme.SimpleSelector;
 import org.eclipse.rap.rwt.internal.util.HTTP;
+import org.eclipse.rap.rwt.internal.util.HttpCompression;
 
 
 public class StartupPage {
@@ -64,7 +66,14 @@ public class StartupPage {
 
   public void send( HttpServletResponse response ) throws IOException {
     setResponseHeaders( response );
-    startupPageTemplate.writePage( response.getWriter(), new StartupPageValueProvider() );
+    if( HttpCompression.isAccepted( getRequest() ) ) {
+      StringWriter content = new StringWriter();
+      startupPageTemplate.writePage( new PrintWriter( content ), new StartupPageValueProvider() );
+      byte[] bytes = content.toString().getBytes( HTTP.CHARSET_UTF_8 );
+      HttpCompression.writeContent( getRequest(), response, bytes );
+    } else {
+      startupPageTemplate.writePage( response.getWriter(), new StartupPageValueProvider() );
+    }
   }
 
   static void setResponseHeaders( HttpServletResponse response ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -46,6 +46,7 @@ public class UISessionBuilder {
     selectClient();
     updateClientMessages();
     renderConnectionId();
+    uiSession.getApplicationContext().getUISessionHibernator().register( uiSession );
     return uiSession;
   }
 
@@ -0,0 +1,300 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.ServletContext;
+import javax.servlet.http.HttpSession;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.lifecycle.ContextUtil;
+import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
+import org.eclipse.rap.rwt.internal.util.SharedScheduler;
+
+
+/**
+ * Writes UI sessions that have not been accessed for the time given by
+ * {@link RWTProperties#SESSION_HIBERNATION_TIMEOUT} to disk and releases them from memory. The
+ * serialization support that is used for clustering is reused, hence only UI sessions of
+ * applications in <code>JEE_COMPATIBILITY</code> mode, which do not have a UI thread, can be
+ * hibernated. UI sessions with an active server push are kept in memory, as background threads may
+ * still access them.
+ * <p>
+ * A hibernated UI session is replaced by a {@link HibernatedUISession} in the HTTP session and
+ * restored when it is looked up for the next request.
+ * </p>
+ */
+public class UISessionHibernator {
+
+  private static final String DIRECTORY_NAME = UISessionHibernator.class.getName();
+  private static final String SERVLET_TEMP_DIR = "javax.servlet.context.tempdir";
+  private static final String SCHEDULER_NAME = "RAP Session Hibernator";
+  private static final long MIN_SWEEP_INTERVAL = 1000;
+
+  private final Set<UISessionImpl> uiSessions;
+  private final Object lock;
+  private volatile long timeout;
+  private File directory;
+  private SharedScheduler scheduler;
+  private ScheduledFuture<?> sweepTask;
+
+  public UISessionHibernator() {
+    uiSessions = ConcurrentHashMap.newKeySet();
+    lock = new Object();
+  }
+
+  public void activate( ServletContext servletContext ) {
+    int seconds = RWTProperties.getSessionHibernationTimeout( 0 );
+    if( seconds > 0 ) {
+      synchronized( lock ) {
+        directory = getDirectory( servletContext );
+        timeout = TimeUnit.SECONDS.toMillis( seconds );
+        // serialization and disk I/O must not delay the tasks of the shared scheduler
+        scheduler = new SharedScheduler( SCHEDULER_NAME, 1 );
+        scheduleSweep();
+      }
+    }
+  }
+
+  public void deactivate() {
+    synchronized( lock ) {
+      timeout = 0;
+      if( sweepTask != null ) {
+        sweepTask.cancel( false );
+        sweepTask = null;
+      }
+      if( scheduler != null ) {
+        scheduler.shutdown();
+        scheduler = null;
+      }
+    }
+    uiSessions.clear();
+  }
+
+  public boolean isEnabled() {
+    return timeout > 0;
+  }
+
+  /**
+   * Adds the given UI session to the sessions that are hibernated when idle. Has no effect if
+   * hibernation is disabled.
+   */
+  public void register( UISessionImpl uiSession ) {
+    if( isEnabled() ) {
+      uiSessions.add( uiSession );
+    }
+  }
+
+  void sweep() {
+    long accessedBefore = System.currentTimeMillis() - timeout;
+    for( UISessionImpl uiSession : new ArrayList<>( uiSessions ) ) {
+      if( !uiSession.isBound() ) {
+        uiSessions.remove( uiSession );
+      } else if( uiSession.getLastAccessTime() < accessedBefore ) {
+        try {
+          hibernate( uiSession, accessedBefore );
+        } catch( RuntimeException exception ) {
+          // keep hibernating the remaining UI sessions
+          ServletLog.log( "Failed to hibernate UI session " + uiSession.getId(), exception );
+        }
+      }
+    }
+  }
+
+  /*
+   * Hibernates the given UI session unless it has been accessed after the given time. The request
+   * lock ensures that no request is processed in the meantime.
+   */
+  boolean hibernate( UISessionImpl uiSession, long accessedBefore ) {
+    synchronized( uiSession.getRequestLock() ) {
+      if(    uiSession.getLastAccessTime() >= accessedBefore
+          || uiSession.isHibernated()
+          || !canHibernate( uiSession ) )
+      {
+        return false;
+      }
+      File file = write( uiSession );
+      if( file == null ) {
+        // keep the UI session in memory for another period
+        uiSession.markAccessed();
+        return false;
+      }
+      ApplicationContextImpl applicationContext = uiSession.getApplicationContext();
+      HttpSession httpSession = uiSession.getHttpSession();
+      HibernatedUISession placeholder
+        = new HibernatedUISession( file, httpSession, uiSession.getConnectionId() );
+      // the placeholder restores and destroys the UI session when the application is stopped
+      applicationContext.addApplicationContextListener( placeholder );
+      boolean hibernated = false;
+      try {
+        uiSession.hibernate( placeholder );
+        hibernated = true;
+      } catch( @SuppressWarnings( "unused" ) IllegalStateException exception ) {
+        // HTTP session has been invalidated in the meantime
+      } finally {
+        uiSessions.remove( uiSession );
+        if( !hibernated ) {
+          applicationContext.removeApplicationContextListener( placeholder );
+          file.delete();
+        }
+      }
+      return hibernated;
+    }
+  }
+
+  File getDirectory() {
+    synchronized( lock ) {
+      return directory;
+    }
+  }
+
+  static UISessionImpl read( File file ) {
+    try( InputStream inputStream = new BufferedInputStream( new FileInputStream( file ) );
+         ObjectInputStream objectInputStream = new HibernationInputStream( inputStream ) )
+    {
+      return ( UISessionImpl )objectInputStream.readObject();
+    } catch( IOException | ClassNotFoundException exception ) {
+      String message = "Failed to restore hibernated UI session from " + file.getAbsolutePath();
+      ServletLog.log( message, exception );
+      return null;
+    }
+  }
+
+  private static boolean canHibernate( UISessionImpl uiSession ) {
+    if( !uiSession.isBound() || uiSession.getShutdownAdapter() != null ) {
+      return false;
+    }
+    final boolean[] result = { false };
+    ContextUtil.runNonUIThreadWithFakeContext( uiSession, new Runnable() {
+      @Override
+      public void run() {
+        ServerPushManager serverPushManager = ServerPushManager.getInstance();
+        result[ 0 ] = !serverPushManager.isServerPushActive() && !serverPushManager.hasRunnables();
+      }
+    } );
+    return result[ 0 ];
+  }
+
+  private File write( final UISessionImpl uiSession ) {
+    final File[] result = { null };
+    ContextUtil.runNonUIThreadWithFakeContext( uiSession, new Runnable() {
+      @Override
+      public void run() {
+        result[ 0 ] = writeToFile( uiSession );
+      }
+    } );
+    return result[ 0 ];
+  }
+
+  private File writeToFile( UISessionImpl uiSession ) {
+    File file = null;
+    try {
+      file = File.createTempFile( "uisession-", ".ser", getDirectory() );
+      try( OutputStream outputStream = new BufferedOutputStream( new FileOutputStream( file ) );
+           ObjectOutputStream objectOutputStream = new ObjectOutputStream( outputStream ) )
+      {
+        objectOutputStream.writeObject( uiSession );
+      }
+      return file;
+    } catch( IOException exception ) {
+      if( file != null ) {
+        file.delete();
+      }
+      ServletLog.log( "Failed to hibernate UI session " + uiSession.getId(), exception );
+      return null;
+    }
+  }
+
+  private void scheduleSweep() {
+    long interval = Math.max( MIN_SWEEP_INTERVAL, timeout / 2 );
+    sweepTask = scheduler.schedule( new Runnable() {
+      @Override
+      public void run() {
+        try {
+          sweep();
+        } catch( RuntimeException exception ) {
+          ServletLog.log( "Failed to hibernate UI sessions", exception );
+        } finally {
+          synchronized( lock ) {
+            if( sweepTask != null ) {
+              scheduleSweep();
+            }
+          }
+        }
+      }
+    }, interval, TimeUnit.MILLISECONDS );
+  }
+
+  private static File getDirectory( ServletContext servletContext ) {
+    File result;
+    String path = RWTProperties.getSessionHibernationDirectory();
+    if( path != null ) {
+      result = new File( path );
+    } else {
+      File parent = servletContext == null
+                  ? null
+                  : ( File )servletContext.getAttribute( SERVLET_TEMP_DIR );
+      if( parent == null ) {
+        parent = new File( System.getProperty( "java.io.tmpdir" ) );
+      }
+      result = new File( parent, DIRECTORY_NAME );
+    }
+    if( !result.exists() && !result.mkdirs() && !result.isDirectory() ) {
+      String message = "Could not create directory: " + result.getAbsolutePath();
+      throw new IllegalArgumentException( message );
+    }
+    return result;
+  }
+
+  /*
+   * Application classes are usually not visible to the class loader of this bundle, they are
+   * resolved with the context class loader of the request thread.
+   */
+  private static final class HibernationInputStream extends ObjectInputStream {
+
+    HibernationInputStream( InputStream inputStream ) throws IOException {
+      super( inputStream );
+    }
+
+    @Override
+    protected Class<?> resolveClass( ObjectStreamClass description )
+      throws IOException, ClassNotFoundException
+    {
+      ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+      if( classLoader != null ) {
+        try {
+          return Class.forName( description.getName(), false, classLoader );
+        } catch( @SuppressWarnings( "unused" ) ClassNotFoundException exception ) {
+          // fall back to the default resolution
+        }
+      }
+      return super.resolveClass( description );
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2018 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -61,6 +61,8 @@ public class UISessionImpl
   private transient HttpSession httpSession;
   private transient ISessionShutdownAdapter shutdownAdapter;
   private transient ApplicationContextImpl applicationContext;
+  private transient volatile long lastAccessTime;
+  private transient volatile boolean hibernated;
 
   public UISessionImpl( ApplicationContextImpl applicationContext, HttpSession httpSession ) {
     this( applicationContext, httpSession, null );
@@ -80,11 +82,24 @@ public class UISessionImpl
     id = Integer.toHexString( hashCode() );
     bound = true;
     connection = new ConnectionImpl( this );
+    markAccessed();
   }
 
+  /**
+   * Returns the UI session with the given connection id that is stored in the given HTTP session.
+   * A hibernated UI session is restored transparently.
+   */
   public static UISessionImpl getInstanceFromSession( HttpSession httpSession, String connectionId )
   {
-    return ( UISessionImpl )httpSession.getAttribute( getUISessionAttributeName( connectionId ) );
+    Object value = httpSession.getAttribute( getUISessionAttributeName( connectionId ) );
+    if( value instanceof HibernatedUISession ) {
+      return ( ( HibernatedUISession )value ).restore( httpSession );
+    }
+    UISessionImpl uiSession = ( UISessionImpl )value;
+    if( uiSession != null ) {
+      uiSession.markAccessed();
+    }
+    return uiSession;
   }
 
   public void attachToHttpSession() {
@@ -128,6 +143,45 @@ public class UISessionImpl
     shutdown();
   }
 
+  /**
+   * Returns the time in milliseconds when this UI session has been looked up for a request for the
+   * last time.
+   */
+  public long getLastAccessTime() {
+    return lastAccessTime;
+  }
+
+  public void markAccessed() {
+    lastAccessTime = System.currentTimeMillis();
+  }
+
+  /**
+   * Returns true if this instance has been written to disk and replaced by a placeholder in the
+   * HTTP session. A hibernated instance must not be used anymore, the UI session has to be looked
+   * up again with <code>getInstanceFromSession</code>.
+   */
+  public boolean isHibernated() {
+    return hibernated;
+  }
+
+  /*
+   * Replaces this instance in the HTTP session with the given placeholder. Unbinding this instance
+   * from the HTTP session must not destroy it, hence the flag is set before.
+   */
+  void hibernate( HibernatedUISession placeholder ) {
+    hibernated = true;
+    boolean replaced = false;
+    try {
+      httpSession.setAttribute( getUISessionAttributeName( connectionId ), placeholder );
+      replaced = true;
+    } finally {
+      if( !replaced ) {
+        hibernated = false;
+      }
+    }
+    setApplicationContext( null );
+  }
+
   public void shutdown() {
     // Removing the object from the httpSession will trigger the valueUnbound method,
     // which actually kills the session. If httpSession is not resident (like in Jetty 9.4.10+),
@@ -287,6 +341,9 @@ public class UISessionImpl
 
   @Override
   public void valueUnbound( HttpSessionBindingEvent event ) {
+    if( hibernated ) {
+      return;
+    }
     if( shutdownAdapter != null ) {
       shutdownAdapter.interceptShutdown();
     } else {
@@ -321,7 +378,7 @@ public class UISessionImpl
     return requestLock;
   }
 
-  private static String getUISessionAttributeName( String connectionId ) {
+  static String getUISessionAttributeName( String connectionId ) {
     return ATTR_UI_SESSION + ( connectionId == null ? "" : connectionId );
   }
 
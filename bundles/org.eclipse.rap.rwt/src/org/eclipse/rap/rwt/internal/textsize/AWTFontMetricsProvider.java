@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import java.awt.Font;
+import java.awt.GraphicsEnvironment;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineMetrics;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.FontData;
+
+
+/**
+ * Computes text extents with the fonts that are installed on the server, using
+ * <code>java.awt.font</code>. No display is required. A font is only supported if one of the
+ * families in its name list is installed on the server or is a generic CSS family. As browsers and
+ * the server may use different font versions and rendering, the results are close but not
+ * necessarily exact.
+ */
+public class AWTFontMetricsProvider implements FontMetricsProvider {
+
+  private static final Font UNSUPPORTED = new Font( Font.DIALOG, Font.PLAIN, 1 );
+  // fractional metrics match the sub-pixel text layout of browsers
+  private static final FontRenderContext RENDER_CONTEXT
+    = new FontRenderContext( null, true, true );
+
+  private final Map<FontData,Font> fonts;
+  private volatile Set<String> availableFamilies;
+
+  public AWTFontMetricsProvider() {
+    fonts = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public float getStringWidth( FontData fontData, String string ) {
+    Font font = getFont( fontData );
+    if( font == UNSUPPORTED ) {
+      return -1;
+    }
+    return ( float )font.getStringBounds( string, RENDER_CONTEXT ).getWidth();
+  }
+
+  @Override
+  public int getLineHeight( FontData fontData ) {
+    Font font = getFont( fontData );
+    if( font == UNSUPPORTED ) {
+      return -1;
+    }
+    LineMetrics metrics = font.getLineMetrics( "Xg", RENDER_CONTEXT );
+    return ( int )Math.ceil( metrics.getAscent() + metrics.getDescent() + metrics.getLeading() );
+  }
+
+  private Font getFont( FontData fontData ) {
+    Font result = fonts.get( fontData );
+    if( result == null ) {
+      result = createFont( fontData );
+      fonts.put( fontData, result );
+    }
+    return result;
+  }
+
+  private Font createFont( FontData fontData ) {
+    String family = findFamily( fontData.getName() );
+    if( family == null ) {
+      return UNSUPPORTED;
+    }
+    int style = Font.PLAIN;
+    if( ( fontData.getStyle() & SWT.BOLD ) != 0 ) {
+      style |= Font.BOLD;
+    }
+    if( ( fontData.getStyle() & SWT.ITALIC ) != 0 ) {
+      style |= Font.ITALIC;
+    }
+    // the font height is given in pixels, which equals points in a render context without transform
+    return new Font( family, style, 1 ).deriveFont( ( float )fontData.getHeight() );
+  }
+
+  /*
+   * Font names may contain a comma separated list of CSS font families, the first installed family
+   * is used.
+   */
+  private String findFamily( String names ) {
+    for( String name : names.split( "," ) ) {
+      String family = name.trim().replace( "\"", "" ).replace( "'", "" );
+      String generic = getGenericFamily( family );
+      if( generic != null ) {
+        return generic;
+      }
+      if( getAvailableFamilies().contains( family.toLowerCase( Locale.ENGLISH ) ) ) {
+        return family;
+      }
+    }
+    return null;
+  }
+
+  private static String getGenericFamily( String family ) {
+    String result = null;
+    if( "sans-serif".equalsIgnoreCase( family ) ) {
+      result = Font.SANS_SERIF;
+    } else if( "serif".equalsIgnoreCase( family ) ) {
+      result = Font.SERIF;
+    } else if( "monospace".equalsIgnoreCase( family ) ) {
+      result = Font.MONOSPACED;
+    }
+    return result;
+  }
+
+  private Set<String> getAvailableFamilies() {
+    if( availableFamilies == null ) {
+      Set<String> families = new HashSet<>();
+      GraphicsEnvironment environment = GraphicsEnvironment.getLocalGraphicsEnvironment();
+      for( String family : Arrays.asList( environment.getAvailableFontFamilyNames() ) ) {
+        families.add( family.toLowerCase( Locale.ENGLISH ) );
+      }
+      availableFamilies = Collections.unmodifiableSet( families );
+    }
+    return availableFamilies;
+  }
+
+}
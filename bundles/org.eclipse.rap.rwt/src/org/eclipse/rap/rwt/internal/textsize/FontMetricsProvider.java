@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import org.eclipse.swt.graphics.FontData;
+
+
+/**
+ * Computes text extents on the server. Text sizes that are computed by a provider are used until
+ * the client has measured the text, the client measurement then only verifies the layout.
+ * Implementations must be thread-safe.
+ */
+public interface FontMetricsProvider {
+
+  /**
+   * Returns the width in pixels of the given single line of text, or a negative value if the font
+   * is not supported.
+   */
+  float getStringWidth( FontData fontData, String string );
+
+  /**
+   * Returns the height in pixels of a line of text, or a negative value if the font is not
+   * supported.
+   */
+  int getLineHeight( FontData fontData );
+
+}
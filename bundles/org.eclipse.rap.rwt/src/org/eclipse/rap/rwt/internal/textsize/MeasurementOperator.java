@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -44,6 +44,8 @@ class MeasurementOperator implements SerializableCompatibility {
   static final String PARAM_ITEMS = "items";
   static final String METHOD_STORE_MEASUREMENTS = "storeMeasurements";
   static final String PARAM_RESULTS = "results";
+  // the maximum number of pixels an estimated size may exceed the measured size
+  static final int ESTIMATION_TOLERANCE = 2;
 
   private final RemoteObject remoteObject;
   private final Set<Probe> probes;
@@ -144,8 +146,12 @@ class MeasurementOperator implements SerializableCompatibility {
       }
     }
 
+    /*
+     * Returns whether a layout recalculation is needed, which is not the case if all measured
+     * sizes confirm the sizes that have been computed with server-side font metrics.
+     */
     private boolean handleMeasuredTextSizes( JsonObject results ) {
-      int originalItemsSize = items.size();
+      boolean result = false;
       Iterator<MeasurementItem> itemList = items.iterator();
       while( itemList.hasNext() ) {
         MeasurementItem item = itemList.next();
@@ -153,9 +159,21 @@ class MeasurementOperator implements SerializableCompatibility {
         if( size != null ) {
           storeTextMeasurement( item, size );
           itemList.remove();
+          result |= !isVerified( item, size );
         }
       }
-      return originalItemsSize != items.size();
+      return result;
+    }
+
+    private boolean isVerified( MeasurementItem item, Point size ) {
+      Point estimatedSize = item.getEstimatedSize();
+      return    estimatedSize != null
+             && fits( size.x, estimatedSize.x )
+             && fits( size.y, estimatedSize.y );
+    }
+
+    private boolean fits( int measured, int estimated ) {
+      return measured <= estimated && estimated - measured <= ESTIMATION_TOLERANCE;
     }
 
     private Point readMeasuredSize( JsonObject results, String id ) {
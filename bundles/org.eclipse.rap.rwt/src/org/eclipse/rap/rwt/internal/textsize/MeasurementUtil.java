@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -26,6 +26,7 @@ import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.internal.graphics.FontUtil;
 
 
@@ -59,8 +60,18 @@ public class MeasurementUtil {
   }
 
   static void addItemToMeasure( String toMeasure, Font font, int wrapWidth, int mode ) {
+    addItemToMeasure( toMeasure, font, wrapWidth, mode, null );
+  }
+
+  static void addItemToMeasure( String toMeasure,
+                                Font font,
+                                int wrapWidth,
+                                int mode,
+                                Point estimatedSize )
+  {
     FontData fontData = FontUtil.getData( font );
-    MeasurementItem newItem = new MeasurementItem( toMeasure, fontData, wrapWidth, mode );
+    MeasurementItem newItem
+      = new MeasurementItem( toMeasure, fontData, wrapWidth, mode, estimatedSize );
     getMeasurementOperator().addItemToMeasure( newItem );
   }
 
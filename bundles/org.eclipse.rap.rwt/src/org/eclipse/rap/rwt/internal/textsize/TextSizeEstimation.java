@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2006, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,8 @@ package org.eclipse.rap.rwt.internal.textsize;
 
 import static org.eclipse.rap.rwt.internal.util.EncodingUtil.splitNewLines;
 
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.FontData;
@@ -30,7 +32,8 @@ public final class TextSizeEstimation {
    */
   static Point stringExtent( Font font, String string ) {
     int width = getLineWidth( string, font );
-    int height = getCharHeight( font ) + 2;
+    int lineHeight = getLineHeight( font );
+    int height = lineHeight >= 0 ? lineHeight : getCharHeight( font ) + 2;
     return new Point( width, height );
   }
 
@@ -68,7 +71,10 @@ public final class TextSizeEstimation {
       }
       maxWidth = Math.max( maxWidth, width );
     }
-    int height = Math.round( getCharHeight( font ) * 1.25f * lineCount );
+    int lineHeight = getLineHeight( font );
+    int height = lineHeight >= 0
+               ? lineHeight * lineCount
+               : Math.round( getCharHeight( font ) * 1.25f * lineCount );
     return new Point( maxWidth, height );
   }
 
@@ -85,6 +91,17 @@ public final class TextSizeEstimation {
     return textExtent( font, removeAllTags( markup ), wrapWidth );
   }
 
+  /**
+   * Returns whether the extents of the given font are computed with server-side font metrics
+   * rather than estimated.
+   *
+   * @param font the font to check
+   * @return <code>true</code> if a font metrics provider supports the font
+   */
+  static boolean isAccurate( Font font ) {
+    return getLineHeight( font ) >= 0;
+  }
+
   /**
    * Returns the character height in pixels. The returned value is only a rough
    * estimation.
@@ -188,7 +205,33 @@ public final class TextSizeEstimation {
    * Returns the width of a given string in pixels. Line breaks are ignored.
    */
   private static int getLineWidth( String line, Font font ) {
+    FontMetricsProvider provider = getFontMetricsProvider();
+    if( provider != null ) {
+      float width = provider.getStringWidth( FontUtil.getData( font ), line );
+      if( width >= 0 ) {
+        return ( int )Math.ceil( width );
+      }
+    }
     return Math.round( getAvgCharWidth( font ) * line.length() );
   }
 
+  /**
+   * Returns the line height in pixels as computed by the font metrics provider, or -1 if there is
+   * no provider for the font.
+   */
+  private static int getLineHeight( Font font ) {
+    FontMetricsProvider provider = getFontMetricsProvider();
+    return provider == null ? -1 : provider.getLineHeight( FontUtil.getData( font ) );
+  }
+
+  private static FontMetricsProvider getFontMetricsProvider() {
+    if( ContextProvider.hasContext() ) {
+      ApplicationContextImpl applicationContext = ContextProvider.getApplicationContext();
+      if( applicationContext != null ) {
+        return applicationContext.getFontMetricsProvider();
+      }
+    }
+    return null;
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2017 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceStore;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.widgets.ControlUtil;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.IShellAdapter;
 import org.eclipse.swt.internal.widgets.WidgetTreeUtil;
@@ -38,6 +39,7 @@ class TextSizeRecalculation {
   }
 
   private static void forceShellRecalculations( Shell shell ) {
+    markDirty( shell );
     boolean isPacked = ControlUtil.getControlAdapter( shell ).isPacked();
     Rectangle boundsBuffer = shell.getBounds();
     bufferScrolledCompositeOrigins( shell );
@@ -53,6 +55,13 @@ class TextSizeRecalculation {
     restoreShellSize( shell, boundsBuffer, isPacked );
   }
 
+  private static void markDirty( Shell shell ) {
+    DirtyWidgets dirtyWidgets = shell.getDisplay().getAdapter( DirtyWidgets.class );
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.markTree( shell );
+    }
+  }
+
   private static void rePack( Shell shell ) {
     WidgetTreeUtil.accept( shell, new RePackVisitor() );
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,98 +13,135 @@ package org.eclipse.rap.rwt.internal.textsize;
 
 import static org.eclipse.rap.rwt.internal.RWTProperties.getTextSizeStoreSize;
 
-import java.io.Serializable;
 import java.math.BigDecimal;
 import java.text.MessageFormat;
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Point;
 
 
+/**
+ * Application-wide cache of measured text sizes. Lookups and stores do not block each other. When
+ * the maximum size is reached, the least recently used tenth of the entries is evicted in one
+ * pass, the eviction threshold is found by selection rather than by sorting all entries.
+ */
 public final class TextSizeStorage {
 
   public static final int MIN_STORE_SIZE = 1000;
   public static final int DEFAULT_STORE_SIZE = 10000;
 
-  private final Object lock;
-  // access is guarded by 'lock'
   private final Set<FontData> fontDatas;
-  // access is guarded by 'lock'
   private final Map<Integer,Entry> data;
-  private int maximumStoreSize;
-  private int clearRange;
-  private long clock;
+  private final AtomicLong clock;
+  private final ReentrantLock evictionLock;
+  private final LongAdder hitCount;
+  private final LongAdder missCount;
+  private final LongAdder evictionCount;
+  private volatile int maximumStoreSize;
+  private volatile int clearRange;
+  private volatile TextSizeStorageFile storageFile;
 
 
-  private static class Entry {
-    private Point point;
-    private long timeStamp;
-  }
-
-  private static class EntryComparator implements Comparator<Entry>, Serializable {
+  /*
+   * The size is packed into a single long to avoid a Point instance per entry.
+   */
+  private static final class Entry {
+    private final long size;
+    private volatile long timeStamp;
 
-    @Override
-    public int compare( Entry entry1, Entry entry2 ) {
-      int result = 0;
-      if( entry1.timeStamp > entry2.timeStamp ) {
-        result = 1;
-      } else if( entry1.timeStamp < entry2.timeStamp ) {
-        result = -1;
-      }
-      return result;
+    Entry( long size, long timeStamp ) {
+      this.size = size;
+      this.timeStamp = timeStamp;
     }
   }
 
 
   public TextSizeStorage() {
-    lock = new Object();
-    data = new HashMap<>();
-    fontDatas = new HashSet<>();
+    data = new ConcurrentHashMap<>();
+    fontDatas = ConcurrentHashMap.newKeySet();
+    clock = new AtomicLong();
+    evictionLock = new ReentrantLock();
+    hitCount = new LongAdder();
+    missCount = new LongAdder();
+    evictionCount = new LongAdder();
     setMaximumStoreSize( getTextSizeStoreSize( DEFAULT_STORE_SIZE ) );
   }
 
   FontData[] getFontList() {
-    FontData[] result;
-    synchronized( lock ) {
-      result = new FontData[ fontDatas.size() ];
-      fontDatas.toArray( result );
-    }
-    return result;
+    return fontDatas.toArray( new FontData[ 0 ] );
   }
 
   void storeFont( FontData fontData ) {
-    synchronized( lock ) {
-      fontDatas.add( fontData );
+    TextSizeStorageFile file = storageFile;
+    if( fontDatas.add( fontData ) && file != null ) {
+      file.appendFont( fontData );
     }
   }
 
   Point lookupTextSize( Integer key ) {
-    Point result = null;
-    synchronized( lock ) {
-      Entry entry = data.get( key );
-      if( entry != null ) {
-        updateTimestamp( entry );
-        result = entry.point;
-      }
+    Entry entry = data.get( key );
+    if( entry == null ) {
+      missCount.increment();
+      return null;
     }
-    result = defensiveCopy( result );
-    return result;
+    hitCount.increment();
+    entry.timeStamp = clock.getAndIncrement();
+    return unpack( entry.size );
   }
 
   void storeTextSize( Integer key, Point size ) {
-    Entry entry = new Entry();
-    entry.point = defensiveCopy( size );
-    updateTimestamp( entry );
-    synchronized( lock ) {
-      data.put( key, entry );
-      handleOverFlow();
+    long packedSize = pack( size );
+    data.put( key, new Entry( packedSize, clock.getAndIncrement() ) );
+    TextSizeStorageFile file = storageFile;
+    if( file != null ) {
+      file.appendTextSize( key.intValue(), packedSize );
     }
+    handleOverFlow();
+  }
+
+  ///////////////
+  // persistence
+
+  void setStorageFile( TextSizeStorageFile storageFile ) {
+    this.storageFile = storageFile;
+  }
+
+  void restoreFont( FontData fontData ) {
+    fontDatas.add( fontData );
+  }
+
+  /*
+   * Sizes that have been measured since the application was started take precedence.
+   */
+  void restoreTextSize( Integer key, long packedSize ) {
+    data.putIfAbsent( key, new Entry( packedSize, clock.getAndIncrement() ) );
+    handleOverFlow();
+  }
+
+  //////////////
+  // statistics
+
+  public int getSize() {
+    return data.size();
+  }
+
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  public long getEvictionCount() {
+    return evictionCount.sum();
   }
 
   ////////////////////
@@ -120,22 +157,81 @@ public final class TextSizeStorage {
     return maximumStoreSize;
   }
 
+  /*
+   * Only one thread evicts at a time, other threads continue to store entries in the meantime.
+   */
   private void handleOverFlow() {
-    if( data.size() >= maximumStoreSize ) {
-      Entry[] entries = sortEntries();
-      for( int i = 0; i < clearRange; i++ ) {
-        data.values().remove( entries[ i ] );
+    if( data.size() >= maximumStoreSize && evictionLock.tryLock() ) {
+      try {
+        if( data.size() >= maximumStoreSize ) {
+          evict( findEvictionThreshold( clearRange ) );
+        }
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+  }
+
+  private long findEvictionThreshold( int count ) {
+    long[] timeStamps = new long[ data.size() ];
+    int length = 0;
+    for( Entry entry : data.values() ) {
+      if( length == timeStamps.length ) {
+        break;
       }
+      timeStamps[ length++ ] = entry.timeStamp;
     }
+    return select( timeStamps, length, Math.min( count, length ) - 1 );
   }
 
-  private Entry[] sortEntries() {
-    Entry[] result = new Entry[ data.size() ];
-    data.values().toArray( result );
-    Arrays.sort( result, new EntryComparator() );
-    return result;
+  private void evict( long threshold ) {
+    Iterator<Entry> iterator = data.values().iterator();
+    while( iterator.hasNext() ) {
+      if( iterator.next().timeStamp <= threshold ) {
+        iterator.remove();
+        evictionCount.increment();
+      }
+    }
   }
 
+  /*
+   * Returns the k-th smallest of the first length values, reorders the array (quickselect).
+   */
+  private static long select( long[] values, int length, int k ) {
+    if( k < 0 ) {
+      return Long.MIN_VALUE;
+    }
+    int left = 0;
+    int right = length - 1;
+    while( left < right ) {
+      long pivot = values[ ( left + right ) >>> 1 ];
+      int i = left;
+      int j = right;
+      while( i <= j ) {
+        while( values[ i ] < pivot ) {
+          i++;
+        }
+        while( values[ j ] > pivot ) {
+          j--;
+        }
+        if( i <= j ) {
+          long value = values[ i ];
+          values[ i ] = values[ j ];
+          values[ j ] = value;
+          i++;
+          j--;
+        }
+      }
+      if( k <= j ) {
+        right = j;
+      } else if( k >= i ) {
+        left = i;
+      } else {
+        return values[ k ];
+      }
+    }
+    return values[ k ];
+  }
 
   //////////////////
   // helping methods
@@ -148,12 +244,12 @@ public final class TextSizeStorage {
     }
   }
 
-  private static Point defensiveCopy( Point point ) {
-    return point == null ? null : new Point( point.x, point.y );
+  private static long pack( Point size ) {
+    return ( ( long )size.x << 32 ) | ( size.y & 0xFFFFFFFFL );
   }
 
-  private void updateTimestamp( Entry entry ) {
-    entry.timeStamp = clock++;
+  private static Point unpack( long size ) {
+    return new Point( ( int )( size >> 32 ), ( int )size );
   }
 
   private void calculateClearRange( int maximumStoreSize ) {
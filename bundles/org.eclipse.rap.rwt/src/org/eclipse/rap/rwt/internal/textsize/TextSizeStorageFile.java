@@ -0,0 +1,359 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.internal.util.SharedScheduler;
+import org.eclipse.swt.graphics.FontData;
+
+
+/**
+ * Keeps the measured text sizes of a {@link TextSizeStorage} in the file given by
+ * {@link RWTProperties#TEXT_SIZE_STORE_FILE}, so that they survive a restart of the application.
+ * The name of the file is prefixed with a digest of the application id, so that applications in
+ * the same VM do not write to the same file.
+ * <p>
+ * The file is read in the background after the application has been started, measurements that
+ * are stored in the meantime take precedence. New measurements and fonts are appended to the file
+ * periodically. The keys of the measurements include the probe results of the client, hence sizes
+ * that were measured by different browsers or with different font settings do not interfere.
+ * Reading and writing the file runs on a dedicated scheduler, so that disk I/O does not delay the
+ * tasks of the shared scheduler of the application.
+ * </p>
+ */
+public class TextSizeStorageFile {
+
+  private static final int MAGIC = 0x52545331;
+  private static final byte FONT_RECORD = 1;
+  private static final byte SIZE_RECORD = 2;
+  private static final int HEADER_LENGTH = 4;
+  private static final int SIZE_RECORD_LENGTH = 1 + 4 + 8;
+  private static final long FLUSH_INTERVAL = 1000;
+  private static final String SCHEDULER_NAME = "RAP Text Size Store";
+  // length of the digest of the application id in the file name
+  private static final int ID_DIGEST_LENGTH = 16;
+
+  private final TextSizeStorage storage;
+  private final Queue<ByteBuffer> pendingRecords;
+  private final Object lock;
+  // access is guarded by 'lock'
+  private File file;
+  private FileChannel channel;
+  private SharedScheduler scheduler;
+  private ScheduledFuture<?> flushTask;
+
+  public TextSizeStorageFile( TextSizeStorage storage ) {
+    this.storage = storage;
+    pendingRecords = new ConcurrentLinkedQueue<>();
+    lock = new Object();
+  }
+
+  /**
+   * @param applicationId identifies the application across restarts, the configured file is used
+   *          as is if <code>null</code>
+   */
+  public void activate( String applicationId ) {
+    String path = RWTProperties.getTextSizeStoreFile();
+    if( path != null ) {
+      synchronized( lock ) {
+        file = getFile( path, applicationId );
+        storage.setStorageFile( this );
+        scheduler = new SharedScheduler( SCHEDULER_NAME, 1 );
+        flushTask = scheduler.schedule( new Runnable() {
+          @Override
+          public void run() {
+            load();
+          }
+        }, 0, TimeUnit.MILLISECONDS );
+      }
+    }
+  }
+
+  public void deactivate() {
+    synchronized( lock ) {
+      if( file != null ) {
+        storage.setStorageFile( null );
+        if( flushTask != null ) {
+          flushTask.cancel( false );
+          flushTask = null;
+        }
+        flush();
+        close();
+        scheduler.shutdown();
+        scheduler = null;
+        file = null;
+      }
+    }
+    pendingRecords.clear();
+  }
+
+  File getFile() {
+    synchronized( lock ) {
+      return file;
+    }
+  }
+
+  void appendFont( FontData fontData ) {
+    appendFont( fontData.toString() );
+  }
+
+  void appendTextSize( int key, long size ) {
+    ByteBuffer record = ByteBuffer.allocate( SIZE_RECORD_LENGTH );
+    record.put( SIZE_RECORD ).putInt( key ).putLong( size );
+    record.flip();
+    pendingRecords.add( record );
+  }
+
+  /*
+   * Reads the file into the storage and opens it for appending. The file is rewritten if it is
+   * damaged or contains mostly outdated records.
+   */
+  void load() {
+    synchronized( lock ) {
+      if( file == null || channel != null ) {
+        return;
+      }
+      Set<String> fonts = new LinkedHashSet<>();
+      Map<Integer,Long> sizes = new LinkedHashMap<>();
+      try {
+        int recordCount = read( fonts, sizes );
+        restore( fonts, sizes );
+        if( recordCount < 0 || recordCount > 2 * ( fonts.size() + sizes.size() ) ) {
+          rewrite( fonts, sizes );
+        }
+        channel = openForAppend();
+        scheduleFlush();
+      } catch( IOException exception ) {
+        String message = "Failed to read text size store: " + file.getAbsolutePath();
+        ServletLog.log( message, exception );
+        storage.setStorageFile( null );
+        pendingRecords.clear();
+      }
+    }
+  }
+
+  void flush() {
+    synchronized( lock ) {
+      if( channel != null && !pendingRecords.isEmpty() ) {
+        List<ByteBuffer> records = new ArrayList<>();
+        ByteBuffer record = pendingRecords.poll();
+        while( record != null ) {
+          records.add( record );
+          record = pendingRecords.poll();
+        }
+        try {
+          channel.write( records.toArray( new ByteBuffer[ records.size() ] ) );
+        } catch( IOException exception ) {
+          String message = "Failed to write text size store: " + file.getAbsolutePath();
+          ServletLog.log( message, exception );
+          storage.setStorageFile( null );
+          close();
+        }
+      }
+    }
+  }
+
+  /*
+   * Returns the number of records or -1 if the file is damaged. The file is not memory-mapped, as
+   * a mapping would prevent it from being replaced on some platforms.
+   */
+  private int read( Set<String> fonts, Map<Integer,Long> sizes ) throws IOException {
+    if( !file.exists() || file.length() == 0 ) {
+      return 0;
+    }
+    ByteBuffer buffer;
+    try( FileChannel readChannel = FileChannel.open( file.toPath(), StandardOpenOption.READ ) ) {
+      buffer = ByteBuffer.allocate( ( int )readChannel.size() );
+      while( buffer.hasRemaining() && readChannel.read( buffer ) != -1 ) {
+        // read until the buffer is full
+      }
+      buffer.flip();
+    }
+    if( buffer.remaining() < HEADER_LENGTH || buffer.getInt() != MAGIC ) {
+      return -1;
+    }
+    int recordCount = 0;
+    try {
+      while( buffer.hasRemaining() ) {
+        byte type = buffer.get();
+        if( type == SIZE_RECORD ) {
+          Integer key = Integer.valueOf( buffer.getInt() );
+          long size = buffer.getLong();
+          // keep the insertion order in line with the latest record of a key
+          sizes.remove( key );
+          sizes.put( key, Long.valueOf( size ) );
+        } else if( type == FONT_RECORD ) {
+          byte[] bytes = new byte[ buffer.getShort() & 0xFFFF ];
+          buffer.get( bytes );
+          fonts.add( new String( bytes, UTF_8 ) );
+        } else {
+          return -1;
+        }
+        recordCount++;
+      }
+    } catch( @SuppressWarnings( "unused" ) BufferUnderflowException exception ) {
+      // the last record has not been written completely
+      return -1;
+    }
+    return recordCount;
+  }
+
+  private void restore( Set<String> fonts, Map<Integer,Long> sizes ) {
+    for( String font : fonts ) {
+      try {
+        storage.restoreFont( new FontData( font ) );
+      } catch( @SuppressWarnings( "unused" ) IllegalArgumentException exception ) {
+        // ignore fonts that cannot be parsed
+      }
+    }
+    // restore the most recent sizes, but stay below the overflow threshold of the storage
+    int skip = Math.max( 0, sizes.size() - storage.getMaximumStoreSize() + 1 );
+    Iterator<Entry<Integer,Long>> iterator = sizes.entrySet().iterator();
+    while( iterator.hasNext() ) {
+      Entry<Integer,Long> entry = iterator.next();
+      if( skip > 0 ) {
+        skip--;
+        iterator.remove();
+      } else {
+        storage.restoreTextSize( entry.getKey(), entry.getValue().longValue() );
+      }
+    }
+  }
+
+  private void rewrite( Set<String> fonts, Map<Integer,Long> sizes ) throws IOException {
+    File parent = file.getAbsoluteFile().getParentFile();
+    File temp = File.createTempFile( file.getName(), ".tmp", parent );
+    try {
+      try( FileChannel tempChannel = FileChannel.open( temp.toPath(), StandardOpenOption.WRITE ) ) {
+        ByteBuffer header = ByteBuffer.allocate( HEADER_LENGTH ).putInt( MAGIC );
+        header.flip();
+        tempChannel.write( header );
+        ByteBuffer record = ByteBuffer.allocate( SIZE_RECORD_LENGTH );
+        for( Entry<Integer,Long> entry : sizes.entrySet() ) {
+          record.clear();
+          record.put( SIZE_RECORD ).putInt( entry.getKey().intValue() );
+          record.putLong( entry.getValue().longValue() );
+          record.flip();
+          tempChannel.write( record );
+        }
+      }
+      Files.move( temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING );
+    } finally {
+      temp.delete();
+    }
+    // fonts are appended as they are known to the storage already
+    for( String font : fonts ) {
+      appendFont( font );
+    }
+  }
+
+  private static File getFile( String path, String applicationId ) {
+    File result = new File( path );
+    if( applicationId != null ) {
+      String prefix = digest( applicationId ).substring( 0, ID_DIGEST_LENGTH ) + "-";
+      result = new File( result.getAbsoluteFile().getParentFile(), prefix + result.getName() );
+    }
+    return result;
+  }
+
+  private static String digest( String string ) {
+    try {
+      byte[] bytes = MessageDigest.getInstance( "SHA-256" ).digest( string.getBytes( UTF_8 ) );
+      StringBuilder result = new StringBuilder( bytes.length * 2 );
+      for( byte value : bytes ) {
+        result.append( Character.forDigit( ( value >> 4 ) & 0xF, 16 ) );
+        result.append( Character.forDigit( value & 0xF, 16 ) );
+      }
+      return result.toString();
+    } catch( NoSuchAlgorithmException shouldNotHappen ) {
+      throw new RuntimeException( shouldNotHappen );
+    }
+  }
+
+  private void appendFont( String font ) {
+    byte[] bytes = font.getBytes( UTF_8 );
+    if( bytes.length <= 0xFFFF ) {
+      ByteBuffer record = ByteBuffer.allocate( 1 + 2 + bytes.length );
+      record.put( FONT_RECORD ).putShort( ( short )bytes.length ).put( bytes );
+      record.flip();
+      pendingRecords.add( record );
+    }
+  }
+
+  private FileChannel openForAppend() throws IOException {
+    File parent = file.getAbsoluteFile().getParentFile();
+    if( parent != null ) {
+      parent.mkdirs();
+    }
+    FileChannel result = FileChannel.open( file.toPath(),
+                                           StandardOpenOption.CREATE,
+                                           StandardOpenOption.WRITE,
+                                           StandardOpenOption.APPEND );
+    if( result.size() == 0 ) {
+      ByteBuffer header = ByteBuffer.allocate( HEADER_LENGTH ).putInt( MAGIC );
+      header.flip();
+      result.write( header );
+    }
+    return result;
+  }
+
+  private void scheduleFlush() {
+    flushTask = scheduler.schedule( new Runnable() {
+      @Override
+      public void run() {
+        flush();
+        synchronized( lock ) {
+          if( flushTask != null && channel != null ) {
+            scheduleFlush();
+          }
+        }
+      }
+    }, FLUSH_INTERVAL, TimeUnit.MILLISECONDS );
+  }
+
+  private void close() {
+    if( channel != null ) {
+      try {
+        channel.close();
+      } catch( @SuppressWarnings( "unused" ) IOException exception ) {
+        // nothing to do
+      }
+      channel = null;
+    }
+  }
+
+}
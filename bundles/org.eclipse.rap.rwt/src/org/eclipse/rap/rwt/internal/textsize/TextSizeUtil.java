@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -98,7 +98,7 @@ public class TextSizeUtil {
     if( result == null ) {
       result = estimate( font, string, normalizedWrapWidth, mode );
       if( !isTemporaryResize() ) {
-        addItemToMeasure( font, string, normalizedWrapWidth, mode );
+        addItemToMeasure( font, string, normalizedWrapWidth, mode, result );
       }
     }
 
@@ -146,9 +146,20 @@ public class TextSizeUtil {
     return result;
   }
 
-  private static void addItemToMeasure( Font font, String string, int wrapWidth, int mode ) {
+  private static void addItemToMeasure( Font font,
+                                        String string,
+                                        int wrapWidth,
+                                        int mode,
+                                        Point estimatedSize )
+  {
     String measurementString = createMeasurementString( string, mode );
-    MeasurementUtil.addItemToMeasure( measurementString, font, wrapWidth, mode );
+    // markup may use other fonts than the given one, hence its estimation is not accurate
+    Point verifiableSize = null;
+    if( mode != MARKUP_EXTENT && TextSizeEstimation.isAccurate( font ) ) {
+      // copy as callers may modify the returned size
+      verifiableSize = new Point( estimatedSize.x, estimatedSize.y );
+    }
+    MeasurementUtil.addItemToMeasure( measurementString, font, wrapWidth, mode, verifiableSize );
   }
 
   private static String createMeasurementString( String string, int mode ) {
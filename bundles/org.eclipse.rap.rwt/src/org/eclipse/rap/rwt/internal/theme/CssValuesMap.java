@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.theme;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -28,7 +29,7 @@ import org.eclipse.rap.rwt.internal.theme.css.StyleSheet;
  * Contains the values defined in a CSS style sheet in an optimized structure
  * for providing quick access to the values for a given element and property.
  */
-public final class CssValuesMap {
+public final class CssValuesMap implements Serializable {
 
   private final Map<String, Map<String, ConditionalValue[]>> elementsMap;
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,11 +15,15 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.theme.css.CssElementHolder;
+import org.eclipse.rap.rwt.internal.theme.ThemeSnapshotStore.ThemeSnapshot;
 import org.eclipse.rap.rwt.internal.theme.css.StyleSheet;
 import org.eclipse.rap.rwt.service.ApplicationContext;
+import org.eclipse.rap.rwt.service.ResourceLoader;
 import org.eclipse.rap.rwt.service.ResourceManager;
 
 
@@ -30,8 +34,13 @@ public class Theme {
   private final String id;
   private final String jsId;
   private final String name;
+  private final List<StyleSheet> styleSheets;
   private StyleSheetBuilder styleSheetBuilder;
   private CssValuesMap valuesMap;
+  // the rendered theme store of a loaded snapshot, or the store and key of a snapshot to be written
+  private String themeStore;
+  private ThemeSnapshotStore snapshotStore;
+  private String snapshotKey;
 
   private String registeredLocation;
 
@@ -45,8 +54,10 @@ public class Theme {
     this.name = name != null ? name : "Unnamed Theme";
     jsId = createUniqueJsId( id );
     valuesMap = null;
+    styleSheets = new ArrayList<>();
     styleSheetBuilder = new StyleSheetBuilder();
     if( styleSheet != null ) {
+      styleSheets.add( styleSheet );
       styleSheetBuilder.addStyleSheet( styleSheet );
     }
   }
@@ -67,16 +78,43 @@ public class Theme {
     if( valuesMap != null ) {
       throw new IllegalStateException( "Theme is already initialized" );
     }
+    styleSheets.add( styleSheet );
     styleSheetBuilder.addStyleSheet( styleSheet );
   }
 
   public void initialize( ThemeableWidget[] themeableWidgets ) {
+    initialize( themeableWidgets, null );
+  }
+
+  /**
+   * Initializes the theme from a snapshot in the given store if its sources are unchanged. If
+   * there is no such snapshot, the theme is compiled and a snapshot is stored as soon as the theme
+   * store has been rendered.
+   *
+   * @param snapshotStore the store of compiled themes, or <code>null</code> to compile the theme
+   */
+  public void initialize( ThemeableWidget[] themeableWidgets, ThemeSnapshotStore snapshotStore ) {
     elements = extractElements( themeableWidgets );
     if( valuesMap != null ) {
       throw new IllegalStateException( "Theme is already initialized" );
     }
-    StyleSheet styleSheet = styleSheetBuilder.getStyleSheet();
-    valuesMap = new CssValuesMap( styleSheet, themeableWidgets );
+    String key = null;
+    if( snapshotStore != null ) {
+      key = ThemeSnapshotStore.createKey( id, styleSheets, elements );
+    }
+    ThemeSnapshot snapshot = null;
+    if( key != null ) {
+      snapshot = snapshotStore.load( id, key, getResourceLoaders() );
+    }
+    if( snapshot != null ) {
+      valuesMap = snapshot.getValuesMap();
+      themeStore = snapshot.getThemeStore();
+    } else {
+      StyleSheet styleSheet = styleSheetBuilder.getStyleSheet();
+      valuesMap = new CssValuesMap( styleSheet, themeableWidgets );
+      this.snapshotStore = key != null ? snapshotStore : null;
+      snapshotKey = key;
+    }
     styleSheetBuilder = null;
   }
 
@@ -126,10 +164,28 @@ public class Theme {
   }
 
   private void registerThemeStoreFile( ApplicationContext applicationContext ) {
-    ThemeStoreWriter storeWriter = new ThemeStoreWriter( applicationContext, this, elements );
     String name = "rap-" + jsId + ".json";
-    String code = storeWriter.createJson();
+    String code = themeStore;
+    if( code == null ) {
+      ThemeStoreWriter storeWriter = new ThemeStoreWriter( applicationContext, this, elements );
+      code = storeWriter.createJson();
+      if( snapshotKey != null ) {
+        ThemeSnapshot snapshot = new ThemeSnapshot( valuesMap, code );
+        snapshotStore.store( id, snapshotKey, getResourceLoaders(), snapshot );
+      }
+    }
     registeredLocation = registerResource( applicationContext, name, code );
+    themeStore = null;
+    snapshotStore = null;
+    snapshotKey = null;
+  }
+
+  private List<ResourceLoader> getResourceLoaders() {
+    List<ResourceLoader> result = new ArrayList<>();
+    for( StyleSheet styleSheet : styleSheets ) {
+      result.add( styleSheet.getResourceLoader() );
+    }
+    return result;
   }
 
   private static void registerResource( ApplicationContext applicationContext, ThemeResource value )
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -116,12 +116,21 @@ public class ThemeManager {
   }
 
   public void activate() {
+    activate( null );
+  }
+
+  /**
+   * @param applicationId identifies the application across restarts, keeps the theme snapshots
+   *          of applications apart, may be <code>null</code>
+   */
+  public void activate( String applicationId ) {
     if( !initialized ) {
       initializeThemeableWidgets();
       Collection<Theme> allThemes = themes.values();
       ThemeableWidget[] allThemeableWidgets = themeableWidgets.getAll();
+      ThemeSnapshotStore snapshotStore = ThemeSnapshotStore.create( applicationId );
       for( Theme theme : allThemes ) {
-        theme.initialize( allThemeableWidgets );
+        theme.initialize( allThemeableWidgets, snapshotStore );
       }
       initialized = true;
     }
@@ -0,0 +1,383 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.theme;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.internal.theme.css.StyleSheet;
+import org.eclipse.rap.rwt.service.ResourceLoader;
+
+
+/**
+ * Keeps compiled themes in the directory given by {@link RWTProperties#THEME_SNAPSHOT_DIRECTORY}.
+ * A snapshot contains the values map of a theme and the rendered client theme store, so that
+ * neither needs to be computed again when the application is restarted.
+ * <p>
+ * Snapshots are keyed by a digest of the theme id, the CSS sources of the theme and the themeable
+ * elements. The file names also contain a digest of the application id and the theme id, so that
+ * applications can share the directory without replacing each other's snapshots. Resource
+ * loaders that are referenced by values are stored as the index of the style sheet they belong
+ * to. Resources that are referenced by values, e.g. images, are verified when a snapshot is
+ * loaded, as their sizes are part of the values.
+ * </p>
+ */
+public class ThemeSnapshotStore {
+
+  // must be incremented whenever the format of the snapshot or the theme store changes
+  private static final int FORMAT_VERSION = 1;
+  private static final String FILE_PREFIX = "theme-";
+  private static final String FILE_SUFFIX = ".snapshot";
+
+  // length of the digest of application id and theme id in file names
+  private static final int ID_DIGEST_LENGTH = 16;
+
+  private final File directory;
+  private final String applicationId;
+
+  /**
+   * @param applicationId identifies the application across restarts, may be <code>null</code>
+   */
+  public ThemeSnapshotStore( File directory, String applicationId ) {
+    this.directory = directory;
+    this.applicationId = applicationId == null ? "" : applicationId;
+  }
+
+  /**
+   * Returns a snapshot store of the given application for the configured directory, or
+   * <code>null</code> if theme snapshots are not enabled.
+   */
+  public static ThemeSnapshotStore create( String applicationId ) {
+    String path = RWTProperties.getThemeSnapshotDirectory();
+    return path == null ? null : new ThemeSnapshotStore( new File( path ), applicationId );
+  }
+
+  /**
+   * Returns the key of a snapshot for a theme with the given sources, or <code>null</code> if a
+   * style sheet has not been read from a source.
+   */
+  public static String createKey( String themeId,
+                                  List<StyleSheet> styleSheets,
+                                  CssElement[] elements )
+  {
+    MessageDigest digest = createDigest();
+    update( digest, Integer.toString( FORMAT_VERSION ) );
+    update( digest, themeId );
+    for( StyleSheet styleSheet : styleSheets ) {
+      if( styleSheet.getDigest() == null ) {
+        return null;
+      }
+      update( digest, styleSheet.getDigest() );
+    }
+    for( CssElement element : elements ) {
+      update( digest, element.getName() );
+      update( digest, element.getProperties() );
+      update( digest, element.getStyles() );
+      update( digest, element.getStates() );
+    }
+    return toHex( digest.digest() );
+  }
+
+  /**
+   * Returns the snapshot of the given theme with the given key, or <code>null</code> if there is
+   * no valid snapshot.
+   *
+   * @param loaders the resource loaders of the style sheets of the theme
+   */
+  public ThemeSnapshot load( String themeId, String key, List<ResourceLoader> loaders ) {
+    File file = getFile( themeId, key );
+    if( !file.isFile() ) {
+      return null;
+    }
+    try( InputStream inputStream = new BufferedInputStream( new FileInputStream( file ) );
+         ObjectInputStream objectInputStream = new SnapshotInputStream( inputStream, loaders ) )
+    {
+      if( objectInputStream.readInt() != FORMAT_VERSION ) {
+        return null;
+      }
+      String resourcesDigest = ( String )objectInputStream.readObject();
+      String themeStore = ( String )objectInputStream.readObject();
+      CssValuesMap valuesMap = ( CssValuesMap )objectInputStream.readObject();
+      if( !resourcesDigest.equals( digestResources( valuesMap ) ) ) {
+        return null;
+      }
+      return new ThemeSnapshot( valuesMap, themeStore );
+    } catch( IOException | ClassNotFoundException | ClassCastException exception ) {
+      String message = "Failed to read theme snapshot: " + file.getAbsolutePath();
+      ServletLog.log( message, exception );
+      return null;
+    }
+  }
+
+  /**
+   * Stores a snapshot of the given theme with the given key and removes outdated snapshots of the
+   * theme.
+   *
+   * @param loaders the resource loaders of the style sheets of the theme
+   */
+  public void store( String themeId,
+                     String key,
+                     List<ResourceLoader> loaders,
+                     ThemeSnapshot snapshot )
+  {
+    File file = getFile( themeId, key );
+    File temp = null;
+    try {
+      if( !directory.exists() && !directory.mkdirs() && !directory.isDirectory() ) {
+        throw new IOException( "Could not create directory: " + directory.getAbsolutePath() );
+      }
+      temp = File.createTempFile( file.getName(), ".tmp", directory );
+      try( OutputStream outputStream = new BufferedOutputStream( new FileOutputStream( temp ) );
+           ObjectOutputStream objectOutputStream
+             = new SnapshotOutputStream( outputStream, loaders ) )
+      {
+        objectOutputStream.writeInt( FORMAT_VERSION );
+        objectOutputStream.writeObject( digestResources( snapshot.getValuesMap() ) );
+        objectOutputStream.writeObject( snapshot.getThemeStore() );
+        objectOutputStream.writeObject( snapshot.getValuesMap() );
+      }
+      Files.move( temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING );
+      deleteOutdatedSnapshots( themeId, file );
+    } catch( IOException exception ) {
+      String message = "Failed to write theme snapshot: " + file.getAbsolutePath();
+      ServletLog.log( message, exception );
+    } finally {
+      if( temp != null ) {
+        temp.delete();
+      }
+    }
+  }
+
+  private File getFile( String themeId, String key ) {
+    return new File( directory, getFilePrefix( themeId ) + key + FILE_SUFFIX );
+  }
+
+  private String getFilePrefix( String themeId ) {
+    MessageDigest digest = createDigest();
+    update( digest, applicationId, themeId );
+    return FILE_PREFIX + toHex( digest.digest() ).substring( 0, ID_DIGEST_LENGTH ) + "-";
+  }
+
+  private void deleteOutdatedSnapshots( String themeId, File current ) {
+    String prefix = getFilePrefix( themeId );
+    File[] files = directory.listFiles();
+    if( files != null ) {
+      for( File file : files ) {
+        String name = file.getName();
+        if( name.startsWith( prefix ) && name.endsWith( FILE_SUFFIX ) && !file.equals( current ) ) {
+          file.delete();
+        }
+      }
+    }
+  }
+
+  /*
+   * Digests the content of all resources that are referenced by the given values, regardless of
+   * their order.
+   */
+  private static String digestResources( CssValuesMap valuesMap ) throws IOException {
+    SortedSet<String> resourceDigests = new TreeSet<>();
+    for( CssValue value : valuesMap.getAllValues() ) {
+      if( value instanceof ThemeResource ) {
+        MessageDigest digest = createDigest();
+        update( digest, value.toString() );
+        InputStream inputStream = ( ( ThemeResource )value ).getResourceAsStream();
+        if( inputStream != null ) {
+          try {
+            byte[] buffer = new byte[ 8192 ];
+            int read = inputStream.read( buffer );
+            while( read != -1 ) {
+              digest.update( buffer, 0, read );
+              read = inputStream.read( buffer );
+            }
+          } finally {
+            inputStream.close();
+          }
+        }
+        resourceDigests.add( toHex( digest.digest() ) );
+      }
+    }
+    MessageDigest digest = createDigest();
+    for( String resourceDigest : resourceDigests ) {
+      update( digest, resourceDigest );
+    }
+    return toHex( digest.digest() );
+  }
+
+  private static MessageDigest createDigest() {
+    try {
+      return MessageDigest.getInstance( "SHA-256" );
+    } catch( NoSuchAlgorithmException shouldNotHappen ) {
+      throw new RuntimeException( shouldNotHappen );
+    }
+  }
+
+  private static void update( MessageDigest digest, String... strings ) {
+    for( String string : strings ) {
+      digest.update( string.getBytes( UTF_8 ) );
+      // separator to avoid ambiguous concatenations
+      digest.update( ( byte )0 );
+    }
+    digest.update( ( byte )1 );
+  }
+
+  private static String toHex( byte[] bytes ) {
+    StringBuilder result = new StringBuilder( bytes.length * 2 );
+    for( byte value : bytes ) {
+      result.append( Character.forDigit( ( value >> 4 ) & 0xF, 16 ) );
+      result.append( Character.forDigit( value & 0xF, 16 ) );
+    }
+    return result.toString();
+  }
+
+  /**
+   * The compiled state of a theme.
+   */
+  public static final class ThemeSnapshot {
+
+    private final CssValuesMap valuesMap;
+    private final String themeStore;
+
+    public ThemeSnapshot( CssValuesMap valuesMap, String themeStore ) {
+      this.valuesMap = valuesMap;
+      this.themeStore = themeStore;
+    }
+
+    public CssValuesMap getValuesMap() {
+      return valuesMap;
+    }
+
+    public String getThemeStore() {
+      return themeStore;
+    }
+
+  }
+
+  private static final class LoaderReference implements Serializable {
+
+    final int index;
+
+    LoaderReference( int index ) {
+      this.index = index;
+    }
+
+  }
+
+  private static final class SnapshotOutputStream extends ObjectOutputStream {
+
+    private final Map<ResourceLoader, Integer> loaderIndexes;
+
+    SnapshotOutputStream( OutputStream outputStream, List<ResourceLoader> loaders )
+      throws IOException
+    {
+      super( outputStream );
+      loaderIndexes = new IdentityHashMap<>();
+      for( int i = loaders.size() - 1; i >= 0; i-- ) {
+        loaderIndexes.put( loaders.get( i ), Integer.valueOf( i ) );
+      }
+      enableReplaceObject( true );
+    }
+
+    @Override
+    protected Object replaceObject( Object object ) throws IOException {
+      if( object instanceof ResourceLoader ) {
+        Integer index = loaderIndexes.get( object );
+        if( index == null ) {
+          throw new NotSerializableException( "Unknown resource loader: " + object );
+        }
+        return new LoaderReference( index.intValue() );
+      }
+      return object;
+    }
+
+  }
+
+  /*
+   * Only resolves the classes that make up a values map, the snapshot directory must not be a
+   * source of arbitrary objects.
+   */
+  private static final class SnapshotInputStream extends ObjectInputStream {
+
+    private static final String[] ALLOWED_PACKAGES = {
+      "java.lang.",
+      "java.util.",
+      ThemeSnapshotStore.class.getPackage().getName() + ".",
+      "org.eclipse.rap.rwt.theme."
+    };
+
+    private final List<ResourceLoader> loaders;
+
+    SnapshotInputStream( InputStream inputStream, List<ResourceLoader> loaders )
+      throws IOException
+    {
+      super( inputStream );
+      this.loaders = loaders;
+      enableResolveObject( true );
+    }
+
+    @Override
+    protected Class<?> resolveClass( ObjectStreamClass description )
+      throws IOException, ClassNotFoundException
+    {
+      String name = description.getName();
+      // arrays of primitive types and of allowed classes
+      String className = name.startsWith( "[" ) ? name.replaceFirst( "^\\[+L?", "" ) : name;
+      if( name.startsWith( "[" ) && className.length() == 1 ) {
+        return super.resolveClass( description );
+      }
+      for( String allowedPackage : ALLOWED_PACKAGES ) {
+        if( className.startsWith( allowedPackage ) ) {
+          return Class.forName( name, false, ThemeSnapshotStore.class.getClassLoader() );
+        }
+      }
+      throw new InvalidObjectException( "Unexpected class in theme snapshot: " + name );
+    }
+
+    @Override
+    protected Object resolveObject( Object object ) throws IOException {
+      if( object instanceof LoaderReference ) {
+        int index = ( ( LoaderReference )object ).index;
+        if( index < 0 || index >= loaders.size() ) {
+          throw new InvalidObjectException( "Invalid resource loader index: " + index );
+        }
+        return loaders.get( index );
+      }
+      return object;
+    }
+
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 EclipseSource and others.
+ * Copyright (c) 2009, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,10 +22,13 @@ import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.internal.theme.ThemePropertyAdapterRegistry.ThemePropertyAdapter;
 import org.eclipse.rap.rwt.internal.theme.css.ConditionalValue;
 import org.eclipse.rap.rwt.service.ApplicationContext;
+import org.eclipse.rap.rwt.service.ResourceManager;
 
 
 public final class ThemeStoreWriter {
 
+  private static final String SLOT_LOCATIONS = "locations";
+
   private final CssElement[] allThemeableWidgetElements;
   private final Theme theme;
   private final ApplicationContext applicationContext;
@@ -104,6 +107,24 @@ public final class ThemeStoreWriter {
         }
       }
     }
+    if( propertyValue instanceof ThemeResource ) {
+      appendLocationToMap( ( ThemeResource )propertyValue, valuesMap );
+    }
+  }
+
+  /*
+   * Locations that contain the hash of the content let the client keep theme images and cursors
+   * without revalidation. Without a hash, the client builds the location from the key.
+   */
+  private void appendLocationToMap( ThemeResource resource, Map<String,JsonObject> valuesMap ) {
+    String path = resource.getResourcePath( applicationContext );
+    ResourceManager resourceManager = applicationContext.getResourceManager();
+    if( path != null && resourceManager.isRegistered( path ) ) {
+      String location = resourceManager.getLocation( path );
+      if( location.indexOf( '?' ) != -1 ) {
+        getSlot( valuesMap, SLOT_LOCATIONS ).add( path, location );
+      }
+    }
   }
 
   private static JsonValue createJsonFromValuesMap( Map<String, JsonObject> valuesMap ) {
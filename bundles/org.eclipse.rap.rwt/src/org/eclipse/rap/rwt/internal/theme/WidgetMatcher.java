@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,9 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.theme;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -19,31 +22,59 @@ import org.eclipse.rap.rwt.internal.theme.css.ConditionalValue;
 import org.eclipse.swt.widgets.Widget;
 
 
+/**
+ * Selects the first conditional value whose constraints are matched by a widget.
+ * <p>
+ * The selection result only depends on the style bits, the variant and the states of a widget
+ * that occur as constraints in the values array. For every values array, the matcher collects
+ * these constraints once into a signature table. On selection, the style and state constraints of
+ * the table are evaluated a single time each, and the variant of the widget is mapped to its index
+ * among the variants of the table. Together they form the signature of the widget, which indexes
+ * the memoized selections of the table. As the values arrays are created per theme, element and
+ * property, switching the theme of a UI session results in different tables rather than in stale
+ * values.
+ * </p>
+ */
 public final class WidgetMatcher implements ValueSelector {
 
   public static interface Constraint {
     boolean matches( Widget widget );
   }
 
+  // limits the number of style and state constraints in a signature table
+  private static final int MAX_TABLE_CONSTRAINTS = 8;
+  // limits the number of memoized selections of a signature table
+  private static final int MAX_TABLE_SIZE = 1 << 10;
+
   private final Map<String, Constraint> constraintMap;
+  private final Map<ConditionalValue[], SignatureTable> signatureTables;
 
   public WidgetMatcher() {
     // This map is accessed by all UI sessions simultaneously. However, We don't need to
     // synchronize get and put since constraints are deterministic, i.e. in case of concurrent
     // insertions one constraint overwriting the other is not critical.
     constraintMap = new ConcurrentHashMap<>();
+    // Arrays are compared by identity, which is what we need as values arrays are immutable.
+    // The same applies as for the constraint map: concurrently created tables are equivalent.
+    signatureTables = new ConcurrentHashMap<>();
   }
 
   public void addStyle( String string, int style ) {
     constraintMap.put( "[" + string, createStyleConstraint( style ) );
+    signatureTables.clear();
   }
 
   public void addState( String string, Constraint constraint ) {
     constraintMap.put( ":" + string, constraint );
+    signatureTables.clear();
   }
 
   @Override
   public CssValue select( Widget widget, ConditionalValue... values ) {
+    SignatureTable table = getSignatureTable( values );
+    if( table != null ) {
+      return table.select( widget, values );
+    }
     CssValue result = null;
     for( int i = 0; i < values.length && result == null; i++ ) {
       ConditionalValue condValue = values[ i ];
@@ -65,6 +96,54 @@ public final class WidgetMatcher implements ValueSelector {
     return true;
   }
 
+  private SignatureTable getSignatureTable( ConditionalValue[] values ) {
+    SignatureTable result = signatureTables.get( values );
+    if( result == null ) {
+      result = createSignatureTable( values );
+      signatureTables.put( values, result );
+    }
+    return result == SignatureTable.NONE ? null : result;
+  }
+
+  private SignatureTable createSignatureTable( ConditionalValue[] values ) {
+    List<String> strings = new ArrayList<>();
+    List<String> variants = new ArrayList<>();
+    int[] masks = new int[ values.length ];
+    int[] requiredVariants = new int[ values.length ];
+    for( int i = 0; i < values.length; i++ ) {
+      for( String string : values[ i ].constraints ) {
+        if( getConstraint( string ) == null ) {
+          // unknown constraints are never matched
+          masks[ i ] = SignatureTable.NEVER;
+        } else if( masks[ i ] != SignatureTable.NEVER && string.startsWith( "." ) ) {
+          int variant = addIfAbsent( variants, string.substring( 1 ) ) + 1;
+          if( requiredVariants[ i ] == 0 ) {
+            requiredVariants[ i ] = variant;
+          } else if( requiredVariants[ i ] != variant ) {
+            // a widget has a single variant
+            masks[ i ] = SignatureTable.NEVER;
+          }
+        } else if( masks[ i ] != SignatureTable.NEVER ) {
+          int index = addIfAbsent( strings, string );
+          if( index < MAX_TABLE_CONSTRAINTS ) {
+            masks[ i ] |= 1 << index;
+          }
+        }
+      }
+    }
+    if(    strings.size() > MAX_TABLE_CONSTRAINTS
+        || ( variants.size() + 1 ) << strings.size() > MAX_TABLE_SIZE )
+    {
+      return SignatureTable.NONE;
+    }
+    Constraint[] constraints = new Constraint[ strings.size() ];
+    for( int i = 0; i < constraints.length; i++ ) {
+      constraints[ i ] = getConstraint( strings.get( i ) );
+    }
+    String[] variantArray = variants.toArray( new String[ variants.size() ] );
+    return new SignatureTable( constraints, variantArray, masks, requiredVariants );
+  }
+
   private Constraint getConstraint( String string ) {
     Constraint constraint = constraintMap.get( string );
     if( constraint == null && string.startsWith( "." ) ) {
@@ -74,6 +153,15 @@ public final class WidgetMatcher implements ValueSelector {
     return constraint;
   }
 
+  private static int addIfAbsent( List<String> list, String string ) {
+    int result = list.indexOf( string );
+    if( result == -1 ) {
+      result = list.size();
+      list.add( string );
+    }
+    return result;
+  }
+
   private static Constraint createStyleConstraint( final int style ) {
     return new Constraint() {
       @Override
@@ -97,4 +185,87 @@ public final class WidgetMatcher implements ValueSelector {
     return actualVariant != null && actualVariant.equals( variant );
   }
 
+  /*
+   * The signature of a widget holds a bit for every style and state constraint of the table in
+   * its lower bits and the index of the variant of the widget, or 0 if the widget has none of the
+   * variants of the table, in its upper bits.
+   */
+  private static final class SignatureTable {
+
+    static final SignatureTable NONE
+      = new SignatureTable( new Constraint[ 0 ], new String[ 0 ], new int[ 0 ], new int[ 0 ] );
+    static final int NEVER = -1;
+    private static final int UNRESOLVED = -2;
+    private static final int NO_MATCH = -1;
+
+    private final Constraint[] constraints;
+    private final String[] variants;
+    private final int[] masks;
+    private final int[] requiredVariants;
+    // index of the selected value per signature, races lead to the same result being stored
+    private final int[] selection;
+
+    SignatureTable( Constraint[] constraints,
+                    String[] variants,
+                    int[] masks,
+                    int[] requiredVariants )
+    {
+      this.constraints = constraints;
+      this.variants = variants;
+      this.masks = masks;
+      this.requiredVariants = requiredVariants;
+      selection = new int[ ( variants.length + 1 ) << constraints.length ];
+      Arrays.fill( selection, UNRESOLVED );
+    }
+
+    CssValue select( Widget widget, ConditionalValue[] values ) {
+      int signature = getVariantIndex( widget ) << constraints.length | getFlags( widget );
+      int index = selection[ signature ];
+      if( index == UNRESOLVED ) {
+        index = resolve( signature );
+        selection[ signature ] = index;
+      }
+      return index == NO_MATCH ? null : values[ index ].value;
+    }
+
+    private int getFlags( Widget widget ) {
+      int result = 0;
+      for( int i = 0; i < constraints.length; i++ ) {
+        if( constraints[ i ].matches( widget ) ) {
+          result |= 1 << i;
+        }
+      }
+      return result;
+    }
+
+    private int getVariantIndex( Widget widget ) {
+      if( variants.length > 0 ) {
+        String variant = WidgetUtil.getVariant( widget );
+        if( variant != null ) {
+          for( int i = 0; i < variants.length; i++ ) {
+            if( variants[ i ].equals( variant ) ) {
+              return i + 1;
+            }
+          }
+        }
+      }
+      return 0;
+    }
+
+    private int resolve( int signature ) {
+      int flags = signature & ( ( 1 << constraints.length ) - 1 );
+      int variant = signature >>> constraints.length;
+      for( int i = 0; i < masks.length; i++ ) {
+        if(    masks[ i ] != NEVER
+            && ( masks[ i ] & flags ) == masks[ i ]
+            && ( requiredVariants[ i ] == 0 || requiredVariants[ i ] == variant ) )
+        {
+          return i;
+        }
+      }
+      return NO_MATCH;
+    }
+
+  }
+
 }
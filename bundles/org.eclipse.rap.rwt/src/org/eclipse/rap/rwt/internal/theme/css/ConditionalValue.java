@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.theme.css;
 
+import java.io.Serializable;
 import java.util.Arrays;
 
 import org.eclipse.rap.rwt.internal.theme.CssValue;
@@ -19,7 +20,7 @@ import org.eclipse.rap.rwt.internal.theme.CssValue;
 /**
  * A value that can only be applied to a widget that meets certain constraints.
  */
-public class ConditionalValue {
+public class ConditionalValue implements Serializable {
 
   public final CssValue value;
   public final String[] constraints;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,9 @@ package org.eclipse.rap.rwt.internal.theme.css;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
@@ -80,7 +83,9 @@ public class CssFileReader {
     StyleSheet styleSheet;
     try {
       CssFileReader reader = new CssFileReader();
-      styleSheet = reader.parse( inputStream, fileName, loader );
+      DigestInputStream digestStream = new DigestInputStream( inputStream, createDigest() );
+      styleSheet = reader.parse( digestStream, fileName, loader );
+      styleSheet.setSource( toHex( digestStream.getMessageDigest().digest() ), loader );
     } catch( CSSException e ) {
       throw new ThemeManagerException( "Failed parsing CSS file", e );
     } finally {
@@ -89,6 +94,23 @@ public class CssFileReader {
     return styleSheet;
   }
 
+  private static MessageDigest createDigest() {
+    try {
+      return MessageDigest.getInstance( "SHA-256" );
+    } catch( NoSuchAlgorithmException shouldNotHappen ) {
+      throw new RuntimeException( shouldNotHappen );
+    }
+  }
+
+  private static String toHex( byte[] bytes ) {
+    StringBuilder result = new StringBuilder( bytes.length * 2 );
+    for( byte value : bytes ) {
+      result.append( Character.forDigit( ( value >> 4 ) & 0xF, 16 ) );
+      result.append( Character.forDigit( value & 0xF, 16 ) );
+    }
+    return result.toString();
+  }
+
   StyleSheet parse( InputStream inputStream, String uri, ResourceLoader loader )
     throws CSSException, IOException
   {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 import org.eclipse.rap.rwt.internal.theme.CssValue;
+import org.eclipse.rap.rwt.service.ResourceLoader;
 import org.w3c.css.sac.Selector;
 import org.w3c.css.sac.SelectorList;
 
@@ -31,6 +32,8 @@ public final class StyleSheet {
 
   private final StyleRule[] styleRules;
   private SelectorWrapper[] selectorWrappers;
+  private String digest;
+  private ResourceLoader loader;
 
   public StyleSheet( StyleRule[] styleRules ) {
     this.styleRules = styleRules.clone();
@@ -41,6 +44,27 @@ public final class StyleSheet {
     return styleRules.clone();
   }
 
+  /**
+   * Returns a digest of the CSS source of this style sheet, or <code>null</code> if the style
+   * sheet has not been read from a source.
+   */
+  public String getDigest() {
+    return digest;
+  }
+
+  /**
+   * Returns the resource loader for resources referenced in this style sheet, or
+   * <code>null</code> if the style sheet has not been read from a source.
+   */
+  public ResourceLoader getResourceLoader() {
+    return loader;
+  }
+
+  void setSource( String digest, ResourceLoader loader ) {
+    this.digest = digest;
+    this.loader = loader;
+  }
+
   public ConditionalValue[] getValues( String elementName, String propertyName ) {
     List<ConditionalValue> buffer = new ArrayList<>();
     for( SelectorWrapper selectorWrapper : selectorWrappers ) {
@@ -0,0 +1,290 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import static org.eclipse.rap.rwt.internal.util.HTTP.ENCODING_DEFLATE;
+import static org.eclipse.rap.rwt.internal.util.HTTP.ENCODING_GZIP;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CONTENT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_VARY;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+
+
+/**
+ * Negotiates and applies gzip or deflate compression for protocol messages and startup content.
+ * Responses are only compressed if the client accepts a supported encoding and the content
+ * exceeds the compression threshold. The decompressed content of requests is limited to the
+ * maximal request size.
+ * <p>
+ * Deflaters are kept in a bounded pool and reset on reuse to avoid the allocation of native
+ * buffers per response. Deflaters that do not fit into the pool are ended right away, pooled
+ * deflaters are ended by {@link #endDeflaters()}.
+ * </p>
+ */
+public final class HttpCompression {
+
+  private static final int DEFAULT_THRESHOLD = 1024;
+  private static final int DEFAULT_MAX_REQUEST_SIZE = 16 * 1024 * 1024;
+  private static final int BUFFER_SIZE = 8192;
+  private static final byte[] GZIP_HEADER
+    = { 0x1f, ( byte )0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0 };
+  private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+  private static final Queue<Deflater> GZIP_DEFLATERS = new ArrayBlockingQueue<>( POOL_SIZE );
+  private static final Queue<Deflater> ZLIB_DEFLATERS = new ArrayBlockingQueue<>( POOL_SIZE );
+
+  private static volatile int threshold;
+  private static volatile int maxRequestSize;
+
+  static {
+    readProperties();
+  }
+
+  private HttpCompression() {
+    // prevent instantiation
+  }
+
+  /*
+   * The system properties are read once, tests re-read them after changing them.
+   */
+  static void readProperties() {
+    threshold = RWTProperties.getCompressionThreshold( DEFAULT_THRESHOLD );
+    maxRequestSize = RWTProperties.getMaxRequestSize( DEFAULT_MAX_REQUEST_SIZE );
+  }
+
+  public static int getThreshold() {
+    return threshold;
+  }
+
+  public static boolean isEnabled() {
+    return threshold >= 0;
+  }
+
+  /**
+   * Returns whether compression is enabled and the client accepts a supported encoding.
+   */
+  public static boolean isAccepted( HttpServletRequest request ) {
+    return isEnabled() && selectEncoding( request.getHeader( HEADER_ACCEPT_ENCODING ) ) != null;
+  }
+
+  /**
+   * Writes the given content to the response, compressed if the request accepts a supported
+   * encoding and the content exceeds the compression threshold. The content length of the response
+   * is set accordingly.
+   */
+  public static void writeContent( HttpServletRequest request,
+                                   HttpServletResponse response,
+                                   byte[] content )
+    throws IOException
+  {
+    byte[] result = content;
+    if( isEnabled() ) {
+      // the response varies with the request header even if this content is not compressed
+      response.addHeader( HEADER_VARY, HEADER_ACCEPT_ENCODING );
+      if( content.length >= threshold ) {
+        String encoding = selectEncoding( request.getHeader( HEADER_ACCEPT_ENCODING ) );
+        if( encoding != null ) {
+          result = compress( content, encoding );
+          response.setHeader( HEADER_CONTENT_ENCODING, encoding );
+        }
+      }
+    }
+    response.setContentLength( result.length );
+    response.getOutputStream().write( result );
+  }
+
+  /**
+   * Returns the input stream of the request, decompressing its content if it is encoded with a
+   * supported content encoding. Reading from a decompressing stream fails with an
+   * <code>IOException</code> once the decompressed content exceeds the maximal request size.
+   */
+  public static InputStream getInputStream( HttpServletRequest request ) throws IOException {
+    String encoding = request.getHeader( HEADER_CONTENT_ENCODING );
+    InputStream inputStream = request.getInputStream();
+    if( ENCODING_GZIP.equalsIgnoreCase( encoding ) ) {
+      return new LimitedInputStream( new GZIPInputStream( inputStream, BUFFER_SIZE ),
+                                     maxRequestSize );
+    }
+    if( ENCODING_DEFLATE.equalsIgnoreCase( encoding ) ) {
+      return new LimitedInputStream( new InflaterInputStream( inputStream ), maxRequestSize );
+    }
+    return inputStream;
+  }
+
+  /**
+   * Returns the preferred supported encoding from the given <code>Accept-Encoding</code> header,
+   * or <code>null</code> if neither gzip nor deflate is acceptable.
+   */
+  public static String selectEncoding( String acceptEncoding ) {
+    if( acceptEncoding == null ) {
+      return null;
+    }
+    float gzipQuality = 0;
+    float deflateQuality = 0;
+    for( String element : acceptEncoding.split( "," ) ) {
+      String[] parts = element.split( ";" );
+      String coding = parts[ 0 ].trim();
+      float quality = parts.length > 1 ? parseQuality( parts[ 1 ] ) : 1;
+      if( ENCODING_GZIP.equalsIgnoreCase( coding ) ) {
+        gzipQuality = quality;
+      } else if( ENCODING_DEFLATE.equalsIgnoreCase( coding ) ) {
+        deflateQuality = quality;
+      }
+    }
+    if( gzipQuality > 0 && gzipQuality >= deflateQuality ) {
+      return ENCODING_GZIP;
+    }
+    return deflateQuality > 0 ? ENCODING_DEFLATE : null;
+  }
+
+  /**
+   * Compresses the given content with the given encoding, either gzip or deflate.
+   */
+  public static byte[] compress( byte[] content, String encoding ) {
+    boolean gzip = ENCODING_GZIP.equals( encoding );
+    ByteArrayOutputStream result = new ByteArrayOutputStream( content.length / 4 + 64 );
+    if( gzip ) {
+      result.write( GZIP_HEADER, 0, GZIP_HEADER.length );
+    }
+    Queue<Deflater> pool = gzip ? GZIP_DEFLATERS : ZLIB_DEFLATERS;
+    Deflater deflater = pool.poll();
+    if( deflater == null ) {
+      deflater = new Deflater( Deflater.DEFAULT_COMPRESSION, gzip );
+    }
+    try {
+      deflater.setInput( content );
+      deflater.finish();
+      byte[] buffer = new byte[ BUFFER_SIZE ];
+      while( !deflater.finished() ) {
+        int count = deflater.deflate( buffer );
+        result.write( buffer, 0, count );
+      }
+    } finally {
+      deflater.reset();
+      if( !pool.offer( deflater ) ) {
+        // releases the native memory of the deflater right away instead of on finalization
+        deflater.end();
+      }
+    }
+    if( gzip ) {
+      CRC32 crc = new CRC32();
+      crc.update( content );
+      writeIntLE( result, ( int )crc.getValue() );
+      writeIntLE( result, content.length );
+    }
+    return result.toByteArray();
+  }
+
+  /**
+   * Ends all pooled deflaters and releases their native memory. Subsequent calls to
+   * {@link #compress(byte[], String)} create new deflaters.
+   */
+  public static void endDeflaters() {
+    endDeflaters( GZIP_DEFLATERS );
+    endDeflaters( ZLIB_DEFLATERS );
+  }
+
+  static int getPooledDeflaterCount() {
+    return GZIP_DEFLATERS.size() + ZLIB_DEFLATERS.size();
+  }
+
+  private static void endDeflaters( Queue<Deflater> pool ) {
+    Deflater deflater = pool.poll();
+    while( deflater != null ) {
+      deflater.end();
+      deflater = pool.poll();
+    }
+  }
+
+  private static float parseQuality( String parameter ) {
+    String[] pair = parameter.split( "=" );
+    if( pair.length == 2 && "q".equals( pair[ 0 ].trim() ) ) {
+      try {
+        return Float.parseFloat( pair[ 1 ].trim() );
+      } catch( @SuppressWarnings( "unused" ) NumberFormatException exception ) {
+        return 0;
+      }
+    }
+    return 1;
+  }
+
+  private static void writeIntLE( ByteArrayOutputStream stream, int value ) {
+    stream.write( value & 0xff );
+    stream.write( ( value >> 8 ) & 0xff );
+    stream.write( ( value >> 16 ) & 0xff );
+    stream.write( ( value >> 24 ) & 0xff );
+  }
+
+  private static final class LimitedInputStream extends FilterInputStream {
+
+    private final long limit;
+    private long count;
+
+    LimitedInputStream( InputStream inputStream, long limit ) {
+      super( inputStream );
+      this.limit = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int result = super.read();
+      if( result != -1 ) {
+        count( 1 );
+      }
+      return result;
+    }
+
+    @Override
+    public int read( byte[] buffer, int offset, int length ) throws IOException {
+      int result = super.read( buffer, offset, length );
+      if( result > 0 ) {
+        count( result );
+      }
+      return result;
+    }
+
+    @Override
+    public long skip( long length ) throws IOException {
+      long result = super.skip( length );
+      count( result );
+      return result;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    private void count( long length ) throws IOException {
+      count += length;
+      if( count > limit ) {
+        throw new IOException( "Request content exceeds the maximal size of " + limit + " bytes" );
+      }
+    }
+
+  }
+
+}
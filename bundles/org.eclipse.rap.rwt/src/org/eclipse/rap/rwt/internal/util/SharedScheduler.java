@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * A scheduler that is shared by all UI sessions of an application. The daemon threads of the
+ * scheduler are created on demand and terminated on shutdown. Tasks that are scheduled after
+ * shutdown are discarded until the scheduler is started again. Scheduled tasks must not block.
+ */
+public class SharedScheduler {
+
+  private final String name;
+  private final int poolSize;
+  private final Object lock;
+  private ScheduledThreadPoolExecutor executor;
+  private boolean shutdown;
+
+  public SharedScheduler( String name, int poolSize ) {
+    ParamCheck.notNull( name, "name" );
+    this.name = name;
+    this.poolSize = poolSize;
+    lock = new Object();
+  }
+
+  /**
+   * Schedules the given task. After shutdown, the task is discarded and a cancelled future is
+   * returned.
+   */
+  public ScheduledFuture<?> schedule( Runnable task, long delay, TimeUnit unit ) {
+    ParamCheck.notNull( task, "task" );
+    synchronized( lock ) {
+      if( shutdown ) {
+        return CancelledFuture.INSTANCE;
+      }
+      return getExecutor().schedule( task, delay, unit );
+    }
+  }
+
+  /**
+   * Allows tasks to be scheduled again after shutdown.
+   */
+  public void start() {
+    synchronized( lock ) {
+      shutdown = false;
+    }
+  }
+
+  public void shutdown() {
+    synchronized( lock ) {
+      shutdown = true;
+      if( executor != null ) {
+        executor.shutdownNow();
+        executor = null;
+      }
+    }
+  }
+
+  private ScheduledThreadPoolExecutor getExecutor() {
+    if( executor == null ) {
+      executor = new ScheduledThreadPoolExecutor( poolSize, new DaemonThreadFactory( name ) );
+      executor.setRemoveOnCancelPolicy( true );
+    }
+    return executor;
+  }
+
+  private static class DaemonThreadFactory implements ThreadFactory {
+
+    private final String name;
+    private final AtomicInteger count;
+
+    DaemonThreadFactory( String name ) {
+      this.name = name;
+      count = new AtomicInteger();
+    }
+
+    @Override
+    public Thread newThread( Runnable runnable ) {
+      Thread thread = new Thread( runnable, name + " " + count.incrementAndGet() );
+      thread.setDaemon( true );
+      return thread;
+    }
+
+  }
+
+  private static final class CancelledFuture implements ScheduledFuture<Object> {
+
+    static final CancelledFuture INSTANCE = new CancelledFuture();
+
+    @Override
+    public long getDelay( TimeUnit unit ) {
+      return 0;
+    }
+
+    @Override
+    public int compareTo( Delayed other ) {
+      return Long.compare( 0, other.getDelay( TimeUnit.NANOSECONDS ) );
+    }
+
+    @Override
+    public boolean cancel( boolean mayInterruptIfRunning ) {
+      return false;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return true;
+    }
+
+    @Override
+    public boolean isDone() {
+      return true;
+    }
+
+    @Override
+    public Object get() {
+      throw new CancellationException();
+    }
+
+    @Override
+    public Object get( long timeout, TimeUnit unit ) {
+      throw new CancellationException();
+    }
+
+  }
+
+}
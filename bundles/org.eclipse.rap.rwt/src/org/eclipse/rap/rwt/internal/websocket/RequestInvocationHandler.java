@@ -0,0 +1,401 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.websocket;
+
+import static org.eclipse.rap.rwt.internal.util.HTTP.CHARSET_UTF_8;
+import static org.eclipse.rap.rwt.internal.util.HTTP.CONTENT_TYPE_BINARY_PROTOCOL;
+import static org.eclipse.rap.rwt.internal.util.HTTP.CONTENT_TYPE_JSON;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CONTENT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.METHOD_POST;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.security.Principal;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TimeZone;
+
+import javax.servlet.ReadListener;
+import javax.servlet.RequestDispatcher;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+import javax.websocket.Session;
+
+import org.eclipse.rap.rwt.service.UISession;
+
+
+/**
+ * Represents a protocol message that was received over a WebSocket connection as a UI request.
+ * Headers, cookies and locales are taken from the handshake request, the request parameters from
+ * the URL of the WebSocket connection. Methods that cannot be answered without a real HTTP
+ * request return the neutral values of the servlet specification, e.g. <code>null</code> for the
+ * remote address or <code>false</code> for <code>isUserInRole()</code>.
+ */
+class RequestInvocationHandler implements InvocationHandler {
+
+  private static final String HEADER_HOST = "Host";
+  private static final String HEADER_COOKIE = "Cookie";
+  private static final String HEADER_ACCEPT_LANGUAGE = "Accept-Language";
+  private static final String DATE_FORMAT = "EEE, dd MMM yyyy HH:mm:ss zzz";
+
+  private final HttpSession httpSession;
+  private final Map<String, List<String>> parameters;
+  private final Map<String, List<String>> headers;
+  private final byte[] content;
+  private final boolean binary;
+  private final boolean secure;
+  private final Principal userPrincipal;
+  private final String queryString;
+  private final Map<String, Object> attributes;
+  private ServletInputStream inputStream;
+
+  RequestInvocationHandler( Session session,
+                            UISession uiSession,
+                            Map<String, List<String>> headers,
+                            byte[] content,
+                            boolean binary )
+  {
+    httpSession = uiSession.getHttpSession();
+    parameters = session.getRequestParameterMap();
+    this.headers = headers == null ? Collections.<String, List<String>>emptyMap() : headers;
+    this.content = content;
+    this.binary = binary;
+    secure = session.isSecure();
+    userPrincipal = session.getUserPrincipal();
+    queryString = session.getQueryString();
+    attributes = new HashMap<>();
+  }
+
+  static HttpServletRequest createRequest( Session session,
+                                           UISession uiSession,
+                                           Map<String, List<String>> headers,
+                                           byte[] content,
+                                           boolean binary )
+  {
+    InvocationHandler handler
+      = new RequestInvocationHandler( session, uiSession, headers, content, binary );
+    ClassLoader classLoader = RequestInvocationHandler.class.getClassLoader();
+    Class<?>[] interfaces = { HttpServletRequest.class };
+    return ( HttpServletRequest )Proxy.newProxyInstance( classLoader, interfaces, handler );
+  }
+
+  @Override
+  public Object invoke( Object proxy, Method method, Object[] args ) throws Throwable {
+    String name = method.getName();
+    Object result = null;
+    if( "getSession".equals( name ) ) {
+      result = httpSession;
+    } else if( "getRequestedSessionId".equals( name ) ) {
+      result = httpSession.getId();
+    } else if( "isRequestedSessionIdValid".equals( name ) ) {
+      result = Boolean.TRUE;
+    } else if( "getParameter".equals( name ) ) {
+      result = getFirst( parameters.get( args[ 0 ] ) );
+    } else if( "getParameterValues".equals( name ) ) {
+      result = toArray( parameters.get( args[ 0 ] ) );
+    } else if( "getParameterNames".equals( name ) ) {
+      result = Collections.enumeration( parameters.keySet() );
+    } else if( "getParameterMap".equals( name ) ) {
+      result = getParameterMap();
+    } else if( "getHeader".equals( name ) ) {
+      result = getFirst( getHeaders( ( String )args[ 0 ] ) );
+    } else if( "getHeaders".equals( name ) ) {
+      result = Collections.enumeration( getHeaders( ( String )args[ 0 ] ) );
+    } else if( "getHeaderNames".equals( name ) ) {
+      result = Collections.enumeration( getHeaderNames() );
+    } else if( "getIntHeader".equals( name ) ) {
+      String value = getFirst( getHeaders( ( String )args[ 0 ] ) );
+      result = Integer.valueOf( value == null ? -1 : Integer.parseInt( value ) );
+    } else if( "getMethod".equals( name ) ) {
+      result = METHOD_POST;
+    } else if( "getContentType".equals( name ) ) {
+      result = binary ? CONTENT_TYPE_BINARY_PROTOCOL : CONTENT_TYPE_JSON;
+    } else if( "getCharacterEncoding".equals( name ) ) {
+      result = binary ? null : CHARSET_UTF_8;
+    } else if( "getContentLength".equals( name ) ) {
+      result = Integer.valueOf( content.length );
+    } else if( "getContentLengthLong".equals( name ) ) {
+      result = Long.valueOf( content.length );
+    } else if( "getInputStream".equals( name ) ) {
+      result = getInputStream();
+    } else if( "getReader".equals( name ) ) {
+      result = new BufferedReader( new InputStreamReader( getInputStream(), CHARSET_UTF_8 ) );
+    } else if( "getProtocol".equals( name ) ) {
+      result = "HTTP/1.1";
+    } else if( "getScheme".equals( name ) ) {
+      result = secure ? "https" : "http";
+    } else if( "isSecure".equals( name ) ) {
+      result = Boolean.valueOf( secure );
+    } else if( "getServerName".equals( name ) ) {
+      result = getServerName();
+    } else if( "getServerPort".equals( name ) ) {
+      result = Integer.valueOf( getServerPort() );
+    } else if( "getContextPath".equals( name ) ) {
+      result = httpSession.getServletContext().getContextPath();
+    } else if( "getServletPath".equals( name ) ) {
+      result = getServletPath();
+    } else if( "getRequestURI".equals( name ) ) {
+      result = httpSession.getServletContext().getContextPath() + getServletPath();
+    } else if( "getRequestURL".equals( name ) ) {
+      result = getRequestURL();
+    } else if( "getQueryString".equals( name ) ) {
+      result = queryString;
+    } else if( "getServletContext".equals( name ) ) {
+      result = httpSession.getServletContext();
+    } else if( "getLocale".equals( name ) ) {
+      result = getLocales().get( 0 );
+    } else if( "getLocales".equals( name ) ) {
+      result = Collections.enumeration( getLocales() );
+    } else if( "getCookies".equals( name ) ) {
+      result = getCookies();
+    } else if( "getAttribute".equals( name ) ) {
+      result = attributes.get( args[ 0 ] );
+    } else if( "setAttribute".equals( name ) ) {
+      attributes.put( ( String )args[ 0 ], args[ 1 ] );
+    } else if( "removeAttribute".equals( name ) ) {
+      attributes.remove( args[ 0 ] );
+    } else if( "getAttributeNames".equals( name ) ) {
+      result = Collections.enumeration( new ArrayList<>( attributes.keySet() ) );
+    } else if( "getUserPrincipal".equals( name ) ) {
+      result = userPrincipal;
+    } else if( "getRemoteUser".equals( name ) ) {
+      result = userPrincipal == null ? null : userPrincipal.getName();
+    } else if( "getRequestDispatcher".equals( name ) ) {
+      result = getRequestDispatcher( ( String )args[ 0 ] );
+    } else if( "getDateHeader".equals( name ) ) {
+      result = Long.valueOf( getDateHeader( ( String )args[ 0 ] ) );
+    } else if( "getLocalName".equals( name ) ) {
+      result = getServerName();
+    } else if( "getLocalPort".equals( name ) ) {
+      result = Integer.valueOf( getServerPort() );
+    } else if( "getRemotePort".equals( name ) ) {
+      result = Integer.valueOf( -1 );
+    } else if( "isRequestedSessionIdFromCookie".equals( name ) ) {
+      result = Boolean.valueOf( getCookies() != null );
+    } else if( "startAsync".equals( name ) ) {
+      throw new IllegalStateException( "Asynchronous processing is not supported" );
+    } else if( method.getDeclaringClass() == Object.class ) {
+      boolean equals = "equals".equals( name );
+      result = equals ? Boolean.valueOf( proxy == args[ 0 ] ) : method.invoke( this );
+    } else {
+      // e.g. getRemoteAddr(), isUserInRole(), getPathInfo(), getParts()
+      result = getNeutralValue( method.getReturnType() );
+    }
+    return result;
+  }
+
+  /*
+   * Returns the value that the servlet specification defines for information that is not
+   * available, which is null for objects, false, zero and empty collections.
+   */
+  static Object getNeutralValue( Class<?> type ) {
+    Object result = null;
+    if( type == boolean.class ) {
+      result = Boolean.FALSE;
+    } else if( type == int.class ) {
+      result = Integer.valueOf( 0 );
+    } else if( type == long.class ) {
+      result = Long.valueOf( 0 );
+    } else if( type == Enumeration.class ) {
+      result = Collections.emptyEnumeration();
+    } else if( type == Collection.class ) {
+      result = Collections.emptyList();
+    } else if( type == Map.class ) {
+      result = Collections.emptyMap();
+    }
+    return result;
+  }
+
+  private RequestDispatcher getRequestDispatcher( String path ) {
+    // relative paths would have to be resolved against the path of the original request
+    if( path == null || !path.startsWith( "/" ) ) {
+      return null;
+    }
+    return httpSession.getServletContext().getRequestDispatcher( path );
+  }
+
+  private long getDateHeader( String name ) {
+    String value = getFirst( getHeaders( name ) );
+    if( value == null ) {
+      return -1;
+    }
+    SimpleDateFormat format = new SimpleDateFormat( DATE_FORMAT, Locale.US );
+    format.setTimeZone( TimeZone.getTimeZone( "GMT" ) );
+    try {
+      return format.parse( value ).getTime();
+    } catch( ParseException exception ) {
+      throw new IllegalArgumentException( "Invalid date header: " + name, exception );
+    }
+  }
+
+  private ServletInputStream getInputStream() {
+    if( inputStream == null ) {
+      final ByteArrayInputStream stream = new ByteArrayInputStream( content );
+      inputStream = new ServletInputStream() {
+        @Override
+        public int read() {
+          return stream.read();
+        }
+        @Override
+        public int read( byte[] bytes, int offset, int length ) {
+          return stream.read( bytes, offset, length );
+        }
+        @Override
+        public boolean isFinished() {
+          return stream.available() == 0;
+        }
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+        @Override
+        public void setReadListener( ReadListener readListener ) {
+          throw new IllegalStateException( "Asynchronous processing is not supported" );
+        }
+      };
+    }
+    return inputStream;
+  }
+
+  private String getServletPath() {
+    String servletPath = getFirst( parameters.get( WebSocketSupport.PARAM_SERVLET_PATH ) );
+    return servletPath == null ? "" : servletPath;
+  }
+
+  private Map<String, String[]> getParameterMap() {
+    Map<String, String[]> result = new LinkedHashMap<>();
+    for( Entry<String, List<String>> entry : parameters.entrySet() ) {
+      result.put( entry.getKey(), toArray( entry.getValue() ) );
+    }
+    return Collections.unmodifiableMap( result );
+  }
+
+  private List<String> getHeaders( String name ) {
+    List<String> values = isHidden( name ) ? null : headers.get( name );
+    return values == null ? Collections.<String>emptyList() : values;
+  }
+
+  private List<String> getHeaderNames() {
+    List<String> result = new ArrayList<>();
+    for( String name : headers.keySet() ) {
+      if( !isHidden( name ) ) {
+        result.add( name );
+      }
+    }
+    return result;
+  }
+
+  /*
+   * Responses are sent in WebSocket frames that are never compressed with HTTP content encodings
+   */
+  private static boolean isHidden( String name ) {
+    return    HEADER_ACCEPT_ENCODING.equalsIgnoreCase( name )
+           || HEADER_CONTENT_ENCODING.equalsIgnoreCase( name );
+  }
+
+  private String getServerName() {
+    String host = getFirst( getHeaders( HEADER_HOST ) );
+    if( host == null ) {
+      return null;
+    }
+    int index = getPortIndex( host );
+    return index == -1 ? host : host.substring( 0, index );
+  }
+
+  private int getServerPort() {
+    String host = getFirst( getHeaders( HEADER_HOST ) );
+    int index = host == null ? -1 : getPortIndex( host );
+    if( index != -1 ) {
+      return Integer.parseInt( host.substring( index + 1 ) );
+    }
+    return secure ? 443 : 80;
+  }
+
+  private static int getPortIndex( String host ) {
+    int index = host.lastIndexOf( ':' );
+    // IPv6 literals contain colons within square brackets
+    return index > host.lastIndexOf( ']' ) ? index : -1;
+  }
+
+  private StringBuffer getRequestURL() {
+    StringBuffer result = new StringBuffer();
+    result.append( secure ? "https" : "http" ).append( "://" ).append( getServerName() );
+    int port = getServerPort();
+    if( port != ( secure ? 443 : 80 ) ) {
+      result.append( ':' ).append( port );
+    }
+    result.append( httpSession.getServletContext().getContextPath() ).append( getServletPath() );
+    return result;
+  }
+
+  private List<Locale> getLocales() {
+    List<Locale> result = new ArrayList<>();
+    for( String header : getHeaders( HEADER_ACCEPT_LANGUAGE ) ) {
+      for( String element : header.split( "," ) ) {
+        String tag = element.split( ";" )[ 0 ].trim();
+        if( tag.length() > 0 && !"*".equals( tag ) ) {
+          result.add( Locale.forLanguageTag( tag ) );
+        }
+      }
+    }
+    if( result.isEmpty() ) {
+      result.add( Locale.getDefault() );
+    }
+    return result;
+  }
+
+  private Cookie[] getCookies() {
+    List<Cookie> result = new ArrayList<>();
+    for( String header : getHeaders( HEADER_COOKIE ) ) {
+      for( String element : header.split( ";" ) ) {
+        int index = element.indexOf( '=' );
+        if( index > 0 ) {
+          String value = element.substring( index + 1 ).trim();
+          if( value.length() > 1 && value.startsWith( "\"" ) && value.endsWith( "\"" ) ) {
+            value = value.substring( 1, value.length() - 1 );
+          }
+          try {
+            result.add( new Cookie( element.substring( 0, index ).trim(), value ) );
+          } catch( @SuppressWarnings( "unused" ) IllegalArgumentException exception ) {
+            // ignore cookies with invalid names
+          }
+        }
+      }
+    }
+    return result.isEmpty() ? null : result.toArray( new Cookie[ result.size() ] );
+  }
+
+  private static String getFirst( List<String> values ) {
+    return values == null || values.isEmpty() ? null : values.get( 0 );
+  }
+
+  private static String[] toArray( List<String> values ) {
+    return values == null ? null : values.toArray( new String[ values.size() ] );
+  }
+
+}
@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.websocket;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.rwt.internal.util.HTTP;
+
+
+/**
+ * Buffers the response of a UI request that was received over a WebSocket connection. Headers
+ * are recorded but not transmitted, cookies cannot be set. Methods that have no effect on a
+ * WebSocket message are ignored and return neutral values.
+ */
+class ResponseInvocationHandler implements InvocationHandler {
+
+  private final ByteArrayOutputStream content;
+  private final Map<String, Object> headers;
+  private String contentType;
+  private String characterEncoding;
+  private int status;
+  private Locale locale;
+  private ServletOutputStream outputStream;
+  private PrintWriter writer;
+
+  ResponseInvocationHandler() {
+    content = new ByteArrayOutputStream();
+    headers = new HashMap<>();
+    characterEncoding = HTTP.CHARSET_UTF_8;
+    status = HttpServletResponse.SC_OK;
+  }
+
+  HttpServletResponse createResponse() {
+    ClassLoader classLoader = getClass().getClassLoader();
+    Class<?>[] interfaces = { HttpServletResponse.class };
+    return ( HttpServletResponse )Proxy.newProxyInstance( classLoader, interfaces, this );
+  }
+
+  byte[] getContent() {
+    if( writer != null ) {
+      writer.flush();
+    }
+    return content.toByteArray();
+  }
+
+  String getContentType() {
+    return contentType;
+  }
+
+  int getStatus() {
+    return status;
+  }
+
+  @Override
+  public Object invoke( Object proxy, Method method, Object[] args ) throws Throwable {
+    String name = method.getName();
+    Object result = null;
+    if( "setContentType".equals( name ) ) {
+      contentType = ( String )args[ 0 ];
+    } else if( "getContentType".equals( name ) ) {
+      result = contentType;
+    } else if( "setCharacterEncoding".equals( name ) ) {
+      characterEncoding = ( String )args[ 0 ];
+    } else if( "getCharacterEncoding".equals( name ) ) {
+      result = characterEncoding;
+    } else if( "setStatus".equals( name ) || "sendError".equals( name ) ) {
+      status = ( ( Integer )args[ 0 ] ).intValue();
+    } else if( "getStatus".equals( name ) ) {
+      result = Integer.valueOf( status );
+    } else if( name.startsWith( "set" ) && name.endsWith( "Header" ) ) {
+      headers.put( lowerCase( args[ 0 ] ), args[ 1 ] );
+    } else if( name.startsWith( "add" ) && name.endsWith( "Header" ) ) {
+      String key = lowerCase( args[ 0 ] );
+      if( !headers.containsKey( key ) ) {
+        headers.put( key, args[ 1 ] );
+      }
+    } else if( "containsHeader".equals( name ) ) {
+      result = Boolean.valueOf( headers.containsKey( lowerCase( args[ 0 ] ) ) );
+    } else if( "getHeader".equals( name ) ) {
+      Object value = headers.get( lowerCase( args[ 0 ] ) );
+      result = value == null ? null : String.valueOf( value );
+    } else if( "getOutputStream".equals( name ) ) {
+      result = getOutputStream();
+    } else if( "getWriter".equals( name ) ) {
+      result = getWriter();
+    } else if( "getHeaders".equals( name ) ) {
+      Object value = headers.get( lowerCase( args[ 0 ] ) );
+      result = value == null
+             ? Collections.<String>emptyList()
+             : Collections.singletonList( String.valueOf( value ) );
+    } else if( "getHeaderNames".equals( name ) ) {
+      result = new ArrayList<>( headers.keySet() );
+    } else if( name.startsWith( "encode" ) ) {
+      // encodeURL, encodeRedirectURL and their deprecated variants
+      result = args[ 0 ];
+    } else if( "sendRedirect".equals( name ) ) {
+      status = HttpServletResponse.SC_FOUND;
+      headers.put( "location", args[ 0 ] );
+    } else if( "setLocale".equals( name ) ) {
+      locale = ( Locale )args[ 0 ];
+    } else if( "getLocale".equals( name ) ) {
+      result = locale;
+    } else if( "isCommitted".equals( name ) ) {
+      result = Boolean.FALSE;
+    } else if( "reset".equals( name ) || "resetBuffer".equals( name ) ) {
+      content.reset();
+    } else if( method.getDeclaringClass() == Object.class ) {
+      boolean equals = "equals".equals( name );
+      result = equals ? Boolean.valueOf( proxy == args[ 0 ] ) : method.invoke( this );
+    } else {
+      // e.g. addCookie(), setContentLength(), getBufferSize(), flushBuffer()
+      result = RequestInvocationHandler.getNeutralValue( method.getReturnType() );
+    }
+    return result;
+  }
+
+  private ServletOutputStream getOutputStream() {
+    if( outputStream == null ) {
+      outputStream = new ServletOutputStream() {
+        @Override
+        public void write( int b ) {
+          content.write( b );
+        }
+        @Override
+        public void write( byte[] bytes, int offset, int length ) {
+          content.write( bytes, offset, length );
+        }
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+        @Override
+        public void setWriteListener( WriteListener writeListener ) {
+          throw new IllegalStateException( "Asynchronous processing is not supported" );
+        }
+      };
+    }
+    return outputStream;
+  }
+
+  private PrintWriter getWriter() throws Exception {
+    if( writer == null ) {
+      writer = new PrintWriter( new OutputStreamWriter( content, characterEncoding ) );
+    }
+    return writer;
+  }
+
+  private static String lowerCase( Object name ) {
+    return ( ( String )name ).toLowerCase( Locale.ENGLISH );
+  }
+
+}
@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.websocket;
+
+import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.CONNECTION_ID;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.servlet.http.HttpSession;
+import javax.websocket.CloseReason;
+import javax.websocket.CloseReason.CloseCodes;
+import javax.websocket.DeploymentException;
+import javax.websocket.Endpoint;
+import javax.websocket.EndpointConfig;
+import javax.websocket.HandshakeResponse;
+import javax.websocket.MessageHandler;
+import javax.websocket.Session;
+import javax.websocket.server.HandshakeRequest;
+import javax.websocket.server.ServerContainer;
+import javax.websocket.server.ServerEndpointConfig;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
+import org.eclipse.rap.rwt.internal.util.HTTP;
+
+
+/**
+ * The JSR-356 endpoint that carries UI requests and server push notifications of a single UI
+ * session. The HTTP session is taken from the handshake request, hence the endpoint only accepts
+ * connections for UI sessions that have already been created by a regular HTTP request. Handshakes
+ * from foreign origins are rejected, see {@link RWTProperties#WEB_SOCKET_ALLOWED_ORIGINS}.
+ */
+public class UIWebSocketEndpoint extends Endpoint {
+
+  static final String PROP_HTTP_SESSION = UIWebSocketEndpoint.class.getName() + "#httpSession";
+  static final String PROP_HEADERS = UIWebSocketEndpoint.class.getName() + "#headers";
+  static final String PROP_ORIGIN_REJECTED
+    = UIWebSocketEndpoint.class.getName() + "#originRejected";
+  static final int MAX_MESSAGE_SIZE = 16 * 1024 * 1024;
+  private static final String HEADER_ORIGIN = "Origin";
+  private static final String HEADER_HOST = "Host";
+  private static final Charset UTF_8 = Charset.forName( HTTP.CHARSET_UTF_8 );
+
+  private WebSocketConnection connection;
+
+  static void install( Object serverContainer ) throws DeploymentException {
+    ServerEndpointConfig config = ServerEndpointConfig.Builder
+      .create( UIWebSocketEndpoint.class, WebSocketSupport.PATH )
+      .configurator( new HandshakeConfigurator() )
+      .build();
+    ( ( ServerContainer )serverContainer ).addEndpoint( config );
+  }
+
+  @Override
+  public void onOpen( Session session, EndpointConfig config ) {
+    Map<String, Object> properties = config.getUserProperties();
+    HttpSession httpSession = ( HttpSession )properties.get( PROP_HTTP_SESSION );
+    @SuppressWarnings( "unchecked" )
+    Map<String, List<String>> headers = ( Map<String, List<String>> )properties.get( PROP_HEADERS );
+    if( Boolean.TRUE.equals( properties.get( PROP_ORIGIN_REJECTED ) ) ) {
+      WebSocketConnection.close( session, CloseCodes.VIOLATED_POLICY, "invalid origin" );
+      return;
+    }
+    UISessionImpl uiSession = getUISession( httpSession, getParameter( session, CONNECTION_ID ) );
+    if( uiSession == null || !uiSession.isBound() ) {
+      WebSocketConnection.close( session, CloseCodes.VIOLATED_POLICY, "invalid session" );
+    } else {
+      session.setMaxTextMessageBufferSize( MAX_MESSAGE_SIZE );
+      session.setMaxBinaryMessageBufferSize( MAX_MESSAGE_SIZE );
+      connection = new WebSocketConnection( session, uiSession, headers );
+      session.addMessageHandler( new MessageHandler.Whole<String>() {
+        @Override
+        public void onMessage( String message ) {
+          connection.handleText( message );
+        }
+      } );
+      session.addMessageHandler( new MessageHandler.Whole<ByteBuffer>() {
+        @Override
+        public void onMessage( ByteBuffer message ) {
+          byte[] content = new byte[ message.remaining() ];
+          message.get( content );
+          connection.handleBinary( content );
+        }
+      } );
+      connection.open();
+    }
+  }
+
+  @Override
+  public void onClose( Session session, CloseReason closeReason ) {
+    if( connection != null ) {
+      connection.dispose();
+    }
+  }
+
+  private static UISessionImpl getUISession( HttpSession httpSession, String connectionId ) {
+    if( httpSession == null || connectionId == null ) {
+      return null;
+    }
+    try {
+      return UISessionImpl.getInstanceFromSession( httpSession, connectionId );
+    } catch( @SuppressWarnings( "unused" ) IllegalStateException exception ) {
+      // HTTP session has been invalidated in the meantime
+      return null;
+    }
+  }
+
+  static String getParameter( Session session, String name ) {
+    List<String> values = session.getRequestParameterMap().get( name );
+    return values == null || values.isEmpty() ? null : values.get( 0 );
+  }
+
+  static String decode( byte[] content ) {
+    return new String( content, UTF_8 );
+  }
+
+  static byte[] encode( String content ) {
+    return content.getBytes( UTF_8 );
+  }
+
+  /*
+   * Browsers send the origin of the page that opens a WebSocket connection. Only pages of the
+   * application itself and of explicitly allowed origins may use the HTTP session, otherwise any
+   * site could open a connection on behalf of an authenticated user. Clients that are not
+   * browsers do not send an origin.
+   */
+  static boolean isAllowedOrigin( String origin, String host, List<String> allowedOrigins ) {
+    if( origin == null ) {
+      return true;
+    }
+    for( String allowedOrigin : allowedOrigins ) {
+      if( stripTrailingSlash( allowedOrigin ).equalsIgnoreCase( stripTrailingSlash( origin ) ) ) {
+        return true;
+      }
+    }
+    if( host == null ) {
+      return false;
+    }
+    URI uri;
+    try {
+      uri = new URI( origin.trim() );
+    } catch( @SuppressWarnings( "unused" ) URISyntaxException exception ) {
+      return false;
+    }
+    String scheme = uri.getScheme();
+    if( uri.getHost() == null || !"http".equals( scheme ) && !"https".equals( scheme ) ) {
+      return false;
+    }
+    int defaultPort = "https".equals( scheme ) ? 443 : 80;
+    String originAuthority = getAuthority( uri.getHost(), uri.getPort(), defaultPort );
+    return originAuthority.equalsIgnoreCase( getHostAuthority( host.trim(), defaultPort ) );
+  }
+
+  private static String getHostAuthority( String host, int defaultPort ) {
+    int index = host.lastIndexOf( ':' );
+    // IPv6 literals contain colons within square brackets
+    if( index > host.lastIndexOf( ']' ) ) {
+      try {
+        int port = Integer.parseInt( host.substring( index + 1 ) );
+        return getAuthority( host.substring( 0, index ), port, defaultPort );
+      } catch( @SuppressWarnings( "unused" ) NumberFormatException exception ) {
+        return host;
+      }
+    }
+    return host;
+  }
+
+  private static String getAuthority( String hostName, int port, int defaultPort ) {
+    return port == -1 || port == defaultPort ? hostName : hostName + ":" + port;
+  }
+
+  private static String stripTrailingSlash( String origin ) {
+    String result = origin.trim();
+    return result.endsWith( "/" ) ? result.substring( 0, result.length() - 1 ) : result;
+  }
+
+  static class HandshakeConfigurator extends ServerEndpointConfig.Configurator {
+
+    @Override
+    public void modifyHandshake( ServerEndpointConfig config,
+                                 HandshakeRequest request,
+                                 HandshakeResponse response )
+    {
+      Map<String, List<String>> headers = new TreeMap<>( String.CASE_INSENSITIVE_ORDER );
+      headers.putAll( request.getHeaders() );
+      Map<String, Object> properties = config.getUserProperties();
+      String origin = getFirst( headers.get( HEADER_ORIGIN ) );
+      String host = getFirst( headers.get( HEADER_HOST ) );
+      if( isAllowedOrigin( origin, host, RWTProperties.getWebSocketAllowedOrigins() ) ) {
+        properties.put( PROP_ORIGIN_REJECTED, Boolean.FALSE );
+        properties.put( PROP_HTTP_SESSION, request.getHttpSession() );
+      } else {
+        properties.put( PROP_ORIGIN_REJECTED, Boolean.TRUE );
+        properties.remove( PROP_HTTP_SESSION );
+      }
+      properties.put( PROP_HEADERS, headers );
+    }
+
+    private static String getFirst( List<String> values ) {
+      return values == null || values.isEmpty() ? null : values.get( 0 );
+    }
+
+  }
+
+}
@@ -0,0 +1,280 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.websocket;
+
+import static org.eclipse.rap.rwt.internal.util.HTTP.CONTENT_TYPE_BINARY_PROTOCOL;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.websocket.CloseReason;
+import javax.websocket.CloseReason.CloseCode;
+import javax.websocket.CloseReason.CloseCodes;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
+import javax.websocket.Session;
+
+import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
+import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServiceContext;
+import org.eclipse.rap.rwt.internal.service.ServiceStore;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
+import org.eclipse.rap.rwt.service.UISessionEvent;
+import org.eclipse.rap.rwt.service.UISessionListener;
+
+
+/**
+ * Processes the messages of a WebSocket connection that belongs to a single UI session.
+ * <p>
+ * Text and binary frames that contain protocol messages are processed like UI requests that are
+ * received by the <code>RWTServlet</code>, and the response is sent back in a frame of the same
+ * type. A text frame with the content <code>serverPush</code> replaces the long-polling server push
+ * request: the same frame is sent back to the client as soon as the blocked request would have
+ * been released. This frame is sent asynchronously, so that releasing a blocked request never
+ * waits for the client.
+ * </p>
+ */
+class WebSocketConnection implements UISessionListener {
+
+  static final String SERVER_PUSH = "serverPush";
+  private static final String PROP_ERROR = "error";
+
+  private transient final Session session;
+  private transient final UISessionImpl uiSession;
+  private transient final Map<String, List<String>> headers;
+  // the remote endpoint does not allow concurrent sends
+  private transient final Semaphore sendPermit;
+  private transient final AtomicBoolean serverPushRequested;
+  private transient final AtomicBoolean serverPushPending;
+  private transient final Runnable releaseCallback;
+
+  WebSocketConnection( Session session,
+                       UISessionImpl uiSession,
+                       Map<String, List<String>> headers )
+  {
+    this.session = session;
+    this.uiSession = uiSession;
+    this.headers = headers;
+    sendPermit = new Semaphore( 1 );
+    serverPushRequested = new AtomicBoolean();
+    serverPushPending = new AtomicBoolean();
+    releaseCallback = new Runnable() {
+      @Override
+      public void run() {
+        releaseServerPushRequest();
+      }
+    };
+  }
+
+  void open() {
+    if( uiSession.addUISessionListener( this ) ) {
+      uiSession.exec( new Runnable() {
+        @Override
+        public void run() {
+          ServerPushManager.getInstance().setReleaseCallback( releaseCallback );
+        }
+      } );
+    } else {
+      close( session, CloseCodes.VIOLATED_POLICY, "invalid session" );
+    }
+  }
+
+  void dispose() {
+    uiSession.removeUISessionListener( this );
+    if( uiSession.isBound() ) {
+      uiSession.exec( new Runnable() {
+        @Override
+        public void run() {
+          ServerPushManager.getInstance().removeReleaseCallback( releaseCallback );
+        }
+      } );
+    }
+  }
+
+  void handleText( String message ) {
+    if( SERVER_PUSH.equals( message ) ) {
+      requestServerPush();
+    } else {
+      handleMessage( UIWebSocketEndpoint.encode( message ), false );
+    }
+  }
+
+  void handleBinary( byte[] content ) {
+    handleMessage( content, true );
+  }
+
+  @Override
+  public void beforeDestroy( UISessionEvent event ) {
+    close( session, CloseCodes.GOING_AWAY, "session terminated" );
+  }
+
+  private void handleMessage( byte[] content, boolean binary ) {
+    ApplicationContextImpl applicationContext = uiSession.getApplicationContext();
+    if( !uiSession.isBound() || applicationContext == null || !applicationContext.allowsRequests() )
+    {
+      // let the client resend the message over HTTP to get a regular error response
+      close( session, CloseCodes.GOING_AWAY, "session terminated" );
+    } else {
+      ResponseInvocationHandler responseHandler = new ResponseInvocationHandler();
+      HttpServletResponse response = responseHandler.createResponse();
+      HttpServletRequest request
+        = RequestInvocationHandler.createRequest( session, uiSession, headers, content, binary );
+      try {
+        service( applicationContext, request, response );
+        byte[] result = responseHandler.getContent();
+        if( isBinary( responseHandler.getContentType() ) ) {
+          sendBinary( result );
+        } else {
+          sendText( UIWebSocketEndpoint.decode( result ) );
+        }
+      } catch( Exception exception ) {
+        log( "Failed to process WebSocket message", exception );
+        sendText( createErrorMessage() );
+      }
+    }
+  }
+
+  private void service( ApplicationContextImpl applicationContext,
+                        HttpServletRequest request,
+                        HttpServletResponse response )
+    throws Exception
+  {
+    ServiceContext context = new ServiceContext( request, response, uiSession );
+    context.setServiceStore( new ServiceStore() );
+    ContextProvider.setContext( context );
+    try {
+      applicationContext.getServiceManager().getHandler().service( request, response );
+    } finally {
+      ContextProvider.disposeContext();
+    }
+  }
+
+  private void requestServerPush() {
+    if( uiSession.isBound() ) {
+      serverPushRequested.set( true );
+      uiSession.exec( new Runnable() {
+        @Override
+        public void run() {
+          if( !ServerPushManager.getInstance().mustBlockCallBackRequest() ) {
+            releaseServerPushRequest();
+          }
+        }
+      } );
+    }
+  }
+
+  /*
+   * Called by the ServerPushManager on the thread that releases the blocked request, which may be
+   * a shared scheduler thread or hold the display lock, must not block.
+   */
+  private void releaseServerPushRequest() {
+    if( serverPushRequested.compareAndSet( true, false ) ) {
+      serverPushPending.set( true );
+      sendPendingServerPush();
+    }
+  }
+
+  /*
+   * Sends a pending server push frame asynchronously if no other frame is being sent. Otherwise,
+   * the frame is sent by the thread that completes the current send.
+   */
+  private void sendPendingServerPush() {
+    while( serverPushPending.get() && sendPermit.tryAcquire() ) {
+      if( serverPushPending.compareAndSet( true, false ) ) {
+        sendServerPushAsync();
+        return;
+      }
+      sendPermit.release();
+    }
+  }
+
+  private void sendServerPushAsync() {
+    try {
+      session.getAsyncRemote().sendText( SERVER_PUSH, new SendHandler() {
+        @Override
+        public void onResult( SendResult result ) {
+          sendPermit.release();
+          if( result.isOK() ) {
+            sendPendingServerPush();
+          } else {
+            close( session, CloseCodes.CLOSED_ABNORMALLY, "send failed" );
+          }
+        }
+      } );
+    } catch( @SuppressWarnings( "unused" ) RuntimeException exception ) {
+      // session has been closed in the meantime
+      sendPermit.release();
+      close( session, CloseCodes.CLOSED_ABNORMALLY, "send failed" );
+    }
+  }
+
+  private void sendText( String text ) {
+    sendPermit.acquireUninterruptibly();
+    try {
+      session.getBasicRemote().sendText( text );
+    } catch( @SuppressWarnings( "unused" ) IOException exception ) {
+      close( session, CloseCodes.CLOSED_ABNORMALLY, "send failed" );
+    } finally {
+      sendPermit.release();
+    }
+    sendPendingServerPush();
+  }
+
+  private void sendBinary( byte[] content ) {
+    sendPermit.acquireUninterruptibly();
+    try {
+      session.getBasicRemote().sendBinary( ByteBuffer.wrap( content ) );
+    } catch( @SuppressWarnings( "unused" ) IOException exception ) {
+      close( session, CloseCodes.CLOSED_ABNORMALLY, "send failed" );
+    } finally {
+      sendPermit.release();
+    }
+    sendPendingServerPush();
+  }
+
+  private void log( String message, Throwable throwable ) {
+    try {
+      uiSession.getHttpSession().getServletContext().log( message, throwable );
+    } catch( @SuppressWarnings( "unused" ) IllegalStateException exception ) {
+      // HTTP session has been invalidated in the meantime
+    }
+  }
+
+  private static String createErrorMessage() {
+    ProtocolMessageWriter writer = new ProtocolMessageWriter();
+    writer.appendHead( PROP_ERROR, JsonValue.valueOf( "server error" ) );
+    return writer.createMessage().toJson().toString();
+  }
+
+  private static boolean isBinary( String contentType ) {
+    return contentType != null && contentType.startsWith( CONTENT_TYPE_BINARY_PROTOCOL );
+  }
+
+  static void close( Session session, CloseCode code, String reason ) {
+    try {
+      if( session.isOpen() ) {
+        session.close( new CloseReason( code, reason ) );
+      }
+    } catch( @SuppressWarnings( "unused" ) IOException exception ) {
+      // connection is already broken
+    }
+  }
+
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.websocket;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+
+import javax.servlet.ServletContext;
+import javax.servlet.http.HttpServletRequest;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.util.HTTP;
+
+
+/**
+ * Installs the optional WebSocket transport for UI requests and server push. The transport is only
+ * available if enabled with the system property <code>org.eclipse.rap.rwt.webSocket</code> and if
+ * the servlet container provides a JSR-356 server container. Clients that cannot establish a
+ * WebSocket connection keep using plain HTTP requests.
+ * <p>
+ * This class must not refer to the <code>javax.websocket</code> API since it is an optional
+ * dependency.
+ * </p>
+ */
+public final class WebSocketSupport {
+
+  public static final String PATH = "/rwt-websocket";
+  static final String PARAM_SERVLET_PATH = "servletPath";
+  static final String ATTR_SERVER_CONTAINER = "javax.websocket.server.ServerContainer";
+  private static final String ATTR_INSTALLED = WebSocketSupport.class.getName() + "#installed";
+
+  private WebSocketSupport() {
+    // prevent instantiation
+  }
+
+  /**
+   * Registers the WebSocket endpoint with the server container of the given servlet context. Does
+   * nothing if the transport is disabled, not supported by the container or already installed.
+   * Failures are logged and leave the HTTP transport in place.
+   */
+  public static void install( ServletContext servletContext ) {
+    if( RWTProperties.isWebSocketEnabled() && !isInstalled( servletContext ) ) {
+      Object serverContainer = servletContext.getAttribute( ATTR_SERVER_CONTAINER );
+      if( serverContainer != null ) {
+        try {
+          UIWebSocketEndpoint.install( serverContainer );
+          servletContext.setAttribute( ATTR_INSTALLED, Boolean.TRUE );
+        } catch( Exception exception ) {
+          servletContext.log( "Failed to install WebSocket endpoint", exception );
+        } catch( LinkageError error ) {
+          servletContext.log( "WebSocket API not available", error );
+        }
+      }
+    }
+  }
+
+  public static boolean isInstalled( ServletContext servletContext ) {
+    return    servletContext != null
+           && Boolean.TRUE.equals( servletContext.getAttribute( ATTR_INSTALLED ) );
+  }
+
+  /**
+   * Returns the path of the WebSocket endpoint for UI sessions of the servlet that received the
+   * given request. The client appends its connection id.
+   */
+  public static String getUrl( HttpServletRequest request ) {
+    String servletPath = encodeParameter( request.getServletPath() );
+    return request.getContextPath() + PATH + "?" + PARAM_SERVLET_PATH + "=" + servletPath;
+  }
+
+  private static String encodeParameter( String value ) {
+    try {
+      return URLEncoder.encode( value, HTTP.CHARSET_UTF_8 ).replace( "+", "%20" );
+    } catch( UnsupportedEncodingException exception ) {
+      throw new RuntimeException( exception );
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,13 +13,22 @@ package org.eclipse.rap.rwt.widgets;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.service.ServiceHandler;
+import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Synchronizer;
 
@@ -32,6 +41,15 @@ import org.eclipse.swt.widgets.Synchronizer;
  * is required, then this synchronizer should be used. Call <code>setSynchronizer()</code> right
  * after the display was constructed.
  * </p>
+ * <p>
+ * When runnables are added, the synchronizer marks the UI session as changed by means of a
+ * {@link SessionTouchHandler}. Runnables that are added in short succession are reported with a
+ * single call to the handler. The default handler sets the UI session attribute of the HTTP
+ * session again, which is sufficient for servlet containers that replicate changes to session
+ * attributes immediately. For containers that replicate sessions only at the end of a request, a
+ * handler that sends a request to the local server is available with
+ * {@link #createLoopbackTouchHandler()}.
+ * </p>
  *
  * @see Synchronizer
  * @see org.eclipse.swt.widgets.Display#setSynchronizer
@@ -41,19 +59,80 @@ import org.eclipse.swt.widgets.Synchronizer;
  * @noextend This class is not intended to be subclassed by clients.
  */
 public class ClusteredSynchronizer extends Synchronizer {
-  private final String requestUrl;
-  private final String cookies;
+
+  private final UISession uiSession;
+  private final SessionTouchHandler touchHandler;
+  private transient boolean touchPending;
 
   public ClusteredSynchronizer( Display display ) {
+    this( display, new AttributeTouchHandler() );
+  }
+
+  /**
+   * Creates a synchronizer that uses the given handler to mark the UI session as changed.
+   *
+   * @param display the display to create the synchronizer on
+   * @param touchHandler the handler to inform when runnables have been added
+   * @since 3.12
+   */
+  public ClusteredSynchronizer( Display display, SessionTouchHandler touchHandler ) {
     super( display );
-    requestUrl = AsyncExecServiceHandler.createRequestUrl( RWT.getRequest() );
-    cookies = extractRequestCookies( RWT.getRequest() );
+    ParamCheck.notNull( touchHandler, "touchHandler" );
+    uiSession = RWT.getUISession( display );
+    this.touchHandler = touchHandler;
+  }
+
+  /**
+   * Creates a session touch handler that sends a request to the local server for every touch,
+   * so that the servlet container replicates the session at the end of this request. This method
+   * must be called from the UI thread.
+   *
+   * @return a session touch handler that uses loopback requests
+   * @since 3.12
+   */
+  public static SessionTouchHandler createLoopbackTouchHandler() {
+    HttpServletRequest request = RWT.getRequest();
+    String requestUrl = AsyncExecServiceHandler.createRequestUrl( request );
+    String cookies = extractRequestCookies( request );
     AsyncExecServiceHandler.register();
+    return new LoopbackTouchHandler( requestUrl, cookies );
   }
 
   @Override
   protected void runnableAdded( Runnable runnable ) {
-    notifyAsyncExecServiceHandler();
+    if( markTouchPending() ) {
+      ApplicationContextImpl applicationContext = getApplicationContext( uiSession );
+      if( applicationContext != null ) {
+        applicationContext.getScheduler().schedule( new TouchTask(), 0, TimeUnit.MILLISECONDS );
+      } else {
+        clearTouchPending();
+      }
+    }
+  }
+
+  SessionTouchHandler getTouchHandler() {
+    return touchHandler;
+  }
+
+  synchronized boolean isTouchPending() {
+    return touchPending;
+  }
+
+  private synchronized boolean markTouchPending() {
+    if( touchPending ) {
+      return false;
+    }
+    touchPending = true;
+    return true;
+  }
+
+  private synchronized void clearTouchPending() {
+    touchPending = false;
+  }
+
+  private static ApplicationContextImpl getApplicationContext( UISession uiSession ) {
+    ApplicationContextImpl result = ( ( UISessionImpl )uiSession ).getApplicationContext();
+    return result != null && result.isActive() ? result : null;
   }
 
   static String extractRequestCookies( HttpServletRequest request ) {
@@ -70,31 +149,116 @@ public class ClusteredSynchronizer extends Synchronizer {
     return result;
   }
 
-  private void notifyAsyncExecServiceHandler() {
-    try {
-      sendAsyncExecServiceHandlerRequest();
-    } catch( IOException ioe ) {
-      throw new RuntimeException( ioe );
+  private final class TouchTask implements Runnable {
+
+    @Override
+    public void run() {
+      // runnables that are added from now on lead to another touch
+      clearTouchPending();
+      try {
+        touchHandler.touchSession( uiSession );
+      } catch( RuntimeException exception ) {
+        ServletLog.log( "Failed to touch session", exception );
+      }
     }
+
   }
 
-  private void sendAsyncExecServiceHandlerRequest() throws IOException {
-    HttpURLConnection connection = createConnection();
-    connection.connect();
-    int responseCode = connection.getResponseCode();
-    if( responseCode != HttpURLConnection.HTTP_OK ) {
-      String msg = "AsyncExec service request returned response code " + responseCode;
-      throw new IOException( msg );
+  static class AttributeTouchHandler implements SessionTouchHandler {
+
+    @Override
+    public void touchSession( UISession uiSession ) {
+      // See RWTClusterSupport#markSessionChanged
+      if( uiSession.isBound() ) {
+        try {
+          ( ( UISessionImpl )uiSession ).attachToHttpSession();
+        } catch( @SuppressWarnings( "unused" ) IllegalStateException exception ) {
+          // HTTP session has been invalidated in the meantime
+        }
+      }
     }
+
   }
 
-  private HttpURLConnection createConnection() throws IOException {
-    URL url = new URL( requestUrl );
-    HttpURLConnection result = ( HttpURLConnection )url.openConnection();
-    if( cookies.length() > 0 ) {
-      result.setRequestProperty( "Cookie", cookies );
+  /*
+   * The loopback requests are sent from a pool of its own, so that a slow or unresponsive server
+   * does not block the shared scheduler of the application. The threads of the pool terminate when
+   * they are idle.
+   */
+  static class LoopbackTouchHandler implements SessionTouchHandler {
+
+    private static final int CONNECT_TIMEOUT = 5000;
+    private static final int READ_TIMEOUT = 10000;
+    private static final int POOL_SIZE = 2;
+    private static final long KEEP_ALIVE_TIME = 60;
+    private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+    private final String requestUrl;
+    private final String cookies;
+
+    LoopbackTouchHandler( String requestUrl, String cookies ) {
+      this.requestUrl = requestUrl;
+      this.cookies = cookies;
     }
-    return result;
+
+    @Override
+    public void touchSession( UISession uiSession ) {
+      EXECUTOR.execute( new Runnable() {
+        @Override
+        public void run() {
+          try {
+            sendAsyncExecServiceHandlerRequest();
+          } catch( IOException exception ) {
+            ServletLog.log( "Failed to touch session", exception );
+          }
+        }
+      } );
+    }
+
+    private void sendAsyncExecServiceHandlerRequest() throws IOException {
+      HttpURLConnection connection = createConnection();
+      try {
+        connection.connect();
+        int responseCode = connection.getResponseCode();
+        if( responseCode != HttpURLConnection.HTTP_OK ) {
+          String msg = "AsyncExec service request returned response code " + responseCode;
+          throw new IOException( msg );
+        }
+      } finally {
+        connection.disconnect();
+      }
+    }
+
+    private HttpURLConnection createConnection() throws IOException {
+      URL url = new URL( requestUrl );
+      HttpURLConnection result = ( HttpURLConnection )url.openConnection();
+      result.setConnectTimeout( CONNECT_TIMEOUT );
+      result.setReadTimeout( READ_TIMEOUT );
+      if( cookies.length() > 0 ) {
+        result.setRequestProperty( "Cookie", cookies );
+      }
+      return result;
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+      ThreadFactory threadFactory = new ThreadFactory() {
+        @Override
+        public Thread newThread( Runnable runnable ) {
+          Thread thread = new Thread( runnable, "RAP Session Touch" );
+          thread.setDaemon( true );
+          return thread;
+        }
+      };
+      ThreadPoolExecutor result = new ThreadPoolExecutor( POOL_SIZE,
+                                                          POOL_SIZE,
+                                                          KEEP_ALIVE_TIME,
+                                                          TimeUnit.SECONDS,
+                                                          new LinkedBlockingQueue<Runnable>(),
+                                                          threadFactory );
+      result.allowCoreThreadTimeOut( true );
+      return result;
+    }
+
   }
 
   static class AsyncExecServiceHandler implements ServiceHandler {
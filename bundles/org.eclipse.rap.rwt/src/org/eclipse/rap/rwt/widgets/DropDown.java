@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2018 EclipseSource and others.
+ * Copyright (c) 2013, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -382,7 +382,7 @@ public class DropDown extends Widget {
       //             not ideal. Revise once Bug 397602 (Render operations in the order of their
       //             occurrence) is fixed.
       if( widgetAdapter == null ) {
-        widgetAdapter = new WidgetRemoteAdapter( getProtocolId() );
+        widgetAdapter = new WidgetRemoteAdapter( getProtocolId(), DropDown.class );
       }
       result = ( T )widgetAdapter;
     } else {
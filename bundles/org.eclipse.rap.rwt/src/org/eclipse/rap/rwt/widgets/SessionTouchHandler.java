@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.widgets;
+
+import java.io.Serializable;
+
+import org.eclipse.rap.rwt.service.UISession;
+
+
+/**
+ * A session touch handler informs the servlet container that the state of a UI session has
+ * changed outside of a request, so that the change is replicated in a cluster.
+ * <p>
+ * The {@link ClusteredSynchronizer} calls this handler after runnables have been added with
+ * <code>asyncExec()</code> or <code>syncExec()</code>. The handler is called from a background
+ * thread that is shared by all UI sessions and must therefore return quickly.
+ * </p>
+ *
+ * @see ClusteredSynchronizer#ClusteredSynchronizer(org.eclipse.swt.widgets.Display,
+ *      SessionTouchHandler)
+ * @since 3.12
+ */
+public interface SessionTouchHandler extends Serializable {
+
+  /**
+   * Marks the given UI session as changed.
+   *
+   * @param uiSession the UI session that has changed, never <code>null</code>
+   */
+  void touchSession( UISession uiSession );
+
+}
@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import org.eclipse.swt.SWT;
+
+
+/**
+ * The format and size of an encoded image, read from the header of the image without decoding
+ * its pixels. The size is the size of the first image, as in the <code>ImageData</code> that is
+ * created from the encoded image.
+ */
+final class ImageHeader {
+
+  private static final byte[] PNG_SIGNATURE = {
+    ( byte )0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'
+  };
+  private static final byte[] JPEG_SIGNATURE = { ( byte )0xFF, ( byte )0xD8 };
+
+  final int type;
+  final int width;
+  final int height;
+
+  ImageHeader( int type, int width, int height ) {
+    this.type = type;
+    this.width = width;
+    this.height = height;
+  }
+
+  /**
+   * Returns the header of the given PNG, GIF, JPEG or BMP image, or <code>null</code> if the
+   * format is not supported or the header is invalid.
+   */
+  static ImageHeader read( byte[] bytes ) {
+    ImageHeader result = null;
+    try {
+      if( startsWith( bytes, PNG_SIGNATURE ) ) {
+        result = readPng( bytes );
+      } else if( startsWith( bytes, "GIF87a" ) || startsWith( bytes, "GIF89a" ) ) {
+        result = readGif( bytes );
+      } else if( startsWith( bytes, JPEG_SIGNATURE ) ) {
+        result = readJpeg( bytes );
+      } else if( startsWith( bytes, "BM" ) ) {
+        result = readBmp( bytes );
+      }
+    } catch( @SuppressWarnings( "unused" ) ArrayIndexOutOfBoundsException truncated ) {
+      result = null;
+    }
+    return result != null && result.width > 0 && result.height > 0 ? result : null;
+  }
+
+  private static ImageHeader readPng( byte[] bytes ) {
+    // the IHDR chunk must come first
+    if( bytes[ 12 ] != 'I' || bytes[ 13 ] != 'H' || bytes[ 14 ] != 'D' || bytes[ 15 ] != 'R' ) {
+      return null;
+    }
+    return new ImageHeader( SWT.IMAGE_PNG, readIntBE( bytes, 16 ), readIntBE( bytes, 20 ) );
+  }
+
+  private static ImageHeader readGif( byte[] bytes ) {
+    int flags = bytes[ 10 ] & 0xFF;
+    int offset = 13;
+    if( ( flags & 0x80 ) != 0 ) {
+      // global color table
+      offset += 3 * ( 1 << ( ( flags & 0x07 ) + 1 ) );
+    }
+    while( true ) {
+      int blockType = bytes[ offset ] & 0xFF;
+      if( blockType == 0x2C ) {
+        // the image descriptor of the first image
+        return new ImageHeader( SWT.IMAGE_GIF,
+                                readShortLE( bytes, offset + 5 ),
+                                readShortLE( bytes, offset + 7 ) );
+      } else if( blockType == 0x21 ) {
+        // an extension, skip the label and the data sub-blocks
+        offset += 2;
+        int blockSize = bytes[ offset ] & 0xFF;
+        while( blockSize != 0 ) {
+          offset += blockSize + 1;
+          blockSize = bytes[ offset ] & 0xFF;
+        }
+        offset++;
+      } else {
+        return null;
+      }
+    }
+  }
+
+  private static ImageHeader readJpeg( byte[] bytes ) {
+    int offset = 2;
+    while( true ) {
+      if( ( bytes[ offset ] & 0xFF ) != 0xFF ) {
+        return null;
+      }
+      int marker = bytes[ offset + 1 ] & 0xFF;
+      if( marker == 0xFF ) {
+        // fill byte
+        offset++;
+      } else if( marker == 0x01 || marker >= 0xD0 && marker <= 0xD7 ) {
+        // markers without a segment
+        offset += 2;
+      } else if( isSupportedFrame( marker ) ) {
+        return new ImageHeader( SWT.IMAGE_JPEG,
+                                readShortBE( bytes, offset + 7 ),
+                                readShortBE( bytes, offset + 5 ) );
+      } else if( marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xCC ) {
+        // other frame types are left to the decoder to be reported
+        return null;
+      } else if( marker == 0xD9 || marker == 0xDA ) {
+        // end of image or start of scan before a frame header
+        return null;
+      } else {
+        offset += 2 + readShortBE( bytes, offset + 2 );
+      }
+    }
+  }
+
+  /*
+   * Baseline, extended sequential and progressive frames with Huffman coding
+   */
+  private static boolean isSupportedFrame( int marker ) {
+    return marker == 0xC0 || marker == 0xC1 || marker == 0xC2;
+  }
+
+  private static ImageHeader readBmp( byte[] bytes ) {
+    int headerSize = readIntLE( bytes, 14 );
+    if( headerSize == 12 ) {
+      // OS/2 bitmap
+      return new ImageHeader( SWT.IMAGE_BMP, readShortLE( bytes, 18 ), readShortLE( bytes, 20 ) );
+    }
+    if( headerSize < 40 ) {
+      return null;
+    }
+    int compression = readIntLE( bytes, 30 );
+    int type = compression == 1 || compression == 2 ? SWT.IMAGE_BMP_RLE : SWT.IMAGE_BMP;
+    // the height is negative for images that are stored top-down
+    return new ImageHeader( type, readIntLE( bytes, 18 ), Math.abs( readIntLE( bytes, 22 ) ) );
+  }
+
+  private static boolean startsWith( byte[] bytes, String prefix ) {
+    if( bytes.length < prefix.length() ) {
+      return false;
+    }
+    for( int i = 0; i < prefix.length(); i++ ) {
+      if( bytes[ i ] != prefix.charAt( i ) ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean startsWith( byte[] bytes, byte[] prefix ) {
+    if( bytes.length < prefix.length ) {
+      return false;
+    }
+    for( int i = 0; i < prefix.length; i++ ) {
+      if( bytes[ i ] != prefix[ i ] ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int readIntBE( byte[] bytes, int offset ) {
+    return   ( bytes[ offset ] & 0xFF ) << 24
+           | ( bytes[ offset + 1 ] & 0xFF ) << 16
+           | ( bytes[ offset + 2 ] & 0xFF ) << 8
+           | bytes[ offset + 3 ] & 0xFF;
+  }
+
+  private static int readIntLE( byte[] bytes, int offset ) {
+    return   ( bytes[ offset + 3 ] & 0xFF ) << 24
+           | ( bytes[ offset + 2 ] & 0xFF ) << 16
+           | ( bytes[ offset + 1 ] & 0xFF ) << 8
+           | bytes[ offset ] & 0xFF;
+  }
+
+  private static int readShortBE( byte[] bytes, int offset ) {
+    return ( bytes[ offset ] & 0xFF ) << 8 | bytes[ offset + 1 ] & 0xFF;
+  }
+
+  private static int readShortLE( byte[] bytes, int offset ) {
+    return ( bytes[ offset + 1 ] & 0xFF ) << 8 | bytes[ offset ] & 0xFF;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2015 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,6 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
@@ -46,12 +45,13 @@ public class InternalImageFactory {
   }
 
   public InternalImage findInternalImage( InputStream stream ) {
-    final BufferedInputStream bufferedStream = new BufferedInputStream( stream );
-    final ImageData imageData = readImageData( bufferedStream );
-    final String path = createGeneratedImagePath( imageData );
+    CRC32 crc32 = new CRC32();
+    final byte[] content = readContent( stream, crc32 );
+    final ImageHeader header = readImageHeader( content );
+    final String path = createGeneratedImagePath( crc32, header.type );
     return cache.get( path, new InstanceCreator<String, InternalImage>() {
       public InternalImage createInstance( String path ) {
-        return createInternalImage( path, bufferedStream, imageData );
+        return createInternalImage( path, content, header );
       }
     } );
   }
@@ -69,31 +69,37 @@ public class InternalImageFactory {
   InternalImage findInternalImage( String key, final InputStream inputStream ) {
     return cache.get( key, new InstanceCreator<String, InternalImage>() {
       public InternalImage createInstance( String key ) {
-        BufferedInputStream bufferedStream = new BufferedInputStream( inputStream );
-        ImageData imageData = readImageData( bufferedStream );
-        String path = createGeneratedImagePath( imageData );
-        return createInternalImage( path, bufferedStream, imageData );
+        return createInternalImage( inputStream );
       }
     } );
   }
 
-  static ImageData readImageData( InputStream stream ) throws SWTException {
-    ////////////////////////////////////////////////////////////////////////////
-    // TODO: [fappel] Image size calculation and resource registration both
-    //                read the input stream. Because of this I use a workaround
-    //                with a BufferedInputStream. Resetting it after reading the
-    //                image size enables the ResourceManager to reuse it for
-    //                registration. Note that the order is crucial here, since
-    //                the ResourceManager seems to close the stream (shrug).
-    //                It would be nice to find a solution without reading the
-    //                stream twice.
-    stream.mark( Integer.MAX_VALUE );
-    ImageData result = new ImageData( stream );
+  /*
+   * Reads the encoded image in a single pass that also computes the checksum of its content. The
+   * content is registered as is, pixel data is only decoded when the image data is requested.
+   */
+  static byte[] readContent( InputStream stream, CRC32 crc32 ) {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 8192 ];
     try {
-      stream.reset();
-    } catch( IOException shouldNotHappen ) {
-      String msg = "Could not reset input stream after reading image";
-      throw new RuntimeException( msg, shouldNotHappen );
+      int read = stream.read( buffer );
+      while( read != -1 ) {
+        crc32.update( buffer, 0, read );
+        outputStream.write( buffer, 0, read );
+        read = stream.read( buffer );
+      }
+    } catch( IOException ioe ) {
+      throw new SWTException( SWT.ERROR_IO, ioe.getMessage() );
+    }
+    return outputStream.toByteArray();
+  }
+
+  static ImageHeader readImageHeader( byte[] content ) throws SWTException {
+    ImageHeader result = ImageHeader.read( content );
+    if( result == null ) {
+      // other formats are decoded, which also reports invalid images
+      ImageData imageData = new ImageData( new ByteArrayInputStream( content ) );
+      result = new ImageHeader( imageData.type, imageData.width, imageData.height );
     }
     return result;
   }
@@ -123,10 +129,19 @@ public class InternalImageFactory {
   }
 
   private static InternalImage createInternalImage( InputStream stream ) {
-    InputStream bufferedStream = new BufferedInputStream( stream );
-    ImageData imageData = readImageData( bufferedStream );
-    String path = createGeneratedImagePath( imageData );
-    return createInternalImage( path, bufferedStream, imageData );
+    CRC32 crc32 = new CRC32();
+    byte[] content = readContent( stream, crc32 );
+    ImageHeader header = readImageHeader( content );
+    String path = createGeneratedImagePath( crc32, header.type );
+    return createInternalImage( path, content, header );
+  }
+
+  private static InternalImage createInternalImage( String path,
+                                                    byte[] content,
+                                                    ImageHeader header )
+  {
+    RWT.getResourceManager().register( path, new ByteArrayInputStream( content ) );
+    return new InternalImage( path, header.width, header.height, false );
   }
 
   private static InternalImage createInternalImage( String path,
@@ -146,7 +161,14 @@ public class InternalImageFactory {
   }
 
   private static String createGeneratedImagePath( ImageData data ) {
-    int outputFormat = getOutputFormat( data );
+    return "generated/" + getHash( data ) + getExtension( getOutputFormat( data ) );
+  }
+
+  private static String createGeneratedImagePath( CRC32 contentChecksum, int type ) {
+    return "generated/" + Long.toHexString( contentChecksum.getValue() ) + getExtension( type );
+  }
+
+  private static String getExtension( int outputFormat ) {
     String extension;
     switch( outputFormat ) {
       case SWT.IMAGE_BMP:
@@ -170,8 +192,7 @@ public class InternalImageFactory {
         extension = ".png";
         break;
     }
-    String hash = getHash( data ) + extension;
-    return "generated/" + hash;
+    return extension;
   }
 
   /*
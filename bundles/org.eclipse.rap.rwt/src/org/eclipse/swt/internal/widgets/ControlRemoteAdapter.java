@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 EclipseSource and others.
+ * Copyright (c) 2015, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -85,6 +85,10 @@ public class ControlRemoteAdapter extends WidgetRemoteAdapter {
     super( id );
   }
 
+  public ControlRemoteAdapter( String id, Class<?> type ) {
+    super( id, type );
+  }
+
   public void preserveParent( Composite parent ) {
     if( !hasPreserved( PARENT ) ) {
       markPreserved( PARENT );
@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getAdapter;
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getLCA;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.swt.widgets.Decorations;
+import org.eclipse.swt.widgets.ScrollBar;
+import org.eclipse.swt.widgets.Scrollable;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.swt.widgets.Widget;
+
+
+/**
+ * Keeps track of the widgets of a display that have been accessed since the values of the display
+ * have been preserved. A widget is marked dirty along with all widgets that contain it in the
+ * widget tree, i.e. the widget tree of the display can be traversed without descending into
+ * widgets that are not dirty.
+ * <p>
+ * While tracking, the values of a widget are preserved right before it is marked dirty, that is
+ * before it can be changed. Hence only dirty widgets need to be preserved, rendered and cleared.
+ * Widgets whose values are computed by their parent, like scroll bars or tool items, are marked
+ * together with their parent.
+ * </p>
+ */
+public class DirtyWidgets {
+
+  private final List<Widget> widgets;
+  private final Set<Widget> lookup;
+  private final List<Widget> pending;
+  private boolean tracking;
+  private boolean marking;
+
+  public DirtyWidgets() {
+    widgets = new ArrayList<>();
+    lookup = Collections.newSetFromMap( new IdentityHashMap<Widget, Boolean>() );
+    pending = new ArrayList<>();
+  }
+
+  public void startTracking() {
+    tracking = true;
+    for( Widget widget : pending ) {
+      if( !widget.isDisposed() ) {
+        mark( widget );
+      }
+    }
+    pending.clear();
+  }
+
+  public void stopTracking() {
+    tracking = false;
+  }
+
+  public boolean isTracking() {
+    return tracking;
+  }
+
+  /**
+   * Marks the given widget dirty. Calls to this method are ignored while not tracking.
+   */
+  public void mark( Widget widget ) {
+    if( tracking && !marking && !lookup.contains( widget ) ) {
+      marking = true;
+      try {
+        Widget current = widget;
+        while( current != null && add( current ) ) {
+          current = getParent( current );
+        }
+      } finally {
+        marking = false;
+      }
+    }
+  }
+
+  /**
+   * Marks the given widget dirty even if not tracking. This method is used for values that are
+   * changed by the framework while rendering, before the widget itself is rendered.
+   */
+  public void markChanged( Widget widget ) {
+    boolean wasTracking = tracking;
+    tracking = true;
+    try {
+      mark( widget );
+    } finally {
+      tracking = wasTracking;
+    }
+  }
+
+  /**
+   * Marks the given widget dirty. If not tracking, the widget is marked as soon as tracking
+   * starts.
+   */
+  public void markPending( Widget widget ) {
+    if( tracking ) {
+      mark( widget );
+    } else {
+      pending.add( widget );
+    }
+  }
+
+  public void markTree( Widget root ) {
+    if( tracking ) {
+      WidgetTreeUtil.accept( root, new WidgetTreeVisitor() {
+        @Override
+        public boolean visit( Widget widget ) {
+          mark( widget );
+          return true;
+        }
+      } );
+    }
+  }
+
+  public boolean isDirty( Widget widget ) {
+    return lookup.contains( widget );
+  }
+
+  public void clear() {
+    for( Widget widget : widgets ) {
+      ( ( WidgetRemoteAdapter )getAdapter( widget ) ).clearPreserved();
+    }
+    widgets.clear();
+    lookup.clear();
+  }
+
+  private boolean add( Widget widget ) {
+    if( !lookup.add( widget ) ) {
+      return false;
+    }
+    widgets.add( widget );
+    preserve( widget );
+    for( Widget dependent : getDependents( widget ) ) {
+      add( dependent );
+    }
+    return true;
+  }
+
+  private static void preserve( Widget widget ) {
+    WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )getAdapter( widget );
+    if( adapter.isInitialized() ) {
+      adapter.clearPreserved();
+      getLCA( widget ).preserveValues( widget );
+    }
+  }
+
+  private static Widget getParent( Widget widget ) {
+    // shells are the roots of the widget tree, see DisplayLCA
+    if( widget instanceof Shell ) {
+      return null;
+    }
+    if( widget instanceof TreeItem ) {
+      TreeItem parentItem = ( ( TreeItem )widget ).getParentItem();
+      if( parentItem != null ) {
+        return parentItem;
+      }
+    }
+    return getAdapter( widget ).getParent();
+  }
+
+  private static List<Widget> getDependents( Widget widget ) {
+    List<Widget> result = new ArrayList<>();
+    if( widget instanceof Scrollable ) {
+      addScrollBar( result, widget, ( ( Scrollable )widget ).getHorizontalBar() );
+      addScrollBar( result, widget, ( ( Scrollable )widget ).getVerticalBar() );
+    }
+    if( widget instanceof Decorations ) {
+      addIfNotNull( result, ( ( Decorations )widget ).getMenuBar() );
+    }
+    // items of tables and trees are marked by their parent when their index changes
+    if( widget instanceof Table ) {
+      Collections.addAll( result, ( ( Table )widget ).getColumns() );
+    } else if( widget instanceof Tree ) {
+      Collections.addAll( result, ( ( Tree )widget ).getColumns() );
+    } else if( !( widget instanceof TreeItem ) ) {
+      IItemHolderAdapter<?> itemHolder = widget.getAdapter( IItemHolderAdapter.class );
+      if( itemHolder != null ) {
+        Collections.addAll( result, itemHolder.getItems() );
+      }
+    }
+    return result;
+  }
+
+  private static void addScrollBar( List<Widget> list, Widget parent, ScrollBar scrollBar ) {
+    if( scrollBar != null && scrollBar.getParent() == parent ) {
+      list.add( scrollBar );
+    }
+  }
+
+  private static void addIfNotNull( List<Widget> list, Widget widget ) {
+    if( widget != null ) {
+      list.add( widget );
+    }
+  }
+
+}
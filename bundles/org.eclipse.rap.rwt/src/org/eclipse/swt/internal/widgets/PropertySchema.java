@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+
+/**
+ * Assigns slot indices to the names of the properties that are preserved for a certain type of
+ * widget. As the life cycle adapter of a widget is determined by its type, all widgets of a type
+ * preserve the same set of properties. This allows them to store their preserved values in small
+ * arrays instead of maps. Slots are assigned when a property is preserved for the first time and
+ * are shared by all sessions.
+ */
+public final class PropertySchema {
+
+  private static final ClassValue<PropertySchema> SCHEMAS = new ClassValue<PropertySchema>() {
+    @Override
+    protected PropertySchema computeValue( Class<?> type ) {
+      return new PropertySchema();
+    }
+  };
+
+  private final ConcurrentMap<String, Integer> slots;
+
+  PropertySchema() {
+    slots = new ConcurrentHashMap<>();
+  }
+
+  public static PropertySchema getSchema( Class<?> type ) {
+    return SCHEMAS.get( type );
+  }
+
+  /**
+   * Returns the slot for the given property, a new slot is assigned if the property is unknown.
+   */
+  public int getSlot( String propertyName ) {
+    Integer result = slots.get( propertyName );
+    if( result == null ) {
+      synchronized( slots ) {
+        result = slots.get( propertyName );
+        if( result == null ) {
+          result = Integer.valueOf( slots.size() );
+          slots.put( propertyName, result );
+        }
+      }
+    }
+    return result.intValue();
+  }
+
+  /**
+   * Returns the slot for the given property or -1 if the property is unknown.
+   */
+  public int findSlot( String propertyName ) {
+    Integer result = slots.get( propertyName );
+    return result == null ? -1 : result.intValue();
+  }
+
+  public int size() {
+    return slots.size();
+  }
+
+}
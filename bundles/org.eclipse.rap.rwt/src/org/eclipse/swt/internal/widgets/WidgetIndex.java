@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getLCA;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.swt.internal.SerializableCompatibility;
+import org.eclipse.swt.widgets.Widget;
+
+
+/**
+ * Maps the ids of the widgets of a display to the widgets, so that the targets of operations in
+ * a client message can be resolved without traversing the widget tree. Widgets are added when
+ * they are created and removed when they are disposed. The ids are resolved lazily from the remote
+ * adapters of the widgets, as custom widgets may provide their own remote adapter, which is not
+ * available while the widget is constructed.
+ * <p>
+ * In addition, the index keeps track of the widgets whose life cycle adapter requires
+ * <code>readData</code> to be called in every request.
+ * </p>
+ */
+public class WidgetIndex implements SerializableCompatibility {
+
+  private final Set<Widget> unresolved;
+  private final Map<String, Widget> widgets;
+  private final Map<Widget, String> ids;
+  private transient Map<String, Widget> unclassified;
+  private transient Map<String, Widget> unconditional;
+
+  public WidgetIndex() {
+    unresolved = new LinkedHashSet<>();
+    widgets = new HashMap<>();
+    ids = new IdentityHashMap<>();
+    initialize();
+  }
+
+  private void initialize() {
+    unclassified = new LinkedHashMap<>();
+    unconditional = new LinkedHashMap<>();
+  }
+
+  public void add( Widget widget ) {
+    unresolved.add( widget );
+  }
+
+  public void remove( Widget widget ) {
+    if( !unresolved.remove( widget ) ) {
+      String id = ids.remove( widget );
+      if( id != null ) {
+        widgets.remove( id );
+        unclassified.remove( id );
+        unconditional.remove( id );
+      }
+    }
+  }
+
+  public Widget get( String id ) {
+    resolve();
+    return widgets.get( id );
+  }
+
+  /**
+   * Returns the widgets whose life cycle adapter requires <code>readData</code> to be called
+   * regardless of the operations in the client message, in the order of their creation.
+   */
+  public Collection<Widget> getUnconditionalReadDataWidgets() {
+    resolve();
+    if( !unclassified.isEmpty() ) {
+      for( Entry<String, Widget> entry : unclassified.entrySet() ) {
+        Widget widget = entry.getValue();
+        if( getLCA( widget ).requiresUnconditionalReadData() ) {
+          unconditional.put( entry.getKey(), widget );
+        }
+      }
+      unclassified.clear();
+    }
+    return new ArrayList<>( unconditional.values() );
+  }
+
+  private void resolve() {
+    if( !unresolved.isEmpty() ) {
+      for( Widget widget : unresolved ) {
+        String id = getId( widget );
+        widgets.put( id, widget );
+        ids.put( widget, id );
+        unclassified.put( id, widget );
+      }
+      unresolved.clear();
+    }
+  }
+
+  private Object readResolve() {
+    initialize();
+    unclassified.putAll( widgets );
+    return this;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,8 +11,7 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 import org.eclipse.rap.rwt.internal.lifecycle.DisposedWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
@@ -28,24 +27,43 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
   private static final int DATA = 1;
   private static final int LISTENERS = 2;
   private static final int VARIANT = 3;
+  // markers for preserved values that are stored in the primitive slots
+  private static final Object INT_VALUE = new Object();
+  private static final Object BOOLEAN_VALUE = new Object();
 
   private final String id;
+  private final Class<?> type;
   private Widget parent;
   private boolean initialized;
   private transient int preserved;
-  private transient Map<String, Object> preservedValues;
+  private transient PropertySchema schema;
+  private transient Object[] preservedValues;
+  private transient int[] preservedPrimitives;
+  private transient boolean valuesPreserved;
   private transient long preservedListeners;
   private transient Runnable[] renderRunnables;
   private transient Object[] data;
   private transient String variant;
 
   public WidgetRemoteAdapter( String id ) {
+    this( id, null );
+  }
+
+  /**
+   * Creates a remote adapter that shares the slots for preserved values with all other adapters
+   * of the given type of widget.
+   */
+  public WidgetRemoteAdapter( String id, Class<?> type ) {
     this.id = id;
+    this.type = type == null ? getClass() : type;
     initialize();
   }
 
   void initialize() {
-    preservedValues = new HashMap<>();
+    schema = PropertySchema.getSchema( type );
+    preservedValues = null;
+    preservedPrimitives = null;
+    valuesPreserved = false;
   }
 
   @Override
@@ -73,12 +91,68 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
 
   @Override
   public void preserve( String propertyName, Object value ) {
-    preservedValues.put( propertyName, value );
+    int slot = getSlot( propertyName );
+    preservedValues[ slot ] = value;
+  }
+
+  public void preserve( String propertyName, int value ) {
+    int slot = getSlot( propertyName );
+    preservedValues[ slot ] = INT_VALUE;
+    preservedPrimitives[ slot ] = value;
+  }
+
+  public void preserve( String propertyName, boolean value ) {
+    int slot = getSlot( propertyName );
+    preservedValues[ slot ] = BOOLEAN_VALUE;
+    preservedPrimitives[ slot ] = value ? 1 : 0;
   }
 
   @Override
   public Object getPreserved( String propertyName ) {
-    return preservedValues.get( propertyName );
+    int slot = findSlot( propertyName );
+    if( slot == -1 ) {
+      return null;
+    }
+    Object value = preservedValues[ slot ];
+    if( value == INT_VALUE ) {
+      return Integer.valueOf( preservedPrimitives[ slot ] );
+    }
+    if( value == BOOLEAN_VALUE ) {
+      return Boolean.valueOf( preservedPrimitives[ slot ] != 0 );
+    }
+    return value;
+  }
+
+  /**
+   * Returns whether the given value has been preserved for the given property, without boxing
+   * the values.
+   */
+  public boolean isPreserved( String propertyName, int value ) {
+    int slot = findSlot( propertyName );
+    if( slot == -1 ) {
+      return false;
+    }
+    Object preserved = preservedValues[ slot ];
+    if( preserved == INT_VALUE ) {
+      return preservedPrimitives[ slot ] == value;
+    }
+    return preserved instanceof Integer && ( ( Integer )preserved ).intValue() == value;
+  }
+
+  /**
+   * Returns whether the given value has been preserved for the given property, without boxing
+   * the values.
+   */
+  public boolean isPreserved( String propertyName, boolean value ) {
+    int slot = findSlot( propertyName );
+    if( slot == -1 ) {
+      return false;
+    }
+    Object preserved = preservedValues[ slot ];
+    if( preserved == BOOLEAN_VALUE ) {
+      return ( preservedPrimitives[ slot ] != 0 ) == value;
+    }
+    return preserved instanceof Boolean && ( ( Boolean )preserved ).booleanValue() == value;
   }
 
   public void preserveListeners( long eventList ) {
@@ -122,7 +196,10 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
 
   public void clearPreserved() {
     preserved = 0;
-    preservedValues.clear();
+    if( valuesPreserved ) {
+      Arrays.fill( preservedValues, null );
+      valuesPreserved = false;
+    }
     preservedListeners = 0;
     data = null;
     variant = null;
@@ -136,6 +213,27 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
     return ( preserved & ( 1 << index ) ) != 0;
   }
 
+  private int getSlot( String propertyName ) {
+    int slot = schema.getSlot( propertyName );
+    if( preservedValues == null || slot >= preservedValues.length ) {
+      // the arrays are kept across requests, grow them to the size of the schema at once
+      int length = Math.max( slot + 1, schema.size() );
+      preservedValues = preservedValues == null
+                      ? new Object[ length ]
+                      : Arrays.copyOf( preservedValues, length );
+      preservedPrimitives = preservedPrimitives == null
+                          ? new int[ length ]
+                          : Arrays.copyOf( preservedPrimitives, length );
+    }
+    valuesPreserved = true;
+    return slot;
+  }
+
+  private int findSlot( String propertyName ) {
+    int slot = schema.findSlot( propertyName );
+    return preservedValues == null || slot >= preservedValues.length ? -1 : slot;
+  }
+
   protected RemoteObject getRemoteObject() {
     return RemoteObjectFactory.getRemoteObject( getId() );
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -90,6 +90,10 @@ public abstract class Control extends Widget implements Drawable {
     @Override
     public void setTabIndex( int index ) {
       if( takesFocus() ) {
+        if( index != tabIndex ) {
+          // tab indices are computed while rendering
+          display.markChanged( Control.this );
+        }
         getRemoteAdapter().preserveTabIndex( tabIndex );
         tabIndex = index;
       }
@@ -659,6 +663,7 @@ public abstract class Control extends Widget implements Drawable {
   }
 
   void updateBackgroundMode() {
+    display.markDirty( this );
     boolean oldState = hasState( PARENT_BACKGROUND );
     checkBackground();
     if( oldState != hasState( PARENT_BACKGROUND ) ) {
@@ -1589,7 +1594,7 @@ public abstract class Control extends Widget implements Drawable {
 
   @Override
   RemoteAdapter createRemoteAdapter( Widget parent, String id ) {
-    ControlRemoteAdapter remoteAdapter = new ControlRemoteAdapter( id );
+    ControlRemoteAdapter remoteAdapter = new ControlRemoteAdapter( id, getClass() );
     remoteAdapter.setParent( parent );
     return remoteAdapter;
   }
@@ -2253,6 +2258,7 @@ public abstract class Control extends Widget implements Drawable {
       return false;
     }
     if( this.parent != parent ) {
+      display.markDirty( parent );
       releaseParent();
       Shell newShell = parent.getShell();
       Shell oldShell = getShell();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,7 @@ import static org.eclipse.rap.rwt.remote.JsonMapping.readPoint;
 import static org.eclipse.rap.rwt.remote.JsonMapping.readRectangle;
 
 import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -31,6 +32,7 @@ import java.util.Set;
 import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.Adaptable;
 import org.eclipse.rap.rwt.application.ExceptionHandler;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.CurrentPhase;
 import org.eclipse.rap.rwt.internal.lifecycle.IUIThreadHolder;
@@ -62,8 +64,10 @@ import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.events.EventList;
 import org.eclipse.swt.internal.events.EventUtil;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.IdGenerator;
+import org.eclipse.swt.internal.widgets.WidgetIndex;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
 import org.eclipse.swt.internal.widgets.WidgetTreeUtil;
 import org.eclipse.swt.internal.widgets.WidgetTreeVisitor;
@@ -234,6 +238,8 @@ public class Display extends Device implements Adaptable {
   private EventTable eventTable;
   private transient Monitor monitor;
   private transient IDisplayAdapter displayAdapter;
+  private transient DirtyWidgets dirtyWidgets;
+  private final WidgetIndex widgetIndex;
   private WidgetRemoteAdapter remoteAdapter;
   private Runnable[] disposeList;
   private Composite[] layoutDeferred;
@@ -283,6 +289,10 @@ public class Display extends Device implements Adaptable {
     dpi = readDPI();
     depth = readDepth();
     synchronizer = new Synchronizer( this );
+    widgetIndex = new WidgetIndex();
+    if( RWTProperties.isDirtyWidgetTrackingEnabled() ) {
+      dirtyWidgets = new DirtyWidgets();
+    }
     register();
   }
 
@@ -800,13 +810,45 @@ public class Display extends Device implements Adaptable {
     if( adapter == RemoteAdapter.class ) {
       if( remoteAdapter == null ) {
         String id = IdGenerator.getInstance( uiSession ).createId( this );
-        remoteAdapter = new WidgetRemoteAdapter( id );
+        remoteAdapter = new WidgetRemoteAdapter( id, Display.class );
       }
       return ( T )remoteAdapter;
     }
+    if( adapter == DirtyWidgets.class ) {
+      return ( T )dirtyWidgets;
+    }
+    if( adapter == WidgetIndex.class ) {
+      return ( T )widgetIndex;
+    }
     return null;
   }
 
+  void addToIndex( Widget widget ) {
+    widgetIndex.add( widget );
+  }
+
+  void removeFromIndex( Widget widget ) {
+    widgetIndex.remove( widget );
+  }
+
+  void markDirty( Widget widget ) {
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.mark( widget );
+    }
+  }
+
+  void markChanged( Widget widget ) {
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.markChanged( widget );
+    }
+  }
+
+  void markDirtyPending( Widget widget ) {
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.markPending( widget );
+    }
+  }
+
   private ApplicationContextImpl getApplicationContext() {
     return ( ApplicationContextImpl )uiSession.getApplicationContext();
   }
@@ -2325,6 +2367,14 @@ public class Display extends Device implements Adaptable {
     return value != null ? value.asInt() : 16;
   }
 
+  private void readObject( ObjectInputStream stream ) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    // dirty widgets are not kept across serialization, preserved values are transient as well
+    if( RWTProperties.isDirtyWidgetTrackingEnabled() ) {
+      dirtyWidgets = new DirtyWidgets();
+    }
+  }
+
   /////////////////
   // Inner classes
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -195,6 +195,7 @@ public class Shell extends Decorations {
     minWidth = MIN_WIDTH_LIMIT;
     minHeight = getMinHeightLimit();
     this.display.addShell( this );
+    this.display.addToIndex( this );
     reskinWidget();
     createWidget();
     setInitialSize();
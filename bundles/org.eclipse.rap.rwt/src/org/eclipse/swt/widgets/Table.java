@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -2303,6 +2303,7 @@ public class Table extends Composite {
       System.arraycopy( items, 0, newItems, 0, items.length );
       items = newItems;
     }
+    markItemsDirty( index );
     /* Insert the item */
     System.arraycopy( items, index, items, index + 1, itemCount - index );
     items[ index ] = item;
@@ -2331,6 +2332,7 @@ public class Table extends Composite {
           updateColumnImageCount( i, item.getImageInternal( i ), null );
         }
       }
+      markItemsDirty( index );
       itemCount--;
       if( item != null ) {
         item.index = -1;
@@ -2709,6 +2711,14 @@ public class Table extends Composite {
     focusIndex = getSelectionIndex();
   }
 
+  private void markItemsDirty( int start ) {
+    for( int i = start; i < itemCount; i++ ) {
+      if( items[ i ] != null ) {
+        display.markDirty( items[ i ] );
+      }
+    }
+  }
+
   private void adjustItemIndices( int start ) {
     for( int i = start; i < itemCount; i++ ) {
       if( items[ i ] != null ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,42 +15,54 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectInputValidation;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Date;
-import java.util.LinkedList;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.engine.PostDeserialization;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
+import org.eclipse.rap.rwt.internal.util.SharedScheduler;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 
 
+/*
+ * Schedules the runnables of Display#timerExec on the scheduler that is shared by all UI sessions
+ * of the application. Tasks are kept by runnable, so that a runnable can be rescheduled or
+ * canceled without searching for its task.
+ */
 class TimerExecScheduler implements SerializableCompatibility {
 
   final Display display;
   final ServerPushManager serverPushManager;
-  private final Collection<TimerExecTask> tasks;
-  private transient Timer timer;
+  private final Map<Runnable, TimerExecTask> tasks;
 
   TimerExecScheduler( Display display ) {
     this.display = display;
     serverPushManager = ServerPushManager.getInstance();
-    tasks = new LinkedList<>();
+    tasks = new IdentityHashMap<>();
   }
 
   void schedule( int milliseconds, Runnable runnable ) {
     synchronized( display.getDeviceLock() ) {
-      initializeTimer();
-      TimerExecTask task = findOrAddTask( runnable );
-      timer.schedule( task, milliseconds );
+      TimerExecTask previousTask = tasks.remove( runnable );
+      if( previousTask != null ) {
+        previousTask.cancel();
+      }
+      TimerExecTask task = createTask( runnable );
+      tasks.put( runnable, task );
+      task.schedule( getScheduler(), milliseconds );
     }
   }
 
   void cancel( Runnable runnable ) {
-    TimerExecTask task = findAndRemoveTask( runnable );
+    TimerExecTask task;
+    synchronized( display.getDeviceLock() ) {
+      task = tasks.remove( runnable );
+    }
     if( task != null ) {
       task.cancel();
     }
@@ -58,69 +70,60 @@ class TimerExecScheduler implements SerializableCompatibility {
 
   void dispose() {
     synchronized( display.getDeviceLock() ) {
-      if( timer != null ) {
-        timer.cancel();
+      for( TimerExecTask task : tasks.values() ) {
+        task.cancel();
       }
       tasks.clear();
     }
   }
 
-  private void initializeTimer() {
-    if( timer == null ) {
-      timer = createTimer();
-    }
-  }
-
-  Timer createTimer() {
-    return new Timer( "RWT timerExec scheduler", true );
-  }
-
-  private TimerExecTask findOrAddTask( Runnable runnable ) {
-    synchronized( display.getDeviceLock() ) {
-      for( TimerExecTask task : tasks ) {
-        if( task.getRunnable() == runnable ) {
-          return task;
-        }
-      }
-      TimerExecTask task = createTask( runnable );
-      tasks.add( task );
-      return task;
-    }
+  SharedScheduler getScheduler() {
+    UISession uiSession = getUISession();
+    return ( ( ApplicationContextImpl )uiSession.getApplicationContext() ).getScheduler();
   }
 
   TimerExecTask createTask( Runnable runnable ) {
     return new TimerExecTask( this, runnable );
   }
 
-  private TimerExecTask findAndRemoveTask( Runnable runnable ) {
+  /*
+   * Removes the given task if it is still the one that is scheduled for its runnable, returns
+   * false if the task has been canceled or replaced in the meantime.
+   */
+  boolean removeTask( TimerExecTask task ) {
     synchronized( display.getDeviceLock() ) {
-      for( TimerExecTask task : tasks ) {
-        if( task.getRunnable() == runnable ) {
-          tasks.remove( task );
-          return task;
-        }
+      Runnable runnable = task.getRunnable();
+      if( tasks.get( runnable ) == task ) {
+        tasks.remove( runnable );
+        return true;
       }
+      return false;
     }
-    return null;
   }
 
-  void removeTask( TimerTask task ) {
+  Collection<TimerExecTask> getTasks() {
     synchronized( display.getDeviceLock() ) {
-      tasks.remove( task );
+      return new ArrayList<>( tasks.values() );
     }
   }
 
   private void rescheduleTasks() {
     synchronized( display.getDeviceLock() ) {
       if( tasks.size() > 0 ) {
-        initializeTimer();
-        for( TimerExecTask task : tasks ) {
-          timer.schedule( task, new Date( task.scheduledExecutionTime() ) );
+        SharedScheduler scheduler = getScheduler();
+        long now = System.currentTimeMillis();
+        for( TimerExecTask task : tasks.values() ) {
+          task.schedule( scheduler, Math.max( 0, task.getExecutionTime() - now ) );
         }
       }
     }
   }
 
+  private UISession getUISession() {
+    IDisplayAdapter adapter = display.getAdapter( IDisplayAdapter.class );
+    return adapter.getUISession();
+  }
+
   private void writeObject( ObjectOutputStream stream ) throws IOException {
     synchronized( display.getDeviceLock() ) {
       stream.defaultWriteObject();
@@ -135,18 +138,12 @@ class TimerExecScheduler implements SerializableCompatibility {
   private class PostDeserializationValidation implements ObjectInputValidation {
     @Override
     public void validateObject() throws InvalidObjectException {
-      UISession uiSession = getUISession();
-      PostDeserialization.addProcessor( uiSession, new Runnable() {
+      PostDeserialization.addProcessor( getUISession(), new Runnable() {
         @Override
         public void run() {
           rescheduleTasks();
         }
       } );
     }
-
-    private UISession getUISession() {
-      IDisplayAdapter adapter = display.getAdapter( IDisplayAdapter.class );
-      return adapter.getUISession();
-    }
   }
 }
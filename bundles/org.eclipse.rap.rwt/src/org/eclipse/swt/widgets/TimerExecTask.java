@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2012 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,15 +10,19 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+import org.eclipse.rap.rwt.internal.util.SharedScheduler;
 import org.eclipse.swt.internal.SerializableCompatibility;
 
 
-class TimerExecTask extends TimerTask implements SerializableCompatibility {
+class TimerExecTask implements Runnable, SerializableCompatibility {
 
   private final TimerExecScheduler scheduler;
   private final Runnable runnable;
+  private long executionTime;
+  private transient ScheduledFuture<?> future;
 
   TimerExecTask( TimerExecScheduler scheduler, Runnable runnable ) {
     this.scheduler = scheduler;
@@ -26,25 +30,38 @@ class TimerExecTask extends TimerTask implements SerializableCompatibility {
     scheduler.serverPushManager.activateServerPushFor( this );
   }
 
+  synchronized void schedule( SharedScheduler sharedScheduler, long delay ) {
+    // the execution time is kept as wall-clock time to reschedule the task after deserialization
+    executionTime = System.currentTimeMillis() + delay;
+    future = sharedScheduler.schedule( this, delay, TimeUnit.MILLISECONDS );
+  }
+
   @Override
   public void run() {
     synchronized( scheduler.display.getDeviceLock() ) {
-      scheduler.removeTask( this );
-      if( !scheduler.display.isDisposed() ) {
+      if( scheduler.removeTask( this ) && !scheduler.display.isDisposed() ) {
         scheduler.display.asyncExec( runnable );
       }
     }
     scheduler.serverPushManager.deactivateServerPushFor( this );
   }
 
-  @Override
-  public boolean cancel() {
+  boolean cancel() {
     scheduler.serverPushManager.deactivateServerPushFor( this );
-    return super.cancel();
+    ScheduledFuture<?> scheduledFuture = getFuture();
+    return scheduledFuture != null && scheduledFuture.cancel( false );
   }
 
   Runnable getRunnable() {
     return runnable;
   }
 
+  synchronized long getExecutionTime() {
+    return executionTime;
+  }
+
+  synchronized ScheduledFuture<?> getFuture() {
+    return future;
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -2395,6 +2395,7 @@ public class Tree extends Composite {
   }
 
   void createItem( TreeItem item, int index ) {
+    markItemsDirty( index );
     if( itemCount == items.length ) {
       /*
        * Grow the array faster when redraw is off or the table is not visible.
@@ -2414,6 +2415,7 @@ public class Tree extends Composite {
   }
 
   void destroyItem( int index ) {
+    markItemsDirty( index );
     itemCount--;
     if( itemCount == 0 ) {
       setTreeEmpty();
@@ -2424,6 +2426,14 @@ public class Tree extends Composite {
     adjustItemIndices( index );
   }
 
+  private void markItemsDirty( int start ) {
+    for( int i = start; i < itemCount; i++ ) {
+      if( items[ i ] != null ) {
+        display.markDirty( items[ i ] );
+      }
+    }
+  }
+
   private void adjustItemIndices( int start ) {
     for( int i = start; i < itemCount; i++ ) {
       if( items[ i ] != null ) {
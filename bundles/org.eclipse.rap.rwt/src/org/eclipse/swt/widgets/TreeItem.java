@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -221,6 +221,7 @@ public class TreeItem extends Item {
     this.index = index;
     if( parentItem != null ) {
       depth = parentItem.depth + 1;
+      display.markDirtyPending( parentItem );
     }
     parent.invalidateFlatIndex();
     setEmpty();
@@ -250,6 +251,7 @@ public class TreeItem extends Item {
   }
 
   private void createItem( TreeItem item, int index ) {
+    markItemsDirty( index );
     if( itemCount == items.length ) {
       /*
        * Grow the array faster when redraw is off or the table is not visible.
@@ -269,6 +271,7 @@ public class TreeItem extends Item {
   }
 
   private void destroyItem( int index ) {
+    markItemsDirty( index );
     itemCount--;
     if( itemCount == 0 ) {
       setEmpty();
@@ -279,6 +282,14 @@ public class TreeItem extends Item {
     adjustItemIndices( index );
   }
 
+  private void markItemsDirty( int start ) {
+    for( int i = start; i < itemCount; i++ ) {
+      if( items[ i ] != null ) {
+        display.markDirty( items[ i ] );
+      }
+    }
+  }
+
   private void adjustItemIndices( int start ) {
     for( int i = start; i < itemCount; i++ ) {
       if( items[ i ] != null ) {
@@ -1075,6 +1086,7 @@ public class TreeItem extends Item {
   }
 
   void clear() {
+    display.markDirty( this );
     data = null;
     checked = false;
     grayed = false;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -158,6 +158,8 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     display = parent.display;
     reskinWidget();
     remoteAdapter = new ParentHolderRemoteAdapter( parent );
+    display.markDirtyPending( parent );
+    display.addToIndex( this );
   }
 
   /**
@@ -848,6 +850,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
         releaseParent();
         releaseWidget();
         getAdapter( RemoteAdapter.class ).markDisposed( this );
+        display.removeFromIndex( this );
       }
     }
   }
@@ -958,6 +961,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     if( hasState( DISPOSED ) ) {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
+    display.markDirty( this );
   }
 
   /*
@@ -1052,7 +1056,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
   }
 
   RemoteAdapter createRemoteAdapter( Widget parent, String id ) {
-    WidgetRemoteAdapter remoteAdapter = new WidgetRemoteAdapter( id );
+    WidgetRemoteAdapter remoteAdapter = new WidgetRemoteAdapter( id, getClass() );
     remoteAdapter.setParent( parent );
     return remoteAdapter;
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -65,6 +65,11 @@ public final class CTabItemLCA extends WidgetLCA<CTabItem> {
   public void readData( CTabItem item ) {
   }
 
+  @Override
+  public boolean requiresUnconditionalReadData() {
+    return false;
+  }
+
   @Override
   public void renderInitialization( CTabItem item ) throws IOException {
     CTabFolder parent = item.getParent();
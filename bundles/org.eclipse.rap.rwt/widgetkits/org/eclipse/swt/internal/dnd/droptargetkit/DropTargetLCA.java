@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 EclipseSource and others.
+ * Copyright (c) 2009, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -84,6 +84,11 @@ public final class DropTargetLCA extends WidgetLCA<DropTarget> {
   public void readData( DropTarget dropTarget ) {
   }
 
+  @Override
+  public boolean requiresUnconditionalReadData() {
+    return false;
+  }
+
   @Override
   public void renderInitialization( DropTarget dropTarget ) throws IOException {
     RemoteObject remoteObject = createRemoteObject( dropTarget, TYPE );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -23,8 +23,10 @@ import static org.eclipse.rap.rwt.internal.service.ContextProvider.getRequest;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.client.WebClient;
@@ -33,6 +35,7 @@ import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.DisposedWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointRegistration;
+import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleMetrics;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.ReparentedControls;
 import org.eclipse.rap.rwt.internal.lifecycle.UITestUtil;
@@ -47,7 +50,9 @@ import org.eclipse.rap.rwt.internal.util.ActiveKeysUtil;
 import org.eclipse.rap.rwt.remote.OperationHandler;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.internal.widgets.ControlRemoteAdapter;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
+import org.eclipse.swt.internal.widgets.WidgetIndex;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
 import org.eclipse.swt.internal.widgets.WidgetTreeUtil;
 import org.eclipse.swt.internal.widgets.WidgetTreeVisitor;
@@ -66,7 +71,7 @@ public class DisplayLCA {
 
   public void readData( Display display ) {
     handleOperations( display );
-    visitWidgets( display );
+    readWidgetData( display );
     DNDSupport.handleOperations();
     RemoteObjectLifeCycleAdapter.readData( ProtocolUtil.getClientMessage() );
   }
@@ -79,7 +84,11 @@ public class DisplayLCA {
     ActiveKeysUtil.preserveActiveKeys( display );
     ActiveKeysUtil.preserveCancelKeys( display );
     ActiveKeysUtil.preserveMnemonicActivator( display );
-    if( adapter.isInitialized() ) {
+    DirtyWidgets dirtyWidgets = getDirtyWidgets( display );
+    if( dirtyWidgets != null ) {
+      // widgets are preserved when they are marked dirty
+      dirtyWidgets.startTracking();
+    } else if( adapter.isInitialized() ) {
       for( Shell shell : getShells( display ) ) {
         WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
           @Override
@@ -93,6 +102,10 @@ public class DisplayLCA {
   }
 
   public void render( Display display ) throws IOException {
+    DirtyWidgets dirtyWidgets = getDirtyWidgets( display );
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.stopTracking();
+    }
     renderOverflow( display );
     renderReparentControls();
     renderDisposeWidgets();
@@ -114,14 +127,19 @@ public class DisplayLCA {
 
   public void clearPreserved( Display display ) {
     ( ( WidgetRemoteAdapter )getAdapter( display ) ).clearPreserved();
-    for( Shell shell : getShells( display ) ) {
-      WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
-        @Override
-        public boolean visit( Widget widget ) {
-          ( ( WidgetRemoteAdapter )getAdapter( widget ) ).clearPreserved();
-          return true;
-        }
-      } );
+    DirtyWidgets dirtyWidgets = getDirtyWidgets( display );
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.clear();
+    } else {
+      for( Shell shell : getShells( display ) ) {
+        WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
+          @Override
+          public boolean visit( Widget widget ) {
+            ( ( WidgetRemoteAdapter )getAdapter( widget ) ).clearPreserved();
+            return true;
+          }
+        } );
+      }
     }
   }
 
@@ -136,16 +154,29 @@ public class DisplayLCA {
     }
   }
 
-  private static void visitWidgets( Display display ) {
-    WidgetTreeVisitor visitor = new WidgetTreeVisitor() {
-      @Override
-      public boolean visit( Widget widget ) {
-        getLCA( widget ).readData( widget );
-        return true;
+  private static void readWidgetData( Display display ) {
+    ClientMessage clientMessage = ProtocolUtil.getClientMessage();
+    DirtyWidgets dirtyWidgets = getDirtyWidgets( display );
+    WidgetIndex widgetIndex = display.getAdapter( WidgetIndex.class );
+    Set<Widget> visited = Collections.newSetFromMap( new IdentityHashMap<Widget, Boolean>() );
+    for( Widget widget : widgetIndex.getUnconditionalReadDataWidgets() ) {
+      readData( widget, visited );
+    }
+    for( String target : clientMessage.getTargets() ) {
+      Widget widget = widgetIndex.get( target );
+      if( widget != null ) {
+        // values read from the client may have to be rendered back, e.g. corrected selections
+        if( dirtyWidgets != null ) {
+          dirtyWidgets.markPending( widget );
+        }
+        readData( widget, visited );
       }
-    };
-    for( Shell shell : getShells( display ) ) {
-      WidgetTreeUtil.accept( shell, visitor );
+    }
+  }
+
+  private static void readData( Widget widget, Set<Widget> visited ) {
+    if( !widget.isDisposed() && visited.add( widget ) ) {
+      getLCA( widget ).readData( widget );
     }
   }
 
@@ -170,11 +201,15 @@ public class DisplayLCA {
   }
 
   private static void renderShells( Display display ) throws IOException {
-    RenderVisitor visitor = new RenderVisitor();
+    RenderVisitor visitor = new RenderVisitor( getDirtyWidgets( display ) );
     for( Shell shell : getShells( display ) ) {
       WidgetTreeUtil.accept( shell, visitor );
       visitor.reThrowProblem();
     }
+    LifeCycleMetrics metrics = getLifeCycleMetrics();
+    if( metrics != null ) {
+      metrics.recordWidgetsVisited( visitor.visitedCount );
+    }
   }
 
   private static void renderExitConfirmation( Display display ) {
@@ -291,12 +326,31 @@ public class DisplayLCA {
     return getDisplayAdapter( display ).getShells();
   }
 
+  private static LifeCycleMetrics getLifeCycleMetrics() {
+    ApplicationContextImpl applicationContext = ContextProvider.getApplicationContext();
+    return applicationContext == null ? null : applicationContext.getLifeCycleMetrics();
+  }
+
+  private static DirtyWidgets getDirtyWidgets( Display display ) {
+    return display.getAdapter( DirtyWidgets.class );
+  }
+
   private static final class RenderVisitor implements WidgetTreeVisitor {
 
+    private final DirtyWidgets dirtyWidgets;
     private IOException ioProblem;
+    private int visitedCount;
+
+    RenderVisitor( DirtyWidgets dirtyWidgets ) {
+      this.dirtyWidgets = dirtyWidgets;
+    }
 
     @Override
     public boolean visit( Widget widget ) {
+      visitedCount++;
+      if( !needsRendering( widget ) ) {
+        return false;
+      }
       ioProblem = null;
       try {
         render( widget );
@@ -308,6 +362,12 @@ public class DisplayLCA {
       return true;
     }
 
+    private boolean needsRendering( Widget widget ) {
+      return    dirtyWidgets == null
+             || dirtyWidgets.isDirty( widget )
+             || !getAdapter( widget ).isInitialized();
+    }
+
     private void reThrowProblem() throws IOException {
       if( ioProblem != null ) {
         throw ioProblem;
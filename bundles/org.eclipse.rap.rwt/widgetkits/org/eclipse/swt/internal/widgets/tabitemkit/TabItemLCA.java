@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -53,6 +53,11 @@ public class TabItemLCA extends WidgetLCA<TabItem> {
   public void readData( TabItem item ) {
   }
 
+  @Override
+  public boolean requiresUnconditionalReadData() {
+    return false;
+  }
+
   @Override
   public void renderInitialization( TabItem item ) throws IOException {
     TabFolder parent = item.getParent();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -362,7 +362,7 @@ public class GridItemLCA_Test {
 
     TestMessage message = Fixture.getProtocolMessage();
     JsonValue actual = message.findSetProperty( item, "images" );
-    String expected = "[null, [\"rwt-resources/generated/90fb0bfe.gif\",58,12]]";
+    String expected = "[null, [\"rwt-resources/generated/c337807e.gif\",58,12]]";
     assertEquals( JsonArray.readFrom( expected ), actual );
   }
 
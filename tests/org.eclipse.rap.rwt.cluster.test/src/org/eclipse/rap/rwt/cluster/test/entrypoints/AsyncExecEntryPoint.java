@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.application.EntryPoint;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.rap.rwt.widgets.ClusteredSynchronizer;
+import org.eclipse.rap.rwt.widgets.SessionTouchHandler;
 import org.eclipse.swt.widgets.Display;
 
 
@@ -24,8 +25,10 @@ public class AsyncExecEntryPoint implements EntryPoint {
   private static final String ATTRIBUTE_NAME = "foo";
   private static final Boolean ATTRIBUTE_VALUE = Boolean.TRUE;
 
-  public static void scheduleAsyncRunnable( Display display ) {
+  public static void scheduleAsyncRunnable( Display display ) throws InterruptedException {
     display.asyncExec( new AsyncExecRunnable( display ) );
+    // the session is touched asynchronously
+    Thread.sleep( 400 );
   }
 
   public static void scheduleSyncRunnable( final Display display ) throws InterruptedException {
@@ -45,7 +48,9 @@ public class AsyncExecEntryPoint implements EntryPoint {
 
   public int createUI() {
     Display display = new Display();
-    display.setSynchronizer( new ClusteredSynchronizer( display ) );
+    // the servlet engines of the cluster tests replicate sessions at the end of a request
+    SessionTouchHandler touchHandler = ClusteredSynchronizer.createLoopbackTouchHandler();
+    display.setSynchronizer( new ClusteredSynchronizer( display, touchHandler ) );
     return 0;
   }
 
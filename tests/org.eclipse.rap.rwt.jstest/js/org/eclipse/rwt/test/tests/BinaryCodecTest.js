@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+(function(){
+
+var BinaryCodec = rwt.remote.BinaryCodec;
+
+var sender;
+var receiver;
+
+rwt.qx.Class.define( "org.eclipse.rwt.test.tests.BinaryCodecTest", {
+
+  extend : rwt.qx.Object,
+
+  members : {
+
+    testRoundTrip : function() {
+      var message = {
+        "head" : { "requestCounter" : 3 },
+        "operations" : [
+          [ "set", "w2", {
+            "bounds" : [ 0, -5, 300, 70000 ],
+            "text" : "foo \u00e4\u20ac",
+            "big" : 12345678901,
+            "negative" : -12345678901,
+            "ratio" : 1.5,
+            "visible" : true,
+            "enabled" : false,
+            "image" : null
+          } ],
+          [ "notify", "w2", "Selection", {} ],
+          [ "call", "w3", "method", { "list" : [ "a", "b" ] } ]
+        ]
+      };
+
+      var result = receiver.decode( sender.encode( message ) );
+
+      assertEquals( message, result );
+    },
+
+    testRoundTrip_withLargeContainers : function() {
+      var array = [];
+      var object = {};
+      var text = "";
+      for( var i = 0; i < 200; i++ ) {
+        array.push( i * 1000 );
+        object[ "key" + i ] = i;
+        text += "xxxxx";
+      }
+      var message = {
+        "head" : {},
+        "operations" : [ [ "set", "w1", { "array" : array, "object" : object, "text" : text } ] ]
+      };
+
+      var result = receiver.decode( sender.encode( message ) );
+
+      assertEquals( message, result );
+    },
+
+    testEncode_skipsUndefinedProperties : function() {
+      var message = { "head" : {}, "operations" : [ [ "set", "w1", { "foo" : undefined } ] ] };
+
+      var result = receiver.decode( sender.encode( message ) );
+
+      assertEquals( {}, result.operations[ 0 ][ 2 ] );
+    },
+
+    testEncode_referencesKnownStrings : function() {
+      var message = { "head" : {}, "operations" : [ [ "set", "w1", { "selection" : [ 1 ] } ] ] };
+
+      var first = sender.encode( message );
+      var second = sender.encode( message );
+
+      assertTrue( second.length < first.length );
+      receiver.decode( first );
+      assertEquals( message, receiver.decode( second ) );
+    },
+
+    testDecode_withUnknownStringReference : function() {
+      var message = { "head" : {}, "operations" : [] };
+      sender.encode( message );
+
+      try {
+        receiver.decode( sender.encode( message ) );
+        fail();
+      } catch( expected ) {
+        assertTrue( expected.message.indexOf( "Unknown string reference" ) !== -1 );
+      }
+    },
+
+    testDecode_withTruncatedInput : function() {
+      var bytes = sender.encode( { "head" : {}, "operations" : [] } );
+
+      try {
+        receiver.decode( bytes.subarray( 0, bytes.length - 1 ) );
+        fail();
+      } catch( expected ) {
+        assertTrue( expected.message.indexOf( "Unexpected end of input" ) !== -1 );
+      }
+    },
+
+    setUp : function() {
+      sender = new BinaryCodec();
+      receiver = new BinaryCodec();
+    },
+
+    tearDown : function() {
+      sender = null;
+      receiver = null;
+    }
+
+  }
+
+} );
+
+}());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -165,6 +165,38 @@ rwt.qx.Class.define( "org.eclipse.rwt.test.tests.ConnectionTest", {
       connection._retry();
 
       assertEquals( [ "retry" ], log );
+    },
+
+    testIsServerBusy : function() {
+      assertTrue( connection._isServerBusy( { "head" : { "error" : "server busy" } } ) );
+      assertFalse( connection._isServerBusy( { "head" : { "error" : "session timeout" } } ) );
+      assertFalse( connection._isServerBusy( { "operations" : [] } ) );
+    },
+
+    testGetServerBusyDelay : function() {
+      connection._serverBusyRetries = 0;
+
+      var delay = connection._getServerBusyDelay( 2 );
+
+      assertTrue( delay >= 1000 && delay <= 2000 );
+    },
+
+    testGetServerBusyDelay_increasesWithRetries : function() {
+      connection._serverBusyRetries = 2;
+
+      var delay = connection._getServerBusyDelay( 2 );
+
+      assertTrue( delay >= 4000 && delay <= 8000 );
+      connection._serverBusyRetries = 0;
+    },
+
+    testGetServerBusyDelay_isLimited : function() {
+      connection._serverBusyRetries = 20;
+
+      var delay = connection._getServerBusyDelay( 10 );
+
+      assertTrue( delay >= 30000 && delay <= 60000 );
+      connection._serverBusyRetries = 0;
     }
 
   }
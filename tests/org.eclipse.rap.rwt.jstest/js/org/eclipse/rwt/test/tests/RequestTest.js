@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2016 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -73,6 +73,32 @@ rwt.qx.Class.define( "org.eclipse.rwt.test.tests.RequestTest", {
       assertNotNull( findNativeCall( "send", [ "foobar" ] ) );
     },
 
+    testSendData_withCompressionDisabled : function() {
+      request.setData( "foobar" );
+      request.setCompressionThreshold( -1 );
+      request.send();
+
+      assertNotNull( findNativeCall( "send", [ "foobar" ] ) );
+      assertNull( findNativeCall( "setRequestHeader", [ "Content-Encoding", "gzip" ] ) );
+    },
+
+    testSendData_belowCompressionThreshold : function() {
+      request.setData( "foobar" );
+      request.setCompressionThreshold( 100 );
+      request.send();
+
+      assertNotNull( findNativeCall( "send", [ "foobar" ] ) );
+    },
+
+    testSendData_synchronousNotCompressed : function() {
+      request.setAsynchronous( false );
+      request.setData( "foobar" );
+      request.setCompressionThreshold( 0 );
+      request.send();
+
+      assertNotNull( findNativeCall( "send", [ "foobar" ] ) );
+    },
+
     testRecieveData : function() {
       request.send();
       var log = createRequestLogger( request );
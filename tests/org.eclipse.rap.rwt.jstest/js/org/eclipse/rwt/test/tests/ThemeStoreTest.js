@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -352,6 +352,49 @@ rwt.qx.Class.define( "org.eclipse.rwt.test.tests.ThemeStoreTest", {
       assertEquals( "rwt-resources/themes/cursors/4713.gif", customCursor );
     },
 
+    testGetCursor_withLocation : function() {
+      scheduleResponse( {
+        "values" : {
+          "cursors" :  { "4715.gif" : null },
+          "locations" : {
+            "themes/cursors/4715.gif" : "rwt-resources/themes/cursors/4715.gif?v=abc"
+          }
+        },
+        "theme" : {
+          "mywidget" : {
+            "cursor" : [ [ [], "4715.gif" ] ]
+          }
+        }
+      } );
+      loadActiveTheme( "rwt-resource/myTheme" );
+
+      var cursor = themeStore.getCursor( "mywidget", {}, "cursor" );
+
+      assertEquals( "rwt-resources/themes/cursors/4715.gif?v=abc", cursor );
+    },
+
+    testGetSizedImage_withLocation : function() {
+      scheduleResponse( {
+        "values" : {
+          "images" :  { "4716.png" : [ 10, 20 ] },
+          "locations" : {
+            "themes/images/4716.png" : "rwt-resources/themes/images/4716.png?v=abc"
+          }
+        },
+        "theme" : {
+          "mywidget" : {
+            "background-image" : [ [ [], "4716.png" ] ]
+          }
+        }
+      } );
+      loadActiveTheme( "rwt-resource/myTheme" );
+
+      var image = themeStore.getSizedImage( "mywidget", {}, "background-image" );
+
+      var expected = [ "rwt-resources/themes/images/4716.png?v=abc", 10, 20 ];
+      assertEquals( expected, image );
+    },
+
     testLoadFallbackTheme : function() {
       scheduleResponse( {
         "values" : { "colors" :  { "xyz" : "#00ff00" } },
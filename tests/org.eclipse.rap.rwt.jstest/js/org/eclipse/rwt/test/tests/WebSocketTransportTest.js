@@ -0,0 +1,286 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+(function() {
+
+var TestUtil = org.eclipse.rwt.test.fixture.TestUtil;
+var WebSocketTransport = rwt.remote.WebSocketTransport;
+var ServerPush = rwt.client.ServerPush;
+
+var connection;
+var sockets;
+var originalWebSocket;
+var originalConnectionId;
+var log;
+
+var MockSocket = function( url ) {
+  this.url = url;
+  this.sent = [];
+  sockets.push( this );
+};
+
+MockSocket.prototype = {
+
+  send : function( data ) {
+    this.sent.push( data );
+  },
+
+  close : function() {
+    this.onclose();
+  }
+
+};
+
+rwt.qx.Class.define( "org.eclipse.rwt.test.tests.WebSocketTransportTest", {
+
+  extend : rwt.qx.Object,
+
+  members : {
+
+    setUp : function() {
+      sockets = [];
+      log = [];
+      originalWebSocket = window.WebSocket;
+      window.WebSocket = MockSocket;
+      connection = rwt.remote.Connection.getInstance();
+      originalConnectionId = connection.getConnectionId();
+      TestUtil.initRequestLog();
+    },
+
+    tearDown : function() {
+      window.WebSocket = originalWebSocket;
+      connection._webSocket = null;
+      connection.setWebSocketUrl( null );
+      connection.setWebSocketRefreshInterval( 0 );
+      connection.setConnectionId( originalConnectionId );
+      rwt.runtime.Singletons.clear( ServerPush );
+    },
+
+    testCreateUrl : function() {
+      var url = WebSocketTransport.createUrl( "/ctx/rwt-websocket?servletPath=%2Fapp", "a1" );
+
+      assertTrue( url.indexOf( "ws" ) === 0 );
+      assertTrue( url.indexOf( window.location.host ) !== -1 );
+      assertTrue( /\/ctx\/rwt-websocket\?servletPath=%2Fapp&cid=a1$/.test( url ) );
+    },
+
+    testCreate_usesArrayBuffers : function() {
+      new WebSocketTransport( "ws://foo", createHandler() );
+
+      assertEquals( "ws://foo", sockets[ 0 ].url );
+      assertEquals( "arraybuffer", sockets[ 0 ].binaryType );
+    },
+
+    testIsOpen : function() {
+      var transport = new WebSocketTransport( "ws://foo", createHandler() );
+      assertFalse( transport.isOpen() );
+
+      sockets[ 0 ].onopen();
+
+      assertTrue( transport.isOpen() );
+    },
+
+    testMessage_notifiesHandler : function() {
+      var transport = new WebSocketTransport( "ws://foo", createHandler() );
+      transport.send( "request" );
+
+      sockets[ 0 ].onmessage( { "data" : "response" } );
+
+      assertEquals( [ "request" ], sockets[ 0 ].sent );
+      assertEquals( [ "message:response" ], log );
+    },
+
+    testServerPush_notifiesHandler : function() {
+      var transport = new WebSocketTransport( "ws://foo", createHandler() );
+      transport.sendServerPushRequest();
+
+      sockets[ 0 ].onmessage( { "data" : "serverPush" } );
+
+      assertEquals( [ "serverPush" ], sockets[ 0 ].sent );
+      assertEquals( [ "serverPush" ], log );
+    },
+
+    testClose_reportsPendingData : function() {
+      var transport = new WebSocketTransport( "ws://foo", createHandler() );
+      sockets[ 0 ].onopen();
+      transport.send( "request" );
+      transport.sendServerPushRequest();
+
+      sockets[ 0 ].onclose();
+
+      assertFalse( transport.isOpen() );
+      assertEquals( [ "close:request:true" ], log );
+    },
+
+    testClose_withoutPendingData : function() {
+      var transport = new WebSocketTransport( "ws://foo", createHandler() );
+      transport.send( "request" );
+      sockets[ 0 ].onmessage( { "data" : "response" } );
+      log = [];
+
+      transport.close();
+      sockets[ 0 ].onclose();
+
+      assertEquals( [ "close:null:false" ], log );
+    },
+
+    testSendImmediate_usesHttpUntilWebSocketIsOpen : function() {
+      connection.setWebSocketUrl( "/rwt-websocket?servletPath=%2Fapp" );
+      connection.setConnectionId( "a1" );
+
+      connection.send();
+
+      assertEquals( 1, TestUtil.getRequestsSend() );
+      assertEquals( 1, sockets.length );
+      assertTrue( /&cid=a1$/.test( sockets[ 0 ].url ) );
+    },
+
+    testSendImmediate_withoutConnectionId : function() {
+      connection.setWebSocketUrl( "/rwt-websocket" );
+
+      connection.send();
+
+      assertEquals( 0, sockets.length );
+    },
+
+    testSendImmediate_usesOpenWebSocket : function() {
+      openWebSocket();
+
+      connection.getMessageWriter().appendHead( "foo", 23 );
+      connection.send();
+
+      assertEquals( 0, TestUtil.getRequestsSend() );
+      assertEquals( 1, sockets[ 0 ].sent.length );
+      assertEquals( 23, JSON.parse( sockets[ 0 ].sent[ 0 ] ).head.foo );
+    },
+
+    testSendImmediate_usesHttpForSynchronousRequests : function() {
+      openWebSocket();
+
+      connection.sendImmediate( false );
+
+      assertEquals( 1, TestUtil.getRequestsSend() );
+      assertEquals( 0, sockets[ 0 ].sent.length );
+    },
+
+    testSendImmediate_usesHttpAfterRefreshInterval : function() {
+      openWebSocket();
+      connection.setWebSocketRefreshInterval( 60000 );
+      connection._lastHttpRequestTime = new Date().getTime() - 60001;
+
+      connection.send();
+      connection.send();
+
+      assertEquals( 1, TestUtil.getRequestsSend() );
+      assertEquals( 1, sockets[ 0 ].sent.length );
+    },
+
+    testWebSocketMessage_isProcessed : function() {
+      openWebSocket();
+      connection.send();
+
+      sockets[ 0 ].onmessage( { "data" : "{ \"head\" : {}, \"operations\" : [] }" } );
+
+      assertFalse( connection._requestPending );
+    },
+
+    testWebSocketMessage_withError : function() {
+      openWebSocket();
+      connection.send();
+
+      sockets[ 0 ].onmessage( { "data" : "{ \"head\" : { \"error\" : \"session timeout\" } }" } );
+
+      assertTrue( connection._requestPending );
+    },
+
+    testWebSocketClose_resendsPendingMessageOverHttp : function() {
+      openWebSocket();
+      connection.getMessageWriter().appendHead( "foo", 23 );
+      connection.send();
+
+      sockets[ 0 ].onclose();
+
+      assertEquals( 1, TestUtil.getRequestsSend() );
+      assertEquals( 23, TestUtil.getMessageObject().getHead().foo );
+      assertFalse( connection.isWebSocketOpen() );
+    },
+
+    testWebSocketClose_doesNotReconnect : function() {
+      openWebSocket();
+      sockets[ 0 ].onclose();
+
+      connection.send();
+
+      assertEquals( 1, sockets.length );
+      assertEquals( 1, TestUtil.getRequestsSend() );
+    },
+
+    testServerPush_usesOpenWebSocket : function() {
+      openWebSocket();
+      ServerPush.getInstance().setActive( true );
+
+      ServerPush.getInstance().sendServerPushRequest();
+
+      assertEquals( [ "serverPush" ], sockets[ 0 ].sent );
+      assertEquals( 0, TestUtil.getRequestsSend() );
+    },
+
+    testServerPush_releaseSendsUIRequest : function() {
+      openWebSocket();
+      ServerPush.getInstance().setActive( true );
+      ServerPush.getInstance().sendServerPushRequest();
+
+      sockets[ 0 ].onmessage( { "data" : "serverPush" } );
+
+      assertEquals( 2, sockets[ 0 ].sent.length );
+      assertFalse( ServerPush.getInstance()._running );
+    },
+
+    testServerPush_fallsBackToHttpOnClose : function() {
+      openWebSocket();
+      ServerPush.getInstance().setActive( true );
+      ServerPush.getInstance().sendServerPushRequest();
+      TestUtil.scheduleResponse( function() {
+        ServerPush.getInstance().setActive( false );
+      } );
+
+      sockets[ 0 ].onclose();
+
+      // released server push request and the following UI request
+      assertEquals( 2, TestUtil.getRequestsSend() );
+    }
+
+  }
+
+} );
+
+var createHandler = function() {
+  return {
+    onMessage : function( data ) {
+      log.push( "message:" + data );
+    },
+    onServerPush : function() {
+      log.push( "serverPush" );
+    },
+    onClose : function( pendingData, serverPushPending ) {
+      log.push( "close:" + pendingData + ":" + serverPushPending );
+    }
+  };
+};
+
+var openWebSocket = function() {
+  connection.setWebSocketUrl( "/rwt-websocket" );
+  connection.setConnectionId( "a1" );
+  connection._connectWebSocket();
+  sockets[ 0 ].onopen();
+};
+
+}() );
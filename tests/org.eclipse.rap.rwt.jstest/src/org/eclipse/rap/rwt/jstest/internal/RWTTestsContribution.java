@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -97,6 +97,8 @@ public class RWTTestsContribution implements TestContribution {
     "tests/MessageTest.js",
     "tests/ClientMessagesTest.js",
     "tests/ConnectionTest.js",
+    "tests/BinaryCodecTest.js",
+    "tests/WebSocketTransportTest.js",
     "tests/ObjectRegistryTest.js",
     "tests/RemoteObjectTest.js",
     "tests/RemoteObjectFactoryTest.js",
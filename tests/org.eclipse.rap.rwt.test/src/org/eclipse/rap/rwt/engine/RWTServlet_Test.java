@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2015 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -111,6 +111,21 @@ public class RWTServlet_Test {
     verify( lifeCycleServiceHandler ).service( request, response );
   }
 
+  @Test
+  public void testHandleRequest_withBinaryProtocol() throws Exception {
+    ServiceHandler lifeCycleServiceHandler = mock( ServiceHandler.class );
+    fakeServiceHandler( applicationContext, lifeCycleServiceHandler );
+    request.setMethod( HTTP.METHOD_POST );
+    request.setContentType( HTTP.CONTENT_TYPE_BINARY_PROTOCOL );
+    request.setServletPath( "/foo" );
+    request.setPathInfo( null );
+    request.setSession( mock( HttpSession.class ) );
+
+    servlet.doGet( request, response );
+
+    verify( lifeCycleServiceHandler ).service( request, response );
+  }
+
   @Test
   public void testHandleRequest_withRootServlet() throws Exception {
     ServiceHandler lifeCycleServiceHandler = mock( ServiceHandler.class );
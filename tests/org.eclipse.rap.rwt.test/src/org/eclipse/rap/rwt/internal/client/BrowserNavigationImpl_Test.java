@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -224,9 +224,11 @@ public class BrowserNavigationImpl_Test {
 
     Fixture.executeLifeCycleFromServerThread();
 
+    // remote objects are rendered in the order of their first pending operation
     TestMessage message = Fixture.getProtocolMessage();
-    CallOperation callOperation1 = ( CallOperation )message.getOperation( 0 );
-    CallOperation callOperation2 = ( CallOperation )message.getOperation( 1 );
+    int count = message.getOperationCount();
+    CallOperation callOperation1 = ( CallOperation )message.getOperation( count - 2 );
+    CallOperation callOperation2 = ( CallOperation )message.getOperation( count - 1 );
 
     assertEquals( "addToHistory", callOperation1.getMethodName() );
     assertEquals( "testId1", callOperation1.getParameters().get( "state" ).asString() );
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class LatencyHistogram_Test {
+
+  private LatencyHistogram histogram;
+
+  @Before
+  public void setUp() {
+    histogram = new LatencyHistogram();
+  }
+
+  @Test
+  public void testCreateSnapshot_initial() {
+    LatencySnapshot snapshot = histogram.createSnapshot();
+
+    assertEquals( 0, snapshot.getCount() );
+    assertEquals( 0, snapshot.getMean() );
+    assertEquals( 0, snapshot.getMax() );
+    assertEquals( 0, snapshot.getPercentile99() );
+  }
+
+  @Test
+  public void testRecord() {
+    histogram.record( 1000 );
+    histogram.record( 3000 );
+
+    LatencySnapshot snapshot = histogram.createSnapshot();
+    assertEquals( 2, snapshot.getCount() );
+    assertEquals( 2, snapshot.getMean() );
+    assertEquals( 3, snapshot.getMax() );
+  }
+
+  @Test
+  public void testRecord_negativeValue() {
+    histogram.record( -1 );
+
+    assertEquals( 1, histogram.getCount() );
+    assertEquals( 0, histogram.createSnapshot().getMax() );
+  }
+
+  @Test
+  public void testCreateSnapshot_percentiles() {
+    for( int i = 1; i <= 100; i++ ) {
+      histogram.record( i * 1000000L );
+    }
+
+    LatencySnapshot snapshot = histogram.createSnapshot();
+    assertWithinRelativeError( 50000, snapshot.getPercentile50() );
+    assertWithinRelativeError( 90000, snapshot.getPercentile90() );
+    assertWithinRelativeError( 99000, snapshot.getPercentile99() );
+    assertEquals( 100000, snapshot.getMax() );
+  }
+
+  @Test
+  public void testReset() {
+    histogram.record( 1000 );
+
+    histogram.reset();
+
+    assertEquals( 0, histogram.getCount() );
+    assertEquals( 0, histogram.createSnapshot().getMax() );
+  }
+
+  @Test
+  public void testGetBucketIndex_smallValues() {
+    assertEquals( 0, LatencyHistogram.getBucketIndex( 0 ) );
+    assertEquals( 7, LatencyHistogram.getBucketIndex( 7 ) );
+    assertEquals( 8, LatencyHistogram.getBucketIndex( 8 ) );
+  }
+
+  @Test
+  public void testGetBucketIndex_largestValue() {
+    int index = LatencyHistogram.getBucketIndex( Long.MAX_VALUE );
+
+    assertEquals( Long.MAX_VALUE, LatencyHistogram.getUpperBound( index ) );
+  }
+
+  @Test
+  public void testGetUpperBound_containsValue() {
+    long[] values = { 9, 100, 1023, 1024, 123456789L };
+    for( long value : values ) {
+      long upperBound = LatencyHistogram.getUpperBound( LatencyHistogram.getBucketIndex( value ) );
+      assertTrue( upperBound >= value );
+      assertTrue( upperBound <= value + value / 8 );
+    }
+  }
+
+  private static void assertWithinRelativeError( long expected, long actual ) {
+    assertTrue( "expected " + expected + " but was " + actual, actual >= expected );
+    assertTrue( "expected " + expected + " but was " + actual, actual <= expected + expected / 8 );
+  }
+
+}
@@ -0,0 +1,327 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.SingletonManager;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
+import org.eclipse.rap.rwt.internal.util.SharedScheduler;
+import org.eclipse.rap.rwt.testfixture.internal.TestHttpSession;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+
+@SuppressWarnings( "deprecation" )
+public class LifeCycleMetrics_Test {
+
+  private SharedScheduler scheduler;
+  private LifeCycleMetrics metrics;
+
+  @Before
+  public void setUp() {
+    TestExporter.exportCount.set( 0 );
+    scheduler = new SharedScheduler( "Test Scheduler", 1 );
+    metrics = new LifeCycleMetrics( scheduler );
+  }
+
+  @After
+  public void tearDown() {
+    metrics.deactivate();
+    scheduler.shutdown();
+    System.clearProperty( RWTProperties.METRICS_JMX );
+  }
+
+  @Test
+  public void testRecordPhase() {
+    metrics.recordPhase( PhaseId.READ_DATA, 1000 );
+    metrics.recordPhase( PhaseId.PROCESS_ACTION, 2000 );
+    metrics.recordPhase( PhaseId.PROCESS_ACTION, 2000 );
+    metrics.recordPhase( PhaseId.RENDER, 3000 );
+
+    assertEquals( 1, metrics.getReadDataLatency().getCount() );
+    assertEquals( 2, metrics.getProcessActionLatency().getCount() );
+    assertEquals( 1, metrics.getRenderLatency().getCount() );
+    assertEquals( 3, metrics.getRenderLatency().getMax() );
+  }
+
+  @Test
+  public void testRecordPhase_ignoresOtherPhases() {
+    metrics.recordPhase( PhaseId.PREPARE_UI_ROOT, 1000 );
+
+    assertEquals( 0, metrics.getReadDataLatency().getCount() );
+    assertEquals( 0, metrics.getProcessActionLatency().getCount() );
+    assertEquals( 0, metrics.getRenderLatency().getCount() );
+  }
+
+  @Test
+  public void testRecordMessages() {
+    metrics.recordMessageReceived( 100, 3 );
+    metrics.recordMessageSent( 500, 10 );
+    metrics.recordMessageReceived( 50, 1 );
+
+    assertEquals( 2, metrics.getRequestCount() );
+    assertEquals( 150, metrics.getBytesReceived() );
+    assertEquals( 4, metrics.getOperationsReceived() );
+    assertEquals( 500, metrics.getBytesSent() );
+    assertEquals( 10, metrics.getOperationsSent() );
+  }
+
+  @Test
+  public void testRecordWidgetsVisited() {
+    metrics.recordWidgetsVisited( 7 );
+    metrics.recordWidgetsVisited( 3 );
+
+    assertEquals( 10, metrics.getWidgetsVisited() );
+  }
+
+  @Test
+  public void testRecordThreadHandoffAndServerPushPark() {
+    metrics.recordThreadHandoff( 1000 );
+    metrics.recordServerPushPark( 2000 );
+
+    assertEquals( 1, metrics.getThreadHandoffLatency().getCount() );
+    assertEquals( 1, metrics.getServerPushParkDuration().getCount() );
+  }
+
+  @Test
+  public void testReset() {
+    metrics.recordPhase( PhaseId.RENDER, 1000 );
+    metrics.recordMessageReceived( 100, 3 );
+    metrics.recordWidgetsVisited( 7 );
+
+    metrics.reset();
+
+    assertEquals( 0, metrics.getRenderLatency().getCount() );
+    assertEquals( 0, metrics.getRequestCount() );
+    assertEquals( 0, metrics.getBytesReceived() );
+    assertEquals( 0, metrics.getWidgetsVisited() );
+  }
+
+  @Test
+  public void testCreateSnapshot() {
+    metrics.recordMessageReceived( 100, 3 );
+
+    MetricsSnapshot snapshot = metrics.createSnapshot();
+    metrics.recordMessageReceived( 100, 3 );
+
+    assertEquals( 1, snapshot.getRequestCount() );
+    assertEquals( 100, snapshot.getBytesReceived() );
+    assertTrue( snapshot.getTimestamp() > 0 );
+  }
+
+  @Test
+  public void testGetSessionMetrics_withoutSessions() {
+    SessionMetricsSnapshot snapshot = metrics.getSessionMetrics();
+
+    assertEquals( 0, snapshot.getSessionCount() );
+    assertEquals( 0, snapshot.getMeanRequestCount() );
+    assertEquals( 0, snapshot.getMaxBytesSent() );
+  }
+
+  @Test
+  public void testRecordSessionRequest() {
+    UISessionImpl uiSession = createUISession();
+    UISessionImpl otherUISession = createUISession();
+
+    metrics.recordSessionRequest( uiSession, 10, 100, 1000000 );
+    metrics.recordSessionRequest( uiSession, 20, 200, 3000000 );
+    metrics.recordSessionRequest( otherUISession, 30, 50, 2000000 );
+
+    SessionMetricsSnapshot snapshot = metrics.getSessionMetrics();
+    assertEquals( 2, snapshot.getSessionCount() );
+    assertEquals( 1, snapshot.getMeanRequestCount() );
+    assertEquals( 2, snapshot.getMaxRequestCount() );
+    assertEquals( 3, snapshot.getMeanProcessingTime() );
+    assertEquals( 4, snapshot.getMaxProcessingTime() );
+    assertEquals( 30, snapshot.getMaxBytesReceived() );
+    assertEquals( 300, snapshot.getMaxBytesSent() );
+    assertEquals( 2, SessionMetrics.getInstance( uiSession ).getRequestCount() );
+  }
+
+  @Test
+  public void testRecordSessionRequest_removesDestroyedSession() {
+    UISessionImpl uiSession = createUISession();
+    metrics.recordSessionRequest( uiSession, 10, 100, 1000000 );
+
+    uiSession.valueUnbound( null );
+
+    assertEquals( 0, metrics.getSessionMetrics().getSessionCount() );
+  }
+
+  @Test
+  public void testCreateSnapshot_includesSessionMetrics() {
+    metrics.recordSessionRequest( createUISession(), 10, 100, 1000000 );
+
+    MetricsSnapshot snapshot = metrics.createSnapshot();
+
+    assertEquals( 1, snapshot.getSessionMetrics().getSessionCount() );
+  }
+
+  @Test
+  public void testExport() {
+    MetricsExporter exporter = mock( MetricsExporter.class );
+    metrics.addExporter( exporter );
+    metrics.recordMessageReceived( 100, 3 );
+
+    metrics.export();
+
+    ArgumentCaptor<MetricsSnapshot> captor = ArgumentCaptor.forClass( MetricsSnapshot.class );
+    verify( exporter ).export( captor.capture() );
+    assertEquals( 100, captor.getValue().getBytesReceived() );
+  }
+
+  @Test
+  public void testExport_afterRemoveExporter() {
+    MetricsExporter exporter = mock( MetricsExporter.class );
+    metrics.addExporter( exporter );
+    metrics.removeExporter( exporter );
+
+    metrics.export();
+
+    verifyZeroInteractions( exporter );
+  }
+
+  @Test
+  public void testExport_continuesAfterFailingExporter() {
+    MetricsExporter failingExporter = mock( MetricsExporter.class );
+    doThrow( new RuntimeException() )
+      .when( failingExporter ).export( any( MetricsSnapshot.class ) );
+    MetricsExporter exporter = mock( MetricsExporter.class );
+    metrics.addExporter( failingExporter );
+    metrics.addExporter( exporter );
+
+    metrics.export();
+
+    verify( exporter ).export( any( MetricsSnapshot.class ) );
+  }
+
+  @Test
+  public void testActivate_loadsExporterServices() throws IOException {
+    metrics.activate( "test", createServiceClassLoader() );
+
+    metrics.export();
+
+    assertEquals( 1, TestExporter.exportCount.get() );
+  }
+
+  @Test
+  public void testDeactivate_removesExporterServices() throws IOException {
+    metrics.activate( "test", createServiceClassLoader() );
+
+    metrics.deactivate();
+    metrics.export();
+
+    assertEquals( 0, TestExporter.exportCount.get() );
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testAddExporter_withNull() {
+    metrics.addExporter( null );
+  }
+
+  @Test
+  public void testActivate_withoutJmx() {
+    metrics.activate( "test", getClass().getClassLoader() );
+
+    assertNull( metrics.getObjectName() );
+  }
+
+  @Test
+  public void testActivate_registersMBean() throws Exception {
+    System.setProperty( RWTProperties.METRICS_JMX, "true" );
+
+    metrics.activate( "test", getClass().getClassLoader() );
+
+    ObjectName objectName = metrics.getObjectName();
+    assertNotNull( objectName );
+    MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+    assertTrue( mbeanServer.isRegistered( objectName ) );
+    assertEquals( Long.valueOf( 0 ), mbeanServer.getAttribute( objectName, "RequestCount" ) );
+  }
+
+  @Test
+  public void testDeactivate_unregistersMBean() {
+    System.setProperty( RWTProperties.METRICS_JMX, "true" );
+    metrics.activate( "test", getClass().getClassLoader() );
+    ObjectName objectName = metrics.getObjectName();
+
+    metrics.deactivate();
+
+    assertNull( metrics.getObjectName() );
+    MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+    assertFalse( mbeanServer.isRegistered( objectName ) );
+  }
+
+  private UISessionImpl createUISession() {
+    ApplicationContextImpl applicationContext = mock( ApplicationContextImpl.class );
+    when( applicationContext.getLifeCycleMetrics() ).thenReturn( metrics );
+    UISessionImpl result = new UISessionImpl( applicationContext, new TestHttpSession() );
+    SingletonManager.install( result );
+    return result;
+  }
+
+  private static ClassLoader createServiceClassLoader() throws IOException {
+    File file = File.createTempFile( "exporters", ".txt" );
+    file.deleteOnExit();
+    Files.write( file.toPath(), TestExporter.class.getName().getBytes( StandardCharsets.UTF_8 ) );
+    final URL url = file.toURI().toURL();
+    final String serviceName = "META-INF/services/" + MetricsExporter.class.getName();
+    return new ClassLoader( LifeCycleMetrics_Test.class.getClassLoader() ) {
+      @Override
+      public Enumeration<URL> getResources( String name ) throws IOException {
+        if( serviceName.equals( name ) ) {
+          return Collections.enumeration( Collections.singletonList( url ) );
+        }
+        return super.getResources( name );
+      }
+    };
+  }
+
+  public static class TestExporter implements MetricsExporter {
+
+    static final AtomicInteger exportCount = new AtomicInteger();
+
+    @Override
+    public void export( MetricsSnapshot snapshot ) {
+      exportCount.incrementAndGet();
+    }
+
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -518,9 +518,7 @@ public class RWTLifeCycle_Test {
       @Override
       public void run() {
         while( continueLoop.get() ) {
-          IUIThreadHolder uiThread = ( IUIThreadHolder )Thread.currentThread();
-          synchronized( uiThread.getLock() ) {
-          }
+          IUIThreadHolder uiThread = UIThread.getCurrent();
           uiThread.updateServiceContext();
           uiContext.set( ContextProvider.getContext() );
           log.append( "executedInUIThread" );
@@ -544,7 +542,7 @@ public class RWTLifeCycle_Test {
     }
     assertSame( originContext, uiContext.get() );
     assertEquals( "executedInUIThread", log.toString() );
-    assertTrue( getUIThread().isAlive() );
+    assertTrue( getUIThread().getThread().isAlive() );
     // simulates subsequent request
     log.setLength( 0 );
     uiContext.set( null );
@@ -559,7 +557,7 @@ public class RWTLifeCycle_Test {
     }
     assertSame( secondContext, uiContext.get() );
     assertEquals( "executedInUIThread", log.toString() );
-    assertTrue( getUIThread().isAlive() );
+    assertTrue( getUIThread().getThread().isAlive() );
     // simulates request that ends event loop
     UIThread endingUIThread = getUIThread();
     continueLoop.set( false );
@@ -569,7 +567,7 @@ public class RWTLifeCycle_Test {
         throw error.get();
       }
     }
-    assertFalse( endingUIThread.isAlive() );
+    assertFalse( endingUIThread.getThread().isAlive() );
     assertNull( getUIThread() );
     // clean up
     ContextProvider.releaseContextHolder();
@@ -581,7 +579,6 @@ public class RWTLifeCycle_Test {
     UIThread thread = new UIThread( null );
     ServiceContext firstContext = ContextProvider.getContext();
     thread.setServiceContext( firstContext );
-    thread.run();
     ServiceContext secondContext = newContext( firstContext.getUISession() );
     thread.setServiceContext( secondContext );
     thread.updateServiceContext();
@@ -612,9 +609,8 @@ public class RWTLifeCycle_Test {
     lifeCycle.addPhaseListener( new LoggingPhaseListener() );
     UIThread thread = new UIThread( lifeCycle.uiRunnable );
     thread.setServiceContext( ContextProvider.getContext() );
-    thread.start();
-    // TODO [rh] Find more failsafe solution
-    Thread.sleep( 200 );
+    thread.getThread().start();
+    thread.switchThread();
 
     String expected = "before"
                     + PhaseId.PREPARE_UI_ROOT
@@ -647,9 +643,7 @@ public class RWTLifeCycle_Test {
       @Override
       public void run() {
         try {
-          synchronized( uiThread.get().getLock() ) {
-          }
-          IUIThreadHolder uiThread = ( IUIThreadHolder )Thread.currentThread();
+          IUIThreadHolder uiThread = UIThread.getCurrent();
           uiThread.updateServiceContext();
           lifeCycle.continueLifeCycle();
           log.setLength( 0 );
@@ -667,10 +661,8 @@ public class RWTLifeCycle_Test {
     LifeCycleUtil.setUIThread( ContextProvider.getUISession(), uiThread.get() );
 
     uiThread.get().setServiceContext( ContextProvider.getContext() );
-    synchronized( uiThread.get().getLock() ) {
-      uiThread.get().start();
-      uiThread.get().switchThread();
-    }
+    uiThread.get().getThread().start();
+    uiThread.get().switchThread();
 
     if( error.get() != null ) {
       throw error.get();
@@ -745,7 +737,7 @@ public class RWTLifeCycle_Test {
              + PhaseId.PROCESS_ACTION
              + "readAndDispatch";
     assertEquals( expected, log.toString() );
-    assertFalse( uiThread.get().isAlive() );
+    assertFalse( uiThread.get().getThread().isAlive() );
   }
 
   @Test
@@ -905,14 +897,15 @@ public class RWTLifeCycle_Test {
         }
       }
     } ) );
-    uiThread.get().start();
+    uiThread.get().getThread().start();
+    uiThread.get().switchThread();
+    uiThread.get().getThread().interrupt();
     Thread.sleep( 100 );
-    uiThread.get().interrupt();
     assertNull( "switchThread must not unblock when thread is interrupted", errorInUIThread.get() );
+    assertTrue( uiThread.get().getThread().isAlive() );
     // unblock ui thread, see bug 351277
-    synchronized( uiThread.get().getLock() ) {
-      uiThread.get().getLock().notifyAll();
-    }
+    uiThread.get().switchThread();
+    assertFalse( uiThread.get().getThread().isAlive() );
   }
 
   @Test
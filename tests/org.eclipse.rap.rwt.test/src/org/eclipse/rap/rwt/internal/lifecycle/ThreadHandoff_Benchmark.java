@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * Measures the latency of a request round trip across the request/UI thread handoff, i.e. the
+ * time it takes a request thread to pass control to the UI thread and to get it back. The
+ * <code>UIThread</code> handoff is compared with the monitor based wait/notifyAll handoff that
+ * was used before.
+ * <p>
+ * This is not a unit test, run it as a Java application. Optional arguments are the number of
+ * measured round trips and the number of warm-up round trips.
+ * </p>
+ */
+public class ThreadHandoff_Benchmark {
+
+  private static final int DEFAULT_ROUND_TRIPS = 200000;
+  private static final int DEFAULT_WARM_UP_ROUND_TRIPS = 50000;
+
+  public static void main( String[] args ) throws InterruptedException {
+    int roundTrips = args.length > 0 ? Integer.parseInt( args[ 0 ] ) : DEFAULT_ROUND_TRIPS;
+    int warmUp = args.length > 1 ? Integer.parseInt( args[ 1 ] ) : DEFAULT_WARM_UP_ROUND_TRIPS;
+    for( int i = 0; i < 2; i++ ) {
+      report( "UIThread (park/unpark)", measureUIThread( roundTrips, warmUp ) );
+      report( "Monitor (wait/notifyAll)", measureMonitor( roundTrips, warmUp ) );
+    }
+  }
+
+  static long[] measureUIThread( final int roundTrips, int warmUp ) {
+    final int total = roundTrips + warmUp;
+    final AtomicReference<UIThread> uiThread = new AtomicReference<>();
+    uiThread.set( new UIThread( new Runnable() {
+      @Override
+      public void run() {
+        for( int i = 0; i < total; i++ ) {
+          uiThread.get().switchThread();
+        }
+      }
+    } ) );
+    uiThread.get().getThread().setDaemon( true );
+    uiThread.get().getThread().start();
+    long[] result = new long[ roundTrips ];
+    for( int i = 0; i < total; i++ ) {
+      long start = System.nanoTime();
+      uiThread.get().switchThread();
+      if( i >= warmUp ) {
+        result[ i - warmUp ] = System.nanoTime() - start;
+      }
+    }
+    // let the UI thread terminate
+    uiThread.get().switchThread();
+    return result;
+  }
+
+  static long[] measureMonitor( int roundTrips, int warmUp ) throws InterruptedException {
+    final int total = roundTrips + warmUp;
+    final Object lock = new Object();
+    Thread thread = new Thread( new Runnable() {
+      @Override
+      public void run() {
+        synchronized( lock ) {
+          for( int i = 0; i < total; i++ ) {
+            switchThread( lock );
+          }
+        }
+      }
+    } );
+    thread.setDaemon( true );
+    long[] result = new long[ roundTrips ];
+    synchronized( lock ) {
+      thread.start();
+      for( int i = 0; i < total; i++ ) {
+        long start = System.nanoTime();
+        switchThread( lock );
+        if( i >= warmUp ) {
+          result[ i - warmUp ] = System.nanoTime() - start;
+        }
+      }
+      // let the thread terminate
+      lock.notifyAll();
+    }
+    thread.join();
+    return result;
+  }
+
+  private static void switchThread( Object lock ) {
+    lock.notifyAll();
+    try {
+      lock.wait();
+    } catch( InterruptedException exception ) {
+      throw new RuntimeException( exception );
+    }
+  }
+
+  private static void report( String name, long[] latencies ) {
+    long[] sorted = latencies.clone();
+    Arrays.sort( sorted );
+    long sum = 0;
+    for( long latency : sorted ) {
+      sum += latency;
+    }
+    String msg = String.format( "%-26s avg %7d ns, p50 %7d ns, p99 %7d ns, max %9d ns",
+                                name,
+                                Long.valueOf( sum / sorted.length ),
+                                Long.valueOf( percentile( sorted, 50 ) ),
+                                Long.valueOf( percentile( sorted, 99 ) ),
+                                Long.valueOf( sorted[ sorted.length - 1 ] ) );
+    System.out.println( msg );
+  }
+
+  private static long percentile( long[] sorted, int percentile ) {
+    int index = ( int )Math.ceil( percentile / 100.0 * sorted.length ) - 1;
+    return sorted[ Math.max( 0, index ) ];
+  }
+
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ThreadHandoff_Test {
+
+  private ThreadHandoff handoff;
+
+  @Before
+  public void setUp() {
+    handoff = new ThreadHandoff();
+  }
+
+  @Test
+  public void testGetOwner_initial() {
+    assertNull( handoff.getOwner() );
+  }
+
+  @Test
+  public void testAwait_withControl() throws InterruptedException {
+    handoff.handOver( Thread.currentThread() );
+
+    handoff.await();
+
+    assertSame( Thread.currentThread(), handoff.getOwner() );
+  }
+
+  @Test
+  public void testHandOver_resumesWaitingThread() throws InterruptedException {
+    final CountDownLatch resumed = new CountDownLatch( 1 );
+    Thread thread = new Thread( new Runnable() {
+      @Override
+      public void run() {
+        try {
+          handoff.await();
+          resumed.countDown();
+        } catch( @SuppressWarnings( "unused" ) InterruptedException exception ) {
+          // test fails as the latch is not counted down
+        }
+      }
+    } );
+    thread.start();
+
+    handoff.handOver( thread );
+
+    assertTrue( resumed.await( 1, TimeUnit.SECONDS ) );
+  }
+
+  @Test
+  public void testAwait_isInterruptible() throws InterruptedException {
+    final AtomicReference<Throwable> error = new AtomicReference<>();
+    Thread thread = new Thread( new Runnable() {
+      @Override
+      public void run() {
+        try {
+          handoff.await();
+        } catch( InterruptedException expected ) {
+          error.set( expected );
+        }
+      }
+    } );
+    thread.start();
+
+    thread.interrupt();
+    thread.join( 1000 );
+
+    assertTrue( error.get() instanceof InterruptedException );
+  }
+
+  @Test
+  public void testAwait_withInterruptedCurrentThread() {
+    Thread.currentThread().interrupt();
+
+    try {
+      handoff.await();
+      fail();
+    } catch( @SuppressWarnings( "unused" ) InterruptedException expected ) {
+    }
+  }
+
+}
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.Test;
+
+
+public class UIThread_Test {
+
+  @Test
+  public void testGetLock_isDistinctFromThread() {
+    UIThread uiThread = new UIThread( new NoOpRunnable() );
+
+    assertNotSame( uiThread.getThread(), uiThread.getLock() );
+  }
+
+  @Test
+  public void testGetCurrent_outsideOfUIThread() {
+    assertNull( UIThread.getCurrent() );
+  }
+
+  @Test
+  public void testGetCurrent_insideOfUIThread() throws InterruptedException {
+    final AtomicReference<IUIThreadHolder> current = new AtomicReference<>();
+    UIThread uiThread = new UIThread( new Runnable() {
+      @Override
+      public void run() {
+        current.set( UIThread.getCurrent() );
+      }
+    } );
+
+    uiThread.getThread().start();
+    uiThread.switchThread();
+
+    assertSame( uiThread, current.get() );
+  }
+
+  @Test
+  public void testSwitchThread_returnsWhenUIThreadEnds() throws InterruptedException {
+    UIThread uiThread = new UIThread( new NoOpRunnable() );
+
+    uiThread.getThread().start();
+    uiThread.switchThread();
+
+    assertFalse( uiThread.getThread().isAlive() );
+  }
+
+  @Test
+  public void testSwitchThread_alternatesBetweenThreads() throws InterruptedException {
+    final StringBuilder log = new StringBuilder();
+    final AtomicReference<UIThread> uiThread = new AtomicReference<>();
+    uiThread.set( new UIThread( new Runnable() {
+      @Override
+      public void run() {
+        log.append( "ui1 " );
+        uiThread.get().switchThread();
+        log.append( "ui2 " );
+      }
+    } ) );
+
+    uiThread.get().getThread().start();
+    uiThread.get().switchThread();
+    log.append( "request1 " );
+    uiThread.get().switchThread();
+    log.append( "request2" );
+
+    assertEquals( "ui1 request1 ui2 request2", log.toString() );
+  }
+
+  @Test
+  public void testUIThread_waitsForControlBeforeRunning() throws InterruptedException {
+    final AtomicBoolean executed = new AtomicBoolean();
+    UIThread uiThread = new UIThread( new Runnable() {
+      @Override
+      public void run() {
+        executed.set( true );
+      }
+    } );
+
+    uiThread.getThread().start();
+    Thread.sleep( 50 );
+    assertFalse( executed.get() );
+    uiThread.switchThread();
+
+    assertTrue( executed.get() );
+  }
+
+  @Test
+  public void testTerminateThread_beforeControlIsPassed() {
+    Fixture.setUp();
+    try {
+      final AtomicBoolean executed = new AtomicBoolean();
+      final AtomicBoolean shutdown = new AtomicBoolean();
+      UIThread uiThread = new UIThread( new Runnable() {
+        @Override
+        public void run() {
+          executed.set( true );
+        }
+      } );
+      uiThread.setUISession( ContextProvider.getUISession() );
+      uiThread.setShutdownCallback( new Runnable() {
+        @Override
+        public void run() {
+          shutdown.set( true );
+        }
+      } );
+      uiThread.getThread().start();
+
+      uiThread.terminateThread();
+
+      assertFalse( executed.get() );
+      assertTrue( shutdown.get() );
+      assertFalse( uiThread.getThread().isAlive() );
+    } finally {
+      Fixture.tearDown();
+    }
+  }
+
+  @Test
+  public void testCreate_platformThread() {
+    UIThread uiThread = new UIThread( new NoOpRunnable() );
+
+    assertFalse( isVirtual( uiThread.getThread() ) );
+  }
+
+  @Test
+  public void testCreate_virtualThread() {
+    assumeTrue( VirtualThreads.isSupported() );
+
+    UIThread uiThread = new UIThread( new NoOpRunnable(), true );
+
+    assertTrue( isVirtual( uiThread.getThread() ) );
+  }
+
+  @Test
+  public void testCreate_virtualThreadFallsBackToPlatformThread() {
+    assumeTrue( !VirtualThreads.isSupported() );
+
+    UIThread uiThread = new UIThread( new NoOpRunnable(), true );
+
+    assertFalse( isVirtual( uiThread.getThread() ) );
+  }
+
+  @Test
+  public void testParseJavaVersion() {
+    assertEquals( 8, VirtualThreads.parseJavaVersion( "1.8" ) );
+    assertEquals( 17, VirtualThreads.parseJavaVersion( "17" ) );
+    assertEquals( 24, VirtualThreads.parseJavaVersion( "24.0.1" ) );
+    assertEquals( 0, VirtualThreads.parseJavaVersion( "foo" ) );
+    assertEquals( 0, VirtualThreads.parseJavaVersion( null ) );
+  }
+
+  private static boolean isVirtual( Thread thread ) {
+    try {
+      return Boolean.TRUE.equals( Thread.class.getMethod( "isVirtual" ).invoke( thread ) );
+    } catch( @SuppressWarnings( "unused" ) Exception exception ) {
+      return false;
+    }
+  }
+
+  private static class NoOpRunnable implements Runnable {
+    @Override
+    public void run() {
+    }
+  }
+
+}
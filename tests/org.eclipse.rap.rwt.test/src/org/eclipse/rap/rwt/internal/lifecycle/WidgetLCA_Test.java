@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2015 EclipseSource and others.
+ * Copyright (c) 2013, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,9 @@
 package org.eclipse.rap.rwt.internal.lifecycle;
 
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -148,6 +150,22 @@ public class WidgetLCA_Test {
     lca.readData( widget );
   }
 
+  @Test
+  public void testRequiresUnconditionalReadData_withDefaultReadData() {
+    assertFalse( lca.requiresUnconditionalReadData() );
+  }
+
+  @Test
+  public void testRequiresUnconditionalReadData_withCustomReadData() {
+    WidgetLCA customLCA = new TestWidgetLCA() {
+      @Override
+      public void readData( Widget widget ) {
+      }
+    };
+
+    assertTrue( customLCA.requiresUnconditionalReadData() );
+  }
+
   @Test
   public void testRenderDispose_destroysRemoteObjects() throws IOException {
     RemoteObjectImpl remoteObject = mockAndRegisterRemoteObject( widgetId, null );
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class BinaryMessageCodec_Test {
+
+  private static final Charset UTF_8 = Charset.forName( "UTF-8" );
+
+  private BinaryMessageCodec sender;
+  private BinaryMessageCodec receiver;
+
+  @Before
+  public void setUp() {
+    sender = new BinaryMessageCodec();
+    receiver = new BinaryMessageCodec();
+  }
+
+  @Test
+  public void testRoundTrip() {
+    JsonObject properties = new JsonObject()
+      .add( "bounds", new JsonArray().add( 0 ).add( -5 ).add( 300 ).add( 70000 ) )
+      .add( "background", new JsonArray().add( 255 ).add( 128 ).add( 0 ).add( 255 ) )
+      .add( "text", "foo \u00e4\u20ac" )
+      .add( "long", 12345678901L )
+      .add( "double", 1.5 )
+      .add( "visible", true )
+      .add( "enabled", false )
+      .add( "image", JsonValue.NULL );
+    JsonArray create = new JsonArray().add( "create" ).add( "w2" ).add( "rwt.widgets.Button" );
+    JsonObject message = createMessage( new JsonArray()
+      .add( create.add( properties ) )
+      .add( new JsonArray().add( "set" ).add( "w2" ).add( new JsonObject().add( "text", "" ) ) )
+      .add( new JsonArray().add( "call" ).add( "w2" ).add( "method" ).add( new JsonObject() ) )
+      .add( new JsonArray().add( "destroy" ).add( "w2" ) ) );
+
+    ClientMessage result = receiver.decode( sender.encode( new ClientMessage( message ) ) );
+
+    assertEquals( message, result.toJson() );
+  }
+
+  @Test
+  public void testRoundTrip_withLargeContainersAndStrings() {
+    JsonArray array = new JsonArray();
+    JsonObject object = new JsonObject();
+    for( int i = 0; i < 200; i++ ) {
+      array.add( i * 1000 );
+      object.add( "key" + i, i );
+    }
+    char[] chars = new char[ 1000 ];
+    Arrays.fill( chars, 'x' );
+    JsonObject properties = new JsonObject()
+      .add( "array", array )
+      .add( "object", object )
+      .add( "text", new String( chars ) );
+    JsonObject message = createMessage( createSetOperations( properties ) );
+
+    ClientMessage result = receiver.decode( sender.encode( new ClientMessage( message ) ) );
+
+    assertEquals( message, result.toJson() );
+  }
+
+  @Test
+  public void testEncode_isSmallerThanJson() {
+    JsonObject properties = new JsonObject()
+      .add( "bounds", new JsonArray().add( 10 ).add( 20 ).add( 300 ).add( 400 ) );
+    ClientMessage message = new ClientMessage( createMessage( createSetOperations( properties ) ) );
+    sender.encode( message );
+
+    byte[] encoded = sender.encode( message );
+
+    assertTrue( encoded.length < message.toJson().toString().getBytes( UTF_8 ).length / 2 );
+  }
+
+  @Test
+  public void testEncode_referencesKnownStrings() {
+    JsonObject properties = new JsonObject().add( "selection", new JsonArray().add( 1 ) );
+    ClientMessage message = new ClientMessage( createMessage( createSetOperations( properties ) ) );
+
+    byte[] first = sender.encode( message );
+    byte[] second = sender.encode( message );
+
+    assertTrue( second.length < first.length );
+    receiver.decode( first );
+    assertEquals( message.toJson(), receiver.decode( second ).toJson() );
+  }
+
+  @Test
+  public void testDecode_isIdempotentForRepeatedMessages() {
+    ClientMessage message = new ClientMessage( createMessage( createSetOperations( new JsonObject()
+      .add( "foo", 1 ) ) ) );
+    byte[] first = sender.encode( message );
+    byte[] second = sender.encode( message );
+
+    receiver.decode( first );
+    receiver.decode( first );
+
+    assertEquals( message.toJson(), receiver.decode( second ).toJson() );
+  }
+
+  @Test
+  public void testDecode_withUnknownStringReference() {
+    ClientMessage message = new ClientMessage( createMessage( new JsonArray() ) );
+    sender.encode( message );
+
+    try {
+      receiver.decode( sender.encode( message ) );
+      fail();
+    } catch( IllegalArgumentException exception ) {
+      assertTrue( exception.getMessage().contains( "Unknown string reference" ) );
+    }
+  }
+
+  @Test
+  public void testDecode_withTruncatedInput() {
+    byte[] bytes = sender.encode( new ClientMessage( createMessage( new JsonArray() ) ) );
+
+    try {
+      receiver.decode( Arrays.copyOf( bytes, bytes.length - 1 ) );
+      fail();
+    } catch( IllegalArgumentException exception ) {
+      assertTrue( exception.getMessage().contains( "Unexpected end of input" ) );
+    }
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testDecode_withTrailingBytes() {
+    byte[] bytes = sender.encode( new ClientMessage( createMessage( new JsonArray() ) ) );
+
+    receiver.decode( Arrays.copyOf( bytes, bytes.length + 1 ) );
+  }
+
+  @Test
+  public void testDecode_createsOperations() {
+    JsonObject properties = new JsonObject().add( "foo", 23 );
+    ClientMessage message = new ClientMessage( createMessage( createSetOperations( properties ) ) );
+
+    ClientMessage result = receiver.decode( sender.encode( message ) );
+
+    SetOperation operation = result.getLastSetOperationFor( "w1", "foo" );
+    assertEquals( 23, operation.getProperties().get( "foo" ).asInt() );
+  }
+
+  @Test
+  public void testIsSerializable() throws Exception {
+    ClientMessage message = new ClientMessage( createMessage( createSetOperations( new JsonObject()
+      .add( "foo", 1 ) ) ) );
+    receiver.decode( sender.encode( message ) );
+
+    BinaryMessageCodec deserialized = serializeAndDeserialize( receiver );
+
+    assertEquals( message.toJson(), deserialized.decode( sender.encode( message ) ).toJson() );
+  }
+
+  private static JsonArray createSetOperations( JsonObject properties ) {
+    return new JsonArray().add( new JsonArray().add( "set" ).add( "w1" ).add( properties ) );
+  }
+
+  private static JsonObject createMessage( JsonArray operations ) {
+    JsonObject head = new JsonObject().add( "requestCounter", 1 );
+    return new JsonObject().add( "head", head ).add( "operations", operations );
+  }
+
+}
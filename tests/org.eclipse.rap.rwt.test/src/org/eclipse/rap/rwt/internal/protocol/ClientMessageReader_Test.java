@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static org.eclipse.rap.rwt.internal.protocol.ClientMessageReader.readClientMessage;
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.Charset;
+import java.util.List;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CreateOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.DestroyOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.ListenOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.NotifyOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
+import org.junit.Test;
+
+
+public class ClientMessageReader_Test {
+
+  private static final Charset UTF_8 = Charset.forName( "UTF-8" );
+
+  @Test
+  public void testReadHead() {
+    ClientMessage message = read( "{\"head\":{\"requestCounter\":3},\"operations\":[]}" );
+
+    assertEquals( 3, message.getHead().get( "requestCounter" ).asInt() );
+    assertTrue( message.getOperations().isEmpty() );
+  }
+
+  @Test
+  public void testReadOperations() {
+    JsonArray operations = new JsonArray()
+      .add( new JsonArray().add( "set" ).add( "w1" ).add( new JsonObject().add( "foo", 23 ) ) )
+      .add( new JsonArray().add( "notify" ).add( "w2" ).add( "Selection" ).add( new JsonObject() ) )
+      .add( new JsonArray().add( "call" ).add( "w3" ).add( "method" ).add( new JsonObject() ) )
+      .add( new JsonArray().add( "create" ).add( "w4" ).add( "type" ).add( new JsonObject() ) )
+      .add( new JsonArray().add( "listen" ).add( "w5" ).add( new JsonObject() ) )
+      .add( new JsonArray().add( "destroy" ).add( "w6" ) );
+
+    List<Operation> result = read( createMessage( operations ) ).getOperations();
+
+    assertEquals( 6, result.size() );
+    assertEquals( 23, ( ( SetOperation )result.get( 0 ) ).getProperties().get( "foo" ).asInt() );
+    assertEquals( "Selection", ( ( NotifyOperation )result.get( 1 ) ).getEventName() );
+    assertEquals( "method", ( ( CallOperation )result.get( 2 ) ).getMethodName() );
+    assertEquals( "type", ( ( CreateOperation )result.get( 3 ) ).getType() );
+    assertTrue( result.get( 4 ) instanceof ListenOperation );
+    assertTrue( result.get( 5 ) instanceof DestroyOperation );
+    assertEquals( "w6", result.get( 5 ).getTarget() );
+  }
+
+  @Test
+  public void testReadOperations_reportsOperationCount() {
+    JsonArray operations = new JsonArray()
+      .add( new JsonArray().add( "set" ).add( "w1" ).add( new JsonObject().add( "foo", 1 ) ) )
+      .add( new JsonArray().add( "destroy" ).add( "w2" ) );
+
+    ClientMessage message = read( createMessage( operations ) );
+
+    assertEquals( 2, message.getOperationCount() );
+  }
+
+  @Test
+  public void testReadOperations_indexesByTarget() {
+    JsonArray operations = new JsonArray()
+      .add( new JsonArray().add( "set" ).add( "w1" ).add( new JsonObject().add( "foo", 1 ) ) )
+      .add( new JsonArray().add( "set" ).add( "w2" ).add( new JsonObject().add( "foo", 2 ) ) )
+      .add( new JsonArray().add( "set" ).add( "w1" ).add( new JsonObject().add( "bar", 3 ) ) );
+
+    ClientMessage message = read( createMessage( operations ) );
+
+    assertEquals( 2, message.getAllOperationsFor( "w1" ).size() );
+    assertEquals( 1, message.getAllOperationsFor( "w2" ).size() );
+  }
+
+  @Test
+  public void testReadOperations_doesNotMaterializeProperties() {
+    String json = "{\"head\":{},\"operations\":[[\"set\",\"w1\",{\"foo\":[1,{\"a\":\"]}\"}]}]]}";
+
+    List<Operation> operations = read( json ).getOperations();
+
+    SetOperation operation = ( SetOperation )operations.get( 0 );
+    JsonObject expected = new JsonObject()
+      .add( "foo", new JsonArray().add( 1 ).add( new JsonObject().add( "a", "]}" ) ) );
+    assertEquals( expected, operation.getProperties() );
+  }
+
+  @Test
+  public void testReadOperations_withWhiteSpace() {
+    String json = " { \"operations\" : [ [ \"set\" , \"w1\" , { \"foo\" : true } ] ] ,\n"
+                + "\t\"head\" : { } } ";
+
+    ClientMessage message = read( json );
+
+    SetOperation operation = message.getLastSetOperationFor( "w1", "foo" );
+    assertTrue( operation.getProperties().get( "foo" ).asBoolean() );
+  }
+
+  @Test
+  public void testReadOperations_withEscapedStrings() {
+    String json = "{\"head\":{},\"operations\":"
+                + "[[\"set\",\"w\\\"1\",{\"text\":\"a\\\\\\\"b\\u00e4\"}]]}";
+
+    SetOperation operation = ( SetOperation )read( json ).getOperations().get( 0 );
+
+    assertEquals( "w\"1", operation.getTarget() );
+    assertEquals( "a\\\"b\u00e4", operation.getProperties().get( "text" ).asString() );
+  }
+
+  @Test
+  public void testReadOperations_withMultiByteCharacters() {
+    String json = "{\"head\":{},\"operations\":[[\"set\",\"w1\",{\"text\":\"\u00e4\u20ac\"}]]}";
+
+    SetOperation operation = ( SetOperation )read( json ).getOperations().get( 0 );
+
+    assertEquals( "\u00e4\u20ac", operation.getProperties().get( "text" ).asString() );
+  }
+
+  @Test
+  public void testIgnoresUnknownMembers() {
+    String json = "{\"foo\":[1,\"x\"],\"head\":{},\"bar\":-1.5e3,\"operations\":[]}";
+
+    ClientMessage message = read( json );
+
+    assertTrue( message.getOperations().isEmpty() );
+  }
+
+  @Test
+  public void testFailsWithoutHead() {
+    try {
+      read( "{\"operations\":[]}" );
+      fail();
+    } catch( IllegalArgumentException exception ) {
+      assertTrue( exception.getMessage().startsWith( "Failed to read head from JSON message" ) );
+    }
+  }
+
+  @Test
+  public void testFailsWithoutOperations() {
+    try {
+      read( "{\"head\":{}}" );
+      fail();
+    } catch( IllegalArgumentException exception ) {
+      assertTrue( exception.getMessage().contains( "Failed to read operations from JSON message" ) );
+    }
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testFailsWithUnknownOperationType() {
+    read( "{\"head\":{},\"operations\":[[\"foo\",\"w1\"]]}" );
+  }
+
+  @Test
+  public void testFailsWithTruncatedInput() {
+    try {
+      read( "{\"head\":{},\"operations\":[[\"set\",\"w1\",{\"foo\":[1" );
+      fail();
+    } catch( IllegalArgumentException exception ) {
+      assertTrue( exception.getMessage().contains( "Unexpected end of input" ) );
+    }
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testFailsWithTrailingCharacters() {
+    read( "{\"head\":{},\"operations\":[]}x" );
+  }
+
+  @Test
+  public void testReadOperations_withNestedValues() {
+    String json = "{\"head\":{},\"operations\":[[\"set\",\"w1\","
+                + "{\"a\":[true,false,null,-1.5e+3,0,\"\\u00e4\\n\"],\"b\":{\"c\":{}}}]]}";
+
+    SetOperation operation = ( SetOperation )read( json ).getOperations().get( 0 );
+
+    JsonArray array = operation.getProperties().get( "a" ).asArray();
+    assertEquals( -1500, array.get( 3 ).asDouble(), 0 );
+    assertEquals( "\u00e4\n", array.get( 5 ).asString() );
+  }
+
+  @Test
+  public void testIgnoresUnknownMembers_withNestedValues() {
+    String json = "{\"foo\":{\"a\":[1,{\"b\":null}]},\"head\":{},\"operations\":[]}";
+
+    assertTrue( read( json ).getOperations().isEmpty() );
+  }
+
+  @Test
+  public void testFailsWithMalformedLiteral() {
+    assertFailsToRead( "{\"head\":{},\"operations\":[[\"set\",\"w1\",{\"a\":tru]]]}" );
+    assertFailsToRead( "{\"head\":{},\"operations\":[[\"set\",\"w1\",{\"a\":truex}]]}" );
+    assertFailsToRead( "{\"head\":{},\"operations\":[[\"set\",\"w1\",{\"a\":foo}]]}" );
+  }
+
+  @Test
+  public void testFailsWithMalformedNumber() {
+    assertFailsToRead( "{\"head\":{},\"operations\":[[\"set\",\"w1\",{\"a\":-}]]}" );
+    assertFailsToRead( "{\"head\":{},\"operations\":[[\"set\",\"w1\",{\"a\":1.}]]}" );
+    assertFailsToRead( "{\"head\":{},\"operations\":[[\"set\",\"w1\",{\"a\":1e}]]}" );
+    assertFailsToRead( "{\"head\":{},\"operations\":[[\"set\",\"w1\",{\"a\":01}]]}" );
+  }
+
+  @Test
+  public void testFailsWithMismatchedBrackets() {
+    assertFailsToRead( "{\"head\":{},\"operations\":[[\"set\",\"w1\",{\"a\":[1}]]}" );
+    assertFailsToRead( "{\"head\":{},\"operations\":[[\"set\",\"w1\",{\"a\":{\"b\":1]}]]}" );
+    assertFailsToRead( "{\"head\":{},\"operations\":[[\"set\",\"w1\",{\"a\":1]]]}" );
+  }
+
+  @Test
+  public void testFailsWithMalformedObject() {
+    assertFailsToRead( "{\"head\":{},\"operations\":[[\"set\",\"w1\",{\"a\":1,}]]}" );
+    assertFailsToRead( "{\"head\":{},\"operations\":[[\"set\",\"w1\",{a:1}]]}" );
+    assertFailsToRead( "{\"head\":{},\"operations\":[[\"set\",\"w1\",{\"a\" 1}]]}" );
+    assertFailsToRead( "{\"head\":{},\"operations\":[[\"set\",\"w1\",{\"a\":[1,]}]]}" );
+  }
+
+  @Test
+  public void testFailsWithMalformedString() {
+    assertFailsToRead( "{\"head\":{},\"operations\":[[\"set\",\"w1\",{\"a\":\"\\x\"}]]}" );
+    assertFailsToRead( "{\"head\":{},\"operations\":[[\"set\",\"w1\",{\"a\":\"\\u12\"}]]}" );
+    assertFailsToRead( "{\"head\":{},\"operations\":[[\"set\",\"w1\",{\"a\":\"\n\"}]]}" );
+  }
+
+  @Test
+  public void testFailsWithMalformedUnknownMember() {
+    assertFailsToRead( "{\"foo\":[tru],\"head\":{},\"operations\":[]}" );
+    assertFailsToRead( "{\"foo\":{\"a\":[}},\"head\":{},\"operations\":[]}" );
+  }
+
+  @Test
+  public void testOperationsAreSerializable() throws Exception {
+    String json = "{\"head\":{},\"operations\":[[\"set\",\"w1\",{\"foo\":23}]]}";
+    SetOperation operation = ( SetOperation )read( json ).getOperations().get( 0 );
+
+    SetOperation deserialized = serializeAndDeserialize( operation );
+
+    assertEquals( 23, deserialized.getProperties().get( "foo" ).asInt() );
+  }
+
+  private static void assertFailsToRead( String json ) {
+    try {
+      read( json );
+      fail( "Expected failure for " + json );
+    } catch( IllegalArgumentException expected ) {
+    }
+  }
+
+  private static ClientMessage read( String json ) {
+    return readClientMessage( json.getBytes( UTF_8 ) );
+  }
+
+  private static String createMessage( JsonArray operations ) {
+    JsonObject message = new JsonObject().add( "head", new JsonObject() );
+    return message.add( "operations", operations ).toString();
+  }
+
+}
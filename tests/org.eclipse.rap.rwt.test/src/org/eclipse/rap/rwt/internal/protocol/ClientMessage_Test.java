@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.rap.json.JsonObject;
@@ -48,6 +50,26 @@ public class ClientMessage_Test {
     assertFalse( message.getAllOperationsFor( "w3" ).isEmpty() );
   }
 
+  @Test
+  public void testGetTargets_inOrderOfFirstOccurrence() {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"set\", \"w4\", { \"foo\" : 23 } ],"
+                + "[ \"set\", \"w3\", { \"foo\" : 42 } ],"
+                + "[ \"notify\", \"w4\", \"event\", {} ]"
+                + "] }";
+    ClientMessage message = new ClientMessage( JsonObject.readFrom( json ) );
+
+    assertEquals( Arrays.asList( "w4", "w3" ), new ArrayList<>( message.getTargets() ) );
+  }
+
+  @Test
+  public void testGetTargets_withEmptyMessage() {
+    String json = "{ \"head\" : {}, \"operations\" : [] }";
+    ClientMessage message = new ClientMessage( JsonObject.readFrom( json ) );
+
+    assertTrue( message.getTargets().isEmpty() );
+  }
+
   @Test
   public void testGetAllOperationsFor_selectsMatchingOperations() {
     String json = "{ \"head\" : {}, \"operations\" : ["
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -104,6 +104,14 @@ public class Message_Test {
     }
   }
 
+  @Test
+  public void testGetOperationCount() {
+    String json = "{ \"head\": {}, \"operations\": [ [ \"destroy\", \"w3\" ] ] }";
+    Message message = new Message( JsonObject.readFrom( json ) );
+
+    assertEquals( 1, message.getOperationCount() );
+  }
+
   @Test
   public void testGetHead() {
     String json = "{ \"head\": { \"foo\" : 23 }, \"operations\": [] }";
@@ -99,7 +99,7 @@ public class Operation_Test {
 
   @Test
   public void testCallOperation() {
-    CallOperation operation = new CallOperation( "target", "method", null );
+    CallOperation operation = new CallOperation( "target", "method", ( JsonObject )null );
 
     assertEquals( "target", operation.getTarget() );
     assertEquals( "method", operation.getMethodName() );
@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2011, 2014 EclipseSource and others.
+* Copyright (c) 2011, 2026 EclipseSource and others.
 * All rights reserved. This program and the accompanying materials
 * are made available under the terms of the Eclipse Public License v1.0
 * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.nio.charset.Charset;
 import java.util.List;
 
 import org.eclipse.rap.json.JsonArray;
@@ -42,6 +43,8 @@ import org.junit.Test;
 
 public class ProtocolMessageWriter_Test {
 
+  private static final Charset UTF_8 = Charset.forName( "UTF-8" );
+
   private ProtocolMessageWriter writer;
   private Shell shell;
   private String shellId;
@@ -407,6 +410,50 @@ public class ProtocolMessageWriter_Test {
     assertEquals( "Hello", property.get( 1 ).asString() );
   }
 
+  @Test
+  public void testStreaming_createsSerializedMessage() {
+    ProtocolMessageWriter streamingWriter = new ProtocolMessageWriter( true );
+
+    Message message = streamingWriter.createMessage();
+
+    assertTrue( message instanceof SerializedResponseMessage );
+  }
+
+  @Test
+  public void testStreaming_producesSameJsonAsDefaultMode() {
+    ProtocolMessageWriter streamingWriter = new ProtocolMessageWriter( true );
+    appendExampleOperations( writer );
+    appendExampleOperations( streamingWriter );
+
+    Message expected = writer.createMessage();
+    Message actual = streamingWriter.createMessage();
+
+    assertEquals( expected.toJson(), actual.toJson() );
+    assertEquals( expected.toString(), new String( actual.toByteArray(), UTF_8 ) );
+  }
+
+  @Test
+  public void testStreaming_mergesSetOperationsOnSameTarget() {
+    ProtocolMessageWriter streamingWriter = new ProtocolMessageWriter( true );
+    streamingWriter.appendSet( shellId, "key1", 1 );
+    streamingWriter.appendSet( shellId, "key2", 2 );
+
+    List<Operation> operations = streamingWriter.createMessage().getOperations();
+
+    assertEquals( 1, operations.size() );
+    assertEquals( 2, ( ( SetOperation )operations.get( 0 ) ).getProperties().size() );
+  }
+
+  private static void appendExampleOperations( ProtocolMessageWriter writer ) {
+    writer.appendHead( "requestCounter", 1 );
+    writer.appendCreate( "w2", "rwt.widgets.Button" );
+    writer.appendSet( "w2", "text", "f\u00fc\u2028\"" );
+    writer.appendSet( "w2", "bounds", new JsonArray().add( 1 ).add( 2.5 ) );
+    writer.appendListen( "w2", "Selection", true );
+    writer.appendCall( "w2", "method", new JsonObject().add( "key", false ) );
+    writer.appendDestroy( "w3" );
+  }
+
   private Message createMessage() {
     return writer.createMessage();
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -130,6 +130,21 @@ public class RemoteObjectFactory_Test {
     assertSame( remoteObject, RemoteObjectFactory.getRemoteObject( shell ) );
   }
 
+  @Test
+  public void testGet_returnsDestroyedInstanceUntilRender() {
+    RemoteObject remoteObject = RemoteObjectFactory.createRemoteObject( shell, "type" );
+    remoteObject.destroy();
+
+    assertSame( remoteObject, RemoteObjectFactory.getRemoteObject( shell ) );
+  }
+
+  @Test( expected = IllegalStateException.class )
+  public void testGet_destroyedInstanceRejectsOperations() {
+    RemoteObjectFactory.createRemoteObject( shell, "type" ).destroy();
+
+    RemoteObjectFactory.getRemoteObject( shell ).set( "foo", 23 );
+  }
+
   @Test
   public void testGet_acceptsDisposedDisplay() {
     display.dispose();
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.Charset;
+import java.util.List;
+
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CreateOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.DestroyOperation;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class SerializedResponseMessage_Test {
+
+  private static final Charset UTF_8 = Charset.forName( "UTF-8" );
+
+  private ProtocolMessageWriter writer;
+
+  @Before
+  public void setUp() {
+    writer = new ProtocolMessageWriter( true );
+  }
+
+  @Test
+  public void testGetOperations_isEmptyWithoutOperations() {
+    Message message = writer.createMessage();
+
+    assertTrue( message.getOperations().isEmpty() );
+  }
+
+  @Test
+  public void testGetOperations_readsSerializedOperations() {
+    writer.appendCreate( "w2", "rwt.widgets.Label" );
+    writer.appendSet( "w2", "text", "foo" );
+    writer.appendDestroy( "w3" );
+
+    List<Operation> operations = writer.createMessage().getOperations();
+
+    assertEquals( 2, operations.size() );
+    CreateOperation create = ( CreateOperation )operations.get( 0 );
+    assertEquals( "w2", create.getTarget() );
+    assertEquals( "rwt.widgets.Label", create.getType() );
+    assertEquals( "foo", create.getProperties().get( "text" ).asString() );
+    assertTrue( operations.get( 1 ) instanceof DestroyOperation );
+  }
+
+  @Test
+  public void testGetOperations_returnsSameList() {
+    writer.appendDestroy( "w3" );
+    Message message = writer.createMessage();
+
+    assertSame( message.getOperations(), message.getOperations() );
+  }
+
+  @Test
+  public void testGetOperationCount() {
+    writer.appendCreate( "w2", "rwt.widgets.Label" );
+    writer.appendSet( "w2", "text", "foo" );
+    writer.appendDestroy( "w3" );
+
+    assertEquals( 2, writer.createMessage().getOperationCount() );
+  }
+
+  @Test
+  public void testGetOperationCount_withoutOperations() {
+    assertEquals( 0, writer.createMessage().getOperationCount() );
+  }
+
+  @Test
+  public void testGetOperationCount_includesModifiedOperations() {
+    writer.appendDestroy( "w3" );
+    Message message = writer.createMessage();
+    message.getOperations().add( new DestroyOperation( "w4" ) );
+
+    assertEquals( 2, message.getOperationCount() );
+  }
+
+  @Test
+  public void testToByteArray() {
+    writer.appendHead( "requestCounter", 3 );
+    writer.appendSet( "w2", "text", "\u00e4\u20ac" );
+
+    byte[] bytes = writer.createMessage().toByteArray();
+
+    String expected = "{\"head\":{\"requestCounter\":3},"
+                    + "\"operations\":[[\"set\",\"w2\",{\"text\":\"\u00e4\u20ac\"}]]}";
+    assertEquals( expected, new String( bytes, UTF_8 ) );
+  }
+
+  @Test
+  public void testToByteArray_includesHeadChangedAfterCreation() {
+    Message message = writer.createMessage();
+    message.getHead().add( "foo", 23 );
+
+    JsonObject json = JsonObject.readFrom( new String( message.toByteArray(), UTF_8 ) );
+
+    assertEquals( 23, json.get( "head" ).asObject().get( "foo" ).asInt() );
+  }
+
+  @Test
+  public void testToByteArray_includesModifiedOperations() {
+    writer.appendDestroy( "w3" );
+    Message message = writer.createMessage();
+    message.getOperations().add( new DestroyOperation( "w4" ) );
+
+    JsonObject json = JsonObject.readFrom( new String( message.toByteArray(), UTF_8 ) );
+
+    assertEquals( 2, json.get( "operations" ).asArray().size() );
+  }
+
+  @Test
+  public void testIsSerializable() throws Exception {
+    writer.appendDestroy( "w3" );
+    Message message = writer.createMessage();
+
+    Message deserialized = serializeAndDeserialize( message );
+
+    assertEquals( message.toJson(), deserialized.toJson() );
+  }
+
+}
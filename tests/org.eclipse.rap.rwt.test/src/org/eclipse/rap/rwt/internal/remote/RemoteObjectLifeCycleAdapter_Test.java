@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@ package org.eclipse.rap.rwt.internal.remote;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
@@ -27,9 +28,13 @@ import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
+import org.eclipse.rap.rwt.internal.protocol.Operation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.DestroyOperation;
+import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.remote.OperationHandler;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -48,8 +53,9 @@ public class RemoteObjectLifeCycleAdapter_Test {
   }
 
   @Test
-  public void testRender_delegatesToRegisteredRemoteObjects() {
+  public void testRender_delegatesToDirtyRemoteObjects() {
     DeferredRemoteObject remoteObject = mockAndRegisterDeferredRemoteObject( "id", null );
+    RemoteObjectRegistry.getInstance().markDirty( remoteObject );
 
     RemoteObjectLifeCycleAdapter.render();
 
@@ -57,9 +63,32 @@ public class RemoteObjectLifeCycleAdapter_Test {
   }
 
   @Test
-  public void testRender_removesAllDestroyedRemoteObjectsFromRegistry() {
-    setDestroyed( mockAndRegisterDeferredRemoteObject( "deferred", null ) );
-    setDestroyed( mockAndRegisterLifeCycleRemoteObject( "lifecycle", null ) );
+  public void testRender_skipsRemoteObjectsWithoutPendingOperations() {
+    DeferredRemoteObject remoteObject = mockAndRegisterDeferredRemoteObject( "id", null );
+
+    RemoteObjectLifeCycleAdapter.render();
+
+    verify( remoteObject, never() ).render( any( ProtocolMessageWriter.class ) );
+  }
+
+  @Test
+  public void testRender_clearsDirtyRemoteObjects() {
+    DeferredRemoteObject remoteObject = mockAndRegisterDeferredRemoteObject( "id", null );
+    RemoteObjectRegistry.getInstance().markDirty( remoteObject );
+
+    RemoteObjectLifeCycleAdapter.render();
+
+    assertTrue( RemoteObjectRegistry.getInstance().getDirtyObjects().isEmpty() );
+  }
+
+  @Test
+  public void testRender_removesDestroyedRemoteObjectsFromRegistry() {
+    DeferredRemoteObject deferredObject = new DeferredRemoteObject( "deferred", "type" );
+    RemoteObjectRegistry.getInstance().register( deferredObject );
+    deferredObject.destroy();
+    LifeCycleRemoteObject lifeCycleObject = new LifeCycleRemoteObject( "lifecycle", null );
+    RemoteObjectRegistry.getInstance().register( lifeCycleObject );
+    lifeCycleObject.markDestroyed();
 
     RemoteObjectLifeCycleAdapter.render();
 
@@ -67,6 +96,21 @@ public class RemoteObjectLifeCycleAdapter_Test {
     assertNull( RemoteObjectRegistry.getInstance().get( "lifecycle" ) );
   }
 
+  @Test
+  public void testRender_rendersDestroyOfDestroyedRemoteObjects() {
+    DeferredRemoteObject remoteObject = new DeferredRemoteObject( "id", "type" );
+    RemoteObjectRegistry.getInstance().register( remoteObject );
+    RemoteObjectLifeCycleAdapter.render();
+
+    remoteObject.destroy();
+    RemoteObjectLifeCycleAdapter.render();
+
+    TestMessage message = Fixture.getProtocolMessage();
+    Operation operation = message.getOperation( message.getOperationCount() - 1 );
+    assertTrue( operation instanceof DestroyOperation );
+    assertEquals( "id", operation.getTarget() );
+  }
+
   @Test
   public void testRender_doesNotRemoveAliveRemoteObjectsFromRegistry() {
     mockAndRegisterDeferredRemoteObject( "deferred", null );
@@ -186,10 +230,6 @@ public class RemoteObjectLifeCycleAdapter_Test {
     return remoteObject;
   }
 
-  private static void setDestroyed( RemoteObjectImpl remoteObject ) {
-    when( Boolean.valueOf( remoteObject.isDestroyed() ) ).thenReturn( Boolean.TRUE );
-  }
-
   // TODO [rst] Extract these methods to a utility, merge with Message, Operation?
   private static ClientMessage createMessage( JsonArray... operations ) {
     JsonArray operationsArray = new JsonArray();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,11 +14,12 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.rap.rwt.remote.RemoteObject;
@@ -95,39 +96,114 @@ public class RemoteObjectRegistry_Test {
   }
 
   @Test
-  public void testGetRemoteObjects_returnsOrderedList() {
+  public void testGetRemoteObjects_returnsAllObjects() {
     for( int i = 0; i < 10; i++ ) {
       registry.register( new DeferredRemoteObject( "id" + i, "type" ) );
     }
 
     List<? extends RemoteObject> allObjects = registry.getRemoteObjects();
 
-    assertEquals( "id0 id1 id2 id3 id4 id5 id6 id7 id8 id9", join( getIds( allObjects ), " " ) );
+    assertEquals( 10, allObjects.size() );
+    assertTrue( allObjects.contains( registry.get( "id3" ) ) );
   }
 
-  private static RemoteObjectImpl mockRemoteObjectImpl( String id ) {
-    RemoteObjectImpl remoteObject = mock( RemoteObjectImpl.class );
-    when( remoteObject.getId() ).thenReturn( id );
-    return remoteObject;
+  @Test
+  public void testDestroy_keepsObjectUntilDestroyedObjectsAreRemoved() {
+    DeferredRemoteObject remoteObject = new DeferredRemoteObject( "id", "type" );
+    registry.register( remoteObject );
+
+    remoteObject.destroy();
+
+    assertSame( remoteObject, registry.get( "id" ) );
   }
 
-  private static List<String> getIds( List<? extends RemoteObject> objects ) {
-    List<String> ids = new ArrayList<String>();
-    for( RemoteObject object : objects ) {
-      ids.add( object.getId() );
-    }
-    return ids;
+  @Test
+  public void testMarkDestroyed_keepsObjectUntilDestroyedObjectsAreRemoved() {
+    LifeCycleRemoteObject remoteObject = new LifeCycleRemoteObject( "id", null );
+    registry.register( remoteObject );
+
+    remoteObject.markDestroyed();
+
+    assertSame( remoteObject, registry.get( "id" ) );
   }
 
-  private static String join( List<String> list, String glue ) {
-    StringBuilder builder = new StringBuilder();
-    for( String string : list ) {
-      if( builder.length() > 0 ) {
-        builder.append( glue );
-      }
-      builder.append( string );
-    }
-    return builder.toString();
+  @Test
+  public void testRemoveDestroyedObjects() {
+    DeferredRemoteObject remoteObject = new DeferredRemoteObject( "id", "type" );
+    registry.register( remoteObject );
+    registry.register( new DeferredRemoteObject( "other", "type" ) );
+    remoteObject.destroy();
+
+    registry.removeDestroyedObjects();
+
+    assertNull( registry.get( "id" ) );
+    assertNotNull( registry.get( "other" ) );
+  }
+
+  @Test
+  public void testGetDirtyObjects_containsCreatedObjects() {
+    DeferredRemoteObject remoteObject = new DeferredRemoteObject( "id", "type" );
+
+    registry.register( remoteObject );
+
+    assertEquals( Arrays.asList( remoteObject ), registry.getDirtyObjects() );
+  }
+
+  @Test
+  public void testGetDirtyObjects_omitsObjectsWithoutOperations() {
+    registry.register( new DeferredRemoteObject( "id", null ) );
+
+    assertTrue( registry.getDirtyObjects().isEmpty() );
+  }
+
+  @Test
+  public void testGetDirtyObjects_containsObjectsWithOperationsOnce() {
+    DeferredRemoteObject remoteObject = new DeferredRemoteObject( "id", null );
+    registry.register( remoteObject );
+
+    remoteObject.set( "foo", 23 );
+    remoteObject.set( "bar", 42 );
+
+    assertEquals( Arrays.asList( remoteObject ), registry.getDirtyObjects() );
+  }
+
+  @Test
+  public void testGetDirtyObjects_inOrderOfFirstOperation() {
+    DeferredRemoteObject remoteObject1 = new DeferredRemoteObject( "id1", null );
+    DeferredRemoteObject remoteObject2 = new DeferredRemoteObject( "id2", null );
+    registry.register( remoteObject1 );
+    registry.register( remoteObject2 );
+
+    remoteObject2.set( "foo", 23 );
+    remoteObject1.set( "foo", 23 );
+    remoteObject2.set( "bar", 42 );
+
+    assertEquals( Arrays.asList( remoteObject2, remoteObject1 ), registry.getDirtyObjects() );
+  }
+
+  @Test
+  public void testGetDirtyObjects_containsDestroyedObjects() {
+    DeferredRemoteObject remoteObject = new DeferredRemoteObject( "id", null );
+    registry.register( remoteObject );
+
+    remoteObject.destroy();
+
+    assertEquals( Arrays.asList( remoteObject ), registry.getDirtyObjects() );
+  }
+
+  @Test
+  public void testClearDirtyObjects() {
+    registry.register( new DeferredRemoteObject( "id", "type" ) );
+
+    registry.clearDirtyObjects();
+
+    assertTrue( registry.getDirtyObjects().isEmpty() );
+  }
+
+  private static RemoteObjectImpl mockRemoteObjectImpl( String id ) {
+    RemoteObjectImpl remoteObject = mock( RemoteObjectImpl.class );
+    when( remoteObject.getId() ).thenReturn( id );
+    return remoteObject;
   }
 
 }
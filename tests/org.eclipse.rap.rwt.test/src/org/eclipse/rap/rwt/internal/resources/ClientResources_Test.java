@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2016 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -63,6 +63,15 @@ public class ClientResources_Test {
     assertTrue( resourceManager.isRegistered( "rap-" + defaultTheme.getJsId() + ".json" ) );
   }
 
+  @Test
+  public void testRegisterResources_registersStaticResources() {
+    clientResources.registerResources();
+
+    assertTrue( resourceManager.isRegistered( "resource/static/html/blank.html" ) );
+    assertTrue( resourceManager.isRegistered( "resource/static/image/blank.gif" ) );
+    assertTrue( resourceManager.isRegistered( "resource/widget/rap/arrows/chevron-left.png" ) );
+  }
+
   @Test
   public void testRegisterResourcesDebug() {
     System.setProperty( RWTProperties.DEVELOPMEMT_MODE, "true" );
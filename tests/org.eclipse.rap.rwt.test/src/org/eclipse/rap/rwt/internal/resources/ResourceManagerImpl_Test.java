@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,9 +20,11 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
@@ -83,6 +85,30 @@ public class ResourceManagerImpl_Test {
     assertTrue( file.exists() );
   }
 
+  @Test
+  public void testRegister_keepsFileWithSameContent() throws Exception {
+    String resource = "path/to/resource";
+    resourceManager.register( resource, new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) );
+    File file = getResourceCopyFile( resource );
+    file.setLastModified( 1000 );
+
+    resourceManager.register( resource, new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) );
+
+    assertEquals( 1000, file.lastModified() );
+  }
+
+  @Test
+  public void testRegister_replacesFileWithOtherContent() throws Exception {
+    String resource = "path/to/resource";
+    resourceManager.register( resource, new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) );
+
+    resourceManager.register( resource, new ByteArrayInputStream( new byte[] { 1, 2, 4 } ) );
+
+    File file = getResourceCopyFile( resource );
+    assertArrayEquals( new byte[] { 1, 2, 4 }, read( file ) );
+    assertEquals( 1, file.getParentFile().list().length );
+  }
+
   @Test
   public void testRegistrationWithNullParams() {
     try {
@@ -132,6 +158,59 @@ public class ResourceManagerImpl_Test {
     assertEquals( "rwt-resources/" + path, location );
   }
 
+  @Test
+  public void testGetLocation_withResourceStore() {
+    ResourceStore resourceStore = new ResourceStore();
+    ResourceDirectory resourceDirectory = getApplicationContext().getResourceDirectory();
+    resourceManager = new ResourceManagerImpl( resourceDirectory, resourceStore );
+    String path = "path/to/resource";
+    resourceManager.register( path, createInputStream() );
+
+    String location = resourceManager.getLocation( path );
+
+    String hash = resourceStore.get( path ).getHash();
+    assertEquals( "rwt-resources/" + path + "?v=" + hash, location );
+  }
+
+  @Test
+  public void testGetLocation_withResourceStore_changesWithContent() {
+    ResourceDirectory resourceDirectory = getApplicationContext().getResourceDirectory();
+    resourceManager = new ResourceManagerImpl( resourceDirectory, new ResourceStore() );
+    String path = "path/to/resource";
+    resourceManager.register( path, createInputStream() );
+    String location = resourceManager.getLocation( path );
+
+    resourceManager.register( path, new ByteArrayInputStream( new byte[] { 4, 5, 6 } ) );
+
+    assertFalse( location.equals( resourceManager.getLocation( path ) ) );
+  }
+
+  @Test
+  public void testRegister_withResourceStore() throws IOException {
+    ResourceStore resourceStore = new ResourceStore();
+    ResourceDirectory resourceDirectory = getApplicationContext().getResourceDirectory();
+    resourceManager = new ResourceManagerImpl( resourceDirectory, resourceStore );
+    String path = "path/to/resource";
+
+    resourceManager.register( path, createInputStream() );
+
+    assertArrayEquals( new byte[] { 1, 2, 3 }, resourceStore.get( path ).getContent() );
+    assertArrayEquals( new byte[] { 1, 2, 3 }, read( getResourceCopyFile( path ) ) );
+  }
+
+  @Test
+  public void testUnregister_withResourceStore() {
+    ResourceStore resourceStore = new ResourceStore();
+    ResourceDirectory resourceDirectory = getApplicationContext().getResourceDirectory();
+    resourceManager = new ResourceManagerImpl( resourceDirectory, resourceStore );
+    String path = "path/to/resource";
+    resourceManager.register( path, createInputStream() );
+
+    resourceManager.unregister( path );
+
+    assertNull( resourceStore.get( path ) );
+  }
+
   @Test
   public void testGetLocationWithWrongParams() {
     try {
@@ -176,7 +255,7 @@ public class ResourceManagerImpl_Test {
    */
   @Test
   public void testRegisterWithInvalidPath() throws Exception {
-    InputStream inputStream = mock( InputStream.class );
+    InputStream inputStream = mockEmptyInputStream();
     String path = "http://host:port/path$1";
     resourceManager.register( path, inputStream );
     inputStream.close();
@@ -228,7 +307,7 @@ public class ResourceManagerImpl_Test {
   @SuppressWarnings( "resource" )
   @Test
   public void testRegisterDoesNotCloseStream() throws IOException {
-    InputStream inputStream = mock( InputStream.class );
+    InputStream inputStream = mockEmptyInputStream();
 
     resourceManager.register( "resource-name", inputStream );
 
@@ -238,7 +317,7 @@ public class ResourceManagerImpl_Test {
   @SuppressWarnings( "resource" )
   @Test
   public void testRegisterJavascriptDoesNotCloseStream() throws IOException {
-    InputStream inputStream = mock( InputStream.class );
+    InputStream inputStream = mockEmptyInputStream();
 
     resourceManager.register( "lib.js", inputStream );
 
@@ -283,7 +362,7 @@ public class ResourceManagerImpl_Test {
   @Test
   public void testRegisterOnceCloseStream() throws IOException {
     String resource = "path/to/resource";
-    final InputStream stream = mock( InputStream.class );
+    final InputStream stream = mockEmptyInputStream();
     ResourceLoader loader = new ResourceLoader() {
       public InputStream getResourceAsStream( String resourceName ) throws IOException {
         return stream;
@@ -413,6 +492,13 @@ public class ResourceManagerImpl_Test {
     return loader;
   }
 
+  private static InputStream mockEmptyInputStream() throws IOException {
+    InputStream inputStream = mock( InputStream.class );
+    when( Integer.valueOf( inputStream.read( any( byte[].class ) ) ) )
+      .thenReturn( Integer.valueOf( -1 ) );
+    return inputStream;
+  }
+
   private static byte[] read( InputStream input ) throws IOException {
     BufferedInputStream bis = new BufferedInputStream( input );
     byte[] result = null;
@@ -0,0 +1,282 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+import javax.servlet.ServletConfig;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRegistration;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
+import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
+import org.eclipse.rap.rwt.testfixture.internal.TestServletOutputStream;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ResourceServlet_Test {
+
+  private static final byte[] CONTENT = "0123456789".getBytes( UTF_8 );
+
+  private ResourceStore resourceStore;
+  private ResourceServlet servlet;
+  private TestRequest request;
+  private TestResponse response;
+  private String hash;
+
+  @Before
+  public void setUp() throws ServletException {
+    resourceStore = new ResourceStore();
+    hash = resourceStore.put( "script.js", CONTENT ).getHash();
+    ServletContext servletContext = mock( ServletContext.class );
+    when( servletContext.getMimeType( "script.js" ) ).thenReturn( "text/javascript" );
+    ServletConfig servletConfig = mock( ServletConfig.class );
+    when( servletConfig.getServletContext() ).thenReturn( servletContext );
+    servlet = new ResourceServlet( resourceStore );
+    servlet.init( servletConfig );
+    request = new TestRequest();
+    request.setPathInfo( "/script.js" );
+    response = new TestResponse();
+  }
+
+  @Test
+  public void testGet() throws IOException {
+    servlet.doGet( request, response );
+
+    assertArrayEquals( CONTENT, getContent() );
+    assertEquals( "text/javascript", response.getContentType() );
+    assertEquals( "\"" + hash + "\"", response.getHeader( "ETag" ) );
+    assertEquals( "bytes", response.getHeader( "Accept-Ranges" ) );
+  }
+
+  @Test
+  public void testGet_unknownResource() throws IOException {
+    request.setPathInfo( "/unknown.js" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( HttpServletResponse.SC_NOT_FOUND, response.getErrorStatus() );
+  }
+
+  @Test
+  public void testGet_withoutPath() throws IOException {
+    request.setPathInfo( null );
+
+    servlet.doGet( request, response );
+
+    assertEquals( HttpServletResponse.SC_NOT_FOUND, response.getErrorStatus() );
+  }
+
+  @Test
+  public void testGet_withCurrentHash() throws IOException {
+    request.setParameter( "v", hash );
+
+    servlet.doGet( request, response );
+
+    assertEquals( ResourceServlet.CACHE_IMMUTABLE, response.getHeader( "Cache-Control" ) );
+  }
+
+  @Test
+  public void testGet_withOutdatedHash() throws IOException {
+    request.setParameter( "v", "outdated" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( ResourceServlet.CACHE_REVALIDATE, response.getHeader( "Cache-Control" ) );
+  }
+
+  @Test
+  public void testGet_withMatchingETag() throws IOException {
+    request.setHeader( "If-None-Match", "\"other\", \"" + hash + "\"" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( HttpServletResponse.SC_NOT_MODIFIED, response.getStatus() );
+    assertEquals( 0, getContent().length );
+  }
+
+  @Test
+  public void testGet_withOtherETag() throws IOException {
+    request.setHeader( "If-None-Match", "\"other\"" );
+
+    servlet.doGet( request, response );
+
+    assertArrayEquals( CONTENT, getContent() );
+  }
+
+  @Test
+  public void testGet_withRange() throws IOException {
+    request.setHeader( "Range", "bytes=2-4" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( HttpServletResponse.SC_PARTIAL_CONTENT, response.getStatus() );
+    assertEquals( "bytes 2-4/10", response.getHeader( "Content-Range" ) );
+    assertArrayEquals( "234".getBytes( UTF_8 ), getContent() );
+  }
+
+  @Test
+  public void testGet_withSuffixRange() throws IOException {
+    request.setHeader( "Range", "bytes=-3" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( "bytes 7-9/10", response.getHeader( "Content-Range" ) );
+    assertArrayEquals( "789".getBytes( UTF_8 ), getContent() );
+  }
+
+  @Test
+  public void testGet_withUnsatisfiableRange() throws IOException {
+    request.setHeader( "Range", "bytes=10-" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatus() );
+    assertEquals( "bytes */10", response.getHeader( "Content-Range" ) );
+  }
+
+  @Test
+  public void testGet_withMultipleRanges() throws IOException {
+    request.setHeader( "Range", "bytes=0-1,4-5" );
+
+    servlet.doGet( request, response );
+
+    assertNull( response.getHeader( "Content-Range" ) );
+    assertArrayEquals( CONTENT, getContent() );
+  }
+
+  @Test
+  public void testGet_withOutdatedIfRange() throws IOException {
+    request.setHeader( "Range", "bytes=2-4" );
+    request.setHeader( "If-Range", "\"other\"" );
+
+    servlet.doGet( request, response );
+
+    assertNull( response.getHeader( "Content-Range" ) );
+    assertArrayEquals( CONTENT, getContent() );
+  }
+
+  @Test
+  public void testGet_withGzip() throws IOException {
+    byte[] content = createCompressibleContent();
+    resourceStore.put( "script.js", content );
+    request.setHeader( "Accept-Encoding", "gzip, deflate" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( "gzip", response.getHeader( "Content-Encoding" ) );
+    assertEquals( "Accept-Encoding", response.getHeader( "Vary" ) );
+    assertArrayEquals( content, decompress( getContent() ) );
+  }
+
+  @Test
+  public void testGet_withGzipNotAccepted() throws IOException {
+    byte[] content = createCompressibleContent();
+    resourceStore.put( "script.js", content );
+
+    servlet.doGet( request, response );
+
+    assertNull( response.getHeader( "Content-Encoding" ) );
+    assertArrayEquals( content, getContent() );
+  }
+
+  @Test
+  public void testHead() throws IOException {
+    servlet.doHead( request, response );
+
+    assertNotNull( response.getHeader( "ETag" ) );
+    assertEquals( 0, getContent().length );
+  }
+
+  @Test
+  public void testParseRange() {
+    assertArrayEquals( new int[] { 0, 9 }, ResourceServlet.parseRange( "0-", 10 ) );
+    assertArrayEquals( new int[] { 5, 9 }, ResourceServlet.parseRange( "5-20", 10 ) );
+    assertArrayEquals( new int[] { 0, 9 }, ResourceServlet.parseRange( "-20", 10 ) );
+    assertEquals( 0, ResourceServlet.parseRange( "-0", 10 ).length );
+    assertNull( ResourceServlet.parseRange( "5-2", 10 ) );
+    assertNull( ResourceServlet.parseRange( "a-b", 10 ) );
+    assertNull( ResourceServlet.parseRange( "5", 10 ) );
+  }
+
+  @Test
+  public void testInstall() {
+    ServletContext servletContext = mock( ServletContext.class );
+    ServletRegistration.Dynamic registration = mock( ServletRegistration.Dynamic.class );
+    when( servletContext.addServlet( eq( ResourceServlet.SERVLET_NAME ),
+                                     any( ResourceServlet.class ) ) ).thenReturn( registration );
+
+    ResourceServlet.install( servletContext );
+
+    verify( registration ).addMapping( "/rwt-resources/*" );
+  }
+
+  @Test
+  public void testInstall_whenNotSupported() {
+    ServletContext servletContext = mock( ServletContext.class );
+
+    ResourceServlet.install( servletContext );
+  }
+
+  @Test
+  public void testInstall_withPreServlet30Container() {
+    ServletContext servletContext = mock( ServletContext.class );
+    when( servletContext.addServlet( anyString(), any( ResourceServlet.class ) ) )
+      .thenThrow( new NoSuchMethodError() );
+
+    ResourceServlet.install( servletContext );
+
+    verify( servletContext ).log( anyString(), any( NoSuchMethodError.class ) );
+  }
+
+  private byte[] getContent() throws IOException {
+    return ( ( TestServletOutputStream )response.getOutputStream() ).getContent().toByteArray();
+  }
+
+  private static byte[] createCompressibleContent() {
+    StringBuilder builder = new StringBuilder();
+    for( int i = 0; i < 200; i++ ) {
+      builder.append( "var x = " ).append( i ).append( ";\n" );
+    }
+    return builder.toString().getBytes( UTF_8 );
+  }
+
+  private static byte[] decompress( byte[] bytes ) throws IOException {
+    GZIPInputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( bytes ) );
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 1024 ];
+    int read = inputStream.read( buffer );
+    while( read != -1 ) {
+      outputStream.write( buffer, 0, read );
+      read = inputStream.read( buffer );
+    }
+    return outputStream.toByteArray();
+  }
+
+}
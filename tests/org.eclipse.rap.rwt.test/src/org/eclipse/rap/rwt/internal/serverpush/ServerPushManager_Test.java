@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,7 +18,12 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -26,11 +31,17 @@ import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequestWrapper;
 import javax.servlet.http.HttpSession;
 import javax.servlet.http.HttpSessionBindingListener;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
 import org.eclipse.rap.rwt.internal.lifecycle.ProcessActionRunner;
@@ -48,6 +59,8 @@ import org.eclipse.swt.widgets.Display;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 
 public class ServerPushManager_Test {
@@ -265,7 +278,7 @@ public class ServerPushManager_Test {
     manager.activateServerPushFor( HANDLE_1 );
 
     // must not block
-    manager.processRequest( ContextProvider.getResponse() );
+    manager.processRequest( ContextProvider.getRequest(), ContextProvider.getResponse() );
   }
 
   @Test
@@ -412,6 +425,234 @@ public class ServerPushManager_Test {
     assertFalse( bgThread.isAlive() );
   }
 
+  @Test
+  public void testReleaseBlockedRequest_runsReleaseCallback() {
+    Runnable callback = mock( Runnable.class );
+    manager.setReleaseCallback( callback );
+
+    manager.releaseBlockedRequest();
+
+    verify( callback ).run();
+  }
+
+  @Test
+  public void testWakeClient_runsReleaseCallback() {
+    Runnable callback = mock( Runnable.class );
+    manager.setReleaseCallback( callback );
+
+    manager.wakeClient();
+
+    verify( callback ).run();
+  }
+
+  @Test
+  public void testWakeClient_doesNotRunReleaseCallbackWhileUIThreadRunning() {
+    Runnable callback = mock( Runnable.class );
+    manager.setReleaseCallback( callback );
+    manager.notifyUIThreadStart();
+
+    manager.wakeClient();
+
+    verify( callback, never() ).run();
+  }
+
+  @Test
+  public void testNotifyUIThreadEnd_runsReleaseCallbackWithPendingRunnables() {
+    Runnable callback = mock( Runnable.class );
+    manager.setReleaseCallback( callback );
+    manager.notifyUIThreadStart();
+    manager.setHasRunnables( true );
+
+    manager.notifyUIThreadEnd();
+
+    verify( callback ).run();
+  }
+
+  @Test
+  public void testRemoveReleaseCallback() {
+    Runnable callback = mock( Runnable.class );
+    manager.setReleaseCallback( callback );
+
+    manager.removeReleaseCallback( callback );
+    manager.releaseBlockedRequest();
+
+    verify( callback, never() ).run();
+  }
+
+  @Test
+  public void testRemoveReleaseCallback_keepsOtherCallback() {
+    Runnable callback = mock( Runnable.class );
+    manager.setReleaseCallback( callback );
+
+    manager.removeReleaseCallback( mock( Runnable.class ) );
+    manager.releaseBlockedRequest();
+
+    verify( callback ).run();
+  }
+
+  @Test
+  public void testProcessRequest_suspendsAsyncRequest() {
+    AsyncTestRequest request = new AsyncTestRequest();
+    manager.activateServerPushFor( HANDLE_1 );
+
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    assertTrue( manager.isCallBackRequestBlocked() );
+    verify( request.asyncContext ).setTimeout( 0 );
+    verify( request.asyncContext, never() ).complete();
+  }
+
+  @Test
+  public void testProcessRequest_doesNotSuspendAsyncRequestWithoutServerPush() {
+    AsyncTestRequest request = new AsyncTestRequest();
+
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    assertNull( request.asyncContext );
+  }
+
+  @Test
+  public void testProcessRequest_blocksWhenAsyncServerPushDisabled() throws Exception {
+    System.setProperty( RWTProperties.ASYNC_SERVER_PUSH, "false" );
+    final AsyncTestRequest request = new AsyncTestRequest();
+    final ServiceContext context = ContextProvider.getContext();
+    manager.activateServerPushFor( HANDLE_1 );
+    Thread thread = new Thread( new Runnable() {
+      @Override
+      public void run() {
+        ContextProvider.setContext( context );
+        Fixture.fakeResponseWriter();
+        manager.processRequest( request, ContextProvider.getResponse() );
+      }
+    } );
+    try {
+      thread.start();
+      Thread.sleep( SLEEP_TIME );
+
+      assertTrue( thread.isAlive() );
+      assertNull( request.asyncContext );
+    } finally {
+      manager.deactivateServerPushFor( HANDLE_1 );
+      thread.join();
+      System.clearProperty( RWTProperties.ASYNC_SERVER_PUSH );
+    }
+  }
+
+  @Test
+  public void testWakeClient_completesSuspendedRequest() {
+    AsyncTestRequest request = new AsyncTestRequest();
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+
+    verify( request.asyncContext ).complete();
+    assertFalse( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testReleaseBlockedRequest_keepsSuspendedRequestWhileServerPushActive() {
+    AsyncTestRequest request = new AsyncTestRequest();
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    manager.releaseBlockedRequest();
+
+    verify( request.asyncContext, never() ).complete();
+    assertTrue( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testDeactivateServerPush_completesSuspendedRequest() {
+    AsyncTestRequest request = new AsyncTestRequest();
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    manager.deactivateServerPushFor( HANDLE_1 );
+
+    verify( request.asyncContext ).complete();
+  }
+
+  @Test
+  public void testProcessRequest_replacesSuspendedRequest() {
+    AsyncTestRequest request1 = new AsyncTestRequest();
+    AsyncTestRequest request2 = new AsyncTestRequest();
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( request1, ContextProvider.getResponse() );
+
+    manager.processRequest( request2, ContextProvider.getResponse() );
+
+    verify( request1.asyncContext ).complete();
+    verify( request2.asyncContext, never() ).complete();
+    assertTrue( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testSuspendedRequest_completedWhenUISessionIsDestroyed() {
+    AsyncTestRequest request = new AsyncTestRequest();
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    ( ( UISessionImpl )ContextProvider.getUISession() ).shutdown();
+
+    verify( request.asyncContext ).complete();
+  }
+
+  @Test
+  public void testSuspendedRequest_completedWhenConnectionBreaks() {
+    manager.setRequestCheckInterval( 10 );
+    TestResponse response = new TestResponse() {
+      @Override
+      public PrintWriter getWriter() throws IOException {
+        PrintWriter failingWriter = mock( PrintWriter.class );
+        when( Boolean.valueOf( failingWriter.checkError() ) ).thenReturn( Boolean.TRUE );
+        return failingWriter;
+      }
+    };
+    AsyncTestRequest request = new AsyncTestRequest();
+    manager.activateServerPushFor( HANDLE_1 );
+
+    manager.processRequest( request, response );
+
+    verify( request.asyncContext, timeout( REQUEST_WAIT_TIMEOUT ) ).complete();
+    assertFalse( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testSuspendedRequest_checksConnectionPeriodically() throws Exception {
+    manager.setRequestCheckInterval( 10 );
+    final AtomicInteger checks = new AtomicInteger();
+    TestResponse response = new TestResponse() {
+      @Override
+      public PrintWriter getWriter() throws IOException {
+        checks.incrementAndGet();
+        return super.getWriter();
+      }
+    };
+    AsyncTestRequest request = new AsyncTestRequest();
+    manager.activateServerPushFor( HANDLE_1 );
+
+    manager.processRequest( request, response );
+    Thread.sleep( SLEEP_TIME );
+
+    assertTrue( checks.get() > 1 );
+    verify( request.asyncContext, never() ).complete();
+  }
+
+  @Test
+  public void testSuspendedRequest_probesConnectionInContainerThread() {
+    manager.setRequestCheckInterval( 10 );
+    AsyncTestRequest request = new AsyncTestRequest();
+    manager.activateServerPushFor( HANDLE_1 );
+
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    verify( request.asyncContext, timeout( REQUEST_WAIT_TIMEOUT ).atLeastOnce() )
+      .start( any( Runnable.class ) );
+  }
+
   @Test
   public void testMustBlockCallBackRequest() {
     assertFalse( manager.mustBlockCallBackRequest() );
@@ -619,6 +860,33 @@ public class ServerPushManager_Test {
     return serviceContext;
   }
 
+  private static class AsyncTestRequest extends HttpServletRequestWrapper {
+    private AsyncContext asyncContext;
+
+    AsyncTestRequest() {
+      super( new TestRequest() );
+    }
+
+    @Override
+    public boolean isAsyncSupported() {
+      return true;
+    }
+
+    @Override
+    public AsyncContext startAsync( ServletRequest request, ServletResponse response ) {
+      asyncContext = mock( AsyncContext.class );
+      // run probes in a separate thread, like a container does
+      doAnswer( new Answer<Object>() {
+        @Override
+        public Object answer( InvocationOnMock invocation ) {
+          new Thread( ( Runnable )invocation.getArguments()[ 0 ] ).start();
+          return null;
+        }
+      } ).when( asyncContext ).start( any( Runnable.class ) );
+      return asyncContext;
+    }
+  }
+
   private class AsyncExecRunnable implements Runnable {
     @Override
     public void run() {
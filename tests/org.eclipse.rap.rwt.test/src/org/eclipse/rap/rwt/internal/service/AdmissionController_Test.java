@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class AdmissionController_Test {
+
+  private AdmissionController admissionController;
+
+  @Before
+  public void setUp() {
+    admissionController = new AdmissionController();
+  }
+
+  @Test
+  public void testIsEnabled_defaultsToFalse() {
+    assertFalse( admissionController.isEnabled() );
+  }
+
+  @Test
+  public void testIsEnabled_afterConfigure() {
+    admissionController.configure( 2, 100 );
+
+    assertTrue( admissionController.isEnabled() );
+  }
+
+  @Test
+  public void testIsEnabled_afterReset() {
+    admissionController.configure( 2, 100 );
+
+    admissionController.reset();
+
+    assertFalse( admissionController.isEnabled() );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testConfigure_withNegativeMaxConcurrentRequests() {
+    admissionController.configure( -1, 100 );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testConfigure_withNegativeMaxWaitTime() {
+    admissionController.configure( 1, -1 );
+  }
+
+  @Test
+  public void testAcquire_withinLimit() {
+    admissionController.configure( 2, 0 );
+
+    assertTrue( admissionController.acquire( false ) );
+    assertTrue( admissionController.acquire( true ) );
+    assertEquals( 2, admissionController.getRunningRequests() );
+  }
+
+  @Test
+  public void testAcquire_exceedingLimit() {
+    admissionController.configure( 1, 0 );
+    admissionController.acquire( false );
+
+    assertFalse( admissionController.acquire( false ) );
+    assertEquals( 1, admissionController.getRunningRequests() );
+    assertEquals( 0, admissionController.getWaitingRequests() );
+  }
+
+  @Test
+  public void testAcquire_whenDisabled() {
+    assertTrue( admissionController.acquire( false ) );
+    assertTrue( admissionController.acquire( true ) );
+  }
+
+  @Test
+  public void testAcquire_waitsUntilDeadline() {
+    admissionController.configure( 1, 50 );
+    admissionController.acquire( false );
+    long start = System.nanoTime();
+
+    boolean admitted = admissionController.acquire( false );
+
+    assertFalse( admitted );
+    assertTrue( System.nanoTime() - start >= 40 * 1000 * 1000 );
+  }
+
+  @Test
+  public void testAcquire_afterRelease() {
+    admissionController.configure( 1, 0 );
+    admissionController.acquire( false );
+
+    admissionController.release();
+
+    assertTrue( admissionController.acquire( false ) );
+  }
+
+  @Test
+  public void testAcquire_admitsWaitingRequestOnRelease() throws InterruptedException {
+    admissionController.configure( 1, 10000 );
+    admissionController.acquire( false );
+    final AtomicBoolean admitted = new AtomicBoolean();
+    Thread thread = new Thread( new Runnable() {
+      @Override
+      public void run() {
+        admitted.set( admissionController.acquire( false ) );
+      }
+    } );
+    thread.start();
+    waitForWaitingRequests( 1 );
+
+    admissionController.release();
+    thread.join();
+
+    assertTrue( admitted.get() );
+    assertEquals( 1, admissionController.getRunningRequests() );
+  }
+
+  @Test
+  public void testAcquire_prefersExistingUISessionsOverStartup() throws InterruptedException {
+    admissionController.configure( 1, 10000 );
+    admissionController.acquire( false );
+    List<String> log = Collections.synchronizedList( new ArrayList<String>() );
+    Thread startup = startAcquire( true, "startup", log );
+    Thread existing = startAcquire( false, "existing", log );
+    waitForWaitingRequests( 1 );
+
+    admissionController.release();
+    existing.join();
+    admissionController.release();
+    startup.join();
+
+    assertEquals( Arrays.asList( "existing", "startup" ), log );
+  }
+
+  @Test
+  public void testRelease_withoutAcquire() {
+    admissionController.configure( 1, 0 );
+
+    admissionController.release();
+
+    assertEquals( 0, admissionController.getRunningRequests() );
+  }
+
+  @Test
+  public void testGetRetryAfter() {
+    admissionController.configure( 1, 2500 );
+
+    assertEquals( 3, admissionController.getRetryAfter() );
+  }
+
+  @Test
+  public void testGetRetryAfter_hasMinimum() {
+    admissionController.configure( 1, 0 );
+
+    assertEquals( 1, admissionController.getRetryAfter() );
+  }
+
+  private Thread startAcquire( final boolean startupRequest,
+                               final String name,
+                               final List<String> log )
+  {
+    Thread thread = new Thread( new Runnable() {
+      @Override
+      public void run() {
+        if( admissionController.acquire( startupRequest ) ) {
+          log.add( name );
+        }
+      }
+    } );
+    thread.setDaemon( true );
+    thread.start();
+    return thread;
+  }
+
+  private void waitForWaitingRequests( int count ) throws InterruptedException {
+    while( admissionController.getWaitingRequests() != count ) {
+      Thread.sleep( 5 );
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -38,6 +38,8 @@ import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.internal.lifecycle.RequestCounter;
+import org.eclipse.rap.rwt.internal.protocol.BinaryMessageCodec;
+import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessageConst;
 import org.eclipse.rap.rwt.internal.protocol.RequestMessage;
 import org.eclipse.rap.rwt.internal.protocol.ResponseMessage;
@@ -54,6 +56,7 @@ import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
 import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
 import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
 import org.eclipse.rap.rwt.testfixture.internal.TestResponseMessage;
+import org.eclipse.rap.rwt.testfixture.internal.TestServletOutputStream;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -247,6 +250,60 @@ public class LifeCycleServiceHandler_Test {
     assertTrue( message.get( "operations" ).asArray().isEmpty() );
   }
 
+  @Test
+  public void testRejectsRequestWhenServerBusy() throws IOException {
+    AdmissionController admissionController = occupyAdmissionController();
+    simulateUiRequest();
+
+    service( serviceHandler );
+
+    TestResponse response = getResponse();
+    assertEquals( HttpServletResponse.SC_SERVICE_UNAVAILABLE, response.getStatus() );
+    assertEquals( "1", response.getHeader( "Retry-After" ) );
+    JsonObject message = JsonObject.readFrom( response.getContent() );
+    assertEquals( "server busy", getError( message ) );
+    assertEquals( 1, message.get( "head" ).asObject().get( "retryAfter" ).asInt() );
+    assertTrue( message.get( "operations" ).asArray().isEmpty() );
+    assertEquals( 1, admissionController.getRunningRequests() );
+  }
+
+  @Test
+  public void testRejectsRequestWhenServerBusy_keepsUISession() throws IOException {
+    occupyAdmissionController();
+    simulateUiRequest();
+    UISession uiSession = getUISession();
+
+    service( serviceHandler );
+
+    assertTrue( uiSession.isBound() );
+    verify( filter, times( 0 ) ).handleMessage( any( RequestMessage.class ),
+                                                any( MessageFilterChain.class ) );
+  }
+
+  @Test
+  public void testRejectsStartupRequestWhenServerBusy_discardsUISession() throws IOException {
+    occupyAdmissionController();
+    simulateInitialUiRequest();
+    getRequest().setParameter( ClientMessageConst.CONNECTION_ID, null );
+    UISession uiSession = getUISession();
+
+    service( serviceHandler );
+
+    assertFalse( uiSession.isBound() );
+  }
+
+  @Test
+  public void testReleasesAdmissionAfterRequest() throws IOException {
+    AdmissionController admissionController = getAdmissionController();
+    admissionController.configure( 1, 0 );
+    simulateUiRequest();
+
+    service( serviceHandler );
+
+    verify( filter ).handleMessage( any( RequestMessage.class ), any( MessageFilterChain.class ) );
+    assertEquals( 0, admissionController.getRunningRequests() );
+  }
+
   @Test
   public void testHandlesSessionTimeout() throws IOException {
     simulateUiRequest();
@@ -347,6 +404,28 @@ public class LifeCycleServiceHandler_Test {
     assertEquals( message, messageCaptor.getValue().toJson() );
   }
 
+  @Test
+  public void testProcessesBinaryMessage() throws IOException {
+    BinaryMessageCodec clientCodec = new BinaryMessageCodec();
+    simulateUiRequest();
+    JsonObject message = createExampleMessage();
+    byte[] content = clientCodec.encode( new ClientMessage( message ) );
+    getRequest().setBody( new String( content, "ISO-8859-1" ) );
+    getRequest().setContentType( "application/x-rap-binary" );
+    ArgumentCaptor<RequestMessage> messageCaptor = ArgumentCaptor.forClass( RequestMessage.class );
+
+    service( serviceHandler );
+
+    verify( filter ).handleMessage( messageCaptor.capture(), any( MessageFilterChain.class ) );
+    assertEquals( message, messageCaptor.getValue().toJson() );
+    TestResponse response = getResponse();
+    assertTrue( response.getHeader( "Content-Type" ).startsWith( "application/x-rap-binary" ) );
+    byte[] responseContent
+      = ( ( TestServletOutputStream )response.getOutputStream() ).getContent().toByteArray();
+    ClientMessage responseMessage = clientCodec.decode( responseContent );
+    assertTrue( responseMessage.getHead().get( "test" ).asBoolean() );
+  }
+
   @Test
   public void testUIRequest_shutsDownUISession_ifRuntimeExceptionInHandler() throws IOException {
     simulateUiRequest();
@@ -365,7 +444,7 @@ public class LifeCycleServiceHandler_Test {
   public void testUIRequest_shutsDownUISession_ifIOException() throws IOException {
     simulateUiRequest();
     HttpServletResponse response = mock( HttpServletResponse.class );
-    doThrow( new IOException() ).when( response ).getWriter();
+    doThrow( new IOException() ).when( response ).getOutputStream();
 
     try {
       serviceHandler.service( getRequest(), response );
@@ -375,6 +454,17 @@ public class LifeCycleServiceHandler_Test {
     assertNull( getUISession() );
   }
 
+  private static AdmissionController occupyAdmissionController() {
+    AdmissionController admissionController = getAdmissionController();
+    admissionController.configure( 1, 0 );
+    admissionController.acquire( false );
+    return admissionController;
+  }
+
+  private static AdmissionController getAdmissionController() {
+    return Fixture.getApplicationContext().getAdmissionController();
+  }
+
   private void simulateUiRequest() {
     Fixture.fakeNewRequest();
     Fixture.fakeHeadParameter( "requestCounter", RequestCounter.getInstance().currentRequestId() );
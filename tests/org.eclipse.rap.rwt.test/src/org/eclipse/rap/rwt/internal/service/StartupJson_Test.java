@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,17 +14,26 @@ import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicatio
 import static org.eclipse.rap.rwt.internal.service.StartupJson.DISPLAY_TYPE;
 import static org.eclipse.rap.rwt.internal.service.StartupJson.METHOD_LOAD_ACTIVE_THEME;
 import static org.eclipse.rap.rwt.internal.service.StartupJson.METHOD_LOAD_FALLBACK_THEME;
+import static org.eclipse.rap.rwt.internal.service.StartupJson.PROPERTY_BINARY_PROTOCOL;
 import static org.eclipse.rap.rwt.internal.service.StartupJson.PROPERTY_URL;
+import static org.eclipse.rap.rwt.internal.service.StartupJson.PROPERTY_WEB_SOCKET_REFRESH_INTERVAL;
+import static org.eclipse.rap.rwt.internal.service.StartupJson.PROPERTY_WEB_SOCKET_URL;
 import static org.eclipse.rap.rwt.internal.service.StartupJson.THEME_STORE_TYPE;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 import java.io.IOException;
 import java.util.HashMap;
 
+import javax.servlet.ServletContext;
+import javax.websocket.server.ServerContainer;
+
 import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.application.EntryPointFactory;
 import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
@@ -33,6 +42,7 @@ import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
 import org.eclipse.rap.rwt.internal.resources.ClientResources;
 import org.eclipse.rap.rwt.internal.theme.Theme;
 import org.eclipse.rap.rwt.internal.theme.ThemeTestUtil;
+import org.eclipse.rap.rwt.internal.websocket.WebSocketSupport;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
 import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
@@ -58,6 +68,8 @@ public class StartupJson_Test {
 
   @After
   public void tearDown() {
+    System.clearProperty( RWTProperties.BINARY_PROTOCOL );
+    System.clearProperty( RWTProperties.WEB_SOCKET );
     Fixture.tearDown();
   }
 
@@ -83,6 +95,45 @@ public class StartupJson_Test {
     assertEquals( "./", message.getHead().get( PROPERTY_URL ).asString() );
   }
 
+  @Test
+  public void testGet_binaryProtocolDisabledByDefault() {
+    JsonObject content = StartupJson.get();
+
+    assertNull( content.get( "head" ).asObject().get( PROPERTY_BINARY_PROTOCOL ) );
+  }
+
+  @Test
+  public void testGet_binaryProtocolEnabled() {
+    System.setProperty( RWTProperties.BINARY_PROTOCOL, "true" );
+
+    JsonObject content = StartupJson.get();
+
+    JsonValue binaryProtocol = content.get( "head" ).asObject().get( PROPERTY_BINARY_PROTOCOL );
+    assertEquals( JsonValue.TRUE, binaryProtocol );
+  }
+
+  @Test
+  public void testGet_webSocketDisabledByDefault() {
+    JsonObject content = StartupJson.get();
+
+    assertNull( content.get( "head" ).asObject().get( PROPERTY_WEB_SOCKET_URL ) );
+  }
+
+  @Test
+  public void testGet_webSocketInstalled() {
+    installWebSocketSupport();
+    TestRequest request = ( TestRequest )ContextProvider.getRequest();
+    request.setServletPath( "/foo" );
+    request.getSession().setMaxInactiveInterval( 60 );
+
+    JsonObject content = StartupJson.get();
+
+    JsonObject head = content.get( "head" ).asObject();
+    String url = head.get( PROPERTY_WEB_SOCKET_URL ).asString();
+    assertTrue( url.endsWith( WebSocketSupport.PATH + "?servletPath=%2Ffoo" ) );
+    assertEquals( 30000, head.get( PROPERTY_WEB_SOCKET_REFRESH_INTERVAL ).asInt() );
+  }
+
   @Test
   public void testGet_createDisplay() {
     JsonObject content = StartupJson.get();
@@ -154,4 +205,11 @@ public class StartupJson_Test {
     entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH, factory, properties );
   }
 
+  private void installWebSocketSupport() {
+    System.setProperty( RWTProperties.WEB_SOCKET, "true" );
+    ServletContext servletContext = applicationContext.getServletContext();
+    servletContext.setAttribute( ServerContainer.class.getName(), mock( ServerContainer.class ) );
+    WebSocketSupport.install( servletContext );
+  }
+
 }
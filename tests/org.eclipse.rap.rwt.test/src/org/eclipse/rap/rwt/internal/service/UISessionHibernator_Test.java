@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.Serializable;
+import java.nio.file.Files;
+
+import javax.servlet.http.HttpSession;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
+import org.eclipse.rap.rwt.service.UISessionEvent;
+import org.eclipse.rap.rwt.service.UISessionListener;
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class UISessionHibernator_Test {
+
+  private File directory;
+  private UISessionHibernator hibernator;
+  private UISessionImpl uiSession;
+  private HttpSession httpSession;
+
+  @Before
+  public void setUp() throws Exception {
+    Fixture.setUp();
+    LoggingUISessionListener.wasCalled = false;
+    directory = Files.createTempDirectory( "hibernation" ).toFile();
+    System.setProperty( RWTProperties.SESSION_HIBERNATION_TIMEOUT, "60" );
+    System.setProperty( RWTProperties.SESSION_HIBERNATION_DIRECTORY, directory.getAbsolutePath() );
+    hibernator = new UISessionHibernator();
+    uiSession = ( UISessionImpl )ContextProvider.getUISession();
+    httpSession = uiSession.getHttpSession();
+    hibernator.activate( httpSession.getServletContext() );
+    hibernator.register( uiSession );
+  }
+
+  @After
+  public void tearDown() {
+    hibernator.deactivate();
+    System.clearProperty( RWTProperties.SESSION_HIBERNATION_TIMEOUT );
+    System.clearProperty( RWTProperties.SESSION_HIBERNATION_DIRECTORY );
+    FileUtil.delete( directory );
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testIsEnabled() {
+    assertTrue( hibernator.isEnabled() );
+    assertEquals( directory, hibernator.getDirectory() );
+  }
+
+  @Test
+  public void testIsEnabled_withoutTimeout() {
+    System.clearProperty( RWTProperties.SESSION_HIBERNATION_TIMEOUT );
+    UISessionHibernator disabledHibernator = new UISessionHibernator();
+
+    disabledHibernator.activate( httpSession.getServletContext() );
+
+    assertFalse( disabledHibernator.isEnabled() );
+  }
+
+  @Test
+  public void testHibernate_replacesUISessionInHttpSession() {
+    boolean hibernated = hibernate();
+
+    assertTrue( hibernated );
+    assertTrue( uiSession.isHibernated() );
+    assertTrue( getAttribute() instanceof HibernatedUISession );
+    assertTrue( ( ( HibernatedUISession )getAttribute() ).getFile().exists() );
+  }
+
+  @Test
+  public void testHibernate_doesNotDestroyUISession() {
+    uiSession.addUISessionListener( new LoggingUISessionListener() );
+
+    hibernate();
+
+    assertFalse( LoggingUISessionListener.wasCalled );
+  }
+
+  @Test
+  public void testHibernate_skipsRecentlyAccessedUISession() {
+    boolean hibernated = hibernator.hibernate( uiSession, uiSession.getLastAccessTime() );
+
+    assertFalse( hibernated );
+    assertSame( uiSession, getAttribute() );
+  }
+
+  @Test
+  public void testHibernate_skipsUISessionWithActiveServerPush() {
+    ServerPushManager.getInstance().activateServerPushFor( new Object() );
+
+    boolean hibernated = hibernate();
+
+    assertFalse( hibernated );
+    assertSame( uiSession, getAttribute() );
+  }
+
+  @Test
+  public void testHibernate_keepsNonSerializableUISession() {
+    uiSession.setAttribute( "foo", new Object() );
+
+    boolean hibernated = hibernate();
+
+    assertFalse( hibernated );
+    assertFalse( uiSession.isHibernated() );
+    assertSame( uiSession, getAttribute() );
+    assertEquals( 0, directory.list().length );
+  }
+
+  @Test
+  public void testHibernate_keepsUISessionIfPlaceholderCannotBeStored() {
+    HttpSession failingHttpSession = mock( HttpSession.class );
+    doThrow( new IllegalArgumentException() )
+      .when( failingHttpSession ).setAttribute( anyString(), any() );
+    uiSession.setHttpSession( failingHttpSession );
+
+    try {
+      hibernate();
+      fail();
+    } catch( @SuppressWarnings( "unused" ) IllegalArgumentException expected ) {
+    } finally {
+      uiSession.setHttpSession( httpSession );
+    }
+
+    assertFalse( uiSession.isHibernated() );
+    assertEquals( 0, directory.list().length );
+  }
+
+  @Test
+  public void testGetInstanceFromSession_restoresHibernatedUISession() {
+    uiSession.setAttribute( "foo", "bar" );
+    hibernate();
+    File file = ( ( HibernatedUISession )getAttribute() ).getFile();
+
+    UISessionImpl restored = getInstanceFromSession();
+
+    assertNotSame( uiSession, restored );
+    assertEquals( uiSession.getId(), restored.getId() );
+    assertEquals( "bar", restored.getAttribute( "foo" ) );
+    assertSame( httpSession, restored.getHttpSession() );
+    assertSame( Fixture.getApplicationContext(), restored.getApplicationContext() );
+    assertSame( restored, getAttribute() );
+    assertFalse( file.exists() );
+  }
+
+  @Test
+  public void testGetInstanceFromSession_returnsSameRestoredInstance() {
+    hibernate();
+    HibernatedUISession placeholder = ( HibernatedUISession )getAttribute();
+
+    UISessionImpl restored = getInstanceFromSession();
+
+    assertSame( restored, placeholder.restore( httpSession ) );
+  }
+
+  @Test
+  public void testGetInstanceFromSession_withMissingFile() {
+    hibernate();
+    ( ( HibernatedUISession )getAttribute() ).getFile().delete();
+
+    UISessionImpl restored = getInstanceFromSession();
+
+    assertNull( restored );
+    assertNull( getAttribute() );
+  }
+
+  @Test
+  public void testHttpSessionExpiry_destroysHibernatedUISession() {
+    uiSession.addUISessionListener( new LoggingUISessionListener() );
+    hibernate();
+    File file = ( ( HibernatedUISession )getAttribute() ).getFile();
+
+    httpSession.removeAttribute( UISessionImpl.getUISessionAttributeName( getConnectionId() ) );
+
+    assertTrue( LoggingUISessionListener.wasCalled );
+    assertFalse( file.exists() );
+  }
+
+  @Test
+  public void testApplicationContextDeactivation_destroysHibernatedUISession() {
+    uiSession.addUISessionListener( new LoggingUISessionListener() );
+    hibernate();
+
+    Fixture.getApplicationContext().deactivate();
+
+    assertTrue( LoggingUISessionListener.wasCalled );
+    assertEquals( 0, directory.list().length );
+  }
+
+  @Test
+  public void testSweep_hibernatesIdleUISession() throws Exception {
+    System.setProperty( RWTProperties.SESSION_HIBERNATION_TIMEOUT, "1" );
+    hibernator.deactivate();
+    hibernator.activate( httpSession.getServletContext() );
+    hibernator.register( uiSession );
+    Thread.sleep( 1100 );
+
+    hibernator.sweep();
+
+    assertTrue( uiSession.isHibernated() );
+  }
+
+  @Test
+  public void testSweep_skipsActiveUISession() {
+    hibernator.sweep();
+
+    assertFalse( uiSession.isHibernated() );
+  }
+
+  private boolean hibernate() {
+    return hibernator.hibernate( uiSession, Long.MAX_VALUE );
+  }
+
+  private UISessionImpl getInstanceFromSession() {
+    return UISessionImpl.getInstanceFromSession( httpSession, getConnectionId() );
+  }
+
+  private Object getAttribute() {
+    return httpSession.getAttribute( UISessionImpl.getUISessionAttributeName( getConnectionId() ) );
+  }
+
+  private String getConnectionId() {
+    return uiSession.getConnectionId();
+  }
+
+  private static class LoggingUISessionListener implements UISessionListener, Serializable {
+    static boolean wasCalled;
+    @Override
+    public void beforeDestroy( UISessionEvent event ) {
+      wasCalled = true;
+    }
+  }
+
+}
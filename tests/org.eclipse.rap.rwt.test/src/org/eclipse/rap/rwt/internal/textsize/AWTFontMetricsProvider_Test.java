@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.FontData;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class AWTFontMetricsProvider_Test {
+
+  private static final FontData SANS_SERIF = new FontData( "sans-serif", 12, SWT.NORMAL );
+
+  private AWTFontMetricsProvider provider;
+
+  @Before
+  public void setUp() {
+    provider = new AWTFontMetricsProvider();
+  }
+
+  @Test
+  public void testGetStringWidth() {
+    float width = provider.getStringWidth( SANS_SERIF, "Test" );
+
+    assertTrue( width > 0 );
+    assertTrue( width < 12 * 4 );
+  }
+
+  @Test
+  public void testGetStringWidth_growsWithText() {
+    float width = provider.getStringWidth( SANS_SERIF, "Test" );
+
+    assertTrue( provider.getStringWidth( SANS_SERIF, "Test Test" ) > width );
+  }
+
+  @Test
+  public void testGetStringWidth_growsWithFontSize() {
+    FontData largeFont = new FontData( "sans-serif", 24, SWT.NORMAL );
+    float width = provider.getStringWidth( SANS_SERIF, "Test" );
+
+    assertTrue( provider.getStringWidth( largeFont, "Test" ) > width );
+  }
+
+  @Test
+  public void testGetStringWidth_usesFirstSupportedFamily() {
+    FontData fontData = new FontData( "\"unknown font\", sans-serif", 12, SWT.NORMAL );
+
+    float width = provider.getStringWidth( fontData, "Test" );
+
+    assertEquals( provider.getStringWidth( SANS_SERIF, "Test" ), width, 0.001 );
+  }
+
+  @Test
+  public void testGetStringWidth_withUnsupportedFont() {
+    FontData fontData = new FontData( "unknown font", 12, SWT.NORMAL );
+
+    assertTrue( provider.getStringWidth( fontData, "Test" ) < 0 );
+  }
+
+  @Test
+  public void testGetLineHeight() {
+    int lineHeight = provider.getLineHeight( SANS_SERIF );
+
+    assertTrue( lineHeight >= 12 );
+    assertTrue( lineHeight < 12 * 2 );
+  }
+
+  @Test
+  public void testGetLineHeight_withUnsupportedFont() {
+    FontData fontData = new FontData( "unknown font", 12, SWT.NORMAL );
+
+    assertTrue( provider.getLineHeight( fontData ) < 0 );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -25,6 +25,7 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -41,6 +42,7 @@ import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
@@ -128,6 +130,49 @@ public class MeasurementOperator_Test {
     verify( listener, times( 2 ) ).handleEvent( any( Event.class ) );
   }
 
+  @Test
+  public void testOperationHandler_handleCall_skipsRecalculationForVerifiedEstimation() {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    operator.addItemToMeasure( createEstimatedItem( new Point( 13, 5 ) ) );
+    Shell shell = new Shell( display );
+    Listener listener = mock( Listener.class );
+    shell.addListener( SWT.Resize, listener );
+
+    JsonObject parameters = createMeasurementResult( null, MEASUREMENT_ITEM_1 );
+    getOperationHandler( TYPE ).handleCall( METHOD_STORE_MEASUREMENTS, parameters );
+
+    verify( listener, never() ).handleEvent( any( Event.class ) );
+    assertEquals( 0, operator.getItemCount() );
+  }
+
+  @Test
+  public void testOperationHandler_handleCall_triggersRecalculationForTooSmallEstimation() {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    operator.addItemToMeasure( createEstimatedItem( new Point( 11, 4 ) ) );
+    Shell shell = new Shell( display );
+    Listener listener = mock( Listener.class );
+    shell.addListener( SWT.Resize, listener );
+
+    JsonObject parameters = createMeasurementResult( null, MEASUREMENT_ITEM_1 );
+    getOperationHandler( TYPE ).handleCall( METHOD_STORE_MEASUREMENTS, parameters );
+
+    verify( listener, times( 2 ) ).handleEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testOperationHandler_handleCall_triggersRecalculationForTooLargeEstimation() {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    operator.addItemToMeasure( createEstimatedItem( new Point( 20, 4 ) ) );
+    Shell shell = new Shell( display );
+    Listener listener = mock( Listener.class );
+    shell.addListener( SWT.Resize, listener );
+
+    JsonObject parameters = createMeasurementResult( null, MEASUREMENT_ITEM_1 );
+    getOperationHandler( TYPE ).handleCall( METHOD_STORE_MEASUREMENTS, parameters );
+
+    verify( listener, times( 2 ) ).handleEvent( any( Event.class ) );
+  }
+
   @Test
   public void testAddItemToMeasure() {
     operator.addItemToMeasure( MEASUREMENT_ITEM_1 );
@@ -227,6 +272,10 @@ public class MeasurementOperator_Test {
     getApplicationContext().getProbeStore().createProbe( fontData );
   }
 
+  private static MeasurementItem createEstimatedItem( Point estimatedSize ) {
+    return new MeasurementItem( TEXT_TO_MEASURE, FONT_DATA_1, SWT.DEFAULT, MODE, estimatedSize );
+  }
+
   private JsonObject createMeasurementResult( FontData fontData, MeasurementItem measurementItem ) {
     JsonObject results = new JsonObject();
     if( fontData != null ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,12 +11,15 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.textsize;
 
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.widgets.Display;
 import org.junit.After;
@@ -183,4 +186,54 @@ public class TextSizeEstimation_Test {
     assertEquals( expected, TextSizeEstimation.removeAllTags( markup ) );
   }
 
+  @Test
+  public void testIsAccurate_withoutFontMetricsProvider() {
+    assertFalse( TextSizeEstimation.isAccurate( font10 ) );
+  }
+
+  @Test
+  public void testIsAccurate_withFontMetricsProvider() {
+    installFontMetricsProvider( 4.5f, 13 );
+
+    assertTrue( TextSizeEstimation.isAccurate( font10 ) );
+  }
+
+  @Test
+  public void testIsAccurate_withUnsupportedFont() {
+    installFontMetricsProvider( -1, -1 );
+
+    assertFalse( TextSizeEstimation.isAccurate( font10 ) );
+  }
+
+  @Test
+  public void testStringExtent_withFontMetricsProvider() {
+    installFontMetricsProvider( 4.5f, 13 );
+
+    Point extent = TextSizeEstimation.stringExtent( font10, "Test" );
+
+    assertEquals( new Point( 18, 13 ), extent );
+  }
+
+  @Test
+  public void testTextExtent_withFontMetricsProvider() {
+    installFontMetricsProvider( 4.5f, 13 );
+
+    Point extent = TextSizeEstimation.textExtent( font10, "Test\nTest Test", 0 );
+
+    assertEquals( new Point( 41, 26 ), extent );
+  }
+
+  private static void installFontMetricsProvider( final float charWidth, final int lineHeight ) {
+    getApplicationContext().setFontMetricsProvider( new FontMetricsProvider() {
+      @Override
+      public float getStringWidth( FontData fontData, String string ) {
+        return charWidth < 0 ? -1 : charWidth * string.length();
+      }
+      @Override
+      public int getLineHeight( FontData fontData ) {
+        return lineHeight;
+      }
+    } );
+  }
+
 }
@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class TextSizeStorageFile_Test {
+
+  private static final FontData FONT_DATA = new FontData( "arial", 10, SWT.BOLD );
+  private static final Integer KEY = Integer.valueOf( 23 );
+
+  private File file;
+  private List<TextSizeStorageFile> storageFiles;
+  private List<File> files;
+
+  @Before
+  public void setUp() throws IOException {
+    file = File.createTempFile( "textsizes", ".bin" );
+    file.delete();
+    System.setProperty( RWTProperties.TEXT_SIZE_STORE_FILE, file.getAbsolutePath() );
+    storageFiles = new ArrayList<>();
+    files = new ArrayList<>();
+  }
+
+  @After
+  public void tearDown() {
+    for( TextSizeStorageFile storageFile : storageFiles ) {
+      storageFile.deactivate();
+    }
+    for( File activeFile : files ) {
+      activeFile.delete();
+    }
+    System.clearProperty( RWTProperties.TEXT_SIZE_STORE_FILE );
+    file.delete();
+  }
+
+  @Test
+  public void testRestoresTextSizes() {
+    TextSizeStorage storage = new TextSizeStorage();
+    TextSizeStorageFile storageFile = activate( storage );
+    storage.storeTextSize( KEY, new Point( 12, -3 ) );
+    storageFile.deactivate();
+
+    TextSizeStorage restored = new TextSizeStorage();
+    activate( restored );
+
+    assertEquals( new Point( 12, -3 ), restored.lookupTextSize( KEY ) );
+  }
+
+  @Test
+  public void testRestoresFonts() {
+    TextSizeStorage storage = new TextSizeStorage();
+    TextSizeStorageFile storageFile = activate( storage );
+    storage.storeFont( FONT_DATA );
+    storageFile.deactivate();
+
+    TextSizeStorage restored = new TextSizeStorage();
+    activate( restored );
+
+    assertEquals( Arrays.asList( FONT_DATA ), Arrays.asList( restored.getFontList() ) );
+  }
+
+  @Test
+  public void testRestoresLatestTextSize() {
+    TextSizeStorage storage = new TextSizeStorage();
+    TextSizeStorageFile storageFile = activate( storage );
+    storage.storeTextSize( KEY, new Point( 1, 2 ) );
+    storageFile.flush();
+    storage.storeTextSize( KEY, new Point( 3, 4 ) );
+    storageFile.deactivate();
+
+    TextSizeStorage restored = new TextSizeStorage();
+    activate( restored );
+
+    assertEquals( new Point( 3, 4 ), restored.lookupTextSize( KEY ) );
+  }
+
+  @Test
+  public void testMeasuredTextSizeTakesPrecedence() {
+    TextSizeStorage storage = new TextSizeStorage();
+    TextSizeStorageFile storageFile = activate( storage );
+    storage.storeTextSize( KEY, new Point( 1, 2 ) );
+    storageFile.deactivate();
+
+    TextSizeStorage restored = new TextSizeStorage();
+    restored.storeTextSize( KEY, new Point( 3, 4 ) );
+    activate( restored );
+
+    assertEquals( new Point( 3, 4 ), restored.lookupTextSize( KEY ) );
+  }
+
+  @Test
+  public void testDoesNotAppendAfterDeactivate() {
+    TextSizeStorage storage = new TextSizeStorage();
+    TextSizeStorageFile storageFile = activate( storage );
+    storageFile.deactivate();
+    storage.storeTextSize( KEY, new Point( 1, 2 ) );
+
+    TextSizeStorage restored = new TextSizeStorage();
+    activate( restored );
+
+    assertNull( restored.lookupTextSize( KEY ) );
+  }
+
+  @Test
+  public void testIgnoresDamagedFile() throws IOException {
+    writeFile( new byte[] { 1, 2, 3, 4, 5, 6, 7 } );
+    TextSizeStorage storage = new TextSizeStorage();
+    TextSizeStorageFile storageFile = activate( storage );
+    storage.storeTextSize( KEY, new Point( 1, 2 ) );
+    storageFile.deactivate();
+
+    TextSizeStorage restored = new TextSizeStorage();
+    activate( restored );
+
+    assertEquals( new Point( 1, 2 ), restored.lookupTextSize( KEY ) );
+  }
+
+  @Test
+  public void testDropsIncompleteRecord() throws IOException {
+    TextSizeStorage storage = new TextSizeStorage();
+    TextSizeStorageFile storageFile = activate( storage );
+    storage.storeTextSize( KEY, new Point( 1, 2 ) );
+    storage.storeTextSize( Integer.valueOf( 42 ), new Point( 3, 4 ) );
+    storageFile.deactivate();
+    truncateFile( 3 );
+
+    TextSizeStorage restored = new TextSizeStorage();
+    TextSizeStorageFile restoredFile = activate( restored );
+    restored.storeTextSize( Integer.valueOf( 7 ), new Point( 5, 6 ) );
+    restoredFile.deactivate();
+    TextSizeStorage restoredAgain = new TextSizeStorage();
+    activate( restoredAgain );
+
+    assertEquals( new Point( 1, 2 ), restoredAgain.lookupTextSize( KEY ) );
+    assertNull( restoredAgain.lookupTextSize( Integer.valueOf( 42 ) ) );
+    assertEquals( new Point( 5, 6 ), restoredAgain.lookupTextSize( Integer.valueOf( 7 ) ) );
+  }
+
+  @Test
+  public void testActivate_withoutSystemProperty() {
+    System.clearProperty( RWTProperties.TEXT_SIZE_STORE_FILE );
+    TextSizeStorage storage = new TextSizeStorage();
+    TextSizeStorageFile storageFile = activate( storage );
+
+    storage.storeTextSize( KEY, new Point( 1, 2 ) );
+    storageFile.deactivate();
+
+    assertFalse( file.exists() );
+  }
+
+  @Test
+  public void testCreatesFile() {
+    activate( new TextSizeStorage() );
+
+    assertTrue( file.exists() );
+  }
+
+  @Test
+  public void testSeparatesApplications() {
+    TextSizeStorage storage = new TextSizeStorage();
+    TextSizeStorageFile storageFile = activate( storage, "/app1" );
+    storage.storeTextSize( KEY, new Point( 1, 2 ) );
+    storageFile.flush();
+
+    TextSizeStorage other = new TextSizeStorage();
+    TextSizeStorageFile otherFile = activate( other, "/app2" );
+
+    assertNull( other.lookupTextSize( KEY ) );
+    assertNotEquals( storageFile.getFile(), otherFile.getFile() );
+    assertEquals( file.getParentFile(), storageFile.getFile().getParentFile() );
+    assertTrue( storageFile.getFile().getName().endsWith( "-" + file.getName() ) );
+  }
+
+  @Test
+  public void testRestoresTextSizesOfSameApplication() {
+    TextSizeStorage storage = new TextSizeStorage();
+    TextSizeStorageFile storageFile = activate( storage, "/app1" );
+    storage.storeTextSize( KEY, new Point( 1, 2 ) );
+    storageFile.deactivate();
+
+    TextSizeStorage restored = new TextSizeStorage();
+    activate( restored, "/app1" );
+
+    assertEquals( new Point( 1, 2 ), restored.lookupTextSize( KEY ) );
+  }
+
+  private TextSizeStorageFile activate( TextSizeStorage storage ) {
+    return activate( storage, null );
+  }
+
+  private TextSizeStorageFile activate( TextSizeStorage storage, String applicationId ) {
+    TextSizeStorageFile result = new TextSizeStorageFile( storage );
+    result.activate( applicationId );
+    result.load();
+    storageFiles.add( result );
+    if( result.getFile() != null ) {
+      files.add( result.getFile() );
+    }
+    return result;
+  }
+
+  private void writeFile( byte[] content ) throws IOException {
+    try( FileOutputStream outputStream = new FileOutputStream( file ) ) {
+      outputStream.write( content );
+    }
+  }
+
+  private void truncateFile( int bytes ) throws IOException {
+    try( RandomAccessFile randomAccessFile = new RandomAccessFile( file, "rw" ) ) {
+      randomAccessFile.setLength( randomAccessFile.length() - bytes );
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,12 +12,14 @@
 package org.eclipse.rap.rwt.internal.textsize;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.SWT;
@@ -86,6 +88,76 @@ public class TextSizeStorage_Test {
     checkRangeCleanup();
   }
 
+  @Test
+  public void testTextSizeStorage_withNegativeSize() {
+    storage.storeTextSize( KEY_FIRST, new Point( -3, -70000 ) );
+
+    assertEquals( new Point( -3, -70000 ), storage.lookupTextSize( KEY_FIRST ) );
+  }
+
+  @Test
+  public void testTextSizeStorage_replacesSize() {
+    storage.storeTextSize( KEY_FIRST, new Point( 1, 2 ) );
+
+    storage.storeTextSize( KEY_FIRST, new Point( 3, 4 ) );
+
+    assertEquals( new Point( 3, 4 ), storage.lookupTextSize( KEY_FIRST ) );
+    assertEquals( 1, storage.getSize() );
+  }
+
+  @Test
+  public void testLookupTextSize_countsHitsAndMisses() {
+    storage.storeTextSize( KEY_FIRST, SIZE_FIRST );
+
+    storage.lookupTextSize( KEY_FIRST );
+    storage.lookupTextSize( KEY_FIRST );
+    storage.lookupTextSize( KEY_OVERFLOW );
+
+    assertEquals( 2, storage.getHitCount() );
+    assertEquals( 1, storage.getMissCount() );
+  }
+
+  @Test
+  public void testStorageOverflowHandling_countsEvictions() {
+    populateUntilOverflowThresholdIsReached();
+
+    forceOverflow();
+
+    assertEquals( 100, storage.getEvictionCount() );
+    assertEquals( TextSizeStorage.MIN_STORE_SIZE - 100, storage.getSize() );
+  }
+
+  @Test
+  public void testConcurrentAccess() throws InterruptedException {
+    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
+    final AtomicBoolean failed = new AtomicBoolean();
+    Thread[] threads = new Thread[ 4 ];
+    for( int i = 0; i < threads.length; i++ ) {
+      final int offset = i * 10000;
+      threads[ i ] = new Thread( new Runnable() {
+        @Override
+        public void run() {
+          for( int j = 0; j < 5000; j++ ) {
+            Integer key = Integer.valueOf( offset + j );
+            storage.storeTextSize( key, new Point( j, j ) );
+            Point size = storage.lookupTextSize( key );
+            if( size != null && size.x != j ) {
+              failed.set( true );
+            }
+          }
+        }
+      } );
+      threads[ i ].start();
+    }
+    for( Thread thread : threads ) {
+      thread.join();
+    }
+
+    assertFalse( failed.get() );
+    assertTrue( storage.getSize() < TextSizeStorage.MIN_STORE_SIZE * 2 );
+    assertTrue( storage.getEvictionCount() > 0 );
+  }
+
   @Test
   public void testMaximumStoreSize() {
     int maximumStoreSize = 2000;
@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.theme;
+
+import static java.util.Arrays.asList;
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
+import static org.eclipse.rap.rwt.internal.theme.ThemeTestUtil.RESOURCE_LOADER;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.rap.rwt.internal.theme.ThemeSnapshotStore.ThemeSnapshot;
+import org.eclipse.rap.rwt.internal.theme.css.StyleRule;
+import org.eclipse.rap.rwt.internal.theme.css.StyleSheet;
+import org.eclipse.rap.rwt.service.ResourceLoader;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ThemeSnapshotStore_Test {
+
+  private static final String THEME_ID = "test.theme";
+  private static final String APPLICATION_ID = "/path/to/application";
+  private static final String CSS = "Button { color: black; background-image: url( "
+                                    + Fixture.IMAGE1
+                                    + " ); }";
+
+  private File directory;
+  private ThemeSnapshotStore snapshotStore;
+  private ThemeableWidget[] themeableWidgets;
+  private CssElement[] elements;
+  private List<ResourceLoader> loaders;
+
+  @Before
+  public void setUp() throws IOException {
+    Fixture.setUp();
+    directory = File.createTempFile( "themesnapshots", "" );
+    directory.delete();
+    snapshotStore = new ThemeSnapshotStore( directory, APPLICATION_ID );
+    CssElementImpl element = new CssElementImpl( "Button" )
+      .addProperty( "color" )
+      .addProperty( "background-image" );
+    ThemeableWidget themeableWidget = new ThemeableWidget( null, null );
+    themeableWidget.elements = new CssElement[] { element };
+    themeableWidgets = new ThemeableWidget[] { themeableWidget };
+    elements = themeableWidget.elements;
+    loaders = asList( RESOURCE_LOADER );
+  }
+
+  @After
+  public void tearDown() {
+    File[] files = directory.listFiles();
+    if( files != null ) {
+      for( File file : files ) {
+        file.delete();
+      }
+    }
+    directory.delete();
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testLoad_withoutSnapshot() throws IOException {
+    String key = createKey( CSS );
+
+    assertNull( snapshotStore.load( THEME_ID, key, loaders ) );
+  }
+
+  @Test
+  public void testLoad_afterStore() throws IOException {
+    String key = createKey( CSS );
+    CssValuesMap valuesMap = createValuesMap( CSS );
+    snapshotStore.store( THEME_ID, key, loaders, new ThemeSnapshot( valuesMap, "store" ) );
+
+    ThemeSnapshot snapshot = snapshotStore.load( THEME_ID, key, loaders );
+
+    assertEquals( "store", snapshot.getThemeStore() );
+    assertArrayEquals( valuesMap.getValues( "Button", "color" ),
+                       snapshot.getValuesMap().getValues( "Button", "color" ) );
+    assertArrayEquals( valuesMap.getValues( "Button", "background-image" ),
+                       snapshot.getValuesMap().getValues( "Button", "background-image" ) );
+  }
+
+  @Test
+  public void testLoad_restoresResourceLoaders() throws IOException {
+    String key = createKey( CSS );
+    CssValuesMap valuesMap = createValuesMap( CSS );
+    snapshotStore.store( THEME_ID, key, loaders, new ThemeSnapshot( valuesMap, "store" ) );
+
+    ThemeSnapshot snapshot = snapshotStore.load( THEME_ID, key, loaders );
+
+    CssValue value = snapshot.getValuesMap().getValues( "Button", "background-image" )[ 0 ].value;
+    assertSame( RESOURCE_LOADER, ( ( CssImage )value ).loader );
+  }
+
+  @Test
+  public void testLoad_withOtherKey() throws IOException {
+    String key = createKey( CSS );
+    CssValuesMap valuesMap = createValuesMap( CSS );
+    snapshotStore.store( THEME_ID, key, loaders, new ThemeSnapshot( valuesMap, "store" ) );
+
+    String otherKey = createKey( "Button { color: red; }" );
+
+    assertNull( snapshotStore.load( THEME_ID, otherKey, loaders ) );
+  }
+
+  @Test
+  public void testLoad_withDamagedSnapshot() throws IOException {
+    String key = createKey( CSS );
+    CssValuesMap valuesMap = createValuesMap( CSS );
+    snapshotStore.store( THEME_ID, key, loaders, new ThemeSnapshot( valuesMap, "store" ) );
+    try( FileOutputStream outputStream = new FileOutputStream( directory.listFiles()[ 0 ] ) ) {
+      outputStream.write( new byte[] { 1, 2, 3, 4, 5, 6, 7 } );
+    }
+
+    assertNull( snapshotStore.load( THEME_ID, key, loaders ) );
+  }
+
+  @Test
+  public void testStore_removesOutdatedSnapshots() throws IOException {
+    CssValuesMap valuesMap = createValuesMap( CSS );
+    snapshotStore.store( THEME_ID, createKey( CSS ), loaders, new ThemeSnapshot( valuesMap, "" ) );
+    String key = createKey( "Button { color: red; }" );
+
+    snapshotStore.store( THEME_ID, key, loaders, new ThemeSnapshot( valuesMap, "" ) );
+
+    assertEquals( 1, directory.listFiles().length );
+    assertNotNull( snapshotStore.load( THEME_ID, key, loaders ) );
+  }
+
+  @Test
+  public void testStore_keepsSnapshotsOfOtherApplications() throws IOException {
+    ThemeSnapshotStore otherStore = new ThemeSnapshotStore( directory, "/path/to/other" );
+    CssValuesMap valuesMap = createValuesMap( CSS );
+    String key = createKey( CSS );
+    snapshotStore.store( THEME_ID, key, loaders, new ThemeSnapshot( valuesMap, "" ) );
+    String otherKey = createKey( "Button { color: red; }" );
+
+    otherStore.store( THEME_ID, otherKey, loaders, new ThemeSnapshot( valuesMap, "" ) );
+
+    assertEquals( 2, directory.listFiles().length );
+    assertNotNull( snapshotStore.load( THEME_ID, key, loaders ) );
+    assertNotNull( otherStore.load( THEME_ID, otherKey, loaders ) );
+  }
+
+  @Test
+  public void testStore_keepsSnapshotsOfOtherThemes() throws IOException {
+    CssValuesMap valuesMap = createValuesMap( CSS );
+    String key = createKey( CSS );
+    snapshotStore.store( THEME_ID, key, loaders, new ThemeSnapshot( valuesMap, "" ) );
+
+    snapshotStore.store( "other.theme", key, loaders, new ThemeSnapshot( valuesMap, "" ) );
+
+    assertEquals( 2, directory.listFiles().length );
+    assertNotNull( snapshotStore.load( THEME_ID, key, loaders ) );
+  }
+
+  @Test
+  public void testLoad_ignoresSnapshotsOfOtherApplications() throws IOException {
+    ThemeSnapshotStore otherStore = new ThemeSnapshotStore( directory, "/path/to/other" );
+    String key = createKey( CSS );
+    CssValuesMap valuesMap = createValuesMap( CSS );
+    otherStore.store( THEME_ID, key, loaders, new ThemeSnapshot( valuesMap, "" ) );
+
+    assertNull( snapshotStore.load( THEME_ID, key, loaders ) );
+  }
+
+  @Test
+  public void testCreateKey_isStable() throws IOException {
+    assertEquals( createKey( CSS ), createKey( CSS ) );
+  }
+
+  @Test
+  public void testCreateKey_changesWithSource() throws IOException {
+    assertFalse( createKey( CSS ).equals( createKey( "Button { color: red; }" ) ) );
+  }
+
+  @Test
+  public void testCreateKey_changesWithThemeId() throws IOException {
+    List<StyleSheet> styleSheets = asList( ThemeTestUtil.createStyleSheet( CSS ) );
+
+    String key = ThemeSnapshotStore.createKey( "other.theme", styleSheets, elements );
+
+    assertFalse( createKey( CSS ).equals( key ) );
+  }
+
+  @Test
+  public void testCreateKey_withoutSource() {
+    List<StyleSheet> styleSheets = asList( new StyleSheet( new StyleRule[ 0 ] ) );
+
+    assertNull( ThemeSnapshotStore.createKey( THEME_ID, styleSheets, elements ) );
+  }
+
+  @Test
+  public void testThemeInitialize_usesSnapshot() throws IOException {
+    Theme theme = new Theme( THEME_ID, "Test", ThemeTestUtil.createStyleSheet( CSS ) );
+    theme.initialize( themeableWidgets, snapshotStore );
+    theme.registerResources( getApplicationContext() );
+    File[] snapshots = directory.listFiles();
+
+    Theme restoredTheme = new Theme( THEME_ID, "Test", ThemeTestUtil.createStyleSheet( CSS ) );
+    restoredTheme.initialize( themeableWidgets, snapshotStore );
+    restoredTheme.registerResources( getApplicationContext() );
+
+    assertEquals( 1, snapshots.length );
+    assertArrayEquals( snapshots, directory.listFiles() );
+    assertArrayEquals( theme.getValuesMap().getValues( "Button", "color" ),
+                       restoredTheme.getValuesMap().getValues( "Button", "color" ) );
+  }
+
+  private String createKey( String css ) throws IOException {
+    List<StyleSheet> styleSheets = asList( ThemeTestUtil.createStyleSheet( css ) );
+    return ThemeSnapshotStore.createKey( THEME_ID, styleSheets, elements );
+  }
+
+  private CssValuesMap createValuesMap( String css ) throws IOException {
+    return new CssValuesMap( ThemeTestUtil.createStyleSheet( css ), themeableWidgets );
+  }
+
+}
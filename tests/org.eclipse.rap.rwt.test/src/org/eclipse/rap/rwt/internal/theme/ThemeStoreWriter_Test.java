@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 EclipseSource and others.
+ * Copyright (c) 2009, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,13 +11,17 @@
 package org.eclipse.rap.rwt.internal.theme;
 
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.rap.rwt.service.ApplicationContext;
+import org.eclipse.rap.rwt.service.ResourceManager;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.junit.After;
 import org.junit.Before;
@@ -203,6 +207,40 @@ public class ThemeStoreWriter_Test {
     assertTrue( output.contains( expected ) );
   }
 
+  @Test
+  public void testWriteImages_withHashedLocation() {
+    String path = "themes/images/c84ae54c.png";
+    ResourceManager resourceManager = mock( ResourceManager.class );
+    when( Boolean.valueOf( resourceManager.isRegistered( path ) ) ).thenReturn( Boolean.TRUE );
+    when( resourceManager.getLocation( path ) ).thenReturn( "rwt-resources/" + path + "?v=abc" );
+    ApplicationContext context = mock( ApplicationContext.class );
+    when( context.getResourceManager() ).thenReturn( resourceManager );
+    Theme theme = getTheme( THEME_WRITE_IMAGES );
+    CssElement element = new CssElementImpl( "Button" ).addProperty( "background-image" );
+    CssElement[] elements = { element };
+    ThemeStoreWriter storeWriter = new ThemeStoreWriter( context, theme, elements );
+
+    String output = storeWriter.createJson();
+
+    String expected =   "\"locations\":{"
+                      + "\"themes/images/c84ae54c.png\":"
+                      + "\"rwt-resources/themes/images/c84ae54c.png?v=abc\""
+                      + "}";
+    assertTrue( output.contains( expected ) );
+  }
+
+  @Test
+  public void testWriteImages_withoutHashedLocation() {
+    Theme theme = getTheme( THEME_WRITE_IMAGES );
+    CssElement element = new CssElementImpl( "Button" ).addProperty( "background-image" );
+    CssElement[] elements = { element };
+    ThemeStoreWriter storeWriter = new ThemeStoreWriter( applicationContext, theme, elements );
+
+    String output = storeWriter.createJson();
+
+    assertFalse( output.contains( "\"locations\"" ) );
+  }
+
   @Test
   public void testWriteImages_BackgroundRepeatAndPosition() {
     Theme theme = getTheme( THEME_WRITE_IMAGES );
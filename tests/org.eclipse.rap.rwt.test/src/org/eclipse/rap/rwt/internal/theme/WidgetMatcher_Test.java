@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.theme;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.theme.WidgetMatcher.Constraint;
+import org.eclipse.rap.rwt.internal.theme.css.ConditionalValue;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Widget;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class WidgetMatcher_Test {
+
+  private static final CssValue BORDER_VALUE = CssDimension.create( 1 );
+  private static final CssValue SELECTED_VALUE = CssDimension.create( 2 );
+  private static final CssValue VARIANT_VALUE = CssDimension.create( 3 );
+  private static final CssValue DEFAULT_VALUE = CssDimension.create( 4 );
+
+  private Shell shell;
+  private WidgetMatcher matcher;
+  private AtomicInteger stateEvaluations;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    shell = new Shell( new Display() );
+    stateEvaluations = new AtomicInteger();
+    matcher = new WidgetMatcher();
+    matcher.addStyle( "BORDER", SWT.BORDER );
+    matcher.addState( "selected", new Constraint() {
+      @Override
+      public boolean matches( Widget widget ) {
+        stateEvaluations.incrementAndGet();
+        return ( ( Button )widget ).getSelection();
+      }
+    } );
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testSelect_withoutConstraints() {
+    Button button = new Button( shell, SWT.TOGGLE );
+
+    assertSame( DEFAULT_VALUE, matcher.select( button, createValues() ) );
+  }
+
+  @Test
+  public void testSelect_withStyle() {
+    Button button = new Button( shell, SWT.TOGGLE | SWT.BORDER );
+
+    assertSame( BORDER_VALUE, matcher.select( button, createValues() ) );
+  }
+
+  @Test
+  public void testSelect_withState() {
+    Button button = new Button( shell, SWT.TOGGLE );
+    button.setSelection( true );
+
+    assertSame( SELECTED_VALUE, matcher.select( button, createValues() ) );
+  }
+
+  @Test
+  public void testSelect_withVariant() {
+    Button button = new Button( shell, SWT.TOGGLE );
+    button.setData( RWT.CUSTOM_VARIANT, "special" );
+
+    assertSame( VARIANT_VALUE, matcher.select( button, createValues() ) );
+  }
+
+  @Test
+  public void testSelect_withUnknownConstraint() {
+    Button button = new Button( shell, SWT.TOGGLE );
+    ConditionalValue[] values = new ConditionalValue[] {
+      new ConditionalValue( BORDER_VALUE, ":unknown" )
+    };
+
+    assertNull( matcher.select( button, values ) );
+  }
+
+  @Test
+  public void testSelect_withoutMatch() {
+    Button button = new Button( shell, SWT.TOGGLE );
+    ConditionalValue[] values = new ConditionalValue[] {
+      new ConditionalValue( BORDER_VALUE, "[BORDER" )
+    };
+
+    assertNull( matcher.select( button, values ) );
+  }
+
+  @Test
+  public void testSelect_followsStateChanges() {
+    Button button = new Button( shell, SWT.TOGGLE );
+    ConditionalValue[] values = createValues();
+    matcher.select( button, values );
+
+    button.setSelection( true );
+
+    assertSame( SELECTED_VALUE, matcher.select( button, values ) );
+  }
+
+  @Test
+  public void testSelect_evaluatesConstraintsOnce() {
+    Button button = new Button( shell, SWT.TOGGLE );
+    ConditionalValue[] values = new ConditionalValue[] {
+      new ConditionalValue( BORDER_VALUE, ":selected", "[BORDER" ),
+      new ConditionalValue( SELECTED_VALUE, ":selected" ),
+      new ConditionalValue( DEFAULT_VALUE )
+    };
+
+    matcher.select( button, values );
+
+    assertEquals( 1, stateEvaluations.get() );
+  }
+
+  @Test
+  public void testSelect_withManyConstraints() {
+    Button button = new Button( shell, SWT.TOGGLE );
+    button.setData( RWT.CUSTOM_VARIANT, "v9" );
+    ConditionalValue[] values = new ConditionalValue[ 11 ];
+    for( int i = 0; i < 10; i++ ) {
+      values[ i ] = new ConditionalValue( BORDER_VALUE, ".v" + i );
+    }
+    values[ 9 ] = new ConditionalValue( VARIANT_VALUE, ".v9" );
+    values[ 10 ] = new ConditionalValue( DEFAULT_VALUE );
+
+    assertSame( VARIANT_VALUE, matcher.select( button, values ) );
+  }
+
+  @Test
+  public void testSelect_withManyVariants_evaluatesStateOnce() {
+    Button button = new Button( shell, SWT.TOGGLE );
+    button.setSelection( true );
+    button.setData( RWT.CUSTOM_VARIANT, "v9" );
+    ConditionalValue[] values = new ConditionalValue[ 11 ];
+    for( int i = 0; i < 10; i++ ) {
+      values[ i ] = new ConditionalValue( BORDER_VALUE, ":selected", ".v" + i );
+    }
+    values[ 9 ] = new ConditionalValue( VARIANT_VALUE, ":selected", ".v9" );
+    values[ 10 ] = new ConditionalValue( DEFAULT_VALUE );
+
+    CssValue result = matcher.select( button, values );
+
+    assertSame( VARIANT_VALUE, result );
+    assertEquals( 1, stateEvaluations.get() );
+  }
+
+  @Test
+  public void testSelect_followsVariantChanges() {
+    Button button = new Button( shell, SWT.TOGGLE );
+    ConditionalValue[] values = createValues();
+    matcher.select( button, values );
+
+    button.setData( RWT.CUSTOM_VARIANT, "special" );
+
+    assertSame( VARIANT_VALUE, matcher.select( button, values ) );
+  }
+
+  @Test
+  public void testSelect_withConflictingVariants() {
+    Button button = new Button( shell, SWT.TOGGLE );
+    button.setData( RWT.CUSTOM_VARIANT, "special" );
+    ConditionalValue[] values = new ConditionalValue[] {
+      new ConditionalValue( VARIANT_VALUE, ".special", ".other" ),
+      new ConditionalValue( DEFAULT_VALUE )
+    };
+
+    assertSame( DEFAULT_VALUE, matcher.select( button, values ) );
+  }
+
+  private static ConditionalValue[] createValues() {
+    return new ConditionalValue[] {
+      new ConditionalValue( BORDER_VALUE, "[BORDER" ),
+      new ConditionalValue( SELECTED_VALUE, ":selected" ),
+      new ConditionalValue( VARIANT_VALUE, ".special" ),
+      new ConditionalValue( DEFAULT_VALUE )
+    };
+  }
+
+}
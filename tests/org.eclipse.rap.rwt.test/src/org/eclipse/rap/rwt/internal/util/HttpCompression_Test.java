@@ -0,0 +1,373 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
+import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
+import org.eclipse.rap.rwt.testfixture.internal.TestServletOutputStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class HttpCompression_Test {
+
+  private static final Charset UTF_8 = Charset.forName( "UTF-8" );
+
+  private TestRequest request;
+  private TestResponse response;
+
+  @Before
+  public void setUp() {
+    request = new TestRequest();
+    response = new TestResponse();
+    HttpCompression.endDeflaters();
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty( RWTProperties.COMPRESSION_THRESHOLD );
+    System.clearProperty( RWTProperties.MAX_REQUEST_SIZE );
+    HttpCompression.readProperties();
+    HttpCompression.endDeflaters();
+  }
+
+  @Test
+  public void testSelectEncoding_withoutHeader() {
+    assertNull( HttpCompression.selectEncoding( null ) );
+  }
+
+  @Test
+  public void testSelectEncoding_withUnsupportedEncoding() {
+    assertNull( HttpCompression.selectEncoding( "br, identity" ) );
+  }
+
+  @Test
+  public void testSelectEncoding_prefersGzip() {
+    assertEquals( "gzip", HttpCompression.selectEncoding( "deflate, gzip" ) );
+  }
+
+  @Test
+  public void testSelectEncoding_withDeflate() {
+    assertEquals( "deflate", HttpCompression.selectEncoding( "deflate" ) );
+  }
+
+  @Test
+  public void testSelectEncoding_respectsQuality() {
+    assertEquals( "deflate", HttpCompression.selectEncoding( "gzip;q=0.5, deflate" ) );
+    assertNull( HttpCompression.selectEncoding( "gzip;q=0" ) );
+  }
+
+  @Test
+  public void testCompress_gzip() throws IOException {
+    byte[] content = createContent( 5000 );
+
+    byte[] compressed = HttpCompression.compress( content, "gzip" );
+
+    assertTrue( compressed.length < content.length );
+    assertArrayEquals( content, gunzip( compressed ) );
+  }
+
+  @Test
+  public void testCompress_deflate() throws IOException {
+    byte[] content = createContent( 5000 );
+
+    byte[] compressed = HttpCompression.compress( content, "deflate" );
+
+    InputStream inputStream = new InflaterInputStream( new ByteArrayInputStream( compressed ) );
+    assertArrayEquals( content, read( inputStream ) );
+  }
+
+  @Test
+  public void testCompress_subsequentCalls() throws IOException {
+    byte[] first = createContent( 3000 );
+    byte[] second = "second".getBytes( UTF_8 );
+
+    HttpCompression.compress( first, "gzip" );
+    byte[] compressed = HttpCompression.compress( second, "gzip" );
+
+    assertArrayEquals( second, gunzip( compressed ) );
+  }
+
+  @Test
+  public void testCompress_reusesDeflater() {
+    HttpCompression.compress( createContent( 3000 ), "gzip" );
+    HttpCompression.compress( createContent( 3000 ), "gzip" );
+
+    assertEquals( 1, HttpCompression.getPooledDeflaterCount() );
+  }
+
+  @Test
+  public void testCompress_reusedDeflaterWithOtherEncoding() throws IOException {
+    byte[] content = createContent( 3000 );
+
+    HttpCompression.compress( content, "gzip" );
+    byte[] compressed = HttpCompression.compress( content, "deflate" );
+
+    InputStream inputStream = new InflaterInputStream( new ByteArrayInputStream( compressed ) );
+    assertArrayEquals( content, read( inputStream ) );
+  }
+
+  @Test
+  public void testEndDeflaters() throws IOException {
+    byte[] content = createContent( 3000 );
+    HttpCompression.compress( content, "gzip" );
+
+    HttpCompression.endDeflaters();
+
+    assertEquals( 0, HttpCompression.getPooledDeflaterCount() );
+    assertArrayEquals( content, gunzip( HttpCompression.compress( content, "gzip" ) ) );
+  }
+
+  @Test
+  public void testWriteContent_compressesLargeContent() throws IOException {
+    request.setHeader( "Accept-Encoding", "gzip, deflate" );
+    byte[] content = createContent( 5000 );
+
+    HttpCompression.writeContent( request, response, content );
+
+    assertEquals( "gzip", response.getHeader( "Content-Encoding" ) );
+    assertEquals( "Accept-Encoding", response.getHeader( "Vary" ) );
+    assertArrayEquals( content, gunzip( getBytes( response ) ) );
+  }
+
+  @Test
+  public void testWriteContent_doesNotCompressSmallContent() throws IOException {
+    request.setHeader( "Accept-Encoding", "gzip" );
+    byte[] content = createContent( 100 );
+
+    HttpCompression.writeContent( request, response, content );
+
+    assertNull( response.getHeader( "Content-Encoding" ) );
+    assertEquals( "Accept-Encoding", response.getHeader( "Vary" ) );
+    assertArrayEquals( content, getBytes( response ) );
+  }
+
+  @Test
+  public void testWriteContent_withoutAcceptEncoding() throws IOException {
+    byte[] content = createContent( 5000 );
+
+    HttpCompression.writeContent( request, response, content );
+
+    assertNull( response.getHeader( "Content-Encoding" ) );
+    assertArrayEquals( content, getBytes( response ) );
+  }
+
+  @Test
+  public void testWriteContent_withCustomThreshold() throws IOException {
+    System.setProperty( RWTProperties.COMPRESSION_THRESHOLD, "10" );
+    HttpCompression.readProperties();
+    request.setHeader( "Accept-Encoding", "deflate" );
+
+    HttpCompression.writeContent( request, response, createContent( 100 ) );
+
+    assertEquals( "deflate", response.getHeader( "Content-Encoding" ) );
+  }
+
+  @Test
+  public void testWriteContent_withCompressionDisabled() throws IOException {
+    System.setProperty( RWTProperties.COMPRESSION_THRESHOLD, "-1" );
+    HttpCompression.readProperties();
+    request.setHeader( "Accept-Encoding", "gzip" );
+
+    HttpCompression.writeContent( request, response, createContent( 5000 ) );
+
+    assertNull( response.getHeader( "Content-Encoding" ) );
+    assertNull( response.getHeader( "Vary" ) );
+  }
+
+  @Test
+  public void testIsAccepted() {
+    assertFalse( HttpCompression.isAccepted( request ) );
+
+    request.setHeader( "Accept-Encoding", "gzip" );
+
+    assertTrue( HttpCompression.isAccepted( request ) );
+  }
+
+  @Test
+  public void testIsAccepted_withCompressionDisabled() {
+    System.setProperty( RWTProperties.COMPRESSION_THRESHOLD, "-1" );
+    HttpCompression.readProperties();
+    request.setHeader( "Accept-Encoding", "gzip" );
+
+    assertFalse( HttpCompression.isAccepted( request ) );
+  }
+
+  @Test
+  public void testGetInputStream_withGzipContent() throws IOException {
+    byte[] content = createContent( 2000 );
+    HttpServletRequest request = mockRequest( "gzip", gzip( content ) );
+
+    InputStream inputStream = HttpCompression.getInputStream( request );
+
+    assertArrayEquals( content, read( inputStream ) );
+  }
+
+  @Test
+  public void testGetInputStream_withDeflateContent() throws IOException {
+    byte[] content = createContent( 2000 );
+    HttpServletRequest request = mockRequest( "deflate", deflate( content ) );
+
+    InputStream inputStream = HttpCompression.getInputStream( request );
+
+    assertArrayEquals( content, read( inputStream ) );
+  }
+
+  @Test( expected = IOException.class )
+  public void testGetInputStream_failsBeyondMaxRequestSize() throws IOException {
+    System.setProperty( RWTProperties.MAX_REQUEST_SIZE, "1000" );
+    HttpCompression.readProperties();
+    HttpServletRequest request = mockRequest( "gzip", gzip( new byte[ 1001 ] ) );
+
+    read( HttpCompression.getInputStream( request ) );
+  }
+
+  @Test( expected = IOException.class )
+  public void testGetInputStream_failsBeyondMaxRequestSizeWithDeflate() throws IOException {
+    System.setProperty( RWTProperties.MAX_REQUEST_SIZE, "1000" );
+    HttpCompression.readProperties();
+    HttpServletRequest request = mockRequest( "deflate", deflate( new byte[ 1001 ] ) );
+
+    InputStream inputStream = HttpCompression.getInputStream( request );
+    while( inputStream.read() != -1 ) {
+      // read byte by byte
+    }
+  }
+
+  @Test
+  public void testGetInputStream_withMaxRequestSize() throws IOException {
+    System.setProperty( RWTProperties.MAX_REQUEST_SIZE, "1000" );
+    HttpCompression.readProperties();
+    byte[] content = createContent( 1000 );
+    HttpServletRequest request = mockRequest( "gzip", gzip( content ) );
+
+    InputStream inputStream = HttpCompression.getInputStream( request );
+
+    assertArrayEquals( content, read( inputStream ) );
+  }
+
+  @Test
+  public void testGetInputStream_doesNotLimitUncompressedContent() throws IOException {
+    System.setProperty( RWTProperties.MAX_REQUEST_SIZE, "1000" );
+    HttpCompression.readProperties();
+    byte[] content = createContent( 2000 );
+    HttpServletRequest request = mockRequest( null, content );
+
+    InputStream inputStream = HttpCompression.getInputStream( request );
+
+    assertArrayEquals( content, read( inputStream ) );
+  }
+
+  @Test
+  public void testGetInputStream_withoutContentEncoding() throws IOException {
+    byte[] content = createContent( 2000 );
+    HttpServletRequest request = mockRequest( null, content );
+
+    InputStream inputStream = HttpCompression.getInputStream( request );
+
+    assertArrayEquals( content, read( inputStream ) );
+  }
+
+  private static HttpServletRequest mockRequest( String contentEncoding, byte[] content )
+    throws IOException
+  {
+    final InputStream inputStream = new ByteArrayInputStream( content );
+    HttpServletRequest request = mock( HttpServletRequest.class );
+    when( request.getHeader( "Content-Encoding" ) ).thenReturn( contentEncoding );
+    when( request.getInputStream() ).thenReturn( new ServletInputStream() {
+      @Override
+      public int read() throws IOException {
+        return inputStream.read();
+      }
+      @Override
+      public boolean isFinished() {
+        return false;
+      }
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+      @Override
+      public void setReadListener( ReadListener readListener ) {
+      }
+    } );
+    return request;
+  }
+
+  private static byte[] createContent( int length ) {
+    StringBuilder builder = new StringBuilder();
+    while( builder.length() < length ) {
+      builder.append( "[\"set\",\"w" ).append( builder.length() ).append( "\",{}]," );
+    }
+    return builder.substring( 0, length ).getBytes( UTF_8 );
+  }
+
+  private static byte[] gzip( byte[] content ) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    GZIPOutputStream outputStream = new GZIPOutputStream( bytes );
+    outputStream.write( content );
+    outputStream.close();
+    return bytes.toByteArray();
+  }
+
+  private static byte[] deflate( byte[] content ) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DeflaterOutputStream outputStream = new DeflaterOutputStream( bytes );
+    outputStream.write( content );
+    outputStream.close();
+    return bytes.toByteArray();
+  }
+
+  private static byte[] gunzip( byte[] content ) throws IOException {
+    return read( new GZIPInputStream( new ByteArrayInputStream( content ) ) );
+  }
+
+  private static byte[] getBytes( TestResponse response ) throws IOException {
+    return ( ( TestServletOutputStream )response.getOutputStream() ).getContent().toByteArray();
+  }
+
+  private static byte[] read( InputStream inputStream ) throws IOException {
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 1024 ];
+    int count = inputStream.read( buffer );
+    while( count != -1 ) {
+      result.write( buffer, 0, count );
+      count = inputStream.read( buffer );
+    }
+    inputStream.close();
+    return result.toByteArray();
+  }
+
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class SharedScheduler_Test {
+
+  private SharedScheduler scheduler;
+
+  @Before
+  public void setUp() {
+    scheduler = new SharedScheduler( "Test Scheduler", 1 );
+  }
+
+  @After
+  public void tearDown() {
+    scheduler.shutdown();
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testCreate_withNullName() {
+    new SharedScheduler( null, 1 );
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testSchedule_withNullTask() {
+    scheduler.schedule( null, 0, TimeUnit.MILLISECONDS );
+  }
+
+  @Test
+  public void testSchedule_runsTaskOnDaemonThread() throws InterruptedException {
+    final AtomicReference<Thread> threadRef = new AtomicReference<>();
+    final CountDownLatch latch = new CountDownLatch( 1 );
+
+    scheduler.schedule( new Runnable() {
+      @Override
+      public void run() {
+        threadRef.set( Thread.currentThread() );
+        latch.countDown();
+      }
+    }, 1, TimeUnit.MILLISECONDS );
+
+    assertTrue( latch.await( 1, TimeUnit.SECONDS ) );
+    assertTrue( threadRef.get().isDaemon() );
+    assertTrue( threadRef.get().getName().startsWith( "Test Scheduler" ) );
+  }
+
+  @Test
+  public void testShutdown_dropsPendingTasks() throws InterruptedException {
+    final AtomicBoolean executed = new AtomicBoolean();
+    scheduler.schedule( new Runnable() {
+      @Override
+      public void run() {
+        executed.set( true );
+      }
+    }, 20, TimeUnit.MILLISECONDS );
+
+    scheduler.shutdown();
+    Thread.sleep( 50 );
+
+    assertFalse( executed.get() );
+  }
+
+  @Test
+  public void testSchedule_afterShutdown() throws InterruptedException {
+    scheduler.schedule( new NoOpTask(), 1, TimeUnit.HOURS );
+    scheduler.shutdown();
+    final CountDownLatch latch = new CountDownLatch( 1 );
+
+    ScheduledFuture<?> future = scheduler.schedule( new Runnable() {
+      @Override
+      public void run() {
+        latch.countDown();
+      }
+    }, 1, TimeUnit.MILLISECONDS );
+
+    assertFalse( latch.await( 50, TimeUnit.MILLISECONDS ) );
+    assertTrue( future.isCancelled() );
+    assertTrue( future.isDone() );
+  }
+
+  @Test
+  public void testSchedule_afterShutdownAndStart() throws InterruptedException {
+    scheduler.schedule( new NoOpTask(), 1, TimeUnit.HOURS );
+    scheduler.shutdown();
+    scheduler.start();
+    final CountDownLatch latch = new CountDownLatch( 1 );
+
+    scheduler.schedule( new Runnable() {
+      @Override
+      public void run() {
+        latch.countDown();
+      }
+    }, 1, TimeUnit.MILLISECONDS );
+
+    assertTrue( latch.await( 1, TimeUnit.SECONDS ) );
+  }
+
+  private static class NoOpTask implements Runnable {
+    @Override
+    public void run() {
+    }
+  }
+
+}
@@ -0,0 +1,303 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.websocket;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.list;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.servlet.RequestDispatcher;
+import javax.servlet.ServletContext;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.websocket.Session;
+
+import org.eclipse.rap.rwt.internal.util.HTTP;
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.rap.rwt.testfixture.internal.TestHttpSession;
+import org.eclipse.rap.rwt.testfixture.internal.TestServletContext;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class RequestInvocationHandler_Test {
+
+  private Session session;
+  private UISession uiSession;
+  private TestHttpSession httpSession;
+  private Map<String, List<String>> parameters;
+  private Map<String, List<String>> headers;
+
+  @Before
+  public void setUp() {
+    httpSession = new TestHttpSession();
+    TestServletContext servletContext = new TestServletContext() {
+      @Override
+      public String getContextPath() {
+        return "/ctx";
+      }
+    };
+    httpSession.setServletContext( servletContext );
+    uiSession = mock( UISession.class );
+    when( uiSession.getHttpSession() ).thenReturn( httpSession );
+    parameters = new HashMap<>();
+    parameters.put( "cid", asList( "a1" ) );
+    parameters.put( WebSocketSupport.PARAM_SERVLET_PATH, asList( "/app" ) );
+    session = mock( Session.class );
+    when( session.getRequestParameterMap() ).thenReturn( parameters );
+    headers = new TreeMap<>( String.CASE_INSENSITIVE_ORDER );
+  }
+
+  @Test
+  public void testSession() {
+    HttpServletRequest request = createRequest( "" );
+
+    assertSame( httpSession, request.getSession() );
+    assertSame( httpSession, request.getSession( false ) );
+    assertEquals( httpSession.getId(), request.getRequestedSessionId() );
+    assertTrue( request.isRequestedSessionIdValid() );
+  }
+
+  @Test
+  public void testParameters() {
+    HttpServletRequest request = createRequest( "" );
+
+    assertEquals( "a1", request.getParameter( "cid" ) );
+    assertNull( request.getParameter( "foo" ) );
+    assertArrayEquals( new String[] { "a1" }, request.getParameterValues( "cid" ) );
+    assertEquals( 2, request.getParameterMap().size() );
+  }
+
+  @Test
+  public void testPaths() {
+    when( session.getQueryString() ).thenReturn( "servletPath=%2Fapp&cid=a1" );
+    headers.put( "Host", asList( "example.com:8080" ) );
+
+    HttpServletRequest request = createRequest( "" );
+
+    assertEquals( "/ctx", request.getContextPath() );
+    assertEquals( "/app", request.getServletPath() );
+    assertNull( request.getPathInfo() );
+    assertEquals( "/ctx/app", request.getRequestURI() );
+    assertEquals( "http://example.com:8080/ctx/app", request.getRequestURL().toString() );
+    assertEquals( "servletPath=%2Fapp&cid=a1", request.getQueryString() );
+  }
+
+  @Test
+  public void testServerNameAndPort() {
+    headers.put( "Host", asList( "example.com:8080" ) );
+
+    HttpServletRequest request = createRequest( "" );
+
+    assertEquals( "example.com", request.getServerName() );
+    assertEquals( 8080, request.getServerPort() );
+  }
+
+  @Test
+  public void testServerNameAndPort_withIPv6Address() {
+    headers.put( "Host", asList( "[::1]" ) );
+    when( Boolean.valueOf( session.isSecure() ) ).thenReturn( Boolean.TRUE );
+
+    HttpServletRequest request = createRequest( "" );
+
+    assertEquals( "[::1]", request.getServerName() );
+    assertEquals( 443, request.getServerPort() );
+    assertEquals( "https", request.getScheme() );
+    assertTrue( request.isSecure() );
+  }
+
+  @Test
+  public void testHeaders() {
+    headers.put( "User-Agent", asList( "foo" ) );
+
+    HttpServletRequest request = createRequest( "" );
+
+    assertEquals( "foo", request.getHeader( "user-agent" ) );
+    assertEquals( asList( "foo" ), list( request.getHeaders( "User-Agent" ) ) );
+    assertNull( request.getHeader( "Referer" ) );
+    assertEquals( -1, request.getIntHeader( "Content-Length" ) );
+  }
+
+  @Test
+  public void testHeaders_hideEncodings() {
+    headers.put( HTTP.HEADER_ACCEPT_ENCODING, asList( "gzip" ) );
+    headers.put( "User-Agent", asList( "foo" ) );
+
+    HttpServletRequest request = createRequest( "" );
+
+    assertNull( request.getHeader( HTTP.HEADER_ACCEPT_ENCODING ) );
+    assertFalse( request.getHeaders( HTTP.HEADER_ACCEPT_ENCODING ).hasMoreElements() );
+    assertEquals( asList( "User-Agent" ), list( request.getHeaderNames() ) );
+  }
+
+  @Test
+  public void testLocales() {
+    headers.put( "Accept-Language", asList( "de-CH, en;q=0.8, *;q=0.5" ) );
+
+    HttpServletRequest request = createRequest( "" );
+
+    assertEquals( new Locale( "de", "CH" ), request.getLocale() );
+    assertEquals( asList( new Locale( "de", "CH" ), Locale.ENGLISH ),
+                  list( request.getLocales() ) );
+  }
+
+  @Test
+  public void testLocales_withoutHeader() {
+    HttpServletRequest request = createRequest( "" );
+
+    assertEquals( Locale.getDefault(), request.getLocale() );
+  }
+
+  @Test
+  public void testCookies() {
+    headers.put( "Cookie", asList( "JSESSIONID=abc; foo=\"bar\"" ) );
+
+    Cookie[] cookies = createRequest( "" ).getCookies();
+
+    assertEquals( 2, cookies.length );
+    assertEquals( "JSESSIONID", cookies[ 0 ].getName() );
+    assertEquals( "abc", cookies[ 0 ].getValue() );
+    assertEquals( "foo", cookies[ 1 ].getName() );
+    assertEquals( "bar", cookies[ 1 ].getValue() );
+  }
+
+  @Test
+  public void testCookies_withoutHeader() {
+    assertNull( createRequest( "" ).getCookies() );
+  }
+
+  @Test
+  public void testContent() throws Exception {
+    HttpServletRequest request = createRequest( "{}" );
+
+    assertEquals( "POST", request.getMethod() );
+    assertEquals( HTTP.CONTENT_TYPE_JSON, request.getContentType() );
+    assertEquals( HTTP.CHARSET_UTF_8, request.getCharacterEncoding() );
+    assertEquals( 2, request.getContentLength() );
+    assertEquals( "{}", request.getReader().readLine() );
+  }
+
+  @Test
+  public void testContent_binary() throws Exception {
+    byte[] content = new byte[] { 1, 2, 3 };
+    HttpServletRequest request
+      = RequestInvocationHandler.createRequest( session, uiSession, headers, content, true );
+
+    assertEquals( HTTP.CONTENT_TYPE_BINARY_PROTOCOL, request.getContentType() );
+    assertNull( request.getCharacterEncoding() );
+    assertEquals( 3L, request.getContentLengthLong() );
+    InputStream inputStream = request.getInputStream();
+    assertEquals( 1, inputStream.read() );
+    assertEquals( 2, inputStream.read( new byte[ 4 ], 0, 4 ) );
+    assertEquals( -1, inputStream.read() );
+  }
+
+  @Test
+  public void testAttributes() {
+    HttpServletRequest request = createRequest( "" );
+
+    request.setAttribute( "foo", "bar" );
+
+    assertEquals( "bar", request.getAttribute( "foo" ) );
+    assertEquals( asList( "foo" ), list( request.getAttributeNames() ) );
+    request.removeAttribute( "foo" );
+    assertNull( request.getAttribute( "foo" ) );
+  }
+
+  @Test
+  public void testObjectMethods() {
+    HttpServletRequest request = createRequest( "" );
+
+    assertTrue( request.equals( request ) );
+    assertFalse( request.equals( createRequest( "" ) ) );
+    assertEquals( request.hashCode(), request.hashCode() );
+  }
+
+  @Test
+  public void testCommonMethods_returnNeutralValues() {
+    HttpServletRequest request = createRequest( "" );
+
+    assertNull( request.getRemoteAddr() );
+    assertNull( request.getRemoteHost() );
+    assertEquals( -1, request.getRemotePort() );
+    assertNull( request.getAuthType() );
+    assertNull( request.getPathInfo() );
+    assertNull( request.getPathTranslated() );
+    assertFalse( request.isUserInRole( "admin" ) );
+    assertFalse( request.isAsyncStarted() );
+    assertFalse( request.isAsyncSupported() );
+    assertFalse( request.isRequestedSessionIdFromURL() );
+    assertEquals( 0, list( request.getHeaders( "X-Unknown" ) ).size() );
+    request.setCharacterEncoding( "UTF-8" );
+  }
+
+  @Test
+  public void testLocalNameAndPort() {
+    headers.put( "Host", asList( "example.com:8080" ) );
+    HttpServletRequest request = createRequest( "" );
+
+    assertEquals( "example.com", request.getLocalName() );
+    assertEquals( 8080, request.getLocalPort() );
+  }
+
+  @Test
+  public void testGetDateHeader() {
+    headers.put( "If-Modified-Since", asList( "Thu, 01 Jan 1970 00:00:01 GMT" ) );
+    HttpServletRequest request = createRequest( "" );
+
+    assertEquals( 1000, request.getDateHeader( "If-Modified-Since" ) );
+    assertEquals( -1, request.getDateHeader( "X-Unknown" ) );
+  }
+
+  @Test
+  public void testGetRequestDispatcher() {
+    RequestDispatcher dispatcher = mock( RequestDispatcher.class );
+    ServletContext servletContext = mock( ServletContext.class );
+    when( servletContext.getRequestDispatcher( "/foo" ) ).thenReturn( dispatcher );
+    httpSession.setServletContext( servletContext );
+    HttpServletRequest request = createRequest( "" );
+
+    assertSame( dispatcher, request.getRequestDispatcher( "/foo" ) );
+    assertNull( request.getRequestDispatcher( "foo" ) );
+  }
+
+  @Test
+  public void testStartAsync() {
+    HttpServletRequest request = createRequest( "" );
+
+    try {
+      request.startAsync();
+      fail();
+    } catch( IllegalStateException expected ) {
+    }
+  }
+
+  private HttpServletRequest createRequest( String content ) {
+    byte[] bytes = UIWebSocketEndpoint.encode( content );
+    return RequestInvocationHandler.createRequest( session, uiSession, headers, bytes, false );
+  }
+
+}
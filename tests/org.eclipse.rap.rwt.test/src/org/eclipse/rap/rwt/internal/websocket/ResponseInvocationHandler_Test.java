@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.websocket;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.rwt.internal.util.HTTP;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ResponseInvocationHandler_Test {
+
+  private ResponseInvocationHandler handler;
+  private HttpServletResponse response;
+
+  @Before
+  public void setUp() {
+    handler = new ResponseInvocationHandler();
+    response = handler.createResponse();
+  }
+
+  @Test
+  public void testDefaults() {
+    assertNull( handler.getContentType() );
+    assertEquals( HttpServletResponse.SC_OK, handler.getStatus() );
+    assertEquals( HTTP.CHARSET_UTF_8, response.getCharacterEncoding() );
+    assertFalse( response.isCommitted() );
+    assertEquals( 0, handler.getContent().length );
+  }
+
+  @Test
+  public void testContentType() {
+    response.setContentType( HTTP.CONTENT_TYPE_JSON );
+
+    assertEquals( HTTP.CONTENT_TYPE_JSON, handler.getContentType() );
+    assertEquals( HTTP.CONTENT_TYPE_JSON, response.getContentType() );
+  }
+
+  @Test
+  public void testStatus() throws IOException {
+    response.sendError( HttpServletResponse.SC_FORBIDDEN );
+
+    assertEquals( HttpServletResponse.SC_FORBIDDEN, handler.getStatus() );
+    assertEquals( HttpServletResponse.SC_FORBIDDEN, response.getStatus() );
+  }
+
+  @Test
+  public void testWriter() throws Exception {
+    response.getWriter().write( "\u00e4bc" );
+
+    assertArrayEquals( UIWebSocketEndpoint.encode( "\u00e4bc" ), handler.getContent() );
+  }
+
+  @Test
+  public void testOutputStream() throws Exception {
+    response.getOutputStream().write( new byte[] { 1, 2, 3 }, 1, 2 );
+    response.getOutputStream().write( 4 );
+
+    assertArrayEquals( new byte[] { 2, 3, 4 }, handler.getContent() );
+  }
+
+  @Test
+  public void testReset() throws Exception {
+    response.getOutputStream().write( 1 );
+
+    response.reset();
+
+    assertEquals( 0, handler.getContent().length );
+  }
+
+  @Test
+  public void testHeaders() {
+    response.setHeader( "Cache-Control", "no-cache" );
+    response.addHeader( "cache-control", "no-store" );
+    response.setIntHeader( "X-Foo", 23 );
+
+    assertTrue( response.containsHeader( "CACHE-CONTROL" ) );
+    assertEquals( "no-cache", response.getHeader( "Cache-Control" ) );
+    assertEquals( "23", response.getHeader( "x-foo" ) );
+    assertNull( response.getHeader( "Expires" ) );
+  }
+
+  @Test
+  public void testEncodeURL() {
+    assertEquals( "/foo", response.encodeURL( "/foo" ) );
+    assertEquals( "/foo", response.encodeRedirectURL( "/foo" ) );
+  }
+
+  @Test
+  public void testIgnoredMethods() {
+    response.addCookie( new Cookie( "foo", "bar" ) );
+    response.setContentLength( 23 );
+    response.setBufferSize( 1024 );
+  }
+
+  @Test
+  @SuppressWarnings( "deprecation" )
+  public void testCommonMethods_returnNeutralValues() throws IOException {
+    response.setHeader( "X-Foo", "bar" );
+
+    assertEquals( 0, response.getBufferSize() );
+    assertEquals( "/foo", response.encodeUrl( "/foo" ) );
+    assertEquals( asList( "bar" ), new ArrayList<>( response.getHeaders( "x-foo" ) ) );
+    assertTrue( response.getHeaders( "X-Unknown" ).isEmpty() );
+    assertTrue( response.getHeaderNames().contains( "x-foo" ) );
+    response.flushBuffer();
+    response.setStatus( HttpServletResponse.SC_OK );
+  }
+
+  @Test
+  public void testSendRedirect() throws IOException {
+    response.sendRedirect( "/foo" );
+
+    assertEquals( HttpServletResponse.SC_FOUND, handler.getStatus() );
+    assertEquals( "/foo", response.getHeader( "Location" ) );
+  }
+
+}
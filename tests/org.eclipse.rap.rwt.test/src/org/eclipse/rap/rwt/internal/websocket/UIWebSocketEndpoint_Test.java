@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.websocket;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.websocket.CloseReason;
+import javax.websocket.EndpointConfig;
+import javax.websocket.HandshakeResponse;
+import javax.websocket.MessageHandler;
+import javax.websocket.Session;
+import javax.websocket.server.HandshakeRequest;
+import javax.websocket.server.ServerEndpointConfig;
+
+import org.eclipse.rap.rwt.internal.SingletonManager;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
+import org.eclipse.rap.rwt.testfixture.internal.TestHttpSession;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class UIWebSocketEndpoint_Test {
+
+  private TestHttpSession httpSession;
+  private Session session;
+  private EndpointConfig config;
+  private UIWebSocketEndpoint endpoint;
+
+  @Before
+  public void setUp() {
+    httpSession = new TestHttpSession();
+    Map<String, List<String>> parameters = new HashMap<>();
+    parameters.put( "cid", asList( "a1" ) );
+    session = mock( Session.class );
+    when( session.getRequestParameterMap() ).thenReturn( parameters );
+    when( Boolean.valueOf( session.isOpen() ) ).thenReturn( Boolean.TRUE );
+    Map<String, Object> properties = new HashMap<>();
+    properties.put( UIWebSocketEndpoint.PROP_HTTP_SESSION, httpSession );
+    config = mock( EndpointConfig.class );
+    when( config.getUserProperties() ).thenReturn( properties );
+    endpoint = new UIWebSocketEndpoint();
+  }
+
+  @Test
+  public void testOnOpen_withUnknownUISession() throws IOException {
+    endpoint.onOpen( session, config );
+
+    verify( session ).close( any( CloseReason.class ) );
+    verify( session, never() ).addMessageHandler( any( MessageHandler.class ) );
+  }
+
+  @Test
+  public void testOnOpen_withoutHttpSession() throws IOException {
+    config.getUserProperties().clear();
+
+    endpoint.onOpen( session, config );
+
+    verify( session ).close( any( CloseReason.class ) );
+  }
+
+  @Test
+  public void testOnOpen_withUISession() throws IOException {
+    createUISession();
+
+    endpoint.onOpen( session, config );
+
+    verify( session, never() ).close( any( CloseReason.class ) );
+    verify( session ).setMaxTextMessageBufferSize( UIWebSocketEndpoint.MAX_MESSAGE_SIZE );
+    verify( session ).setMaxBinaryMessageBufferSize( UIWebSocketEndpoint.MAX_MESSAGE_SIZE );
+    verify( session, times( 2 ) ).addMessageHandler( any( MessageHandler.class ) );
+  }
+
+  @Test
+  public void testOnClose_afterOpen() throws IOException {
+    UISessionImpl uiSession = createUISession();
+    endpoint.onOpen( session, config );
+
+    endpoint.onClose( session, new CloseReason( CloseReason.CloseCodes.NORMAL_CLOSURE, "" ) );
+    uiSession.shutdown();
+
+    verify( session, never() ).close( any( CloseReason.class ) );
+  }
+
+  @Test
+  public void testHandshakeConfigurator_storesSessionAndHeaders() {
+    Map<String, List<String>> headers = new HashMap<>();
+    headers.put( "User-Agent", asList( "foo" ) );
+    HandshakeRequest request = mock( HandshakeRequest.class );
+    when( request.getHttpSession() ).thenReturn( httpSession );
+    when( request.getHeaders() ).thenReturn( headers );
+    ServerEndpointConfig endpointConfig = mock( ServerEndpointConfig.class );
+    Map<String, Object> properties = new HashMap<>();
+    when( endpointConfig.getUserProperties() ).thenReturn( properties );
+
+    new UIWebSocketEndpoint.HandshakeConfigurator()
+      .modifyHandshake( endpointConfig, request, mock( HandshakeResponse.class ) );
+
+    assertSame( httpSession, properties.get( UIWebSocketEndpoint.PROP_HTTP_SESSION ) );
+    @SuppressWarnings( "unchecked" )
+    Map<String, List<String>> storedHeaders
+      = ( Map<String, List<String>> )properties.get( UIWebSocketEndpoint.PROP_HEADERS );
+    assertEquals( asList( "foo" ), storedHeaders.get( "user-agent" ) );
+  }
+
+  @Test
+  public void testHandshakeConfigurator_rejectsForeignOrigin() {
+    Map<String, List<String>> headers = new HashMap<>();
+    headers.put( "Host", asList( "example.com" ) );
+    headers.put( "Origin", asList( "https://evil.com" ) );
+    HandshakeRequest request = mock( HandshakeRequest.class );
+    when( request.getHttpSession() ).thenReturn( httpSession );
+    when( request.getHeaders() ).thenReturn( headers );
+    ServerEndpointConfig endpointConfig = mock( ServerEndpointConfig.class );
+    Map<String, Object> properties = new HashMap<>();
+    when( endpointConfig.getUserProperties() ).thenReturn( properties );
+
+    new UIWebSocketEndpoint.HandshakeConfigurator()
+      .modifyHandshake( endpointConfig, request, mock( HandshakeResponse.class ) );
+
+    assertNull( properties.get( UIWebSocketEndpoint.PROP_HTTP_SESSION ) );
+    assertEquals( Boolean.TRUE, properties.get( UIWebSocketEndpoint.PROP_ORIGIN_REJECTED ) );
+  }
+
+  @Test
+  public void testOnOpen_withRejectedOrigin() throws IOException {
+    createUISession();
+    config.getUserProperties().put( UIWebSocketEndpoint.PROP_ORIGIN_REJECTED, Boolean.TRUE );
+
+    endpoint.onOpen( session, config );
+
+    verify( session ).close( any( CloseReason.class ) );
+    verify( session, never() ).addMessageHandler( any( MessageHandler.class ) );
+  }
+
+  @Test
+  public void testIsAllowedOrigin() {
+    List<String> none = Collections.emptyList();
+
+    assertTrue( UIWebSocketEndpoint.isAllowedOrigin( null, "example.com", none ) );
+    assertTrue( UIWebSocketEndpoint.isAllowedOrigin( "http://example.com", "example.com", none ) );
+    assertTrue( UIWebSocketEndpoint.isAllowedOrigin( "https://Example.com", "example.com", none ) );
+    assertTrue( UIWebSocketEndpoint.isAllowedOrigin( "https://example.com",
+                                                     "example.com:443",
+                                                     none ) );
+    assertTrue( UIWebSocketEndpoint.isAllowedOrigin( "http://[::1]:8080", "[::1]:8080", none ) );
+    assertFalse( UIWebSocketEndpoint.isAllowedOrigin( "http://example.com:8080",
+                                                      "example.com",
+                                                      none ) );
+    assertFalse( UIWebSocketEndpoint.isAllowedOrigin( "https://evil.com", "example.com", none ) );
+    assertFalse( UIWebSocketEndpoint.isAllowedOrigin( "null", "example.com", none ) );
+    assertFalse( UIWebSocketEndpoint.isAllowedOrigin( "http://example.com", null, none ) );
+  }
+
+  @Test
+  public void testIsAllowedOrigin_withAllowList() {
+    List<String> allowed = asList( "https://portal.example.com/" );
+
+    assertTrue( UIWebSocketEndpoint.isAllowedOrigin( "https://portal.example.com",
+                                                     "app.example.com",
+                                                     allowed ) );
+    assertFalse( UIWebSocketEndpoint.isAllowedOrigin( "http://portal.example.com",
+                                                      "app.example.com",
+                                                      allowed ) );
+  }
+
+  @Test
+  public void testEncodeAndDecode() {
+    String content = "\u00e4\u20ac";
+
+    assertEquals( content, UIWebSocketEndpoint.decode( UIWebSocketEndpoint.encode( content ) ) );
+    assertEquals( 5, UIWebSocketEndpoint.encode( content ).length );
+  }
+
+  private UISessionImpl createUISession() {
+    ApplicationContextImpl applicationContext = mock( ApplicationContextImpl.class );
+    UISessionImpl result = new UISessionImpl( applicationContext, httpSession, "a1" );
+    result.attachToHttpSession();
+    SingletonManager.install( result );
+    return result;
+  }
+
+}
@@ -0,0 +1,323 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.websocket;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.contains;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.websocket.CloseReason;
+import javax.websocket.CloseReason.CloseCodes;
+import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
+import javax.websocket.Session;
+
+import org.eclipse.rap.rwt.internal.SingletonManager;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServiceManagerImpl;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
+import org.eclipse.rap.rwt.internal.util.HTTP;
+import org.eclipse.rap.rwt.service.ServiceHandler;
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.rap.rwt.testfixture.internal.TestHttpSession;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+
+public class WebSocketConnection_Test {
+
+  private Session session;
+  private RemoteEndpoint.Basic remote;
+  private RemoteEndpoint.Async asyncRemote;
+  private ApplicationContextImpl applicationContext;
+  private UISessionImpl uiSession;
+  private Map<String, List<String>> headers;
+  private WebSocketConnection connection;
+
+  @Before
+  public void setUp() {
+    Map<String, List<String>> parameters = new HashMap<>();
+    parameters.put( "cid", asList( "a1" ) );
+    parameters.put( WebSocketSupport.PARAM_SERVLET_PATH, asList( "/app" ) );
+    remote = mock( RemoteEndpoint.Basic.class );
+    session = mock( Session.class );
+    when( session.getRequestParameterMap() ).thenReturn( parameters );
+    when( session.getBasicRemote() ).thenReturn( remote );
+    asyncRemote = mock( RemoteEndpoint.Async.class );
+    when( session.getAsyncRemote() ).thenReturn( asyncRemote );
+    when( Boolean.valueOf( session.isOpen() ) ).thenReturn( Boolean.TRUE );
+    applicationContext = mock( ApplicationContextImpl.class );
+    when( Boolean.valueOf( applicationContext.allowsRequests() ) ).thenReturn( Boolean.TRUE );
+    uiSession = new UISessionImpl( applicationContext, new TestHttpSession(), "a1" );
+    uiSession.attachToHttpSession();
+    SingletonManager.install( uiSession );
+    headers = new TreeMap<>( String.CASE_INSENSITIVE_ORDER );
+    connection = new WebSocketConnection( session, uiSession, headers );
+    connection.open();
+  }
+
+  @Test
+  public void testHandleText_sendsTextResponse() throws IOException {
+    fakeServiceHandler( new ServiceHandler() {
+      @Override
+      public void service( HttpServletRequest request, HttpServletResponse response )
+        throws IOException
+      {
+        response.setContentType( HTTP.CONTENT_TYPE_JSON );
+        response.getWriter().write( request.getReader().readLine() + "!" );
+      }
+    } );
+
+    connection.handleText( "{}" );
+
+    verify( remote ).sendText( "{}!" );
+  }
+
+  @Test
+  public void testHandleBinary_sendsBinaryResponse() throws IOException {
+    fakeServiceHandler( new ServiceHandler() {
+      @Override
+      public void service( HttpServletRequest request, HttpServletResponse response )
+        throws IOException
+      {
+        response.setContentType( HTTP.CONTENT_TYPE_BINARY_PROTOCOL );
+        response.getOutputStream().write( request.getInputStream().read() + 1 );
+      }
+    } );
+
+    connection.handleBinary( new byte[] { 1 } );
+
+    verify( remote ).sendBinary( ByteBuffer.wrap( new byte[] { 2 } ) );
+  }
+
+  @Test
+  public void testHandleText_providesServiceContext() {
+    final UISession[] uiSessionRef = new UISession[ 1 ];
+    fakeServiceHandler( new ServiceHandler() {
+      @Override
+      public void service( HttpServletRequest request, HttpServletResponse response ) {
+        uiSessionRef[ 0 ] = ContextProvider.getUISession();
+      }
+    } );
+
+    connection.handleText( "{}" );
+
+    assertSame( uiSession, uiSessionRef[ 0 ] );
+    assertFalse( ContextProvider.hasContext() );
+  }
+
+  @Test
+  public void testHandleText_passesHeaders() {
+    headers.put( "User-Agent", asList( "foo" ) );
+    headers.put( HTTP.HEADER_ACCEPT_ENCODING, asList( "gzip" ) );
+    final String[] headerRef = new String[ 2 ];
+    fakeServiceHandler( new ServiceHandler() {
+      @Override
+      public void service( HttpServletRequest request, HttpServletResponse response ) {
+        headerRef[ 0 ] = request.getHeader( "User-Agent" );
+        headerRef[ 1 ] = request.getHeader( HTTP.HEADER_ACCEPT_ENCODING );
+      }
+    } );
+
+    connection.handleText( "{}" );
+
+    assertEquals( "foo", headerRef[ 0 ] );
+    assertNull( headerRef[ 1 ] );
+  }
+
+  @Test
+  public void testHandleText_withFailingServiceHandler() throws IOException {
+    fakeServiceHandler( new ServiceHandler() {
+      @Override
+      public void service( HttpServletRequest request, HttpServletResponse response ) {
+        throw new IllegalStateException();
+      }
+    } );
+
+    connection.handleText( "{}" );
+
+    verify( remote ).sendText( contains( "\"error\":\"server error\"" ) );
+    assertFalse( ContextProvider.hasContext() );
+  }
+
+  @Test
+  public void testHandleText_whenRequestsAreNotAllowed() throws IOException {
+    when( Boolean.valueOf( applicationContext.allowsRequests() ) ).thenReturn( Boolean.FALSE );
+
+    connection.handleText( "{}" );
+
+    verify( remote, never() ).sendText( anyString() );
+    verifyClosed( CloseCodes.GOING_AWAY );
+  }
+
+  @Test
+  public void testHandleText_closesOnFailedSend() throws IOException {
+    fakeServiceHandler( mock( ServiceHandler.class ) );
+    doThrow( new IOException() ).when( remote ).sendText( anyString() );
+
+    connection.handleText( "{}" );
+
+    verifyClosed( CloseCodes.CLOSED_ABNORMALLY );
+  }
+
+  @Test
+  public void testServerPush_releasedImmediatelyWhenNotBlocking() {
+    connection.handleText( WebSocketConnection.SERVER_PUSH );
+
+    verifyServerPushSent( 1 );
+  }
+
+  @Test
+  public void testServerPush_releasedWhenBlockedRequestIsReleased() {
+    ServerPushManager serverPushManager = getServerPushManager();
+    serverPushManager.activateServerPushFor( "id" );
+
+    connection.handleText( WebSocketConnection.SERVER_PUSH );
+    verifyServerPushSent( 0 );
+    serverPushManager.releaseBlockedRequest();
+    completeSend( new SendResult() );
+    serverPushManager.releaseBlockedRequest();
+
+    verifyServerPushSent( 1 );
+  }
+
+  @Test
+  public void testServerPush_doesNotWaitForClient() throws IOException {
+    ServerPushManager serverPushManager = getServerPushManager();
+    serverPushManager.activateServerPushFor( "id" );
+    connection.handleText( WebSocketConnection.SERVER_PUSH );
+
+    serverPushManager.releaseBlockedRequest();
+
+    verifyServerPushSent( 1 );
+    verify( remote, never() ).sendText( anyString() );
+  }
+
+  @Test
+  public void testServerPush_responseWaitsForPendingSend() throws Exception {
+    fakeServiceHandler( mock( ServiceHandler.class ) );
+    connection.handleText( WebSocketConnection.SERVER_PUSH );
+
+    Thread thread = new Thread( new Runnable() {
+      @Override
+      public void run() {
+        connection.handleText( "{}" );
+      }
+    } );
+    thread.start();
+    Thread.sleep( 50 );
+    verify( remote, never() ).sendText( anyString() );
+    completeSend( new SendResult() );
+    thread.join( 5000 );
+
+    verify( remote ).sendText( anyString() );
+  }
+
+  @Test
+  public void testServerPush_closesOnFailedSend() throws IOException {
+    connection.handleText( WebSocketConnection.SERVER_PUSH );
+
+    completeSend( new SendResult( new IOException() ) );
+
+    verifyClosed( CloseCodes.CLOSED_ABNORMALLY );
+  }
+
+  @Test
+  public void testDispose_removesReleaseCallback() {
+    ServerPushManager serverPushManager = getServerPushManager();
+    serverPushManager.activateServerPushFor( "id" );
+    connection.handleText( WebSocketConnection.SERVER_PUSH );
+
+    connection.dispose();
+    serverPushManager.releaseBlockedRequest();
+
+    verifyServerPushSent( 0 );
+  }
+
+  @Test
+  public void testBeforeDestroy_closesSession() throws IOException {
+    uiSession.shutdown();
+
+    verifyClosed( CloseCodes.GOING_AWAY );
+  }
+
+  @Test
+  public void testOpen_withUnboundUISession() throws IOException {
+    uiSession.shutdown();
+    Session otherSession = mock( Session.class );
+    when( Boolean.valueOf( otherSession.isOpen() ) ).thenReturn( Boolean.TRUE );
+
+    new WebSocketConnection( otherSession, uiSession, headers ).open();
+
+    verify( otherSession ).close( any( CloseReason.class ) );
+  }
+
+  private void verifyServerPushSent( int count ) {
+    verify( asyncRemote, times( count ) )
+      .sendText( eq( WebSocketConnection.SERVER_PUSH ), any( SendHandler.class ) );
+  }
+
+  private void completeSend( SendResult result ) {
+    ArgumentCaptor<SendHandler> captor = ArgumentCaptor.forClass( SendHandler.class );
+    verify( asyncRemote ).sendText( anyString(), captor.capture() );
+    captor.getValue().onResult( result );
+  }
+
+  private void fakeServiceHandler( ServiceHandler serviceHandler ) {
+    ServiceManagerImpl serviceManager = mock( ServiceManagerImpl.class );
+    when( serviceManager.getHandler() ).thenReturn( serviceHandler );
+    when( applicationContext.getServiceManager() ).thenReturn( serviceManager );
+  }
+
+  private ServerPushManager getServerPushManager() {
+    final ServerPushManager[] result = new ServerPushManager[ 1 ];
+    uiSession.exec( new Runnable() {
+      @Override
+      public void run() {
+        result[ 0 ] = ServerPushManager.getInstance();
+      }
+    } );
+    return result[ 0 ];
+  }
+
+  private void verifyClosed( CloseCodes code ) throws IOException {
+    ArgumentCaptor<CloseReason> captor = ArgumentCaptor.forClass( CloseReason.class );
+    verify( session ).close( captor.capture() );
+    assertTrue( code == captor.getValue().getCloseCode() );
+  }
+
+}
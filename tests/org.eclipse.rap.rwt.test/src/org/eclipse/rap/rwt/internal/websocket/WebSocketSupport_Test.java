@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import javax.websocket.DeploymentException;
+import javax.websocket.server.ServerContainer;
+import javax.websocket.server.ServerEndpointConfig;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
+import org.eclipse.rap.rwt.testfixture.internal.TestServletContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+
+public class WebSocketSupport_Test {
+
+  private TestServletContext servletContext;
+  private ServerContainer serverContainer;
+
+  @Before
+  public void setUp() {
+    System.setProperty( RWTProperties.WEB_SOCKET, "true" );
+    servletContext = new TestServletContext();
+    serverContainer = mock( ServerContainer.class );
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty( RWTProperties.WEB_SOCKET );
+  }
+
+  @Test
+  public void testInstall_registersEndpoint() throws DeploymentException {
+    servletContext.setAttribute( WebSocketSupport.ATTR_SERVER_CONTAINER, serverContainer );
+
+    WebSocketSupport.install( servletContext );
+
+    ArgumentCaptor<ServerEndpointConfig> captor
+      = ArgumentCaptor.forClass( ServerEndpointConfig.class );
+    verify( serverContainer ).addEndpoint( captor.capture() );
+    assertEquals( WebSocketSupport.PATH, captor.getValue().getPath() );
+    assertEquals( UIWebSocketEndpoint.class, captor.getValue().getEndpointClass() );
+    assertTrue( WebSocketSupport.isInstalled( servletContext ) );
+  }
+
+  @Test
+  public void testInstall_onlyOnce() throws DeploymentException {
+    servletContext.setAttribute( WebSocketSupport.ATTR_SERVER_CONTAINER, serverContainer );
+
+    WebSocketSupport.install( servletContext );
+    WebSocketSupport.install( servletContext );
+
+    verify( serverContainer, times( 1 ) ).addEndpoint( any( ServerEndpointConfig.class ) );
+  }
+
+  @Test
+  public void testInstall_whenDisabled() throws DeploymentException {
+    System.clearProperty( RWTProperties.WEB_SOCKET );
+    servletContext.setAttribute( WebSocketSupport.ATTR_SERVER_CONTAINER, serverContainer );
+
+    WebSocketSupport.install( servletContext );
+
+    verify( serverContainer, times( 0 ) ).addEndpoint( any( ServerEndpointConfig.class ) );
+    assertFalse( WebSocketSupport.isInstalled( servletContext ) );
+  }
+
+  @Test
+  public void testInstall_withoutServerContainer() {
+    WebSocketSupport.install( servletContext );
+
+    assertFalse( WebSocketSupport.isInstalled( servletContext ) );
+  }
+
+  @Test
+  public void testInstall_withFailingServerContainer() throws DeploymentException {
+    servletContext.setAttribute( WebSocketSupport.ATTR_SERVER_CONTAINER, serverContainer );
+    doThrow( new DeploymentException( "failed" ) )
+      .when( serverContainer ).addEndpoint( any( ServerEndpointConfig.class ) );
+
+    WebSocketSupport.install( servletContext );
+
+    assertFalse( WebSocketSupport.isInstalled( servletContext ) );
+  }
+
+  @Test
+  public void testGetUrl() {
+    TestRequest request = new TestRequest();
+    request.setContextPath( "/context" );
+    request.setServletPath( "/my app" );
+
+    String url = WebSocketSupport.getUrl( request );
+
+    assertEquals( "/context/rwt-websocket?servletPath=%2Fmy%20app", url );
+  }
+
+  @Test
+  public void testGetUrl_withRootServlet() {
+    TestRequest request = new TestRequest();
+    request.setContextPath( "" );
+    request.setServletPath( "" );
+
+    String url = WebSocketSupport.getUrl( request );
+
+    assertEquals( "/rwt-websocket?servletPath=", url );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,16 +10,150 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.widgets;
 
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.servlet.http.Cookie;
 
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.testfixture.internal.NoOpRunnable;
 import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
+import org.eclipse.swt.widgets.Display;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 
 public class ClusteredSynchronizer_Test {
 
+  private Display display;
+  private CountingTouchHandler touchHandler;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    display = new Display();
+    touchHandler = new CountingTouchHandler();
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testCreate_usesAttributeTouchHandlerByDefault() {
+    ClusteredSynchronizer synchronizer = new ClusteredSynchronizer( display );
+
+    SessionTouchHandler handler = synchronizer.getTouchHandler();
+
+    assertTrue( handler instanceof ClusteredSynchronizer.AttributeTouchHandler );
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testCreate_withNullTouchHandler() {
+    new ClusteredSynchronizer( display, null );
+  }
+
+  @Test
+  public void testAsyncExec_touchesSession() throws InterruptedException {
+    display.setSynchronizer( new ClusteredSynchronizer( display, touchHandler ) );
+
+    display.asyncExec( new NoOpRunnable() );
+
+    assertTrue( touchHandler.await( 1 ) );
+    assertSame( RWT.getUISession( display ), touchHandler.uiSession );
+  }
+
+  @Test
+  public void testAsyncExec_batchesTouches() throws InterruptedException {
+    ClusteredSynchronizer synchronizer = new ClusteredSynchronizer( display, touchHandler );
+    display.setSynchronizer( synchronizer );
+    CountDownLatch schedulerBlocked = blockScheduler();
+
+    for( int i = 0; i < 10; i++ ) {
+      display.asyncExec( new NoOpRunnable() );
+    }
+    assertTrue( synchronizer.isTouchPending() );
+    schedulerBlocked.countDown();
+
+    assertTrue( touchHandler.await( 1 ) );
+    Thread.sleep( 50 );
+    assertEquals( 1, touchHandler.count.get() );
+    assertFalse( synchronizer.isTouchPending() );
+  }
+
+  @Test
+  public void testAsyncExec_touchesAgainAfterTouch() throws InterruptedException {
+    display.setSynchronizer( new ClusteredSynchronizer( display, touchHandler ) );
+    display.asyncExec( new NoOpRunnable() );
+    assertTrue( touchHandler.await( 1 ) );
+
+    display.asyncExec( new NoOpRunnable() );
+
+    assertTrue( touchHandler.await( 2 ) );
+  }
+
+  @Test
+  public void testAttributeTouchHandler_attachesUISession() {
+    UISessionImpl uiSession = mock( UISessionImpl.class );
+    when( Boolean.valueOf( uiSession.isBound() ) ).thenReturn( Boolean.TRUE );
+
+    new ClusteredSynchronizer.AttributeTouchHandler().touchSession( uiSession );
+
+    verify( uiSession ).attachToHttpSession();
+  }
+
+  @Test
+  public void testAttributeTouchHandler_ignoresUnboundUISession() {
+    UISessionImpl uiSession = mock( UISessionImpl.class );
+
+    new ClusteredSynchronizer.AttributeTouchHandler().touchSession( uiSession );
+
+    verify( uiSession, never() ).attachToHttpSession();
+  }
+
+  @Test
+  public void testCreateLoopbackTouchHandler() {
+    SessionTouchHandler handler = ClusteredSynchronizer.createLoopbackTouchHandler();
+
+    assertTrue( handler instanceof ClusteredSynchronizer.LoopbackTouchHandler );
+  }
+
+  @Test
+  public void testLoopbackTouchHandler_doesNotBlockWithUnresponsiveServer() throws IOException {
+    // the server socket accepts connections but never responds
+    ServerSocket serverSocket = new ServerSocket( 0 );
+    try {
+      String requestUrl = "http://127.0.0.1:" + serverSocket.getLocalPort() + "/";
+      SessionTouchHandler handler
+        = new ClusteredSynchronizer.LoopbackTouchHandler( requestUrl, "" );
+      long start = System.currentTimeMillis();
+
+      handler.touchSession( mock( UISession.class ) );
+
+      assertTrue( System.currentTimeMillis() - start < 1000 );
+    } finally {
+      serverSocket.close();
+    }
+  }
+
   @Test
   public void testExtractRequestCookiesWithSingleCookie() {
     TestRequest request = new TestRequest();
@@ -49,4 +183,47 @@ public class ClusteredSynchronizer_Test {
 
     assertEquals( "", cookies );
   }
+
+  private static CountDownLatch blockScheduler() throws InterruptedException {
+    final CountDownLatch started = new CountDownLatch( 1 );
+    final CountDownLatch result = new CountDownLatch( 1 );
+    getApplicationContext().getScheduler().schedule( new Runnable() {
+      @Override
+      public void run() {
+        started.countDown();
+        try {
+          result.await( 1, TimeUnit.SECONDS );
+        } catch( @SuppressWarnings( "unused" ) InterruptedException exception ) {
+          // scheduler shut down
+        }
+      }
+    }, 0, TimeUnit.MILLISECONDS );
+    started.await( 1, TimeUnit.SECONDS );
+    return result;
+  }
+
+  private static class CountingTouchHandler implements SessionTouchHandler {
+
+    final AtomicInteger count = new AtomicInteger();
+    volatile UISession uiSession;
+
+    @Override
+    public void touchSession( UISession uiSession ) {
+      this.uiSession = uiSession;
+      synchronized( this ) {
+        count.incrementAndGet();
+        notifyAll();
+      }
+    }
+
+    synchronized boolean await( int expectedCount ) throws InterruptedException {
+      long end = System.currentTimeMillis() + 1000;
+      while( count.get() < expectedCount && System.currentTimeMillis() < end ) {
+        wait( 100 );
+      }
+      return count.get() >= expectedCount;
+    }
+
+  }
+
 }
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.junit.Test;
+
+
+public class ImageHeader_Test {
+
+  private static final ClassLoader CLASS_LOADER = ImageHeader_Test.class.getClassLoader();
+
+  @Test
+  public void testRead_png() throws IOException {
+    byte[] content = readResource( Fixture.IMAGE_100x50 );
+
+    ImageHeader header = ImageHeader.read( content );
+
+    assertEquals( SWT.IMAGE_PNG, header.type );
+    assertEquals( 100, header.width );
+    assertEquals( 50, header.height );
+  }
+
+  @Test
+  public void testRead_gif() throws IOException {
+    byte[] content = readResource( Fixture.IMAGE1 );
+
+    ImageHeader header = ImageHeader.read( content );
+
+    assertEquals( SWT.IMAGE_GIF, header.type );
+    assertEquals( 58, header.width );
+    assertEquals( 12, header.height );
+  }
+
+  @Test
+  public void testRead_jpeg() {
+    byte[] content = encode( createImageData( 24, 16, 24 ), SWT.IMAGE_JPEG );
+
+    ImageHeader header = ImageHeader.read( content );
+
+    assertEquals( SWT.IMAGE_JPEG, header.type );
+    assertEquals( 24, header.width );
+    assertEquals( 16, header.height );
+  }
+
+  @Test
+  public void testRead_bmp() {
+    byte[] content = encode( createImageData( 24, 16, 8 ), SWT.IMAGE_BMP );
+
+    ImageHeader header = ImageHeader.read( content );
+
+    assertEquals( SWT.IMAGE_BMP, header.type );
+    assertEquals( 24, header.width );
+    assertEquals( 16, header.height );
+  }
+
+  @Test
+  public void testRead_matchesDecodedImageData() throws IOException {
+    byte[] content = readResource( Fixture.IMAGE3 );
+    ImageData imageData = new ImageData( new ByteArrayInputStream( content ) );
+
+    ImageHeader header = ImageHeader.read( content );
+
+    assertEquals( imageData.type, header.type );
+    assertEquals( imageData.width, header.width );
+    assertEquals( imageData.height, header.height );
+  }
+
+  @Test
+  public void testRead_truncated() throws IOException {
+    byte[] content = readResource( Fixture.IMAGE_100x50 );
+
+    assertNull( ImageHeader.read( Arrays.copyOf( content, 20 ) ) );
+  }
+
+  @Test
+  public void testRead_unknownFormat() {
+    assertNull( ImageHeader.read( new byte[ 12 ] ) );
+  }
+
+  @Test
+  public void testRead_empty() {
+    assertNull( ImageHeader.read( new byte[ 0 ] ) );
+  }
+
+  private static byte[] readResource( String name ) throws IOException {
+    InputStream inputStream = CLASS_LOADER.getResourceAsStream( name );
+    try {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      byte[] buffer = new byte[ 1024 ];
+      int read = inputStream.read( buffer );
+      while( read != -1 ) {
+        outputStream.write( buffer, 0, read );
+        read = inputStream.read( buffer );
+      }
+      return outputStream.toByteArray();
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  private static ImageData createImageData( int width, int height, int depth ) {
+    PaletteData palette;
+    if( depth == 24 ) {
+      palette = new PaletteData( 0xFF0000, 0xFF00, 0xFF );
+    } else {
+      palette = new PaletteData( new RGB[] { new RGB( 255, 0, 0 ), new RGB( 0, 0, 255 ) } );
+    }
+    return new ImageData( width, height, depth, palette );
+  }
+
+  private static byte[] encode( ImageData imageData, int format ) {
+    ImageLoader imageLoader = new ImageLoader();
+    imageLoader.data = new ImageData[] { imageData };
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    imageLoader.save( outputStream, format );
+    return outputStream.toByteArray();
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,17 +13,18 @@
 package org.eclipse.swt.internal.graphics;
 
 import static org.eclipse.rap.rwt.testfixture.internal.TestUtil.createImage;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.zip.CRC32;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
@@ -31,6 +32,7 @@ import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.PaletteData;
 import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Display;
 import org.junit.After;
 import org.junit.Before;
@@ -72,13 +74,41 @@ public class InternalImageFactory_Test {
   }
 
   @Test
-  public void testReadImageData() throws IOException {
+  public void testReadImageHeader() throws IOException {
     InputStream inputStream = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 );
-    ImageData data = InternalImageFactory.readImageData( new BufferedInputStream( inputStream ) );
+    byte[] content = InternalImageFactory.readContent( inputStream, new CRC32() );
     inputStream.close();
 
-    assertEquals( 100, data.width );
-    assertEquals( 50, data.height );
+    ImageHeader header = InternalImageFactory.readImageHeader( content );
+
+    assertEquals( 100, header.width );
+    assertEquals( 50, header.height );
+  }
+
+  @Test
+  public void testReadContent_computesChecksum() {
+    byte[] bytes = new byte[] { 1, 2, 3 };
+    CRC32 crc32 = new CRC32();
+
+    byte[] content = InternalImageFactory.readContent( new ByteArrayInputStream( bytes ), crc32 );
+
+    CRC32 expected = new CRC32();
+    expected.update( bytes );
+    assertArrayEquals( bytes, content );
+    assertEquals( expected.getValue(), crc32.getValue() );
+  }
+
+  @Test
+  public void testInternalImageFromInputStream_providesImageData() throws IOException {
+    InputStream stream = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 );
+    InternalImage internalImage = internalImageFactory.findInternalImage( stream );
+    stream.close();
+
+    ImageData imageData = internalImage.getImageData();
+
+    assertEquals( new Rectangle( 0, 0, 100, 50 ), internalImage.getBounds() );
+    assertEquals( 100, imageData.width );
+    assertEquals( 50, imageData.height );
   }
 
   @Test
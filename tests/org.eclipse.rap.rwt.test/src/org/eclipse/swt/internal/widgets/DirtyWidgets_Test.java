@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getAdapter;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.lifecycle.DisplayUtil;
+import org.eclipse.rap.rwt.testfixture.TestContext;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class DirtyWidgets_Test {
+
+  private Display display;
+  private Shell shell;
+  private Composite composite;
+  private Label label;
+  private Label otherLabel;
+  private DirtyWidgets dirtyWidgets;
+
+  @Rule
+  public TestContext context = new TestContext();
+
+  @Before
+  public void setUp() {
+    System.setProperty( RWTProperties.DIRTY_WIDGET_TRACKING, "true" );
+    display = new Display();
+    shell = new Shell( display );
+    composite = new Composite( shell, SWT.NONE );
+    label = new Label( composite, SWT.NONE );
+    label.setText( "foo" );
+    otherLabel = new Label( shell, SWT.NONE );
+    dirtyWidgets = display.getAdapter( DirtyWidgets.class );
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty( RWTProperties.DIRTY_WIDGET_TRACKING );
+  }
+
+  @Test
+  public void testGetAdapter_disabledByDefault() {
+    display.dispose();
+    System.clearProperty( RWTProperties.DIRTY_WIDGET_TRACKING );
+
+    Display defaultDisplay = new Display();
+
+    assertNull( defaultDisplay.getAdapter( DirtyWidgets.class ) );
+  }
+
+  @Test
+  public void testGetAdapter_enabled() {
+    assertNotNull( dirtyWidgets );
+  }
+
+  @Test
+  public void testMark_ignoredWhileNotTracking() {
+    dirtyWidgets.clear();
+
+    dirtyWidgets.mark( label );
+
+    assertFalse( dirtyWidgets.isDirty( label ) );
+  }
+
+  @Test
+  public void testMark_marksAncestors() {
+    dirtyWidgets.startTracking();
+
+    dirtyWidgets.mark( label );
+
+    assertTrue( dirtyWidgets.isDirty( label ) );
+    assertTrue( dirtyWidgets.isDirty( composite ) );
+    assertTrue( dirtyWidgets.isDirty( shell ) );
+    assertFalse( dirtyWidgets.isDirty( otherLabel ) );
+  }
+
+  @Test
+  public void testMark_marksDependents() {
+    Table table = new Table( shell, SWT.NONE );
+    TableColumn column = new TableColumn( table, SWT.NONE );
+    dirtyWidgets.startTracking();
+
+    dirtyWidgets.mark( table );
+
+    assertTrue( dirtyWidgets.isDirty( column ) );
+    assertTrue( dirtyWidgets.isDirty( table.getVerticalBar() ) );
+    assertTrue( dirtyWidgets.isDirty( table.getHorizontalBar() ) );
+  }
+
+  @Test
+  public void testCheckWidget_marksWidget() {
+    dirtyWidgets.clear();
+    dirtyWidgets.startTracking();
+
+    label.getText();
+
+    assertTrue( dirtyWidgets.isDirty( label ) );
+    assertFalse( dirtyWidgets.isDirty( otherLabel ) );
+  }
+
+  @Test
+  public void testMark_preservesBeforeChange() {
+    Fixture.markInitialized( label );
+    dirtyWidgets.clear();
+    dirtyWidgets.startTracking();
+
+    label.setText( "bar" );
+
+    assertEquals( "foo", getAdapter( label ).getPreserved( "text" ) );
+  }
+
+  @Test
+  public void testMarkPending_marksWhenTrackingStarts() {
+    dirtyWidgets.clear();
+
+    dirtyWidgets.markPending( label );
+    dirtyWidgets.startTracking();
+
+    assertTrue( dirtyWidgets.isDirty( label ) );
+  }
+
+  @Test
+  public void testCreateWidget_marksParentWhenTrackingStarts() {
+    dirtyWidgets.clear();
+
+    new Label( composite, SWT.NONE );
+    dirtyWidgets.startTracking();
+
+    assertTrue( dirtyWidgets.isDirty( composite ) );
+    assertFalse( dirtyWidgets.isDirty( otherLabel ) );
+  }
+
+  @Test
+  public void testMarkChanged_marksWhileNotTracking() {
+    dirtyWidgets.clear();
+
+    dirtyWidgets.markChanged( label );
+
+    assertTrue( dirtyWidgets.isDirty( label ) );
+    assertFalse( dirtyWidgets.isTracking() );
+  }
+
+  @Test
+  public void testClear() {
+    Fixture.markInitialized( label );
+    dirtyWidgets.startTracking();
+    label.setText( "bar" );
+    dirtyWidgets.stopTracking();
+
+    dirtyWidgets.clear();
+
+    assertFalse( dirtyWidgets.isDirty( label ) );
+    assertNull( getAdapter( label ).getPreserved( "text" ) );
+  }
+
+  @Test
+  public void testRender_rendersChangedWidget() throws IOException {
+    markInitialized();
+    Fixture.preserveWidgets();
+    // the first render assigns tab indices
+    DisplayUtil.getLCA( display ).render( display );
+    Fixture.preserveWidgets();
+
+    label.setText( "bar" );
+    DisplayUtil.getLCA( display ).render( display );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertEquals( "bar", message.findSetProperty( label, "text" ).asString() );
+    assertFalse( dirtyWidgets.isDirty( otherLabel ) );
+  }
+
+  private void markInitialized() {
+    Fixture.markInitialized( display );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( composite );
+    Fixture.markInitialized( label );
+    Fixture.markInitialized( otherLabel );
+  }
+
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Label;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class PropertySchema_Test {
+
+  private PropertySchema schema;
+
+  @Before
+  public void setUp() {
+    schema = new PropertySchema();
+  }
+
+  @Test
+  public void testGetSchema_isSharedPerType() {
+    PropertySchema buttonSchema = PropertySchema.getSchema( Button.class );
+
+    assertSame( buttonSchema, PropertySchema.getSchema( Button.class ) );
+    assertNotSame( buttonSchema, PropertySchema.getSchema( Label.class ) );
+  }
+
+  @Test
+  public void testGetSlot_assignsConsecutiveSlots() {
+    assertEquals( 0, schema.getSlot( "foo" ) );
+    assertEquals( 1, schema.getSlot( "bar" ) );
+    assertEquals( 2, schema.size() );
+  }
+
+  @Test
+  public void testGetSlot_returnsSameSlot() {
+    int slot = schema.getSlot( "foo" );
+
+    assertEquals( slot, schema.getSlot( "foo" ) );
+    assertEquals( 1, schema.size() );
+  }
+
+  @Test
+  public void testFindSlot() {
+    schema.getSlot( "foo" );
+    int slot = schema.getSlot( "bar" );
+
+    assertEquals( slot, schema.findSlot( "bar" ) );
+  }
+
+  @Test
+  public void testFindSlot_unknownProperty() {
+    assertEquals( -1, schema.findSlot( "foo" ) );
+    assertEquals( 0, schema.size() );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -124,6 +124,81 @@ public class WidgetRemoteAdapter_Test {
     assertNull( adapter.getPreserved( "prop" ) );
   }
 
+  @Test
+  public void testGetPreserved_unknownProperty() {
+    assertNull( adapter.getPreserved( "unknown" ) );
+  }
+
+  @Test
+  public void testPreserveProperty_int() {
+    adapter.preserve( "prop", 1000 );
+
+    assertEquals( Integer.valueOf( 1000 ), adapter.getPreserved( "prop" ) );
+    assertTrue( adapter.isPreserved( "prop", 1000 ) );
+    assertFalse( adapter.isPreserved( "prop", 1001 ) );
+  }
+
+  @Test
+  public void testPreserveProperty_boolean() {
+    adapter.preserve( "prop", true );
+
+    assertEquals( Boolean.TRUE, adapter.getPreserved( "prop" ) );
+    assertTrue( adapter.isPreserved( "prop", true ) );
+    assertFalse( adapter.isPreserved( "prop", false ) );
+  }
+
+  @Test
+  public void testIsPreserved_withBoxedValue() {
+    adapter.preserve( "int", Integer.valueOf( 23 ) );
+    adapter.preserve( "boolean", Boolean.FALSE );
+
+    assertTrue( adapter.isPreserved( "int", 23 ) );
+    assertTrue( adapter.isPreserved( "boolean", false ) );
+  }
+
+  @Test
+  public void testIsPreserved_whenNotPreserved() {
+    adapter.preserve( "other", 0 );
+
+    assertFalse( adapter.isPreserved( "prop", 0 ) );
+    assertFalse( adapter.isPreserved( "prop", false ) );
+  }
+
+  @Test
+  public void testPreserveProperty_primitiveIsCleared() {
+    adapter.preserve( "prop", 1 );
+
+    adapter.clearPreserved();
+
+    assertNull( adapter.getPreserved( "prop" ) );
+    assertFalse( adapter.isPreserved( "prop", 1 ) );
+  }
+
+  @Test
+  public void testPreserveProperty_replacesValue() {
+    adapter.preserve( "prop", 1 );
+
+    adapter.preserve( "prop", "value" );
+
+    assertEquals( "value", adapter.getPreserved( "prop" ) );
+    assertFalse( adapter.isPreserved( "prop", 1 ) );
+  }
+
+  @Test
+  public void testPreserveProperty_withSharedSchema() {
+    WidgetRemoteAdapter adapter1 = new WidgetRemoteAdapter( "id1", Shell.class );
+    WidgetRemoteAdapter adapter2 = new WidgetRemoteAdapter( "id2", Shell.class );
+    adapter1.preserve( "prop1", "value1" );
+    adapter2.preserve( "prop2", "value2" );
+
+    adapter1.preserve( "prop2", "value3" );
+
+    assertEquals( "value1", adapter1.getPreserved( "prop1" ) );
+    assertEquals( "value3", adapter1.getPreserved( "prop2" ) );
+    assertNull( adapter2.getPreserved( "prop1" ) );
+    assertEquals( "value2", adapter2.getPreserved( "prop2" ) );
+  }
+
   @Test
   public void testGetRenderRunnables_initial() {
     assertEquals( 0, adapter.getRenderRunnables().length );
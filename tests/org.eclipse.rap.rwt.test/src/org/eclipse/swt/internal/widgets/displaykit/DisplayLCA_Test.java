@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -25,10 +25,10 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
-import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -58,7 +58,6 @@ import org.eclipse.rap.rwt.internal.protocol.Operation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.CreateOperation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.DestroyOperation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
-import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.remote.DeferredRemoteObject;
 import org.eclipse.rap.rwt.internal.remote.RemoteObjectImpl;
 import org.eclipse.rap.rwt.internal.remote.RemoteObjectRegistry;
@@ -73,7 +72,9 @@ import org.eclipse.swt.events.SelectionAdapter;
 import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.internal.widgets.ControlRemoteAdapter;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
+import org.eclipse.swt.internal.widgets.WidgetIndex;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
@@ -165,14 +166,84 @@ public class DisplayLCA_Test {
     Composite shell = new CustomLCAShell( display, lca );
     Widget button = new CustomLCAWidget( shell, lca );
     Widget text = new CustomLCAWidget( shell, lca );
+    Fixture.fakeSetProperty( getId( text ), "foo", "bar" );
+    Fixture.fakeSetProperty( getId( shell ), "foo", "bar" );
+    Fixture.fakeSetProperty( getId( button ), "foo", "bar" );
 
     displayLCA.readData( display );
 
     InOrder inOrder = inOrder( lca );
+    inOrder.verify( lca ).readData( text );
     inOrder.verify( lca ).readData( shell );
     inOrder.verify( lca ).readData( button );
-    inOrder.verify( lca ).readData( text );
-    verifyNoMoreInteractions( lca );
+  }
+
+  @Test
+  public void testReadData_skipsWidgetsWithoutOperations() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell = new CustomLCAShell( display, lca );
+    Widget button = new CustomLCAWidget( shell, lca );
+    Widget text = new CustomLCAWidget( shell, lca );
+    Fixture.fakeSetProperty( getId( button ), "foo", "bar" );
+
+    displayLCA.readData( display );
+
+    verify( lca ).readData( button );
+    verify( lca, never() ).readData( shell );
+    verify( lca, never() ).readData( text );
+  }
+
+  @Test
+  public void testReadData_withUnconditionalReadData() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    when( Boolean.valueOf( lca.requiresUnconditionalReadData() ) ).thenReturn( Boolean.TRUE );
+    Composite shell = new CustomLCAShell( display, lca );
+    Widget button = new CustomLCAWidget( shell, lca );
+    getId( shell );
+    getId( button );
+
+    displayLCA.readData( display );
+
+    verify( lca ).readData( shell );
+    verify( lca ).readData( button );
+  }
+
+  @Test
+  public void testReadData_withCustomRemoteAdapter() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell = new CustomLCAShell( display, lca );
+    Widget widget = new CustomRemoteAdapterWidget( shell, lca );
+    Fixture.fakeSetProperty( "custom", "foo", "bar" );
+
+    displayLCA.readData( display );
+
+    verify( lca ).readData( widget );
+  }
+
+  @Test
+  public void testReadData_removesDisposedWidgetWithCustomRemoteAdapter() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell = new CustomLCAShell( display, lca );
+    Widget widget = new CustomRemoteAdapterWidget( shell, lca );
+    WidgetIndex widgetIndex = display.getAdapter( WidgetIndex.class );
+    widgetIndex.get( "custom" );
+
+    widget.dispose();
+
+    assertNull( widgetIndex.get( "custom" ) );
+  }
+
+  @Test
+  public void testReadData_withOperationsForDisposedWidget() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell = new CustomLCAShell( display, lca );
+    Widget button = new CustomLCAWidget( shell, lca );
+    Fixture.fakeSetProperty( getId( button ), "foo", "bar" );
+    button.dispose();
+
+    displayLCA.readData( display );
+
+    verify( lca, never() ).readData( button );
   }
 
   @Test
@@ -510,13 +581,11 @@ public class DisplayLCA_Test {
 
   @Test
   public void testRendersRemoteObjects() throws IOException {
-    DeferredRemoteObject remoteObject = mock( DeferredRemoteObject.class );
-    when( remoteObject.getId() ).thenReturn( "id" );
-    RemoteObjectRegistry.getInstance().register( remoteObject );
+    RemoteObjectRegistry.getInstance().register( new DeferredRemoteObject( "id", "type" ) );
 
     displayLCA.render( display );
 
-    verify( remoteObject ).render( any( ProtocolMessageWriter.class ) );
+    assertNotNull( Fixture.getProtocolMessage().findCreateOperation( "id" ) );
   }
 
   @Test
@@ -691,6 +760,35 @@ public class DisplayLCA_Test {
     }
   }
 
+  private static class CustomRemoteAdapterWidget extends Composite {
+    private static final long serialVersionUID = 1L;
+
+    private final WidgetLCA<Widget> widgetLCA;
+    private ControlRemoteAdapter remoteAdapter;
+
+    CustomRemoteAdapterWidget( Composite parent, WidgetLCA<Widget> widgetLCA ) {
+      super( parent, 0 );
+      this.widgetLCA = widgetLCA;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getAdapter( Class<T> adapter ) {
+      Object result;
+      if( adapter == WidgetLCA.class ) {
+        result = widgetLCA;
+      } else if( adapter == RemoteAdapter.class ) {
+        if( remoteAdapter == null ) {
+          remoteAdapter = new ControlRemoteAdapter( "custom" );
+        }
+        result = remoteAdapter;
+      } else {
+        result = super.getAdapter( adapter );
+      }
+      return ( T )result;
+    }
+  }
+
   private static class CustomLCAShell extends Shell {
     private static final long serialVersionUID = 1L;
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -26,6 +26,7 @@ import javax.servlet.FilterChain;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.engine.RWTClusterSupport;
 import org.eclipse.rap.rwt.internal.lifecycle.DisplayUtil;
@@ -41,6 +42,7 @@ import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
 import org.junit.After;
@@ -66,6 +68,7 @@ public class DisplaySerialization_Test {
 
   @After
   public void tearDown() {
+    System.clearProperty( RWTProperties.DIRTY_WIDGET_TRACKING );
     display.dispose();
     Fixture.disposeOfServiceContext();
     Fixture.disposeOfApplicationContext();
@@ -126,6 +129,24 @@ public class DisplaySerialization_Test {
     assertNull( deserializedDisplay.getThread() );
   }
 
+  @Test
+  public void testDirtyWidgetsAreRecreated() throws Exception {
+    System.setProperty( RWTProperties.DIRTY_WIDGET_TRACKING, "true" );
+
+    Display deserializedDisplay = serializeAndDeserialize( display );
+
+    DirtyWidgets dirtyWidgets = deserializedDisplay.getAdapter( DirtyWidgets.class );
+    assertNotNull( dirtyWidgets );
+    assertFalse( dirtyWidgets.isTracking() );
+  }
+
+  @Test
+  public void testDirtyWidgetsAreNotCreatedWhenDisabled() throws Exception {
+    Display deserializedDisplay = serializeAndDeserialize( display );
+
+    assertNull( deserializedDisplay.getAdapter( DirtyWidgets.class ) );
+  }
+
   @Test
   public void testMonitorIsSerializable() throws Exception {
     Monitor monitor = display.getMonitors()[ 0 ];
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,28 +10,39 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.joinThreads;
 import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.startThreads;
 import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serialize;
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNotSame;
-import static org.junit.Assert.assertSame;
-import static org.mockito.Matchers.eq;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
-import java.util.Timer;
-
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.rwt.internal.engine.PostDeserialization;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
+import org.eclipse.rap.rwt.internal.util.SharedScheduler;
+import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.rap.rwt.testfixture.internal.NoOpRunnable;
+import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
-import org.mockito.ArgumentCaptor;
 
 
 public class TimerExecScheduler_Test {
@@ -39,22 +50,25 @@ public class TimerExecScheduler_Test {
   private TimerExecScheduler scheduler;
   private Display display;
   private Collection<Throwable> exceptions;
-  private Timer timer;
+  private SharedScheduler sharedScheduler;
+  private List<TimerExecTask> tasks;
 
   @Before
   public void setUp() {
     Fixture.setUp();
     display = new Display();
-    timer = mock( Timer.class );
+    sharedScheduler = mock( SharedScheduler.class );
+    tasks = new LinkedList<>();
     scheduler = new TimerExecScheduler( display ) {
       @Override
-      Timer createTimer() {
-        return timer;
+      SharedScheduler getScheduler() {
+        return sharedScheduler;
       }
       @Override
       TimerExecTask createTask( Runnable runnable ) {
         TimerExecTask task = mock( TimerExecTask.class );
         when( task.getRunnable() ).thenReturn( runnable );
+        tasks.add( task );
         return task;
       }
     };
@@ -67,14 +81,13 @@ public class TimerExecScheduler_Test {
   }
 
   @Test
-  public void testSchedule_schedulesRunnable() {
+  public void testSchedule_schedulesTask() {
     Runnable runnable = mock( Runnable.class );
 
     scheduler.schedule( 23, runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    assertSame( runnable, taskCaptor.getValue().getRunnable() );
+    assertEquals( 1, tasks.size() );
+    verify( tasks.get( 0 ) ).schedule( sharedScheduler, 23 );
   }
 
   @Test
@@ -84,10 +97,11 @@ public class TimerExecScheduler_Test {
     scheduler.schedule( 23, runnable );
     scheduler.schedule( 42, runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 42L ) );
-    assertSame( taskCaptor.getAllValues().get( 0 ), taskCaptor.getAllValues().get( 1 ) );
+    assertEquals( 2, tasks.size() );
+    verify( tasks.get( 0 ) ).cancel();
+    verify( tasks.get( 1 ) ).schedule( sharedScheduler, 42 );
+    assertFalse( scheduler.removeTask( tasks.get( 0 ) ) );
+    assertTrue( scheduler.removeTask( tasks.get( 1 ) ) );
   }
 
   @Test
@@ -97,9 +111,7 @@ public class TimerExecScheduler_Test {
 
     scheduler.cancel( runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( taskCaptor.getValue() ).cancel();
+    verify( tasks.get( 0 ) ).cancel();
   }
 
   @Test
@@ -113,18 +125,73 @@ public class TimerExecScheduler_Test {
     scheduler.schedule( 23, runnable );
 
     scheduler.cancel( runnable );
-    scheduler.schedule( 42, runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 42L ) );
-    assertNotSame( taskCaptor.getAllValues().get( 0 ), taskCaptor.getAllValues().get( 1 ) );
+    assertFalse( scheduler.removeTask( tasks.get( 0 ) ) );
+  }
+
+  @Test
+  public void testCancel_doesNotAffectOtherRunnables() {
+    Runnable runnable = mock( Runnable.class );
+    scheduler.schedule( 23, runnable );
+    scheduler.schedule( 42, mock( Runnable.class ) );
+
+    scheduler.cancel( runnable );
+
+    verify( tasks.get( 1 ), never() ).cancel();
+    assertTrue( scheduler.removeTask( tasks.get( 1 ) ) );
+  }
+
+  @Test
+  public void testRemoveTask_onlyOnce() {
+    scheduler.schedule( 23, mock( Runnable.class ) );
+
+    assertTrue( scheduler.removeTask( tasks.get( 0 ) ) );
+    assertFalse( scheduler.removeTask( tasks.get( 0 ) ) );
+  }
+
+  @Test
+  public void testDispose_cancelsAllTasks() {
+    scheduler.schedule( 23, mock( Runnable.class ) );
+    scheduler.schedule( 42, mock( Runnable.class ) );
+
+    scheduler.dispose();
+
+    verify( tasks.get( 0 ) ).cancel();
+    verify( tasks.get( 1 ) ).cancel();
+    assertFalse( scheduler.removeTask( tasks.get( 0 ) ) );
+  }
+
+  @Test
+  public void testGetScheduler_usesApplicationScheduler() {
+    scheduler = new TimerExecScheduler( display );
+
+    assertEquals( getApplicationContext().getScheduler(), scheduler.getScheduler() );
+  }
+
+  @Test
+  public void testRescheduleAfterDeserialization() throws Exception {
+    scheduler = new TimerExecScheduler( display );
+    scheduler.schedule( 60000, new SerializableRunnable() );
+
+    TimerExecScheduler deserialized = serializeAndDeserialize( scheduler );
+    UISession uiSession = getUISession( deserialized.display );
+    ( ( UISessionImpl )uiSession ).setApplicationContext( getApplicationContext() );
+    TimerExecTask task = deserialized.getTasks().iterator().next();
+    assertNull( task.getFuture() );
+    PostDeserialization.runProcessors( uiSession );
+
+    ScheduledFuture<?> future = task.getFuture();
+    assertNotNull( future );
+    long delay = future.getDelay( TimeUnit.MILLISECONDS );
+    assertTrue( delay > 50000 && delay <= 60000 );
+    deserialized.dispose();
   }
 
   @Test
   public void testSerializationIsThreadSafe() throws Exception {
     scheduler = new TimerExecScheduler( display );
     Runnable runnable = new Runnable() {
+      @Override
       public void run() {
         try {
           scheduler.schedule( 1, new NoOpRunnable() );
@@ -143,4 +210,14 @@ public class TimerExecScheduler_Test {
     assertEquals( 0, exceptions.size() );
   }
 
+  private static UISession getUISession( Display display ) {
+    return display.getAdapter( IDisplayAdapter.class ).getUISession();
+  }
+
+  private static class SerializableRunnable implements Runnable, Serializable {
+    @Override
+    public void run() {
+    }
+  }
+
 }
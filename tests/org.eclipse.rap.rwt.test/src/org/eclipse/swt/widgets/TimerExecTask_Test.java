@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,13 +14,19 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
+import org.eclipse.rap.rwt.internal.util.SharedScheduler;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.junit.After;
 import org.junit.Before;
@@ -76,17 +82,30 @@ public class TimerExecTask_Test {
   public void testRun_addsRunnableToQueue() {
     Runnable runnable = mock( Runnable.class );
     TimerExecTask task = new TimerExecTask( scheduler, runnable );
+    doReturn( Boolean.TRUE ).when( scheduler ).removeTask( task );
 
     task.run();
 
     verify( display ).asyncExec( same( runnable ) );
   }
 
+  @Test
+  public void testRun_doesNotAddRunnableWhenTaskWasCanceled() {
+    Runnable runnable = mock( Runnable.class );
+    TimerExecTask task = new TimerExecTask( scheduler, runnable );
+    doReturn( Boolean.FALSE ).when( scheduler ).removeTask( task );
+
+    task.run();
+
+    verify( display, times( 0 ) ).asyncExec( any( Runnable.class ) );
+  }
+
   @Test
   public void testRun_doesNotAddRunnableWhenDisplayDisposed() {
     // Ensure that runnables that were added via timerExec are *not* executed on session shutdown
     Runnable runnable = mock( Runnable.class );
     TimerExecTask task = new TimerExecTask( scheduler, runnable );
+    doReturn( Boolean.TRUE ).when( scheduler ).removeTask( task );
     display.dispose();
 
     task.run();
@@ -104,6 +123,41 @@ public class TimerExecTask_Test {
     assertFalse( ServerPushManager.getInstance().isServerPushActive() );
   }
 
+  @Test
+  public void testSchedule_usesSharedScheduler() {
+    SharedScheduler sharedScheduler = mock( SharedScheduler.class );
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+    long before = System.currentTimeMillis();
+
+    task.schedule( sharedScheduler, 23 );
+
+    verify( sharedScheduler ).schedule( task, 23, TimeUnit.MILLISECONDS );
+    assertTrue( task.getExecutionTime() >= before + 23 );
+    assertTrue( task.getExecutionTime() <= System.currentTimeMillis() + 23 );
+  }
+
+  @Test
+  public void testCancel_cancelsFuture() {
+    ScheduledFuture<?> future = mock( ScheduledFuture.class );
+    SharedScheduler sharedScheduler = mock( SharedScheduler.class );
+    doReturn( future ).when( sharedScheduler ).schedule( any( Runnable.class ),
+                                                         anyLong(),
+                                                         any( TimeUnit.class ) );
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+    task.schedule( sharedScheduler, 23 );
+
+    task.cancel();
+
+    verify( future ).cancel( false );
+  }
+
+  @Test
+  public void testCancel_withoutSchedule() {
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+
+    assertFalse( task.cancel() );
+  }
+
   @Test
   public void testCancel_deactivatesServerPush() {
     Runnable runnable = mock( Runnable.class );
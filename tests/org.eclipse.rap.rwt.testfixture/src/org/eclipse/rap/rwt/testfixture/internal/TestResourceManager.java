@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 EclipseSource and others.
+ * Copyright (c) 2009, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
 package org.eclipse.rap.rwt.testfixture.internal;
 
 import java.io.InputStream;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -24,7 +25,7 @@ public class TestResourceManager extends ResourceManagerImpl {
 
   public TestResourceManager() {
     super( null );
-    registeredResources = new HashSet<String>();
+    registeredResources = Collections.synchronizedSet( new HashSet<String>() );
   }
 
   @Override
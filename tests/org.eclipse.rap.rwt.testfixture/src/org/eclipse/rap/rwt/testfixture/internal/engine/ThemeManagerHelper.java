@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -77,9 +77,9 @@ public class ThemeManagerHelper {
     }
 
     @Override
-    public void activate() {
+    public void activate( String applicationId ) {
       if( !activated ) {
-        super.activate();
+        super.activate( applicationId );
         activated = true;
       }
       deactivated = false;